@@ -0,0 +1,158 @@
+package com.ldbc.driver;
+
+import com.google.common.base.Charsets;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Reads values written by {@link BinaryWriter}, from the current position of a buffer, which it advances.
+ * <p/>
+ * Buffer may be a memory mapping, in which case values are decoded directly from it.
+ */
+public class BinaryReader
+{
+    private final ByteBuffer buffer;
+    private byte[] stringBuffer = new byte[64];
+
+    public BinaryReader( byte[] bytes )
+    {
+        this( ByteBuffer.wrap( bytes ) );
+    }
+
+    public BinaryReader( ByteBuffer buffer )
+    {
+        this.buffer = buffer;
+    }
+
+    public byte readByte()
+    {
+        return buffer.get();
+    }
+
+    public boolean readBoolean()
+    {
+        return 0 != buffer.get();
+    }
+
+    public int readVarInt()
+    {
+        return (int) readVarLong();
+    }
+
+    public long readVarLong()
+    {
+        long zigZag = 0;
+        int shift = 0;
+        byte b;
+        do
+        {
+            b = buffer.get();
+            zigZag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+        while ( (b & 0x80) != 0 );
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    public float readFloat()
+    {
+        return buffer.getFloat();
+    }
+
+    public double readDouble()
+    {
+        return buffer.getDouble();
+    }
+
+    public String readString()
+    {
+        int length = readVarInt();
+        if ( -1 == length )
+        {
+            return null;
+        }
+        if ( stringBuffer.length < length )
+        {
+            stringBuffer = new byte[Math.max( length, stringBuffer.length * 2 )];
+        }
+        buffer.get( stringBuffer, 0, length );
+        return new String( stringBuffer, 0, length, Charsets.UTF_8 );
+    }
+
+    public List<String> readStrings()
+    {
+        int count = readVarInt();
+        if ( -1 == count )
+        {
+            return null;
+        }
+        List<String> values = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            values.add( readString() );
+        }
+        return values;
+    }
+
+    public List<Long> readLongs()
+    {
+        int count = readVarInt();
+        if ( -1 == count )
+        {
+            return null;
+        }
+        List<Long> values = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            values.add( readVarLong() );
+        }
+        return values;
+    }
+
+    /**
+     * @return value written by {@link BinaryWriter#writeValue(Object)}, with iterables read back as lists
+     */
+    public Object readValue() throws SerializingMarshallingException
+    {
+        byte tag = buffer.get();
+        switch ( tag )
+        {
+        case BinaryWriter.NULL_TAG:
+            return null;
+        case BinaryWriter.STRING_TAG:
+            return readString();
+        case BinaryWriter.INTEGER_TAG:
+            return readVarInt();
+        case BinaryWriter.LONG_TAG:
+            return readVarLong();
+        case BinaryWriter.DOUBLE_TAG:
+            return readDouble();
+        case BinaryWriter.FLOAT_TAG:
+            return readFloat();
+        case BinaryWriter.BOOLEAN_TAG:
+            return readBoolean();
+        case BinaryWriter.LIST_TAG:
+        {
+            int count = readVarInt();
+            List<Object> values = new ArrayList<>( count );
+            for ( int i = 0; i < count; i++ )
+            {
+                values.add( readValue() );
+            }
+            return values;
+        }
+        default:
+            throw new SerializingMarshallingException(
+                    format( "Unknown value tag %s at position %s", tag, buffer.position() - 1 ) );
+        }
+    }
+
+    public int position()
+    {
+        return buffer.position();
+    }
+}
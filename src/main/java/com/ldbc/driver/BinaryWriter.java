@@ -0,0 +1,247 @@
+package com.ldbc.driver;
+
+import com.google.common.base.Charsets;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static java.lang.String.format;
+
+/**
+ * Growable buffer for the compact binary form of operations and results, read back by {@link BinaryReader}.
+ * <p/>
+ * Integers are written as zig-zag variable length quantities, so small values of either sign take one byte.
+ * Floating point values are written as big endian IEEE 754 bits. Strings, and sequences, are prefixed with their
+ * length in bytes, or element count, where -1 denotes null.
+ */
+public class BinaryWriter
+{
+    static final byte NULL_TAG = 0;
+    static final byte STRING_TAG = 1;
+    static final byte INTEGER_TAG = 2;
+    static final byte LONG_TAG = 3;
+    static final byte DOUBLE_TAG = 4;
+    static final byte FLOAT_TAG = 5;
+    static final byte BOOLEAN_TAG = 6;
+    static final byte LIST_TAG = 7;
+
+    private byte[] bytes;
+    private int size = 0;
+
+    public BinaryWriter()
+    {
+        this( 256 );
+    }
+
+    public BinaryWriter( int initialCapacity )
+    {
+        this.bytes = new byte[Math.max( 16, initialCapacity )];
+    }
+
+    public void writeByte( int value )
+    {
+        ensureCapacity( 1 );
+        bytes[size++] = (byte) value;
+    }
+
+    public void writeBoolean( boolean value )
+    {
+        writeByte( (value) ? 1 : 0 );
+    }
+
+    public void writeVarInt( int value )
+    {
+        writeVarLong( value );
+    }
+
+    public void writeVarLong( long value )
+    {
+        ensureCapacity( 10 );
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ( (zigZag & ~0x7FL) != 0 )
+        {
+            bytes[size++] = (byte) ((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        bytes[size++] = (byte) zigZag;
+    }
+
+    public void writeFloat( float value )
+    {
+        int bits = Float.floatToIntBits( value );
+        ensureCapacity( 4 );
+        for ( int shift = 24; shift >= 0; shift -= 8 )
+        {
+            bytes[size++] = (byte) (bits >>> shift);
+        }
+    }
+
+    public void writeDouble( double value )
+    {
+        long bits = Double.doubleToLongBits( value );
+        ensureCapacity( 8 );
+        for ( int shift = 56; shift >= 0; shift -= 8 )
+        {
+            bytes[size++] = (byte) (bits >>> shift);
+        }
+    }
+
+    public void writeString( String value )
+    {
+        if ( null == value )
+        {
+            writeVarInt( -1 );
+            return;
+        }
+        int length = value.length();
+        for ( int i = 0; i < length; i++ )
+        {
+            if ( value.charAt( i ) >= 0x80 )
+            {
+                byte[] utf8 = value.getBytes( Charsets.UTF_8 );
+                writeVarInt( utf8.length );
+                ensureCapacity( utf8.length );
+                System.arraycopy( utf8, 0, bytes, size, utf8.length );
+                size += utf8.length;
+                return;
+            }
+        }
+        // ASCII, one byte per char
+        writeVarInt( length );
+        ensureCapacity( length );
+        for ( int i = 0; i < length; i++ )
+        {
+            bytes[size++] = (byte) value.charAt( i );
+        }
+    }
+
+    public void writeStrings( Iterable<String> values )
+    {
+        if ( null == values )
+        {
+            writeVarInt( -1 );
+            return;
+        }
+        writeVarInt( count( values ) );
+        for ( String value : values )
+        {
+            writeString( value );
+        }
+    }
+
+    public void writeLongs( Iterable<? extends Number> values )
+    {
+        if ( null == values )
+        {
+            writeVarInt( -1 );
+            return;
+        }
+        writeVarInt( count( values ) );
+        for ( Number value : values )
+        {
+            writeVarLong( value.longValue() );
+        }
+    }
+
+    /**
+     * Writes a tagged value, for fields whose type is only known at runtime
+     *
+     * @param value null, String, Integer, Long, Float, Double, Boolean, or Iterable of those
+     */
+    public void writeValue( Object value ) throws SerializingMarshallingException
+    {
+        if ( null == value )
+        {
+            writeByte( NULL_TAG );
+        }
+        else if ( value instanceof String )
+        {
+            writeByte( STRING_TAG );
+            writeString( (String) value );
+        }
+        else if ( value instanceof Integer )
+        {
+            writeByte( INTEGER_TAG );
+            writeVarInt( (Integer) value );
+        }
+        else if ( value instanceof Long )
+        {
+            writeByte( LONG_TAG );
+            writeVarLong( (Long) value );
+        }
+        else if ( value instanceof Double )
+        {
+            writeByte( DOUBLE_TAG );
+            writeDouble( (Double) value );
+        }
+        else if ( value instanceof Float )
+        {
+            writeByte( FLOAT_TAG );
+            writeFloat( (Float) value );
+        }
+        else if ( value instanceof Boolean )
+        {
+            writeByte( BOOLEAN_TAG );
+            writeBoolean( (Boolean) value );
+        }
+        else if ( value instanceof Iterable )
+        {
+            writeByte( LIST_TAG );
+            Iterable<?> values = (Iterable<?>) value;
+            writeVarInt( count( values ) );
+            for ( Object element : values )
+            {
+                writeValue( element );
+            }
+        }
+        else
+        {
+            throw new SerializingMarshallingException(
+                    format( "Unsupported value type %s: %s", value.getClass().getName(), value ) );
+        }
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public void reset()
+    {
+        size = 0;
+    }
+
+    public byte[] toByteArray()
+    {
+        return Arrays.copyOf( bytes, size );
+    }
+
+    public void writeTo( OutputStream outputStream ) throws IOException
+    {
+        outputStream.write( bytes, 0, size );
+    }
+
+    private void ensureCapacity( int length )
+    {
+        if ( size + length > bytes.length )
+        {
+            bytes = Arrays.copyOf( bytes, Math.max( bytes.length * 2, size + length ) );
+        }
+    }
+
+    private static int count( Iterable<?> values )
+    {
+        if ( values instanceof Collection )
+        {
+            return ((Collection<?>) values).size();
+        }
+        int count = 0;
+        for ( Object ignored : values )
+        {
+            count++;
+        }
+        return count;
+    }
+}
@@ -2,6 +2,7 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.client.CalculateWorkloadStatisticsMode;
 import com.ldbc.driver.client.ClientMode;
+import com.ldbc.driver.client.CompileWorkloadScheduleMode;
 import com.ldbc.driver.client.CreateValidationParamsMode;
 import com.ldbc.driver.client.ExecuteWorkloadMode;
 import com.ldbc.driver.client.PrintHelpMode;
@@ -123,6 +124,30 @@ public class Client
             }
             return new ValidateDatabaseMode( controlService );
         }
+        else if ( Boolean.parseBoolean(
+                controlService.configuration().asMap().get( WorkloadSchedule.COMPILE_WORKLOAD_SCHEDULE_ARG ) ) )
+        {
+            // Compile Workload Schedule
+            DriverConfiguration configuration = controlService.configuration();
+            List<String> missingParams = new ArrayList<>();
+            if ( null == configuration.workloadClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG );
+            }
+            if ( 0 == configuration.operationCount() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG );
+            }
+            if ( null == configuration.asMap().get( WorkloadSchedule.WORKLOAD_SCHEDULE_DIR_ARG ) )
+            {
+                missingParams.add( WorkloadSchedule.WORKLOAD_SCHEDULE_DIR_ARG );
+            }
+            if ( false == missingParams.isEmpty() )
+            {
+                throw new ClientException( format( "Missing required parameters: %s", missingParams.toString() ) );
+            }
+            return new CompileWorkloadScheduleMode( controlService, RANDOM_SEED );
+        }
         else if ( controlService.configuration().calculateWorkloadStatistics() )
         {
             // Calculate Statistics
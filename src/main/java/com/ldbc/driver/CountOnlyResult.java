@@ -0,0 +1,89 @@
+package com.ldbc.driver;
+
+import java.util.Arrays;
+
+/**
+ * Lightweight stand-in for a materialized operation result: its row count, plus the person & message ids the workload
+ * takes from the result, which is all a benchmark run needs of most results, e.g., to generate short reads.
+ * <p/>
+ * Which ids to add, and in which order, depends on the operation type, and must match what the workload takes from
+ * full results, otherwise count-only runs generate different short reads. For LDBC SNB Interactive, add them with
+ * {@link com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbCountOnlyResults}.
+ * <p/>
+ * Instances are owned, and reused between executions, by a {@link ResultReporter}.
+ * Obtain one from {@link ResultReporter#countOnlyResult()}, add ids to it while reading result rows,
+ * then report it with {@link ResultReporter#reportCount(int, int, Operation)}.
+ */
+public class CountOnlyResult
+{
+    private int rowCount = 0;
+    private long[] personIds = new long[16];
+    private int personIdCount = 0;
+    private long[] messageIds = new long[16];
+    private int messageIdCount = 0;
+
+    public void addPersonId( long personId )
+    {
+        if ( personIdCount == personIds.length )
+        {
+            personIds = Arrays.copyOf( personIds, personIds.length * 2 );
+        }
+        personIds[personIdCount++] = personId;
+    }
+
+    public void addMessageId( long messageId )
+    {
+        if ( messageIdCount == messageIds.length )
+        {
+            messageIds = Arrays.copyOf( messageIds, messageIds.length * 2 );
+        }
+        messageIds[messageIdCount++] = messageId;
+    }
+
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    public int personIdCount()
+    {
+        return personIdCount;
+    }
+
+    public long personId( int index )
+    {
+        return personIds[index];
+    }
+
+    public int messageIdCount()
+    {
+        return messageIdCount;
+    }
+
+    public long messageId( int index )
+    {
+        return messageIds[index];
+    }
+
+    void setRowCount( int rowCount )
+    {
+        this.rowCount = rowCount;
+    }
+
+    void clear()
+    {
+        rowCount = 0;
+        personIdCount = 0;
+        messageIdCount = 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CountOnlyResult{" +
+               "rowCount=" + rowCount +
+               ", personIds=" + Arrays.toString( Arrays.copyOf( personIds, personIdCount ) ) +
+               ", messageIds=" + Arrays.toString( Arrays.copyOf( messageIds, messageIdCount ) ) +
+               '}';
+    }
+}
@@ -2,6 +2,7 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.temporal.TemporalUtil;
 
+import java.util.Date;
 import java.util.Map;
 
 public abstract class Operation<RESULT_TYPE>
@@ -55,8 +56,57 @@ public abstract class Operation<RESULT_TYPE>
 
     public abstract Map<String, Object> parameterMap();
 
+    /**
+     * Passes each parameter of {@link #parameterMap()} to visitor, in the same order. Defaults to iterating
+     * {@link #parameterMap()}, operations override it to avoid allocating.
+     */
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        for ( Map.Entry<String, Object> parameter : parameterMap().entrySet() )
+        {
+            Object value = parameter.getValue();
+            if ( value instanceof Long )
+            {
+                visitor.visitLong( parameter.getKey(), (Long) value );
+            }
+            else if ( value instanceof Integer )
+            {
+                visitor.visitInt( parameter.getKey(), (Integer) value );
+            }
+            else if ( value instanceof String )
+            {
+                visitor.visitString( parameter.getKey(), (String) value );
+            }
+            else if ( value instanceof Date )
+            {
+                visitor.visitDate( parameter.getKey(), ((Date) value).getTime() );
+            }
+            else
+            {
+                visitor.visitObject( parameter.getKey(), value );
+            }
+        }
+    }
+
     public abstract RESULT_TYPE marshalResult( String serializedOperationResult )
             throws SerializingMarshallingException;
 
     public abstract String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException;
+
+    /**
+     * Writes result in compact binary form, defaults to {@link #serializeResult(Object)} as a string
+     */
+    public void encodeResult( Object operationResultInstance, BinaryWriter writer )
+            throws SerializingMarshallingException
+    {
+        writer.writeString( serializeResult( operationResultInstance ) );
+    }
+
+    /**
+     * Reads result written by {@link #encodeResult(Object, BinaryWriter)}
+     */
+    public RESULT_TYPE decodeResult( BinaryReader reader ) throws SerializingMarshallingException
+    {
+        return marshalResult( reader.readString() );
+    }
 }
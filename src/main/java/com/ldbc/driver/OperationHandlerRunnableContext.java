@@ -59,7 +59,8 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
             this.errorReporter = errorReporter;
             if ( null == resultReporter )
             {
-                this.resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
+                // benchmark runs only use results to generate child operations, so counts suffice
+                this.resultReporter = new ResultReporter.SimpleResultReporter( errorReporter, false );
             }
             try
             {
@@ -0,0 +1,26 @@
+package com.ldbc.driver;
+
+/**
+ * Receives the parameters of an operation, one call per parameter, under the names used by
+ * {@link Operation#parameterMap()}, so connectors can bind them without building a map or boxing primitives.
+ */
+public interface OperationParameterVisitor
+{
+    void visitLong( String name, long value );
+
+    void visitInt( String name, int value );
+
+    void visitString( String name, String value );
+
+    /**
+     * Called for parameters that {@link Operation#parameterMap()} exposes as {@link java.util.Date}
+     *
+     * @param epochMilli milliseconds since epoch
+     */
+    void visitDate( String name, long epochMilli );
+
+    /**
+     * Called for all other parameters, e.g., lists
+     */
+    void visitObject( String name, Object value );
+}
@@ -11,6 +11,41 @@ public interface ResultReporter
             OTHER_RESULT_TYPE result,
             Operation<OTHER_RESULT_TYPE> operation ) throws DbException;
 
+    /**
+     * @return true if handlers must report materialized results, via {@link #report(int, Object, Operation)}, e.g.,
+     * when validating, false if they may report counts, via {@link #reportCount(int, int, Operation)}, instead.
+     * Reporters that do not support counts always return true.
+     */
+    default boolean fullResultsRequired()
+    {
+        return true;
+    }
+
+    /**
+     * @return empty count-only result, to add the ids of result rows to, before calling
+     * {@link #reportCount(int, int, Operation)}. Which ids to add depends on the operation type, and is defined by the
+     * workload, see {@link CountOnlyResult}.
+     */
+    default CountOnlyResult countOnlyResult()
+    {
+        return new CountOnlyResult();
+    }
+
+    /**
+     * Reports the row count of a result, with the ids added to {@link #countOnlyResult()}, instead of the result.
+     * {@link #result()} then returns that count-only result.
+     *
+     * @throws DbException if {@link #fullResultsRequired()}
+     */
+    default void reportCount(
+            int resultCode,
+            int rowCount,
+            Operation<?> operation ) throws DbException
+    {
+        throw new DbException( format( "%s does not support count-only results\nOperation: %s",
+                getClass().getName(), operation ) );
+    }
+
     Object result();
 
     int resultCode();
@@ -22,14 +57,22 @@ public interface ResultReporter
     class SimpleResultReporter implements ResultReporter
     {
         private final ConcurrentErrorReporter errorReporter;
+        private final boolean fullResultsRequired;
+        private final CountOnlyResult countOnlyResult = new CountOnlyResult();
         private Object result = null;
         private int resultCode = -1;
         private long actualStartTimeAsMilli = -1;
         private long runDurationAsNano = -1;
 
         public SimpleResultReporter( ConcurrentErrorReporter errorReporter )
+        {
+            this( errorReporter, true );
+        }
+
+        public SimpleResultReporter( ConcurrentErrorReporter errorReporter, boolean fullResultsRequired )
         {
             this.errorReporter = errorReporter;
+            this.fullResultsRequired = fullResultsRequired;
         }
 
         public <OTHER_RESULT_TYPE> void report(
@@ -37,8 +80,6 @@ public interface ResultReporter
                 OTHER_RESULT_TYPE result,
                 Operation<OTHER_RESULT_TYPE> operation ) throws DbException
         {
-            this.resultCode = resultCode;
-            this.result = result;
             if ( null == operation )
             {
                 String errMsg = format(
@@ -51,6 +92,56 @@ public interface ResultReporter
                 errorReporter.reportError( this, errMsg );
                 throw new DbException( errMsg );
             }
+            this.resultCode = resultCode;
+            this.result = result;
+        }
+
+        @Override
+        public boolean fullResultsRequired()
+        {
+            return fullResultsRequired;
+        }
+
+        @Override
+        public CountOnlyResult countOnlyResult()
+        {
+            countOnlyResult.clear();
+            return countOnlyResult;
+        }
+
+        @Override
+        public void reportCount(
+                int resultCode,
+                int rowCount,
+                Operation<?> operation ) throws DbException
+        {
+            if ( fullResultsRequired )
+            {
+                String errMsg = format(
+                        "Full result required, but only count reported\n"
+                        + "Operation: %s\n"
+                        + "Row Count: %s",
+                        operation,
+                        rowCount
+                );
+                errorReporter.reportError( this, errMsg );
+                throw new DbException( errMsg );
+            }
+            if ( null == operation )
+            {
+                String errMsg = format(
+                        "Operation is null\n"
+                        + "Operation: %s\n"
+                        + "Row Count: %s",
+                        operation,
+                        rowCount
+                );
+                errorReporter.reportError( this, errMsg );
+                throw new DbException( errMsg );
+            }
+            countOnlyResult.setRowCount( rowCount );
+            this.resultCode = resultCode;
+            this.result = countOnlyResult;
         }
 
         @Override
@@ -92,6 +183,7 @@ public interface ResultReporter
         {
             return "SimpleResultReporter{\n" +
                    "\t-->errorReporter=" + errorReporter + "\n" +
+                   "\t-->fullResultsRequired=" + fullResultsRequired + "\n" +
                    "\t-->result=" + result + "\n" +
                    "\t-->resultCode=" + resultCode + "\n" +
                    "\t-->actualStartTimeAsMilli=" + actualStartTimeAsMilli + "\n" +
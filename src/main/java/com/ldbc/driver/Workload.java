@@ -1,6 +1,8 @@
 package com.ldbc.driver;
 
 import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.control.NullLoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 
@@ -18,6 +20,7 @@ public abstract class Workload implements Closeable
 
     private boolean isInitialized = false;
     private boolean isClosed = false;
+    private LoggingServiceFactory loggingServiceFactory = new NullLoggingServiceFactory();
 
     public abstract Map<Integer,Class<? extends Operation>> operationTypeToClassMapping();
 
@@ -48,15 +51,33 @@ public abstract class Workload implements Closeable
      * Called once to initialize state for workload
      */
     public final void init( DriverConfiguration params ) throws WorkloadException
+    {
+        init( params, new NullLoggingServiceFactory() );
+    }
+
+    /**
+     * Called once to initialize state for workload, which may log through loggingServiceFactory from then on
+     */
+    public final void init( DriverConfiguration params, LoggingServiceFactory loggingServiceFactory )
+            throws WorkloadException
     {
         if ( isInitialized )
         { throw new WorkloadException( "Workload may be initialized only once" ); }
         isInitialized = true;
+        this.loggingServiceFactory = loggingServiceFactory;
         onInit( params.asMap() );
     }
 
     public abstract void onInit( Map<String,String> params ) throws WorkloadException;
 
+    /**
+     * @return logging service factory passed to init, or one that discards everything
+     */
+    protected final LoggingServiceFactory loggingServiceFactory()
+    {
+        return loggingServiceFactory;
+    }
+
 
     public final void close() throws IOException
     {
@@ -80,6 +101,27 @@ public abstract class Workload implements Closeable
     protected abstract WorkloadStreams getStreams( GeneratorFactory generators, boolean hasDbConnected )
             throws WorkloadException;
 
+    /**
+     * Child operation generator of the asynchronous stream, as {@link #streams(GeneratorFactory, boolean)} creates it,
+     * for when operations are replayed from a {@link WorkloadSchedule} instead of read from streams
+     */
+    public final ChildOperationGenerator asynchronousChildOperationGenerator( GeneratorFactory gf,
+            boolean hasDbConnected ) throws WorkloadException
+    {
+        if ( false == isInitialized )
+        { throw new WorkloadException( "Workload has not been initialized" ); }
+        return getAsynchronousChildOperationGenerator( gf, hasDbConnected );
+    }
+
+    /**
+     * Defaults to creating streams, so workloads whose streams read input should override it
+     */
+    protected ChildOperationGenerator getAsynchronousChildOperationGenerator( GeneratorFactory gf,
+            boolean hasDbConnected ) throws WorkloadException
+    {
+        return getStreams( gf, hasDbConnected ).asynchronousStream().childOperationGenerator();
+    }
+
     public DbValidationParametersFilter dbValidationParametersFilter( final Integer requiredValidationParameterCount )
     {
         return new DbValidationParametersFilter()
@@ -126,6 +168,33 @@ public abstract class Workload implements Closeable
 
     public abstract Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException;
 
+    /**
+     * Version of the binary form written by {@link #encodeOperation(Operation, BinaryWriter)}, to be stored with it,
+     * and changed whenever that form changes. Version 0 is the default form, {@link #serializeOperation(Operation)}
+     * as a string.
+     */
+    public int binaryFormatVersion()
+    {
+        return 0;
+    }
+
+    /**
+     * Writes operation parameters in compact binary form, type included, defaults to
+     * {@link #serializeOperation(Operation)} as a string
+     */
+    public void encodeOperation( Operation operation, BinaryWriter writer ) throws SerializingMarshallingException
+    {
+        writer.writeString( serializeOperation( operation ) );
+    }
+
+    /**
+     * Reads operation written by {@link #encodeOperation(Operation, BinaryWriter)}
+     */
+    public Operation decodeOperation( BinaryReader reader ) throws SerializingMarshallingException
+    {
+        return marshalOperation( reader.readString() );
+    }
+
     public abstract boolean resultsEqual( Operation operation, Object result1, Object result2 )
             throws WorkloadException;
 
@@ -0,0 +1,521 @@
+package com.ldbc.driver;
+
+import com.google.common.io.CountingOutputStream;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple3;
+import com.ldbc.driver.workloads.WorkloadFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Precompiled workload schedule: the offset & limited operation streams of a workload, written to a binary file so
+ * later runs can replay them without parsing workload input files or scanning streams to calculate limits.
+ * <p/>
+ * Times are stored as generated by the workload, i.e., before time offset & compression is applied,
+ * because workload start time is only known at execution time.
+ * <p/>
+ * File layout (big endian):
+ * <pre>
+ * header:   magic (int), version (int), workload class name (UTF), workload binary format version (int),
+ *           configuration fingerprint (UTF), offset (long), limit (long), minimum time stamp (long),
+ *           window size (int), stream definition count (int),
+ *           per stream definition: dependent & dependency operation types (int count, then class name UTFs),
+ *           stream count (int),
+ *           per stream: position (long), length in bytes (long), operation count (long)
+ * sections: one per stream, in the same order as {@link #streamsOf(WorkloadStreams)}, each a sequence of records
+ * record:   type (int), scheduled start time (long), time stamp (long), dependency time stamp (long),
+ *           parameter length (int), parameters (bytes of {@link Workload#encodeOperation(Operation, BinaryWriter)})
+ * </pre>
+ * Sections are split into windows of (at most) window size bytes, relative to section start.
+ * Records never straddle a window boundary, the writer pads the remainder of a window instead,
+ * so each window can be memory mapped independently and records decoded directly from the mapping.
+ * <p/>
+ * The fingerprint is the {@link WorkloadStreamsIndex} key of the configuration, i.e., of workload parameters and
+ * input files, so a schedule is never replayed for a workload it was not compiled from.
+ */
+public class WorkloadSchedule
+{
+    public static final String WORKLOAD_SCHEDULE_DIR_ARG = "workload_schedule_dir";
+    public static final String COMPILE_WORKLOAD_SCHEDULE_ARG = "compile_workload_schedule";
+    public static final String FILE_SUFFIX = ".schedule";
+
+    static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+    private static final int MAGIC = 0x4C444253;
+    private static final int VERSION = 3;
+    private static final int PADDING = Integer.MIN_VALUE;
+    // type, scheduled start time, time stamp, dependency time stamp, parameter length
+    private static final int RECORD_HEADER_LENGTH = 4 + 8 + 8 + 8 + 4;
+    // position, length, operation count
+    private static final int SECTION_ENTRY_LENGTH = 8 + 8 + 8;
+
+    public static File scheduleFileFor( File scheduleDir, long offset, long limit )
+    {
+        return new File( scheduleDir, format( "%s-%s%s", offset, limit, FILE_SUFFIX ) );
+    }
+
+    /**
+     * Writes operations of all streams to schedule file
+     *
+     * @return number of operations written
+     */
+    public static long write(
+            File scheduleFile,
+            DriverConfiguration configuration,
+            Workload workload,
+            WorkloadStreams workloadStreams,
+            long offset,
+            long limit,
+            long minimumTimeStamp ) throws WorkloadException
+    {
+        return write( scheduleFile, configuration, workload, workloadStreams, offset, limit, minimumTimeStamp,
+                DEFAULT_WINDOW_SIZE );
+    }
+
+    static long write(
+            File scheduleFile,
+            DriverConfiguration configuration,
+            Workload workload,
+            WorkloadStreams workloadStreams,
+            long offset,
+            long limit,
+            long minimumTimeStamp,
+            int windowSize ) throws WorkloadException
+    {
+        List<WorkloadStreamDefinition> definitions = definitionsOf( workloadStreams );
+        for ( WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
+        {
+            // replay does not create streams, so only the asynchronous child generator can be recreated
+            if ( null != blockingStream.childOperationGenerator() )
+            {
+                throw new WorkloadException( "Workload schedule does not support blocking child operation generators" );
+            }
+        }
+        List<Iterator<Operation>> streams = streamsOf( workloadStreams );
+        long[] sectionPositions = new long[streams.size()];
+        long[] sectionLengths = new long[streams.size()];
+        long[] sectionCounts = new long[streams.size()];
+        long sectionTablePosition;
+        try ( CountingOutputStream countingOutputStream =
+                      new CountingOutputStream( new BufferedOutputStream( new FileOutputStream( scheduleFile ) ) );
+              DataOutputStream out = new DataOutputStream( countingOutputStream ) )
+        {
+            out.writeInt( MAGIC );
+            out.writeInt( VERSION );
+            out.writeUTF( workload.getClass().getName() );
+            out.writeInt( workload.binaryFormatVersion() );
+            out.writeUTF( fingerprint( configuration, workload.getClass().getName(), offset, limit ) );
+            out.writeLong( offset );
+            out.writeLong( limit );
+            out.writeLong( minimumTimeStamp );
+            out.writeInt( windowSize );
+            out.writeInt( definitions.size() );
+            for ( WorkloadStreamDefinition definition : definitions )
+            {
+                writeOperationTypes( out, definition.dependentOperationTypes() );
+                writeOperationTypes( out, definition.dependencyOperationTypes() );
+            }
+            out.writeInt( streams.size() );
+            // data output stream is not buffered, so counting stream always reflects bytes written so far
+            sectionTablePosition = countingOutputStream.getCount();
+            // placeholder, section table is written once section positions & lengths are known
+            out.write( new byte[streams.size() * SECTION_ENTRY_LENGTH] );
+
+            BinaryWriter parameters = new BinaryWriter();
+            for ( int i = 0; i < streams.size(); i++ )
+            {
+                sectionPositions[i] = countingOutputStream.getCount();
+                Iterator<Operation> stream = streams.get( i );
+                while ( stream.hasNext() )
+                {
+                    Operation operation = stream.next();
+                    parameters.reset();
+                    workload.encodeOperation( operation, parameters );
+                    int recordLength = RECORD_HEADER_LENGTH + parameters.size();
+                    if ( recordLength > windowSize )
+                    {
+                        throw new WorkloadException(
+                                format( "Operation too large for schedule window (%s > %s bytes)\n%s",
+                                        recordLength, windowSize, operation ) );
+                    }
+                    long positionInWindow = (countingOutputStream.getCount() - sectionPositions[i]) % windowSize;
+                    long remainingInWindow = windowSize - positionInWindow;
+                    if ( recordLength > remainingInWindow )
+                    {
+                        // readers treat a remainder too short to hold a type as padding, so only mark longer ones
+                        if ( remainingInWindow >= 4 )
+                        {
+                            out.writeInt( PADDING );
+                            remainingInWindow -= 4;
+                        }
+                        out.write( new byte[(int) remainingInWindow] );
+                    }
+                    out.writeInt( operation.type() );
+                    out.writeLong( operation.scheduledStartTimeAsMilli() );
+                    out.writeLong( operation.timeStamp() );
+                    out.writeLong( operation.dependencyTimeStamp() );
+                    out.writeInt( parameters.size() );
+                    parameters.writeTo( out );
+                    sectionCounts[i]++;
+                }
+                sectionLengths[i] = countingOutputStream.getCount() - sectionPositions[i];
+            }
+        }
+        catch ( IOException | SerializingMarshallingException e )
+        {
+            throw new WorkloadException( format( "Error writing workload schedule: %s",
+                    scheduleFile.getAbsolutePath() ), e );
+        }
+
+        try ( RandomAccessFile randomAccessFile = new RandomAccessFile( scheduleFile, "rw" ) )
+        {
+            randomAccessFile.seek( sectionTablePosition );
+            for ( int i = 0; i < streams.size(); i++ )
+            {
+                randomAccessFile.writeLong( sectionPositions[i] );
+                randomAccessFile.writeLong( sectionLengths[i] );
+                randomAccessFile.writeLong( sectionCounts[i] );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( format( "Error writing workload schedule section table: %s",
+                    scheduleFile.getAbsolutePath() ), e );
+        }
+
+        long operationCount = 0;
+        for ( long sectionCount : sectionCounts )
+        {
+            operationCount += sectionCount;
+        }
+        return operationCount;
+    }
+
+    /**
+     * Equivalent to {@link WorkloadStreams#createNewWorkloadWithOffsetAndLimitedWorkloadStreams}, but operations are
+     * replayed from a schedule file. Stream definitions are read from the schedule too, so the workload is only
+     * initialized, to provide its asynchronous child operation generator and to decode operations, and its streams
+     * are never created.
+     *
+     * @return (workload_streams, workload, minimum_timestamp)
+     */
+    public static Tuple3<WorkloadStreams,Workload,Long> read(
+            File scheduleFile,
+            WorkloadFactory workloadFactory,
+            DriverConfiguration configuration,
+            GeneratorFactory gf,
+            boolean returnStreamsWithDbConnector,
+            long offset,
+            long limit ) throws WorkloadException
+    {
+        if ( !scheduleFile.exists() )
+        {
+            throw new WorkloadException( format( "Workload schedule not found: %s", scheduleFile.getAbsolutePath() ) );
+        }
+
+        String workloadClassName;
+        int binaryFormatVersion;
+        String fingerprint;
+        long minimumTimeStamp;
+        List<List<String>> operationTypeNames = new ArrayList<>();
+        int windowSize;
+        long[] sectionPositions;
+        long[] sectionLengths;
+        long[] sectionCounts;
+        try ( DataInputStream in = new DataInputStream( new FileInputStream( scheduleFile ) ) )
+        {
+            if ( MAGIC != in.readInt() )
+            {
+                throw new WorkloadException( format( "Not a workload schedule: %s", scheduleFile.getAbsolutePath() ) );
+            }
+            int version = in.readInt();
+            if ( VERSION != version )
+            {
+                throw new WorkloadException( format( "Unsupported workload schedule version %s (expected %s): %s",
+                        version, VERSION, scheduleFile.getAbsolutePath() ) );
+            }
+            workloadClassName = in.readUTF();
+            binaryFormatVersion = in.readInt();
+            fingerprint = in.readUTF();
+            long scheduleOffset = in.readLong();
+            long scheduleLimit = in.readLong();
+            if ( offset != scheduleOffset || limit != scheduleLimit )
+            {
+                throw new WorkloadException(
+                        format( "Workload schedule was compiled with offset %s & limit %s, but %s & %s requested: %s",
+                                scheduleOffset, scheduleLimit, offset, limit, scheduleFile.getAbsolutePath() ) );
+            }
+            minimumTimeStamp = in.readLong();
+            windowSize = in.readInt();
+            int definitionCount = in.readInt();
+            for ( int i = 0; i < definitionCount * 2; i++ )
+            {
+                operationTypeNames.add( readOperationTypeNames( in ) );
+            }
+            int streamCount = in.readInt();
+            sectionPositions = new long[streamCount];
+            sectionLengths = new long[streamCount];
+            sectionCounts = new long[streamCount];
+            for ( int i = 0; i < streamCount; i++ )
+            {
+                sectionPositions[i] = in.readLong();
+                sectionLengths[i] = in.readLong();
+                sectionCounts[i] = in.readLong();
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( format( "Error reading workload schedule header: %s",
+                    scheduleFile.getAbsolutePath() ), e );
+        }
+
+        Workload workload = workloadFactory.createWorkload();
+        if ( !workload.getClass().getName().equals( workloadClassName ) )
+        {
+            throw new WorkloadException( format( "Workload schedule was compiled for %s, not %s: %s",
+                    workloadClassName, workload.getClass().getName(), scheduleFile.getAbsolutePath() ) );
+        }
+        if ( workload.binaryFormatVersion() != binaryFormatVersion )
+        {
+            throw new WorkloadException(
+                    format( "Workload schedule was compiled with binary format version %s, but workload has %s: %s",
+                            binaryFormatVersion, workload.binaryFormatVersion(), scheduleFile.getAbsolutePath() ) );
+        }
+        if ( !fingerprint.equals( fingerprint( configuration, workloadClassName, offset, limit ) ) )
+        {
+            throw new WorkloadException( format(
+                    "Workload schedule was compiled with different workload parameters or input files, recompile: %s",
+                    scheduleFile.getAbsolutePath() ) );
+        }
+        if ( operationTypeNames.isEmpty() || sectionPositions.length != operationTypeNames.size() )
+        {
+            throw new WorkloadException( format( "Workload schedule has %s stream definitions but %s streams: %s",
+                    operationTypeNames.size() / 2, sectionPositions.length, scheduleFile.getAbsolutePath() ) );
+        }
+        workload.init( configuration );
+        ChildOperationGenerator asynchronousChildOperationGenerator =
+                workload.asynchronousChildOperationGenerator( gf, returnStreamsWithDbConnector );
+        List<Set<Class<? extends Operation>>> operationTypes = new ArrayList<>();
+        for ( List<String> names : operationTypeNames )
+        {
+            operationTypes.add( operationTypes( names, workload, scheduleFile ) );
+        }
+
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        try ( RandomAccessFile randomAccessFile = new RandomAccessFile( scheduleFile, "r" );
+              FileChannel channel = randomAccessFile.getChannel() )
+        {
+            for ( int i = 0; i < sectionPositions.length; i++ )
+            {
+                // mappings remain valid after the channel is closed
+                List<ByteBuffer> windows = new ArrayList<>();
+                for ( long windowStart = 0; windowStart < sectionLengths[i]; windowStart += windowSize )
+                {
+                    windows.add( channel.map(
+                            FileChannel.MapMode.READ_ONLY,
+                            sectionPositions[i] + windowStart,
+                            Math.min( windowSize, sectionLengths[i] - windowStart ) ) );
+                }
+                streams.add( new ScheduledOperationIterator( windows, sectionCounts[i], workload ) );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( format( "Error mapping workload schedule: %s",
+                    scheduleFile.getAbsolutePath() ), e );
+        }
+
+        WorkloadStreams workloadStreams = new WorkloadStreams();
+        workloadStreams.setAsynchronousStream(
+                operationTypes.get( 0 ),
+                operationTypes.get( 1 ),
+                streams.get( 0 ),
+                streams.get( 1 ),
+                asynchronousChildOperationGenerator
+        );
+        for ( int i = 2; i < streams.size(); i += 2 )
+        {
+            workloadStreams.addBlockingStream(
+                    operationTypes.get( i ),
+                    operationTypes.get( i + 1 ),
+                    streams.get( i ),
+                    streams.get( i + 1 ),
+                    null
+            );
+        }
+
+        return Tuple.tuple3(
+                workloadStreams,
+                workload,
+                minimumTimeStamp
+        );
+    }
+
+    private static String fingerprint( DriverConfiguration configuration, String workloadClassName, long offset,
+            long limit )
+    {
+        return WorkloadStreamsIndex.keyHash(
+                WorkloadStreamsIndex.keyFor( configuration.asMap(), workloadClassName, offset, limit ) );
+    }
+
+    private static void writeOperationTypes( DataOutputStream out, Set<Class<? extends Operation>> operationTypes )
+            throws IOException
+    {
+        out.writeInt( operationTypes.size() );
+        for ( Class<? extends Operation> operationType : operationTypes )
+        {
+            out.writeUTF( operationType.getName() );
+        }
+    }
+
+    private static List<String> readOperationTypeNames( DataInputStream in ) throws IOException
+    {
+        int count = in.readInt();
+        List<String> names = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            names.add( in.readUTF() );
+        }
+        return names;
+    }
+
+    private static Set<Class<? extends Operation>> operationTypes( List<String> names, Workload workload,
+            File scheduleFile ) throws WorkloadException
+    {
+        Set<Class<? extends Operation>> operationTypes = new HashSet<>();
+        for ( String name : names )
+        {
+            try
+            {
+                operationTypes.add(
+                        Class.forName( name, false, workload.getClass().getClassLoader() )
+                                .asSubclass( Operation.class ) );
+            }
+            catch ( ClassNotFoundException | ClassCastException e )
+            {
+                throw new WorkloadException( format( "Workload schedule operation type %s not found: %s",
+                        name, scheduleFile.getAbsolutePath() ), e );
+            }
+        }
+        return operationTypes;
+    }
+
+    // same order as streamsOf
+    private static List<WorkloadStreamDefinition> definitionsOf( WorkloadStreams workloadStreams )
+    {
+        List<WorkloadStreamDefinition> definitions = new ArrayList<>();
+        definitions.add( workloadStreams.asynchronousStream() );
+        definitions.addAll( workloadStreams.blockingStreamDefinitions() );
+        return definitions;
+    }
+
+    // same stream order as WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams
+    private static List<Iterator<Operation>> streamsOf( WorkloadStreams workloadStreams )
+    {
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        streams.add( workloadStreams.asynchronousStream().dependencyOperations() );
+        streams.add( workloadStreams.asynchronousStream().nonDependencyOperations() );
+        for ( WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+        {
+            streams.add( stream.dependencyOperations() );
+            streams.add( stream.nonDependencyOperations() );
+        }
+        return streams;
+    }
+
+    private static class ScheduledOperationIterator implements Iterator<Operation>
+    {
+        private final List<ByteBuffer> windows;
+        private final Workload workload;
+        private int windowIndex = 0;
+        private BinaryReader reader;
+        private long remaining;
+
+        private ScheduledOperationIterator( List<ByteBuffer> windows, long count, Workload workload )
+        {
+            this.windows = windows;
+            this.remaining = count;
+            this.workload = workload;
+            this.reader = (windows.isEmpty()) ? null : new BinaryReader( windows.get( 0 ) );
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return remaining > 0;
+        }
+
+        @Override
+        public Operation next()
+        {
+            if ( remaining <= 0 )
+            {
+                throw new NoSuchElementException( "Workload schedule stream is exhausted" );
+            }
+            ByteBuffer window = windows.get( windowIndex );
+            if ( window.remaining() < 4 || PADDING == window.getInt( window.position() ) )
+            {
+                windowIndex++;
+                window = windows.get( windowIndex );
+                reader = new BinaryReader( window );
+            }
+            int type = window.getInt();
+            long scheduledStartTimeAsMilli = window.getLong();
+            long timeStamp = window.getLong();
+            long dependencyTimeStamp = window.getLong();
+            int parametersLength = window.getInt();
+            int parametersEnd = window.position() + parametersLength;
+            remaining--;
+
+            Operation operation;
+            try
+            {
+                operation = workload.decodeOperation( reader );
+            }
+            catch ( SerializingMarshallingException e )
+            {
+                throw new RuntimeException( format( "Error decoding scheduled operation of type %s", type ), e );
+            }
+            if ( parametersEnd != window.position() )
+            {
+                throw new RuntimeException( format( "Scheduled operation has %s parameter bytes, but %s were read\n%s",
+                        parametersLength, parametersLength + window.position() - parametersEnd, operation ) );
+            }
+            if ( type != operation.type() )
+            {
+                throw new RuntimeException( format( "Scheduled operation has type %s, expected %s\n%s",
+                        operation.type(), type, operation ) );
+            }
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( timeStamp );
+            operation.setDependencyTimeStamp( dependencyTimeStamp );
+            return operation;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException( "Method not supported" );
+        }
+    }
+}
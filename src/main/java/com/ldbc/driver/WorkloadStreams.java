@@ -6,6 +6,8 @@ import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.SkippableIterators;
+import com.ldbc.driver.generator.TimeStampedSkippableIterator;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
@@ -251,46 +253,72 @@ public class WorkloadStreams
         // ====== Calculate Limits ========
         // ================================
 
-        // get workload
-        Workload workload = workloadFactory.createWorkload();
-        workload.init( configuration );
-        // retrieve unbounded streams
-        boolean hasDbConnected = false;
-        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
-        List<Iterator<Operation>> streams = new ArrayList<>();
-        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
-
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
-
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+        // skip the scan if an index computed by an earlier run with the same configuration exists
+        WorkloadStreamsIndex workloadStreamsIndex = WorkloadStreamsIndex.forConfiguration(
+                configuration,
+                configuration.workloadClassName(),
+                offset,
+                limit
+        );
+        Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
+                (null == workloadStreamsIndex) ? null : workloadStreamsIndex.read();
 
-        for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+        if ( null == limitsAndMinimumsForStream )
         {
-            streams.add( stream.dependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
+            // get workload
+            Workload workload = workloadFactory.createWorkload();
+            workload.init( configuration, loggingServiceFactory );
+            // retrieve unbounded streams
+            boolean hasDbConnected = false;
+            WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
+            List<Iterator<Operation>> streams = new ArrayList<>();
+            List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+
+            streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
+            childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+
+            streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
+            childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+
+            for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+            {
+                streams.add( stream.dependencyOperations() );
+                childOperationGenerators.add( stream.childOperationGenerator() );
 
-            streams.add( stream.nonDependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
-        }
+                streams.add( stream.nonDependencyOperations() );
+                childOperationGenerators.add( stream.childOperationGenerator() );
+            }
 
-        // stream through streams once, to calculate how many operations are needed from each,
-        // to get operation_count in total
-        Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
-                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
-                        streams,
-                        offset,
-                        limit,
-                        childOperationGenerators,
-                        loggingServiceFactory
+            // stream through streams once, to calculate how many operations are needed from each,
+            // to get operation_count in total
+            limitsAndMinimumsForStream =
+                    WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                            streams,
+                            offset,
+                            limit,
+                            childOperationGenerators,
+                            loggingServiceFactory
+                    );
+            if ( null != workloadStreamsIndex )
+            {
+                workloadStreamsIndex.write(
+                        limitsAndMinimumsForStream._1(),
+                        limitsAndMinimumsForStream._2(),
+                        limitsAndMinimumsForStream._3()
                 );
+            }
+            workload.close();
+        }
+        else
+        {
+            loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() ).info(
+                    format( "Using workload stream index: %s", workloadStreamsIndex.indexFile().getAbsolutePath() )
+            );
+        }
         long[] startForStream = limitsAndMinimumsForStream._1();
         long[] limitForStream = limitsAndMinimumsForStream._2();
         long minimumTimeStamp = limitsAndMinimumsForStream._3();
 
-        workload.close();
-
         // ================================
         // ====== Create Limited Streams ==
         // ================================
@@ -298,12 +326,20 @@ public class WorkloadStreams
         WorkloadStreams workloadStreams = new WorkloadStreams();
 
         // reinitialize workload, so it can be streamed through from the beginning
-        workload = workloadFactory.createWorkload();
-        workload.init( configuration );
+        Workload workload = workloadFactory.createWorkload();
+        workload.init( configuration, loggingServiceFactory );
 
         // retrieve unbounded streams
-        unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
         List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
+        if ( startForStream.length != unlimitedBlockingStreams.size() * 2 + 2 )
+        {
+            throw new WorkloadException(
+                    format( "Workload has %s streams but stream limits were calculated for %s streams\n" +
+                            "If a workload stream index was used, delete it and rerun",
+                            unlimitedBlockingStreams.size() * 2 + 2,
+                            startForStream.length ) );
+        }
 
         // advance to offsets
         gf.consume( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
@@ -373,6 +409,16 @@ public class WorkloadStreams
         }
         long kSoFarOffset = 0;
 
+        // streams that count their operations, and have no child operations, are skipped in bulk rather than iterated
+        boolean[] countable = new boolean[streams.size()];
+        for ( int i = 0; i < streams.size() && offset > 0; i++ )
+        {
+            countable[i] = null == childOperationGenerators.get( i ) &&
+                           streams.get( i ) instanceof TimeStampedSkippableIterator &&
+                           -1 != ((TimeStampedSkippableIterator<Operation>) streams.get( i )).countBefore(
+                                   Long.MAX_VALUE );
+        }
+
         while ( kSoFarOffset < offset )
         {
             long minAsMilli = Long.MAX_VALUE;
@@ -412,6 +458,16 @@ public class WorkloadStreams
                 // iterators are empty, nothing left to retrieve
                 break;
             }
+            if ( countable[indexOfMin] )
+            {
+                long skipped =
+                        skipCountable( streams, streamHeads, countable, kForStreamOffset, offset - kSoFarOffset );
+                if ( skipped > 0 )
+                {
+                    kSoFarOffset = kSoFarOffset + skipped;
+                    continue;
+                }
+            }
             kForStreamOffset[indexOfMin] = kForStreamOffset[indexOfMin] + 1;
             kSoFarOffset = kSoFarOffset + 1;
 
@@ -550,6 +606,121 @@ public class WorkloadStreams
         );
     }
 
+    // skips up to count operations of countable streams, of those that precede the next operation of other streams
+    private static long skipCountable(
+            List<Iterator<Operation>> streams,
+            Operation[] streamHeads,
+            boolean[] countable,
+            long[] kForStream,
+            long count )
+    {
+        // next operation of other streams, ties are taken in stream order
+        long nextTimeStamp = Long.MAX_VALUE;
+        int indexOfNext = streams.size();
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            if ( false == countable[i] && null != streamHeads[i] && streamHeads[i].timeStamp() < nextTimeStamp )
+            {
+                nextTimeStamp = streamHeads[i].timeStamp();
+                indexOfNext = i;
+            }
+        }
+        long countBeforeNext = 0;
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            long timeStamp = (i < indexOfNext && Long.MAX_VALUE != nextTimeStamp) ? nextTimeStamp + 1 : nextTimeStamp;
+            countBeforeNext =
+                    saturatedAdd( countBeforeNext, countBefore( streams, streamHeads, countable, i, timeStamp ) );
+        }
+        count = Math.min( count, countBeforeNext );
+
+        // find largest time stamp T with count of operations before it <= count, i.e., count ends among those at T
+        long lowTimeStamp = Long.MIN_VALUE;
+        long highTimeStamp = Long.MAX_VALUE;
+        if ( countBefore( streams, streamHeads, countable, highTimeStamp ) <= count )
+        {
+            lowTimeStamp = highTimeStamp;
+        }
+        else
+        {
+            while ( Long.compareUnsigned( highTimeStamp - lowTimeStamp, 1 ) > 0 )
+            {
+                long midTimeStamp = lowTimeStamp + ((highTimeStamp - lowTimeStamp) >>> 1);
+                if ( countBefore( streams, streamHeads, countable, midTimeStamp ) <= count )
+                {
+                    lowTimeStamp = midTimeStamp;
+                }
+                else
+                {
+                    highTimeStamp = midTimeStamp;
+                }
+            }
+        }
+
+        long toSkipAtTimeStamp = count - countBefore( streams, streamHeads, countable, lowTimeStamp );
+        long skipped = 0;
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            long toSkip = countBefore( streams, streamHeads, countable, i, lowTimeStamp );
+            if ( toSkipAtTimeStamp > 0 && Long.MAX_VALUE != lowTimeStamp )
+            {
+                // ties are taken in stream order, so the first streams take the remainder
+                long atTimeStamp = Math.min( toSkipAtTimeStamp,
+                        countBefore( streams, streamHeads, countable, i, lowTimeStamp + 1 ) - toSkip );
+                toSkip += atTimeStamp;
+                toSkipAtTimeStamp -= atTimeStamp;
+            }
+            if ( toSkip > 0 )
+            {
+                // head is the first operation to skip
+                streamHeads[i] = null;
+                long streamSkipped = 1 + SkippableIterators.skip( streams.get( i ), toSkip - 1 );
+                kForStream[i] = kForStream[i] + streamSkipped;
+                skipped = skipped + streamSkipped;
+            }
+        }
+        return skipped;
+    }
+
+    private static long countBefore(
+            List<Iterator<Operation>> streams,
+            Operation[] streamHeads,
+            boolean[] countable,
+            long timeStampAsMilli )
+    {
+        long countBefore = 0;
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            countBefore =
+                    saturatedAdd( countBefore, countBefore( streams, streamHeads, countable, i, timeStampAsMilli ) );
+        }
+        return countBefore;
+    }
+
+    // operations of a countable stream, including its head, with time stamp lower than timeStampAsMilli
+    private static long countBefore(
+            List<Iterator<Operation>> streams,
+            Operation[] streamHeads,
+            boolean[] countable,
+            int stream,
+            long timeStampAsMilli )
+    {
+        if ( false == countable[stream] || null == streamHeads[stream] ||
+             streamHeads[stream].timeStamp() >= timeStampAsMilli )
+        {
+            return 0;
+        }
+        long countBefore =
+                ((TimeStampedSkippableIterator<Operation>) streams.get( stream )).countBefore( timeStampAsMilli );
+        return saturatedAdd( countBefore, 1 );
+    }
+
+    private static long saturatedAdd( long a, long b )
+    {
+        long sum = a + b;
+        return (sum < 0) ? Long.MAX_VALUE : sum;
+    }
+
     public WorkloadStreamDefinition asynchronousStream()
     {
         if ( null != asynchronousStream )
@@ -0,0 +1,233 @@
+package com.ldbc.driver;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.util.FileUtils;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple3;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+
+/**
+ * Persists the per stream start & limit counts computed by
+ * {@link WorkloadStreams#fromAmongAllRetrieveTopCountFromOffset}, so later runs with the same configuration can skip
+ * the scan through all workload streams.
+ * <p/>
+ * Index files are keyed by: workload class, offset, limit, workload parameters, and the path/size/modification time
+ * of every file (or directory content) those parameters reference. Any change to those produces a new key.
+ * Parameters that do not influence stream content (e.g., thread count, results directory) are not part of the key.
+ * The same key fingerprints the configuration a {@link WorkloadSchedule} was compiled with.
+ * <p/>
+ * Enabled only when {@link #WORKLOAD_STREAM_INDEX_DIR_ARG} is set.
+ */
+public class WorkloadStreamsIndex
+{
+    public static final String WORKLOAD_STREAM_INDEX_DIR_ARG = "workload_stream_index_dir";
+
+    private static final String INDEX_FILE_SUFFIX = ".properties";
+    private static final String KEY_PROPERTY = "key";
+    private static final String STREAM_COUNT_PROPERTY = "stream_count";
+    private static final String START_PROPERTY_PREFIX = "start.";
+    private static final String LIMIT_PROPERTY_PREFIX = "limit.";
+    private static final String MINIMUM_TIMESTAMP_PROPERTY = "minimum_timestamp";
+
+    private static final Set<String> NON_WORKLOAD_PARAMS = Sets.newHashSet(
+            ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.SKIP_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.DB_ARG,
+            ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+            ConsoleAndFileDriverConfiguration.HELP_ARG,
+            ConsoleAndFileDriverConfiguration.NAME_ARG,
+            ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+            ConsoleAndFileDriverConfiguration.THREADS_ARG,
+            ConsoleAndFileDriverConfiguration.SHOW_STATUS_ARG,
+            ConsoleAndFileDriverConfiguration.DB_VALIDATION_FILE_PATH_ARG,
+            ConsoleAndFileDriverConfiguration.CREATE_VALIDATION_PARAMS_ARG,
+            ConsoleAndFileDriverConfiguration.CALCULATE_WORKLOAD_STATISTICS_ARG,
+            ConsoleAndFileDriverConfiguration.TIME_UNIT_ARG,
+            ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+            ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_ARG,
+            ConsoleAndFileDriverConfiguration.PROPERTY_FILE_ARG,
+            ConsoleAndFileDriverConfiguration.PROPERTY_ARG,
+            WORKLOAD_STREAM_INDEX_DIR_ARG,
+            WorkloadSchedule.WORKLOAD_SCHEDULE_DIR_ARG,
+            WorkloadSchedule.COMPILE_WORKLOAD_SCHEDULE_ARG
+    );
+    private static final String NON_WORKLOAD_PARAM_PREFIX = "results_log_";
+
+    private final File indexFile;
+    private final String key;
+
+    /**
+     * @return index for the given configuration, or null if indexing is not enabled
+     */
+    public static WorkloadStreamsIndex forConfiguration(
+            DriverConfiguration configuration,
+            String workloadClassName,
+            long offset,
+            long limit )
+    {
+        String indexDirPath = configuration.asMap().get( WORKLOAD_STREAM_INDEX_DIR_ARG );
+        if ( null == indexDirPath )
+        {
+            return null;
+        }
+        File indexDir = new File( indexDirPath );
+        FileUtils.tryCreateDirs( indexDir, false );
+        String key = keyFor( configuration.asMap(), workloadClassName, offset, limit );
+        return new WorkloadStreamsIndex( new File( indexDir, keyHash( key ) + INDEX_FILE_SUFFIX ), key );
+    }
+
+    static String keyHash( String key )
+    {
+        return Hashing.sha1().hashString( key, Charsets.UTF_8 ).toString();
+    }
+
+    static String keyFor( Map<String,String> paramsMap, String workloadClassName, long offset, long limit )
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "workload=" ).append( workloadClassName ).append( "\n" );
+        sb.append( "offset=" ).append( offset ).append( "\n" );
+        sb.append( "limit=" ).append( limit ).append( "\n" );
+        for ( Map.Entry<String,String> param : new TreeMap<>( paramsMap ).entrySet() )
+        {
+            if ( NON_WORKLOAD_PARAMS.contains( param.getKey() ) ||
+                 param.getKey().startsWith( NON_WORKLOAD_PARAM_PREFIX ) ||
+                 null == param.getValue() )
+            {
+                continue;
+            }
+            sb.append( param.getKey() ).append( "=" ).append( param.getValue() ).append( "\n" );
+            appendFileFingerprint( sb, new File( param.getValue() ) );
+        }
+        return sb.toString();
+    }
+
+    private static void appendFileFingerprint( StringBuilder sb, File file )
+    {
+        if ( file.isFile() )
+        {
+            sb.append( format( "  %s %s %s\n", file.getAbsolutePath(), file.length(), file.lastModified() ) );
+        }
+        else if ( file.isDirectory() )
+        {
+            sb.append( format( "  %s\n", file.getAbsolutePath() ) );
+            File[] children = file.listFiles();
+            if ( null != children )
+            {
+                Arrays.sort( children );
+                for ( File child : children )
+                {
+                    sb.append( format( "    %s %s %s\n", child.getName(), child.length(), child.lastModified() ) );
+                }
+            }
+        }
+    }
+
+    private WorkloadStreamsIndex( File indexFile, String key )
+    {
+        this.indexFile = indexFile;
+        this.key = key;
+    }
+
+    public File indexFile()
+    {
+        return indexFile;
+    }
+
+    /**
+     * @return (start_per_stream, limit_per_stream, minimum_timestamp), or null if no index exists yet
+     */
+    public Tuple3<long[],long[],Long> read() throws WorkloadException
+    {
+        if ( !indexFile.exists() )
+        {
+            return null;
+        }
+        Properties properties = new Properties();
+        try ( InputStream inputStream = new FileInputStream( indexFile ) )
+        {
+            properties.load( inputStream );
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( format( "Error reading workload stream index: %s",
+                    indexFile.getAbsolutePath() ), e );
+        }
+        if ( !key.equals( properties.getProperty( KEY_PROPERTY ) ) )
+        {
+            // hash collision, or index written by a different version of the driver
+            return null;
+        }
+        try
+        {
+            int streamCount = Integer.parseInt( properties.getProperty( STREAM_COUNT_PROPERTY ) );
+            long[] startForStream = new long[streamCount];
+            long[] limitForStream = new long[streamCount];
+            for ( int i = 0; i < streamCount; i++ )
+            {
+                startForStream[i] = Long.parseLong( properties.getProperty( START_PROPERTY_PREFIX + i ) );
+                limitForStream[i] = Long.parseLong( properties.getProperty( LIMIT_PROPERTY_PREFIX + i ) );
+            }
+            long minimumTimeStamp = Long.parseLong( properties.getProperty( MINIMUM_TIMESTAMP_PROPERTY ) );
+            return Tuple.tuple3( startForStream, limitForStream, minimumTimeStamp );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException( format( "Malformed workload stream index: %s",
+                    indexFile.getAbsolutePath() ), e );
+        }
+    }
+
+    public void write( long[] startForStream, long[] limitForStream, long minimumTimeStamp )
+            throws WorkloadException
+    {
+        Properties properties = new Properties();
+        properties.setProperty( KEY_PROPERTY, key );
+        properties.setProperty( STREAM_COUNT_PROPERTY, Integer.toString( startForStream.length ) );
+        for ( int i = 0; i < startForStream.length; i++ )
+        {
+            properties.setProperty( START_PROPERTY_PREFIX + i, Long.toString( startForStream[i] ) );
+            properties.setProperty( LIMIT_PROPERTY_PREFIX + i, Long.toString( limitForStream[i] ) );
+        }
+        properties.setProperty( MINIMUM_TIMESTAMP_PROPERTY, Long.toString( minimumTimeStamp ) );
+        // write to temporary file first, so concurrent or interrupted runs never observe a partial index
+        File tempIndexFile = new File( indexFile.getParentFile(), indexFile.getName() + ".tmp" );
+        try ( OutputStream outputStream = new FileOutputStream( tempIndexFile ) )
+        {
+            properties.store( outputStream, "Workload stream index" );
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( format( "Error writing workload stream index: %s",
+                    tempIndexFile.getAbsolutePath() ), e );
+        }
+        try
+        {
+            Files.move( tempIndexFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( format( "Error moving workload stream index to: %s",
+                    indexFile.getAbsolutePath() ), e );
+        }
+    }
+}
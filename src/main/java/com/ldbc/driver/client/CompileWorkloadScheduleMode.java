@@ -0,0 +1,114 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadSchedule;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.util.FileUtils;
+import com.ldbc.driver.util.Tuple3;
+
+import java.io.File;
+import java.text.DecimalFormat;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the warmup & run phase operation streams of a workload to precompiled schedule files,
+ * which {@link ExecuteWorkloadMode} replays when {@link WorkloadSchedule#WORKLOAD_SCHEDULE_DIR_ARG} is set.
+ */
+public class CompileWorkloadScheduleMode implements ClientMode<Object>
+{
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+
+    private File scheduleDir = null;
+
+    public CompileWorkloadScheduleMode( ControlService controlService, long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        String scheduleDirPath = controlService.configuration().asMap().get(
+                WorkloadSchedule.WORKLOAD_SCHEDULE_DIR_ARG );
+        if ( null == scheduleDirPath )
+        {
+            throw new ClientException(
+                    format( "Missing required parameter: %s", WorkloadSchedule.WORKLOAD_SCHEDULE_DIR_ARG ) );
+        }
+        scheduleDir = new File( scheduleDirPath );
+        FileUtils.tryCreateDirs( scheduleDir, false );
+
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        // offsets & limits must match those used by ExecuteWorkloadMode
+        if ( controlService.configuration().warmupCount() > 0 )
+        {
+            compile(
+                    controlService.configuration().skipCount(),
+                    controlService.configuration().warmupCount()
+            );
+        }
+        compile(
+                controlService.configuration().skipCount() + controlService.configuration().warmupCount(),
+                controlService.configuration().operationCount()
+        );
+        return null;
+    }
+
+    private void compile( long offset, long limit ) throws ClientException
+    {
+        File scheduleFile = WorkloadSchedule.scheduleFileFor( scheduleDir, offset, limit );
+        loggingService.info( format( "Compiling workload schedule: %s", scheduleFile.getAbsolutePath() ) );
+        // a new generator factory per phase, with the same seed, as in ExecuteWorkloadMode
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
+        try
+        {
+            boolean returnStreamsWithDbConnector = false;
+            Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp =
+                    WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                            controlService.configuration(),
+                            gf,
+                            returnStreamsWithDbConnector,
+                            offset,
+                            limit,
+                            controlService.loggingServiceFactory()
+                    );
+            try ( Workload workload = streamsAndWorkloadAndMinimumTimeStamp._2() )
+            {
+                long operationCount = WorkloadSchedule.write(
+                        scheduleFile,
+                        controlService.configuration(),
+                        workload,
+                        streamsAndWorkloadAndMinimumTimeStamp._1(),
+                        offset,
+                        limit,
+                        streamsAndWorkloadAndMinimumTimeStamp._3()
+                );
+                loggingService.info( format( "Wrote %s operations (%s bytes) to: %s",
+                        new DecimalFormat( "###,###,###,###,###" ).format( operationCount ),
+                        new DecimalFormat( "###,###,###,###,###" ).format( scheduleFile.length() ),
+                        scheduleFile.getAbsolutePath() ) );
+            }
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException(
+                    format( "Error compiling workload schedule: %s", scheduleFile.getAbsolutePath() ), e );
+        }
+    }
+}
@@ -48,7 +48,7 @@ public class CreateValidationParamsMode implements ClientMode<Object>
         try
         {
             workload = ClassLoaderHelper.loadWorkload( controlService.configuration().workloadClassName() );
-            workload.init( controlService.configuration() );
+            workload.init( controlService.configuration(), controlService.loggingServiceFactory() );
         }
         catch ( Exception e )
         {
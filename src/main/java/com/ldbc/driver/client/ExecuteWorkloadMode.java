@@ -6,6 +6,7 @@ import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadSchedule;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ControlService;
 import com.ldbc.driver.control.LoggingService;
@@ -15,16 +16,24 @@ import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
 import com.ldbc.driver.runtime.WorkloadRunner;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeLogWriter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.NullCompletionTimeLogWriter;
+import com.ldbc.driver.runtime.coordination.SimpleCompletionTimeLogWriter;
+import com.ldbc.driver.runtime.executor.OperationStreamPrefetcher;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.FilteringResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.IntervalHistogramLogWriter;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.NullIntervalHistogramLogWriter;
 import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.SimpleIntervalHistogramLogWriter;
 import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
@@ -36,6 +45,7 @@ import com.ldbc.driver.validation.ResultsLogValidationResult;
 import com.ldbc.driver.validation.ResultsLogValidationSummary;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 import com.ldbc.driver.validation.ResultsLogValidator;
+import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -61,6 +71,8 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    private CompletionTimeLogWriter completionTimeLogWriter = null;
+    private IntervalHistogramLogWriter intervalHistogramLogWriter = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -148,27 +160,52 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
-        File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
+        //  ==================================
+        //  ===  Completion Time Log Writer  ===
+        //  ==================================
+        File completionTimeLog = (resultsDirectory.exists())
+                                 ? resultsDirectory.getOrCreateCompletionTimeLogFile( warmup )
+                                 : null;
         try
         {
-            resultsLogWriter = (null == resultsLog)
-                               ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter( resultsLog, controlService.configuration().timeUnit() );
+            completionTimeLogWriter = (null == completionTimeLog)
+                                      ? new NullCompletionTimeLogWriter()
+                                      : new SimpleCompletionTimeLogWriter( completionTimeLog );
         }
         catch ( IOException e )
         {
             throw new ClientException(
-                    format( "Error creating results log writer for: %s", resultsLog.getAbsolutePath() ), e );
+                    format( "Error creating completion time log writer for: %s", completionTimeLog.getAbsolutePath() ),
+                    e );
+        }
+
+        //  =====================================
+        //  ===  Interval Histogram Log Writer  ===
+        //  =====================================
+        // interval histograms are logged at the same interval as status, so the two time series line up
+        File histogramLogDirectory =
+                (resultsDirectory.exists() && controlService.configuration().statusDisplayIntervalAsSeconds() > 0)
+                ? resultsDirectory.getOrCreateHistogramLogDirectory( warmup )
+                : null;
+        try
+        {
+            intervalHistogramLogWriter = (null == histogramLogDirectory)
+                                         ? new NullIntervalHistogramLogWriter()
+                                         : new SimpleIntervalHistogramLogWriter(
+                                                 histogramLogDirectory,
+                                                 controlService.configuration().timeUnit() );
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException(
+                    format( "Error creating interval histogram log writer for: %s",
+                            histogramLogDirectory.getAbsolutePath() ),
+                    e );
         }
 
         //  ==================
         //  ===  Workload  ===
         //  ==================
-        loggingService.info( "Scanning workload streams to calculate their limits..." );
-
         long offset = (warmup)
                       ? controlService.configuration().skipCount()
                       : controlService.configuration().skipCount() + controlService.configuration().warmupCount();
@@ -178,18 +215,39 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
 
         WorkloadStreams workloadStreams;
         long minimumTimeStamp;
+        String scheduleDirPath = controlService.configuration().asMap().get(
+                WorkloadSchedule.WORKLOAD_SCHEDULE_DIR_ARG );
         try
         {
             boolean returnStreamsWithDbConnector = true;
-            Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp =
-                    WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
-                            controlService.configuration(),
-                            gf,
-                            returnStreamsWithDbConnector,
-                            offset,
-                            limit,
-                            controlService.loggingServiceFactory()
-                    );
+            Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp;
+            if ( null == scheduleDirPath )
+            {
+                loggingService.info( "Scanning workload streams to calculate their limits..." );
+                streamsAndWorkloadAndMinimumTimeStamp =
+                        WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                                controlService.configuration(),
+                                gf,
+                                returnStreamsWithDbConnector,
+                                offset,
+                                limit,
+                                controlService.loggingServiceFactory()
+                        );
+            }
+            else
+            {
+                File scheduleFile = WorkloadSchedule.scheduleFileFor( new File( scheduleDirPath ), offset, limit );
+                loggingService.info( format( "Replaying workload schedule: %s", scheduleFile.getAbsolutePath() ) );
+                streamsAndWorkloadAndMinimumTimeStamp = WorkloadSchedule.read(
+                        scheduleFile,
+                        new ClassNameWorkloadFactory( controlService.configuration().workloadClassName() ),
+                        controlService.configuration(),
+                        gf,
+                        returnStreamsWithDbConnector,
+                        offset,
+                        limit
+                );
+            }
             workloadStreams = streamsAndWorkloadAndMinimumTimeStamp._1();
             workload = streamsAndWorkloadAndMinimumTimeStamp._2();
             minimumTimeStamp = streamsAndWorkloadAndMinimumTimeStamp._3();
@@ -201,6 +259,32 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
         loggingService.info( format( "Loaded workload: %s", workload.getClass().getName() ) );
 
+        //  ================================
+        //  ===  Results Log CSV Writer  ===
+        //  ================================
+        File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
+        // validation can not count operations filtered out of the log, so the filtering writer summarizes them
+        long excessiveDelayThresholdAsMilli = (controlService.configuration().ignoreScheduledStartTimes())
+                                              ? -1
+                                              : workload.resultsLogValidationTolerances(
+                                                      controlService.configuration(), warmup )
+                                                      .excessiveDelayThresholdAsMilli();
+        try
+        {
+            resultsLogWriter = (null == resultsLog)
+                               ? new NullResultsLogWriter()
+                               : FilteringResultsLogWriter.fromParamsMap(
+                                       new SimpleResultsLogWriter( resultsLog,
+                                               controlService.configuration().timeUnit() ),
+                                       controlService.configuration().asMap(),
+                                       excessiveDelayThresholdAsMilli );
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException(
+                    format( "Error creating results log writer for: %s", resultsLog.getAbsolutePath() ), e );
+        }
+
         loggingService.info( format( "Retrieving workload stream: %s", workload.getClass().getSimpleName() ) );
         controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
         WorkloadStreams timeMappedWorkloadStreams;
@@ -252,6 +336,8 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     controlService.configuration().timeUnit(),
                     DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
                     resultsLogWriter,
+                    intervalHistogramLogWriter,
+                    TimeUnit.SECONDS.toMillis( controlService.configuration().statusDisplayIntervalAsSeconds() ),
                     workload.operationTypeToClassMapping(),
                     controlService.loggingServiceFactory()
             );
@@ -268,9 +354,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
+                    completionTimeServiceAssistant.newCompletionTimeServiceFromParamsMap(
                             timeSource,
-                            errorReporter
+                            errorReporter,
+                            controlService.configuration().asMap()
                     );
         }
         catch ( CompletionTimeException e )
@@ -285,6 +372,11 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             int operationHandlerExecutorsBoundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+            String operationPrefetchBufferSizeString = controlService.configuration().asMap().get(
+                    OperationStreamPrefetcher.OPERATION_PREFETCH_BUFFER_SIZE_ARG );
+            int operationPrefetchBufferSize = (null == operationPrefetchBufferSizeString)
+                                              ? OperationStreamPrefetcher.DEFAULT_OPERATION_PREFETCH_BUFFER_SIZE
+                                              : Integer.parseInt( operationPrefetchBufferSizeString );
             workloadRunner = new WorkloadRunner(
                     timeSource,
                     database,
@@ -292,12 +384,14 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     metricsService,
                     errorReporter,
                     completionTimeService,
+                    completionTimeLogWriter,
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    operationHandlerExecutorsBoundedQueueSize );
+                    operationHandlerExecutorsBoundedQueueSize,
+                    operationPrefetchBufferSize );
         }
         catch ( Exception e )
         {
@@ -389,6 +483,14 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error during shutdown of completion time service", e );
         }
+        try
+        {
+            completionTimeLogWriter.close();
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Error closing completion time log writer", e );
+        }
 
         loggingService.info( "Shutting down metrics collection service..." );
         WorkloadResultsSnapshot workloadResults;
@@ -396,8 +498,9 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             workloadResults = metricsService.getWriter().results();
             metricsService.shutdown();
+            intervalHistogramLogWriter.close();
         }
-        catch ( MetricsCollectionException e )
+        catch ( Exception e )
         {
             throw new ClientException( "Error during shutdown of metrics collection service", e );
         }
@@ -436,10 +539,13 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     ResultsLogValidator resultsLogValidator = new ResultsLogValidator();
                     ResultsLogValidationTolerances resultsLogValidationTolerances =
                             workload.resultsLogValidationTolerances( controlService.configuration(), warmup );
-                    ResultsLogValidationSummary resultsLogValidationSummary = resultsLogValidator.compute(
-                            resultsDirectory.getOrCreateResultsLogFile( warmup ),
-                            resultsLogValidationTolerances.excessiveDelayThresholdAsMilli()
-                    );
+                    ResultsLogValidationSummary resultsLogValidationSummary =
+                            (resultsLogWriter instanceof FilteringResultsLogWriter)
+                            ? ((FilteringResultsLogWriter) resultsLogWriter).validationSummary()
+                            : resultsLogValidator.compute(
+                                    resultsDirectory.getOrCreateResultsLogFile( warmup ),
+                                    resultsLogValidationTolerances.excessiveDelayThresholdAsMilli()
+                            );
                     File resultsValidationFile = resultsDirectory.getOrCreateResultsValidationFile( warmup );
                     loggingService.info(
                             format( "Exporting workload results validation to: %s",
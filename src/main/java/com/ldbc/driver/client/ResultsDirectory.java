@@ -6,13 +6,12 @@ import com.ldbc.driver.ClientException;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.csv.CharSeekerCsvFileReader;
 import com.ldbc.driver.util.FileUtils;
 import com.ldbc.driver.util.MapUtils;
 
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -45,6 +44,8 @@ public class ResultsDirectory
     private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
+    private static final String RESULTS_COMPLETION_TIME_LOG_FILENAME_SUFFIX = "-ct_log.csv";
+    private static final String RESULTS_HISTOGRAM_LOG_DIRECTORY_SUFFIX = "-histogram_logs";
 
     private static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
 
@@ -120,19 +121,62 @@ public class ResultsDirectory
 
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
-        try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
+        try ( CharSeekerCsvFileReader csvResultsLogReader = new CharSeekerCsvFileReader(
                 getResultsLogFile( resultsDir, configuration, warmup ),
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+                CharSeekerCsvFileReader.DEFAULT_COLUMN_SEPARATOR ) )
         {
             return Iterators.size( csvResultsLogReader );
         }
-        catch ( FileNotFoundException e )
+        catch ( IOException e )
         {
             throw new ClientException(
                     "Error calculating length of " + getResultsLogFile( warmup ).getAbsolutePath(), e );
         }
     }
 
+    File getOrCreateCompletionTimeLogFile( boolean warmup ) throws ClientException
+    {
+        File completionTimeLog = getCompletionTimeLogFile( warmup );
+        if ( !completionTimeLog.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( completionTimeLog );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating completion time log file: " + completionTimeLog.getAbsolutePath(), e );
+            }
+        }
+        return completionTimeLog;
+    }
+
+    public File getCompletionTimeLogFile( boolean warmup ) throws ClientException
+    {
+        return new File( resultsDir, completionTimeLogFilename( configuration, warmup ) );
+    }
+
+    File getOrCreateHistogramLogDirectory( boolean warmup ) throws ClientException
+    {
+        File histogramLogDirectory = getHistogramLogDirectory( warmup );
+        try
+        {
+            FileUtils.tryCreateDirs( histogramLogDirectory, false );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException(
+                    "Error creating histogram log directory: " + histogramLogDirectory.getAbsolutePath(), e );
+        }
+        return histogramLogDirectory;
+    }
+
+    public File getHistogramLogDirectory( boolean warmup ) throws ClientException
+    {
+        return new File( resultsDir, histogramLogDirectoryName( configuration, warmup ) );
+    }
+
     public File getOrCreateResultsSummaryFile( boolean warmup ) throws ClientException
     {
         File resultsSummary = getResultsSummaryFile( warmup );
@@ -223,6 +267,11 @@ public class ResultsDirectory
                     expectedFiles.add( getResultsValidationFile( true ) );
                 }
                 expectedFiles.add( getResultsLogFile( true ) );
+                expectedFiles.add( getCompletionTimeLogFile( true ) );
+                if ( configuration.statusDisplayIntervalAsSeconds() > 0 )
+                {
+                    expectedFiles.add( getHistogramLogDirectory( true ) );
+                }
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
             }
@@ -231,6 +280,11 @@ public class ResultsDirectory
                 expectedFiles.add( getResultsValidationFile( false ) );
             }
             expectedFiles.add( getResultsLogFile( false ) );
+            expectedFiles.add( getCompletionTimeLogFile( false ) );
+            if ( configuration.statusDisplayIntervalAsSeconds() > 0 )
+            {
+                expectedFiles.add( getHistogramLogDirectory( false ) );
+            }
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
             return expectedFiles;
@@ -366,6 +420,18 @@ public class ResultsDirectory
                         : configuration.name() + RESULTS_LOG_FILENAME_SUFFIX;
     }
 
+    private static String histogramLogDirectoryName( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_HISTOGRAM_LOG_DIRECTORY_SUFFIX
+                        : configuration.name() + RESULTS_HISTOGRAM_LOG_DIRECTORY_SUFFIX;
+    }
+
+    private static String completionTimeLogFilename( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_COMPLETION_TIME_LOG_FILENAME_SUFFIX
+                        : configuration.name() + RESULTS_COMPLETION_TIME_LOG_FILENAME_SUFFIX;
+    }
+
     private static String resultsSummaryFilename( DriverConfiguration configuration, boolean warmup )
     {
         return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_METRICS_FILENAME_SUFFIX
@@ -9,7 +9,7 @@ import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.ControlService;
 import com.ldbc.driver.control.LoggingService;
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.csv.CharSeekerCsvFileReader;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.validation.DbValidationResult;
 import com.ldbc.driver.validation.DbValidator;
@@ -28,6 +28,9 @@ import static java.lang.String.format;
 
 public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
 {
+    // expected results are stored as one value, so must fit in the buffer
+    private static final int VALIDATION_PARAMS_BUFFER_SIZE = 16 * 1024 * 1024;
+
     private final ControlService controlService;
     private final LoggingService loggingService;
 
@@ -46,7 +49,7 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
         try
         {
             workload = ClassLoaderHelper.loadWorkload( controlService.configuration().workloadClassName() );
-            workload.init( controlService.configuration() );
+            workload.init( controlService.configuration(), controlService.loggingServiceFactory() );
         }
         catch ( Exception e )
         {
@@ -87,15 +90,15 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
                             db.getClass().getName(), validationParamsFile.getAbsolutePath() ) );
 
             int validationParamsCount;
-            SimpleCsvFileReader validationParamsReader;
+            CharSeekerCsvFileReader validationParamsReader;
             try
             {
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                validationParamsReader = new CharSeekerCsvFileReader( validationParamsFile,
+                        CharSeekerCsvFileReader.DEFAULT_COLUMN_SEPARATOR, VALIDATION_PARAMS_BUFFER_SIZE );
                 validationParamsCount = Iterators.size( validationParamsReader );
                 validationParamsReader.close();
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                validationParamsReader = new CharSeekerCsvFileReader( validationParamsFile,
+                        CharSeekerCsvFileReader.DEFAULT_COLUMN_SEPARATOR, VALIDATION_PARAMS_BUFFER_SIZE );
             }
             catch ( IOException e )
             {
@@ -1,5 +1,8 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.coordination.CompletionTimeStatusSnapshot;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriterStatus;
+import com.ldbc.driver.runtime.executor.OperationPrefetchStatusSnapshot;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.SimpleSummaryWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.WorkloadMetricsFormatter;
@@ -44,7 +47,8 @@ public class Log4jLoggingService implements LoggingService
     public void status(
             WorkloadStatusSnapshot status,
             RecentThroughputAndDuration recentThroughputAndDuration,
-            long completionTimeAsMilli )
+            CompletionTimeStatusSnapshot completionTimeStatus,
+            OperationPrefetchStatusSnapshot prefetchStatus )
     {
         String statusString;
         statusString = (detailedStatus) ?
@@ -55,14 +59,16 @@ public class Log4jLoggingService implements LoggingService
                                status.throughput(),
                                recentThroughputAndDuration.throughput(),
                                recentThroughputAndDuration.duration(),
-                               completionTimeAsMilli ) :
+                               completionTimeStatus,
+                               prefetchStatus ) :
                        formatWithoutCt(
                                status.operationCount(),
                                status.runDurationAsMilli(),
                                status.durationSinceLastMeasurementAsMilli(),
                                status.throughput(),
                                recentThroughputAndDuration.throughput(),
-                               recentThroughputAndDuration.duration() );
+                               recentThroughputAndDuration.duration(),
+                               prefetchStatus );
         logger.info( statusString );
     }
 
@@ -84,7 +90,8 @@ public class Log4jLoggingService implements LoggingService
             long durationSinceLastMeasurementAsMilli,
             double throughput,
             double recentThroughput,
-            long recentDurationAsMilli )
+            long recentDurationAsMilli,
+            OperationPrefetchStatusSnapshot prefetchStatus )
     {
         return format(
                 operationCount,
@@ -93,7 +100,8 @@ public class Log4jLoggingService implements LoggingService
                 throughput,
                 recentThroughput,
                 recentDurationAsMilli,
-                null ).toString();
+                null,
+                prefetchStatus ).toString();
     }
 
     private String formatWithCt(
@@ -103,7 +111,8 @@ public class Log4jLoggingService implements LoggingService
             double throughput,
             double recentThroughput,
             long recentDurationAsMilli,
-            long ctAsMilli )
+            CompletionTimeStatusSnapshot completionTimeStatus,
+            OperationPrefetchStatusSnapshot prefetchStatus )
     {
         return format(
                 operationCount,
@@ -112,7 +121,8 @@ public class Log4jLoggingService implements LoggingService
                 throughput,
                 recentThroughput,
                 recentDurationAsMilli,
-                ctAsMilli ).toString();
+                completionTimeStatus,
+                prefetchStatus ).toString();
     }
 
     private StringBuffer format(
@@ -122,7 +132,8 @@ public class Log4jLoggingService implements LoggingService
             double throughput,
             double recentThroughput,
             long recentDurationAsMilli,
-            Long ctAsMilli )
+            CompletionTimeStatusSnapshot completionTimeStatus,
+            OperationPrefetchStatusSnapshot prefetchStatus )
     {
         StringBuffer sb = new StringBuffer()
                 .append( DATE_FORMAT.format( new Date() ) ).append( " " )
@@ -139,9 +150,42 @@ public class Log4jLoggingService implements LoggingService
                 .append( " (Total) [" ).append( THROUGHPUT_FORMATTER.format( throughput ) ).append( "]" )
                 .append( " (Last " ).append( TimeUnit.MILLISECONDS.toSeconds( recentDurationAsMilli ) )
                 .append( "s) [" ).append( THROUGHPUT_FORMATTER.format( recentThroughput ) ).append( "]" );
-        if ( null != ctAsMilli )
+        if ( null != completionTimeStatus )
+        {
+            long ctAsMilli = completionTimeStatus.completionTimeAsMilli();
+            long ctLagAsMilli = completionTimeStatus.completionTimeLagAsMilli();
+            double ctAdvanceRate = completionTimeStatus.completionTimeAdvanceRate();
+            sb.append( ", CT: " + ((-1 == ctAsMilli) ? "--" : temporalUtil.milliTimeToDateTimeString( ctAsMilli )) )
+                    .append( ", CT Lag [" )
+                    .append( (-1 == ctLagAsMilli) ? "--" : temporalUtil.milliDurationToString( ctLagAsMilli ) )
+                    .append( "]" )
+                    .append( ", CT Rate [" )
+                    .append( (-1 == ctAdvanceRate) ? "--" : THROUGHPUT_FORMATTER.format( ctAdvanceRate ) )
+                    .append( " ms/s]" );
+            CompletionTimeWriterStatus slowestWriter = completionTimeStatus.slowestWriter();
+            if ( null != slowestWriter )
+            {
+                long slowestWriterItAsMilli = slowestWriter.lowestInitiatedTimeAsMilli();
+                sb.append( ", Slowest Writer [" ).append( slowestWriter.writerId() ).append( "]" )
+                        .append( " (IT) [" )
+                        .append( (-1 == slowestWriterItAsMilli)
+                                 ? "--"
+                                 : temporalUtil.milliTimeToDateTimeString( slowestWriterItAsMilli ) )
+                        .append( "]" )
+                        .append( " (Uncompleted) [" )
+                        .append( OPERATION_COUNT_FORMATTER.format( slowestWriter.uncompletedInitiatedTimes() ) )
+                        .append( "]" );
+            }
+        }
+        if ( null != prefetchStatus )
         {
-            sb.append( ", CT: " + ((-1 == ctAsMilli) ? "--" : temporalUtil.milliTimeToDateTimeString( ctAsMilli )) );
+            int minimumBufferFill = prefetchStatus.minimumBufferFill();
+            sb.append( ", Prefetch [" )
+                    .append( OPERATION_COUNT_FORMATTER.format( prefetchStatus.totalBufferFill() ) ).append( "/" )
+                    .append( OPERATION_COUNT_FORMATTER.format( prefetchStatus.totalBufferDepth() ) ).append( "]" )
+                    .append( " (Min) [" )
+                    .append( (-1 == minimumBufferFill) ? "--" : OPERATION_COUNT_FORMATTER.format( minimumBufferFill ) )
+                    .append( "]" );
         }
         return sb;
     }
@@ -1,5 +1,7 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.coordination.CompletionTimeStatusSnapshot;
+import com.ldbc.driver.runtime.executor.OperationPrefetchStatusSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 
@@ -9,7 +11,8 @@ public interface LoggingService
 
     void status( WorkloadStatusSnapshot workloadStatusSnapshot,
             RecentThroughputAndDuration recentThroughputAndDuration,
-            long completionTimeAsMilli );
+            CompletionTimeStatusSnapshot completionTimeStatus,
+            OperationPrefetchStatusSnapshot prefetchStatus );
 
     void summaryResult( WorkloadResultsSnapshot workloadResultsSnapshot );
 
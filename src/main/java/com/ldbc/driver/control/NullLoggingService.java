@@ -1,5 +1,7 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.coordination.CompletionTimeStatusSnapshot;
+import com.ldbc.driver.runtime.executor.OperationPrefetchStatusSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 
@@ -15,7 +17,8 @@ public class NullLoggingService implements LoggingService
     public void status(
             WorkloadStatusSnapshot workloadStatusSnapshot,
             RecentThroughputAndDuration recentThroughputAndDuration,
-            long completionTimeAsMilli )
+            CompletionTimeStatusSnapshot completionTimeStatus,
+            OperationPrefetchStatusSnapshot prefetchStatus )
     {
         // do nothing
     }
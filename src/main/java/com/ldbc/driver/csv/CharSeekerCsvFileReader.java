@@ -0,0 +1,138 @@
+package com.ldbc.driver.csv;
+
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharReadable;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractor;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Drop-in replacement for {@link com.ldbc.driver.csv.simple.SimpleCsvFileReader}, which seeks column separators with
+ * a {@link BufferedCharSeeker} rather than splitting every line with a regular expression.
+ * <p/>
+ * Columns are sought into a buffer that is reused for every row, so each row costs its strings and one array of
+ * exactly its column count. Quotes have no special meaning, as with the regular expression reader, but empty lines
+ * are skipped rather than returned as a row with one empty column. Every value must fit in the buffer.
+ * <p/>
+ * Files may be gzip compressed, see {@link CompressedFiles}.
+ */
+public class CharSeekerCsvFileReader implements Iterator<String[]>, Closeable
+{
+    public static final char DEFAULT_COLUMN_SEPARATOR = '|';
+    public static final int DEFAULT_BUFFER_SIZE = BufferedCharSeeker.DEFAULT_BUFFER_SIZE;
+
+    // never occurs in text, so that quotes are read as any other character
+    private static final char NO_QUOTE_CHARACTER = '\0';
+    private static final int INITIAL_COLUMN_CAPACITY = 16;
+
+    private final CharSeeker charSeeker;
+    private final int[] columnSeparators;
+    private final Mark mark = new Mark();
+    private final Extractor<String> string;
+    private String[] columns = new String[INITIAL_COLUMN_CAPACITY];
+    private String[] next = null;
+    private boolean closed = false;
+
+    public CharSeekerCsvFileReader( File csvFile, char columnSeparator ) throws IOException
+    {
+        this( csvFile, columnSeparator, DEFAULT_BUFFER_SIZE );
+    }
+
+    /**
+     * @param csvFile
+     * @param columnSeparator
+     * @param bufferSize must be larger than the longest value in the file
+     * @throws IOException
+     */
+    public CharSeekerCsvFileReader( File csvFile, char columnSeparator, int bufferSize ) throws IOException
+    {
+        this( CompressedFiles.readable( csvFile, bufferSize ), columnSeparator, bufferSize );
+    }
+
+    public CharSeekerCsvFileReader( CharReadable readable, char columnSeparator, int bufferSize )
+    {
+        this.charSeeker = new BufferedCharSeeker( readable, bufferSize, NO_QUOTE_CHARACTER );
+        this.columnSeparators = new int[]{columnSeparator};
+        this.string = new Extractors( ';', ',' ).string();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if ( closed )
+        { return false; }
+        next = (next == null) ? nextRow() : next;
+        return (null != next);
+    }
+
+    @Override
+    public String[] next()
+    {
+        next = (null == next) ? nextRow() : next;
+        if ( null == next )
+        { throw new NoSuchElementException( "No more lines to read" ); }
+        String[] tempNext = next;
+        next = null;
+        return tempNext;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    private String[] nextRow()
+    {
+        try
+        {
+            int columnCount = 0;
+            while ( charSeeker.seek( mark, columnSeparators ) )
+            {
+                if ( columnCount == columns.length )
+                {
+                    columns = Arrays.copyOf( columns, 2 * columns.length );
+                }
+                String value = charSeeker.extract( mark, string ).value();
+                columns[columnCount++] = (null == value) ? "" : value;
+                if ( mark.isEndOfLine() )
+                {
+                    return Arrays.copyOf( columns, columnCount );
+                }
+            }
+            return null;
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( format( "Error retrieving next csv entry from file" ), e );
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            charSeeker.close();
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( format( "Error closing file [%s]", charSeeker ), e );
+        }
+    }
+}
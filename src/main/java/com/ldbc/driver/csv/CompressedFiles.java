@@ -0,0 +1,249 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.NullLoggingService;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharReadable;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static java.lang.String.format;
+
+/**
+ * Opens workload input files that may be stored gzip compressed, i.e., with a .gz suffix.
+ * <p/>
+ * Compressed files are decompressed and decoded on a {@link ThreadAheadReadable read-ahead thread}, so the reader
+ * only copies characters, and decompression throughput is reported to the given logging service once the file has
+ * been read, or closed.
+ * Compressed files can only be read sequentially, so they can not be seeked, memory-mapped or indexed.
+ */
+public class CompressedFiles
+{
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * @param file
+     * @return file, or the compressed file next to it if only that exists
+     */
+    public static File resolve( File file )
+    {
+        File compressedFile = new File( file.getPath() + GZIP_SUFFIX );
+        return (false == file.exists() && compressedFile.exists()) ? compressedFile : file;
+    }
+
+    public static boolean isCompressed( File file )
+    {
+        return file.getName().endsWith( GZIP_SUFFIX );
+    }
+
+    /**
+     * @param file
+     * @return file name without the compression suffix, if any
+     */
+    public static String uncompressedName( File file )
+    {
+        String name = file.getName();
+        return isCompressed( file ) ? name.substring( 0, name.length() - GZIP_SUFFIX.length() ) : name;
+    }
+
+    /**
+     * @param file UTF-8 file, compressed or not
+     * @param bufferSize size of each read-ahead buffer, if file is compressed
+     * @return
+     * @throws IOException
+     */
+    public static CharReadable readable( File file, int bufferSize ) throws IOException
+    {
+        return readable( file, bufferSize, ThreadAheadReadable.DEFAULT_BUFFER_COUNT );
+    }
+
+    /**
+     * @param file UTF-8 file, compressed or not
+     * @param bufferSize size of each read-ahead buffer, if file is compressed
+     * @param loggingService decompression throughput is reported to, if file is compressed
+     * @return
+     * @throws IOException
+     */
+    public static CharReadable readable( File file, int bufferSize, LoggingService loggingService )
+            throws IOException
+    {
+        return readable( file, bufferSize, ThreadAheadReadable.DEFAULT_BUFFER_COUNT, loggingService );
+    }
+
+    /**
+     * @param file UTF-8 file, compressed or not
+     * @param bufferSize size of each read-ahead buffer, if file is compressed
+     * @param bufferCount number of read-ahead buffers, if file is compressed
+     * @return
+     * @throws IOException
+     */
+    public static CharReadable readable( File file, int bufferSize, int bufferCount ) throws IOException
+    {
+        return readable( file, bufferSize, bufferCount, new NullLoggingService() );
+    }
+
+    /**
+     * @param file UTF-8 file, compressed or not
+     * @param bufferSize size of each read-ahead buffer, if file is compressed
+     * @param bufferCount number of read-ahead buffers, if file is compressed
+     * @param loggingService decompression throughput is reported to, if file is compressed
+     * @return
+     * @throws IOException
+     */
+    public static CharReadable readable( File file, int bufferSize, int bufferCount, LoggingService loggingService )
+            throws IOException
+    {
+        if ( isCompressed( file ) )
+        {
+            return ThreadAheadReadable.threadAhead(
+                    Channels.newChannel( new ThroughputReportingInputStream( file, loggingService ) ),
+                    Charsets.UTF_8,
+                    bufferSize,
+                    bufferCount
+            );
+        }
+        else
+        {
+            return Readables.wrap( new InputStreamReader( new FileInputStream( file ), Charsets.UTF_8 ) );
+        }
+    }
+
+    public static CharSeeker charSeeker( File file, int bufferSize ) throws IOException
+    {
+        return charSeeker( file, bufferSize, ThreadAheadReadable.DEFAULT_BUFFER_COUNT );
+    }
+
+    public static CharSeeker charSeeker( File file, int bufferSize, int bufferCount ) throws IOException
+    {
+        return new BufferedCharSeeker( readable( file, bufferSize, bufferCount ), bufferSize );
+    }
+
+    public static CharSeeker charSeeker( File file, int bufferSize, int bufferCount, LoggingService loggingService )
+            throws IOException
+    {
+        return new BufferedCharSeeker( readable( file, bufferSize, bufferCount, loggingService ), bufferSize );
+    }
+
+    static String throughputReport( File file, long compressedBytes, long decompressedBytes, long durationAsNano )
+    {
+        double durationAsSecond = Math.max( durationAsNano, 1 ) / (double) TimeUnit.SECONDS.toNanos( 1 );
+        return format( "Decompressed %s: %.1f MB to %.1f MB in %.2f s, %.1f MB/s",
+                file.getName(),
+                compressedBytes / (1024d * 1024d),
+                decompressedBytes / (1024d * 1024d),
+                durationAsSecond,
+                decompressedBytes / (1024d * 1024d) / durationAsSecond
+        );
+    }
+
+    // decompresses file, timing only reads, i.e., not the time spent waiting for the reader to consume
+    private static class ThroughputReportingInputStream extends FilterInputStream
+    {
+        private final File file;
+        private final LoggingService loggingService;
+        private final CountingInputStream compressed;
+        private long decompressedBytes = 0;
+        private long durationAsNano = 0;
+        private boolean reported = false;
+
+        private ThroughputReportingInputStream( File file, LoggingService loggingService ) throws IOException
+        {
+            this( file, loggingService, new CountingInputStream( new FileInputStream( file ) ) );
+        }
+
+        private ThroughputReportingInputStream( File file, LoggingService loggingService,
+                CountingInputStream compressed ) throws IOException
+        {
+            super( new GZIPInputStream( compressed, GZIP_BUFFER_SIZE ) );
+            this.file = file;
+            this.loggingService = loggingService;
+            this.compressed = compressed;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            byte[] single = new byte[1];
+            return (-1 == read( single, 0, 1 )) ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read( byte[] bytes, int offset, int length ) throws IOException
+        {
+            long startTimeAsNano = System.nanoTime();
+            int read = in.read( bytes, offset, length );
+            durationAsNano += System.nanoTime() - startTimeAsNano;
+            if ( -1 == read )
+            {
+                report();
+            }
+            else
+            {
+                decompressedBytes += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            report();
+            super.close();
+        }
+
+        private void report()
+        {
+            if ( false == reported )
+            {
+                reported = true;
+                loggingService.info( throughputReport( file, compressed.count, decompressedBytes, durationAsNano ) );
+            }
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream
+    {
+        private long count = 0;
+
+        private CountingInputStream( InputStream in )
+        {
+            super( in );
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int read = in.read();
+            if ( -1 != read )
+            {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read( byte[] bytes, int offset, int length ) throws IOException
+        {
+            int read = in.read( bytes, offset, length );
+            if ( -1 != read )
+            {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.ldbc.driver.util.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Sparse index of line start offsets in a file: the byte offset of every linesPerEntry-th line is stored, offsets of
+ * other lines are found by scanning forward from the nearest stored offset.
+ * <p/>
+ * Empty lines are not counted, as char seekers skip them, so line numbers match the records read from the file.
+ * <p/>
+ * Index can be persisted in a directory, keyed by file path, and is rebuilt if file size or modification time change.
+ */
+public class LineOffsetIndex
+{
+    public static final int DEFAULT_LINES_PER_ENTRY = 4096;
+
+    private static final String INDEX_FILE_SUFFIX = ".lineindex";
+    private static final int FORMAT_VERSION = 2;
+    private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final File file;
+    private final int linesPerEntry;
+    private final long[] entryOffsets;
+    private final long lineCount;
+    // end of file
+    private final long endOffset;
+
+    /**
+     * Scans the whole file once
+     *
+     * @param file
+     * @param linesPerEntry
+     * @return
+     * @throws IOException
+     */
+    public static LineOffsetIndex build( File file, int linesPerEntry ) throws IOException
+    {
+        long[] entryOffsets = new long[16];
+        int entryCount = 0;
+        long lineCount = 0;
+        long offset = 0;
+        boolean inLine = false;
+        ByteBuffer buffer = ByteBuffer.allocate( SCAN_BUFFER_SIZE );
+        try ( FileChannel channel = new RandomAccessFile( file, "r" ).getChannel() )
+        {
+            while ( channel.read( buffer ) != -1 )
+            {
+                buffer.flip();
+                while ( buffer.hasRemaining() )
+                {
+                    if ( isNewLine( buffer.get() ) )
+                    {
+                        inLine = false;
+                    }
+                    else if ( false == inLine )
+                    {
+                        inLine = true;
+                        if ( 0 == lineCount % linesPerEntry )
+                        {
+                            entryOffsets = ensureCapacity( entryOffsets, entryCount );
+                            entryOffsets[entryCount++] = offset;
+                        }
+                        lineCount++;
+                    }
+                    offset++;
+                }
+                buffer.clear();
+            }
+        }
+        return new LineOffsetIndex( file, linesPerEntry, Arrays.copyOf( entryOffsets, entryCount ), lineCount,
+                offset );
+    }
+
+    /**
+     * Reads index for file from indexDir if it exists and is up to date, otherwise builds it and writes it to indexDir
+     *
+     * @param file
+     * @param indexDir
+     * @param linesPerEntry
+     * @return
+     * @throws IOException
+     */
+    public static LineOffsetIndex loadOrBuild( File file, File indexDir, int linesPerEntry ) throws IOException
+    {
+        File indexFile = indexFileFor( file, indexDir );
+        if ( indexFile.exists() )
+        {
+            LineOffsetIndex index = read( file, indexFile, linesPerEntry );
+            if ( null != index )
+            {
+                return index;
+            }
+        }
+        LineOffsetIndex index = build( file, linesPerEntry );
+        FileUtils.tryCreateDirs( indexDir, false );
+        index.write( indexFile );
+        return index;
+    }
+
+    static File indexFileFor( File file, File indexDir )
+    {
+        String pathHash = Hashing.sha1().hashString( file.getAbsolutePath(), Charsets.UTF_8 ).toString();
+        return new File( indexDir, format( "%s.%s%s", file.getName(), pathHash.substring( 0, 16 ), INDEX_FILE_SUFFIX ) );
+    }
+
+    // null if index is stale or was built with different parameters
+    private static LineOffsetIndex read( File file, File indexFile, int linesPerEntry ) throws IOException
+    {
+        try ( DataInputStream inputStream =
+                      new DataInputStream( new BufferedInputStream( new FileInputStream( indexFile ) ) ) )
+        {
+            if ( FORMAT_VERSION != inputStream.readInt() ||
+                 file.length() != inputStream.readLong() ||
+                 file.lastModified() != inputStream.readLong() ||
+                 linesPerEntry != inputStream.readInt() )
+            {
+                return null;
+            }
+            long lineCount = inputStream.readLong();
+            long endOffset = inputStream.readLong();
+            long[] entryOffsets = new long[inputStream.readInt()];
+            for ( int i = 0; i < entryOffsets.length; i++ )
+            {
+                entryOffsets[i] = inputStream.readLong();
+            }
+            return new LineOffsetIndex( file, linesPerEntry, entryOffsets, lineCount, endOffset );
+        }
+    }
+
+    private void write( File indexFile ) throws IOException
+    {
+        // write to temporary file first, so concurrent or interrupted runs never observe a partial index
+        File tempIndexFile = new File( indexFile.getParentFile(), indexFile.getName() + ".tmp" );
+        try ( DataOutputStream outputStream =
+                      new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tempIndexFile ) ) ) )
+        {
+            outputStream.writeInt( FORMAT_VERSION );
+            outputStream.writeLong( file.length() );
+            outputStream.writeLong( file.lastModified() );
+            outputStream.writeInt( linesPerEntry );
+            outputStream.writeLong( lineCount );
+            outputStream.writeLong( endOffset );
+            outputStream.writeInt( entryOffsets.length );
+            for ( long entryOffset : entryOffsets )
+            {
+                outputStream.writeLong( entryOffset );
+            }
+        }
+        Files.move( tempIndexFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+
+    private static boolean isNewLine( byte b )
+    {
+        return NEW_LINE == b || CARRIAGE_RETURN == b;
+    }
+
+    private static long[] ensureCapacity( long[] array, int index )
+    {
+        return (index < array.length) ? array : Arrays.copyOf( array, array.length * 2 );
+    }
+
+    private LineOffsetIndex( File file, int linesPerEntry, long[] entryOffsets, long lineCount, long endOffset )
+    {
+        this.file = file;
+        this.linesPerEntry = linesPerEntry;
+        this.entryOffsets = entryOffsets;
+        this.lineCount = lineCount;
+        this.endOffset = endOffset;
+    }
+
+    public long lineCount()
+    {
+        return lineCount;
+    }
+
+    /**
+     * @param line zero based line number
+     * @return byte offset at which line starts, or end offset if line is beyond the last line
+     * @throws IOException
+     */
+    public long offsetOfLine( long line ) throws IOException
+    {
+        if ( line >= lineCount )
+        {
+            return endOffset;
+        }
+        long offset = entryOffsets[(int) (line / linesPerEntry)];
+        long linesToScan = line % linesPerEntry;
+        if ( 0 == linesToScan )
+        {
+            return offset;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate( SCAN_BUFFER_SIZE );
+        boolean inLine = true;
+        try ( FileChannel channel = new RandomAccessFile( file, "r" ).getChannel() )
+        {
+            channel.position( offset );
+            while ( channel.read( buffer ) != -1 )
+            {
+                buffer.flip();
+                while ( buffer.hasRemaining() )
+                {
+                    if ( isNewLine( buffer.get() ) )
+                    {
+                        inLine = false;
+                    }
+                    else if ( false == inLine )
+                    {
+                        inLine = true;
+                        if ( 0 == --linesToScan )
+                        {
+                            return offset;
+                        }
+                    }
+                    offset++;
+                }
+                buffer.clear();
+            }
+        }
+        throw new IOException( format( "File changed since it was indexed: %s", file.getAbsolutePath() ) );
+    }
+}
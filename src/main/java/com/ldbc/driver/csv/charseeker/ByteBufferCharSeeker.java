@@ -0,0 +1,356 @@
+package com.ldbc.driver.csv.charseeker;
+
+import com.google.common.base.Charsets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * {@link CharSeeker} over UTF-8 bytes, either of a given (f.ex. direct) {@link ByteBuffer} or of a memory-mapped file.
+ * <p/>
+ * Delimiters are sought by scanning bytes, which works because no byte of a multi-byte UTF-8 character equals an
+ * ASCII character, so delimiters and quote character must be ASCII. Bytes are only decoded into characters when a
+ * value is extracted, and values that are all ASCII are widened rather than decoded.
+ * <p/>
+ * Files are mapped in windows of windowSize bytes. When a window is exhausted the next one is mapped from the start
+ * of the value being sought, so like the buffer of {@link BufferedCharSeeker} a window must fit the longest value,
+ * and values must be extracted before seeking the next one.
+ * <p/>
+ * Quotes are handled as in {@link BufferedCharSeeker}, but as mapped bytes are read-only, escaping characters are not
+ * removed while seeking. Their positions are remembered instead, and they are dropped when the value is extracted.
+ */
+public class ByteBufferCharSeeker implements CharSeeker
+{
+    private static final int MB = 1024 * 1024;
+    public static final int DEFAULT_WINDOW_SIZE = 64 * MB;
+
+    private static final int EOL_CHAR = '\n';
+    private static final int EOL_CHAR_2 = '\r';
+    private static final int EOF_CHAR = -1;
+    private static final int BACK_SLASH = '\\';
+
+    // null when seeking over a given buffer
+    private final FileChannel channel;
+    // absolute offset at which data ends
+    private final long end;
+    private final int windowSize;
+    private final int quoteChar;
+    private final CharsetDecoder decoder = Charsets.UTF_8.newDecoder()
+            .onMalformedInput( CodingErrorAction.REPLACE )
+            .onUnmappableCharacter( CodingErrorAction.REPLACE );
+
+    private ByteBuffer window;
+    // absolute offset of first byte in window, positions below are relative to it
+    private long windowStart;
+    private int bufferPos;
+    private int seekStartPos;
+    private long lineStartPos;
+    private int lineNumber = 1;
+    private boolean eof;
+
+    // absolute positions of escaping characters in the most recently sought value
+    private long escapedValueStart = -1;
+    private long[] escapePositions = new long[16];
+    private int escapeCount = 0;
+
+    private char[] chars = new char[1024];
+    private byte[] bytes = new byte[1024];
+
+    public ByteBufferCharSeeker( ByteBuffer buffer )
+    {
+        this( buffer, BufferedCharSeeker.DEFAULT_QUOTE_CHAR );
+    }
+
+    /**
+     * Seeks over the remaining bytes of buffer, position and limit of buffer are not changed
+     *
+     * @param buffer
+     * @param quoteChar
+     */
+    public ByteBufferCharSeeker( ByteBuffer buffer, char quoteChar )
+    {
+        this( null, buffer.slice(), 0, buffer.remaining(), buffer.remaining(), quoteChar );
+    }
+
+    /**
+     * Seeks over channel, from position to end, mapping windowSize bytes at a time.
+     * Channel is closed when seeker is closed.
+     *
+     * @param channel
+     * @param position
+     * @param windowSize
+     * @param quoteChar
+     * @throws IOException
+     */
+    public ByteBufferCharSeeker( FileChannel channel, long position, int windowSize, char quoteChar )
+            throws IOException
+    {
+        this( channel, ByteBuffer.allocate( 0 ), position, channel.size(), windowSize, quoteChar );
+    }
+
+    private ByteBufferCharSeeker( FileChannel channel, ByteBuffer window, long windowStart, long end, int windowSize,
+            char quoteChar )
+    {
+        if ( windowSize <= 0 && null != channel )
+        {
+            throw new IllegalArgumentException( "Window size must be positive: " + windowSize );
+        }
+        this.channel = channel;
+        this.window = window;
+        this.windowStart = windowStart;
+        this.lineStartPos = windowStart;
+        this.end = end;
+        this.windowSize = windowSize;
+        this.quoteChar = quoteChar;
+    }
+
+    @Override
+    public boolean seek( Mark mark, int[] untilOneOfChars ) throws IOException
+    {
+        if ( eof )
+        {
+            return eof( mark );
+        }
+
+        // seekStartPos is updated when the next window is mapped, that's why it's a member
+        seekStartPos = bufferPos;
+        escapeCount = 0;
+        int ch;
+        int endOffset = 1;
+        int quoteDepth = 0;
+        while ( false == eof )
+        {
+            ch = nextChar();
+            if ( 0 == quoteDepth )
+            {
+                if ( ch == quoteChar && seekStartPos == bufferPos - 1 )
+                {
+                    // quote is first character of value, skip it and switch mode
+                    quoteDepth++;
+                    seekStartPos++;
+                    continue;
+                }
+                else if ( isNewLine( ch ) )
+                {
+                    break;
+                }
+                else
+                {
+                    for ( int i = 0; i < untilOneOfChars.length; i++ )
+                    {
+                        if ( ch == untilOneOfChars[i] )
+                        {
+                            setMark( mark, windowStart + bufferPos - endOffset, ch );
+                            return true;
+                        }
+                    }
+                }
+            }
+            else
+            {
+                if ( ch == quoteChar )
+                {
+                    if ( peekChar() == quoteChar )
+                    {
+                        // double quote, drop the first one
+                        escaped( bufferPos++ - 1 );
+                        quoteDepth = (1 == quoteDepth) ? 2 : 1;
+                    }
+                    else
+                    {
+                        // ending quote, skip it and switch mode
+                        endOffset++;
+                        quoteDepth--;
+                    }
+                }
+                else if ( isNewLine( ch ) )
+                {
+                    // new lines within quotes are part of value
+                    nextChar();
+                }
+                else if ( ch == BACK_SLASH && peekChar() == quoteChar )
+                {
+                    // java style quote encoding, drop the back slash
+                    escaped( bufferPos++ - 1 );
+                }
+            }
+        }
+
+        int valueLength = bufferPos - seekStartPos - 1;
+        if ( eof && 0 == valueLength && windowStart + seekStartPos == lineStartPos )
+        {
+            return eof( mark );
+        }
+
+        // last value of line or stream, end is absolute as skipping may map the next window
+        long valueEnd = windowStart + bufferPos - endOffset;
+        skipEolChars();
+        setMark( mark, valueEnd, Mark.END_OF_LINE_CHARACTER );
+        lineNumber++;
+        lineStartPos = windowStart + bufferPos;
+        return true;
+    }
+
+    private void setMark( Mark mark, long valueEnd, int character )
+    {
+        long valueStart = windowStart + seekStartPos;
+        escapedValueStart = (0 == escapeCount) ? -1 : valueStart;
+        mark.set( lineNumber, valueStart, valueEnd, character );
+    }
+
+    private void escaped( int position )
+    {
+        if ( escapeCount == escapePositions.length )
+        {
+            escapePositions = Arrays.copyOf( escapePositions, escapeCount * 2 );
+        }
+        escapePositions[escapeCount++] = windowStart + position;
+    }
+
+    private boolean eof( Mark mark )
+    {
+        mark.set( lineNumber, -1, -1, Mark.END_OF_LINE_CHARACTER );
+        return false;
+    }
+
+    private boolean isNewLine( int ch )
+    {
+        return ch == EOL_CHAR || ch == EOL_CHAR_2;
+    }
+
+    private void skipEolChars() throws IOException
+    {
+        while ( isNewLine( nextChar() ) )
+        {
+            // just loop through, skipping them
+        }
+        bufferPos--; // since nextChar advances one step
+    }
+
+    private int nextChar() throws IOException
+    {
+        if ( bufferPos >= window.limit() && false == mapNextWindow() )
+        {
+            // like in buffered seeker, end of file is read as a character
+            bufferPos++;
+            eof = true;
+            return EOF_CHAR;
+        }
+        return window.get( bufferPos++ ) & 0xFF;
+    }
+
+    private int peekChar() throws IOException
+    {
+        if ( bufferPos >= window.limit() && false == mapNextWindow() )
+        {
+            return EOF_CHAR;
+        }
+        return window.get( bufferPos ) & 0xFF;
+    }
+
+    // maps window from start of value being sought, returns false if there is nothing more to read
+    private boolean mapNextWindow() throws IOException
+    {
+        if ( null == channel || windowStart + bufferPos >= end )
+        {
+            return false;
+        }
+        if ( 0 == seekStartPos && window.limit() > 0 )
+        {
+            throw new IllegalStateException( "Tried to read in a value larger than window size " + windowSize );
+        }
+        long nextWindowStart = windowStart + seekStartPos;
+        window = channel.map( FileChannel.MapMode.READ_ONLY, nextWindowStart,
+                Math.min( windowSize, end - nextWindowStart ) );
+        windowStart = nextWindowStart;
+        bufferPos -= seekStartPos;
+        seekStartPos = 0;
+        return true;
+    }
+
+    @Override
+    public <EXTRACTOR extends Extractor<?>> EXTRACTOR extract( Mark mark, EXTRACTOR extractor )
+    {
+        long from = mark.startPosition();
+        long to = mark.position();
+        if ( from < windowStart )
+        {
+            throw new IllegalStateException( "Value is no longer mapped, it must be extracted before next seek" );
+        }
+        int length = decode( (int) (from - windowStart), (int) (to - windowStart), from == escapedValueStart );
+        extractor.extract( chars, 0, length );
+        return extractor;
+    }
+
+    // widens ASCII bytes to chars, falls back to decoding at first non ASCII byte
+    private int decode( int from, int to, boolean dropEscapes )
+    {
+        if ( chars.length < to - from )
+        {
+            chars = new char[Math.max( to - from, chars.length * 2 )];
+        }
+        int escapeIndex = 0;
+        int length = 0;
+        for ( int i = from; i < to; i++ )
+        {
+            if ( dropEscapes && escapeIndex < escapeCount && escapePositions[escapeIndex] == windowStart + i )
+            {
+                escapeIndex++;
+                continue;
+            }
+            byte b = window.get( i );
+            if ( b < 0 )
+            {
+                return decodeUtf8( from, to, dropEscapes );
+            }
+            chars[length++] = (char) b;
+        }
+        return length;
+    }
+
+    private int decodeUtf8( int from, int to, boolean dropEscapes )
+    {
+        if ( bytes.length < to - from )
+        {
+            bytes = new byte[Math.max( to - from, bytes.length * 2 )];
+        }
+        int escapeIndex = 0;
+        int length = 0;
+        for ( int i = from; i < to; i++ )
+        {
+            if ( dropEscapes && escapeIndex < escapeCount && escapePositions[escapeIndex] == windowStart + i )
+            {
+                escapeIndex++;
+                continue;
+            }
+            bytes[length++] = window.get( i );
+        }
+        // decoded UTF-8 never has more chars than bytes, so it fits
+        CharBuffer charBuffer = CharBuffer.wrap( chars );
+        decoder.reset();
+        decoder.decode( ByteBuffer.wrap( bytes, 0, length ), charBuffer, true );
+        decoder.flush( charBuffer );
+        return charBuffer.position();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if ( null != channel )
+        {
+            channel.close();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return getClass().getSimpleName() + "[window:" + windowStart + "-" + (windowStart + window.limit()) +
+               ", seekPos:" + seekStartPos + ", line:" + lineNumber + "]";
+    }
+}
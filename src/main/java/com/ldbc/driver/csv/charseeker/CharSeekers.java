@@ -19,8 +19,11 @@
  */
 package com.ldbc.driver.csv.charseeker;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 
 import static com.ldbc.driver.csv.charseeker.BufferedCharSeeker.DEFAULT_BUFFER_SIZE;
 
@@ -57,4 +60,21 @@ public class CharSeekers {
     public static CharSeeker charSeeker(CharReadable reader, char quotationCharacter) throws FileNotFoundException {
         return charSeeker(reader, DEFAULT_BUFFER_SIZE, true, quotationCharacter);
     }
-}
\ No newline at end of file
+
+    /**
+     * Instantiates a {@link ByteBufferCharSeeker} over the memory-mapped UTF-8 {@code file}, which seeks delimiters
+     * without decoding and only decodes values that are extracted.
+     *
+     * @param file               the file to read data from.
+     * @param offset             byte offset in {@code file} to start reading from, must be the start of a line.
+     * @param windowSize         number of bytes of {@code file} mapped at a time, must fit the longest value.
+     * @param quotationCharacter character to interpret quotation character.
+     * @return {@link CharSeeker} reading and parsing data from {@code file}.
+     * @throws IOException if {@code file} can not be opened or mapped.
+     */
+    public static CharSeeker mappedCharSeeker(File file, long offset, int windowSize, char quotationCharacter)
+            throws IOException {
+        return new ByteBufferCharSeeker(new RandomAccessFile(file, "r").getChannel(), offset, windowSize,
+                quotationCharacter);
+    }
+}
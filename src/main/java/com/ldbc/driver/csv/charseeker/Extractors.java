@@ -20,6 +20,7 @@
 package com.ldbc.driver.csv.charseeker;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -80,6 +81,10 @@ public class Extractors {
     private final Extractor<float[]> floatArray;
     private final Extractor<double[]> doubleArray;
     private final IntTupleArrayExtractor intTupleArray;
+    private final LongArrayBufferExtractor longArrayBuffer;
+    private final StringArrayBufferExtractor stringArrayBuffer;
+    private final IntTupleArrayBufferExtractor intTupleArrayBuffer;
+    private final DateTimeExtractor dateTime;
 
     /**
      * Why do we have a public constructor here and why isn't this class an enum?
@@ -116,6 +121,10 @@ public class Extractors {
             add(floatArray = new FloatArrayExtractor(arrayDelimiter));
             add(doubleArray = new DoubleArrayExtractor(arrayDelimiter));
             add(intTupleArray = new IntTupleArrayExtractor(arrayDelimiter, tupleDelimiter));
+            add(longArrayBuffer = new LongArrayBufferExtractor(arrayDelimiter));
+            add(stringArrayBuffer = new StringArrayBufferExtractor(arrayDelimiter));
+            add(intTupleArrayBuffer = new IntTupleArrayBufferExtractor(arrayDelimiter, tupleDelimiter));
+            add(dateTime = new DateTimeExtractor());
         } catch (IllegalAccessException e) {
             throw new Error("Bug in reflection code gathering all extractors");
         }
@@ -206,6 +215,38 @@ public class Extractors {
         return intTupleArray;
     }
 
+    /**
+     * Like {@link #longArray()}, but decodes into a buffer that is reused by every extraction, rather than into a new
+     * array, so values must be read before the next extraction.
+     */
+    public LongArrayBufferExtractor longArrayBuffer() {
+        return longArrayBuffer;
+    }
+
+    /**
+     * Like {@link #stringArray()}, but copies characters into a buffer that is reused by every extraction, and only
+     * creates a {@link String} when a value is read, so values must be read before the next extraction.
+     */
+    public StringArrayBufferExtractor stringArrayBuffer() {
+        return stringArrayBuffer;
+    }
+
+    /**
+     * Like {@link #intTupleArray(int)}, but decodes into a buffer that is reused by every extraction, rather than into
+     * new arrays, so values must be read before the next extraction.
+     */
+    public IntTupleArrayBufferExtractor intTupleArrayBuffer(int tupleLength) {
+        intTupleArrayBuffer.setTupleLength(tupleLength);
+        return intTupleArrayBuffer;
+    }
+
+    /**
+     * Extracts ISO dates and date times, or milliseconds since epoch, as milliseconds since epoch.
+     */
+    public DateTimeExtractor dateTime() {
+        return dateTime;
+    }
+
     private static abstract class AbstractExtractor<T> implements Extractor<T> {
         private final String toString;
 
@@ -450,7 +491,11 @@ public class Extractors {
         protected T value;
 
         ArrayExtractor(char arrayDelimiter, Class<?> componentType) {
-            super(componentType.getSimpleName() + "[]");
+            this(arrayDelimiter, componentType.getSimpleName() + "[]");
+        }
+
+        ArrayExtractor(char arrayDelimiter, String toString) {
+            super(toString);
             this.arrayDelimiter = arrayDelimiter;
         }
 
@@ -725,6 +770,302 @@ public class Extractors {
         }
     }
 
+    public static class LongArrayBufferExtractor extends ArrayExtractor<long[]> {
+        private long[] buffer = new long[16];
+        private int length;
+
+        LongArrayBufferExtractor(char arrayDelimiter) {
+            super(arrayDelimiter, Long.TYPE.getSimpleName() + "[]Buffer");
+        }
+
+        @Override
+        public void extract(char[] data, int offset, int length) {
+            this.length = numberOfValues(data, offset, length);
+            if (buffer.length < this.length) {
+                buffer = new long[Math.max(this.length, buffer.length * 2)];
+            }
+            for (int arrayIndex = 0, charIndex = 0; arrayIndex < this.length; arrayIndex++, charIndex++) {
+                int numberOfChars = charsToNextDelimiter(data, offset + charIndex, length - charIndex);
+                buffer[arrayIndex] = extractLong(data, offset + charIndex, numberOfChars);
+                charIndex += numberOfChars;
+            }
+        }
+
+        /**
+         * @return copy of extracted values, use {@link #length()} and {@link #longValue(int)} to avoid the copy.
+         */
+        @Override
+        public long[] value() {
+            return Arrays.copyOf(buffer, length);
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public long longValue(int index) {
+            return buffer[index];
+        }
+    }
+
+    public static class StringArrayBufferExtractor extends ArrayExtractor<String[]> {
+        private char[] chars = new char[256];
+        // start offset in chars of every value, values are separated by one delimiter
+        private int[] offsets = new int[16];
+        private int charsLength;
+        private int length;
+
+        StringArrayBufferExtractor(char arrayDelimiter) {
+            super(arrayDelimiter, String.class.getSimpleName() + "[]Buffer");
+        }
+
+        @Override
+        public void extract(char[] data, int offset, int length) {
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            System.arraycopy(data, offset, chars, 0, length);
+            charsLength = length;
+            this.length = numberOfValues(chars, 0, length);
+            if (offsets.length < this.length) {
+                offsets = new int[Math.max(this.length, offsets.length * 2)];
+            }
+            for (int arrayIndex = 0, charIndex = 0; arrayIndex < this.length; arrayIndex++, charIndex++) {
+                offsets[arrayIndex] = charIndex;
+                charIndex += charsToNextDelimiter(chars, charIndex, length - charIndex);
+            }
+        }
+
+        /**
+         * @return copy of extracted values, use {@link #length()} and {@link #stringValue(int)} to avoid the copy.
+         */
+        @Override
+        public String[] value() {
+            String[] value = new String[length];
+            for (int i = 0; i < length; i++) {
+                value[i] = stringValue(i);
+            }
+            return value;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public String stringValue(int index) {
+            int end = (index + 1 == length) ? charsLength : offsets[index + 1] - 1;
+            return new String(chars, offsets[index], end - offsets[index]);
+        }
+    }
+
+    public static class IntTupleArrayBufferExtractor extends ArrayExtractor<int[][]> {
+        private final char tupleDelimiter;
+        private int tupleLength;
+        // tuples one after the other, tupleLength values each
+        private int[] buffer = new int[32];
+        private int length;
+
+        IntTupleArrayBufferExtractor(char arrayDelimiter, char tupleDelimiter) {
+            super(arrayDelimiter, Integer.TYPE.getSimpleName() + "[][]Buffer");
+            this.tupleDelimiter = tupleDelimiter;
+        }
+
+        void setTupleLength(int tupleLength) {
+            this.tupleLength = tupleLength;
+        }
+
+        @Override
+        public void extract(char[] data, int offset, int length) {
+            this.length = numberOfValues(data, offset, length);
+            if (buffer.length < this.length * tupleLength) {
+                buffer = new int[Math.max(this.length * tupleLength, buffer.length * 2)];
+            }
+            for (int arrayIndex = 0, charIndex = 0; arrayIndex < this.length; arrayIndex++, charIndex++) {
+                int numberOfChars = charsToNextDelimiter(data, offset + charIndex, length - charIndex);
+                extractTuple(data, offset + charIndex, numberOfChars, arrayIndex * tupleLength);
+                charIndex += numberOfChars;
+            }
+        }
+
+        private void extractTuple(char[] data, int offset, int length, int bufferIndex) {
+            for (int tupleIndex = 0, charIndex = 0; tupleIndex < tupleLength; tupleIndex++, charIndex++) {
+                int numberOfChars = charsToNextTupleDelimiter(data, offset + charIndex, length - charIndex);
+                buffer[bufferIndex + tupleIndex] =
+                        safeCastLongToInt(extractLong(data, offset + charIndex, numberOfChars));
+                charIndex += numberOfChars;
+            }
+        }
+
+        private int charsToNextTupleDelimiter(char[] data, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == tupleDelimiter) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        /**
+         * @return copy of extracted values, use {@link #length()} and {@link #intValue(int, int)} to avoid the copy.
+         */
+        @Override
+        public int[][] value() {
+            int[][] value = new int[length][tupleLength];
+            for (int i = 0; i < length; i++) {
+                System.arraycopy(buffer, i * tupleLength, value[i], 0, tupleLength);
+            }
+            return value;
+        }
+
+        /**
+         * @return number of tuples
+         */
+        public int length() {
+            return length;
+        }
+
+        public int intValue(int tuple, int index) {
+            return buffer[tuple * tupleLength + index];
+        }
+    }
+
+    /**
+     * Extracts milliseconds since epoch from any of:
+     * <ul>
+     * <li>yyyy-MM-dd</li>
+     * <li>yyyy-MM-ddTHH:mm:ss, optionally followed by fraction of second, and by Z or an offset like +0000 or
+     * +00:00. Dates and date times without offset are in UTC</li>
+     * <li>a number of milliseconds since epoch</li>
+     * </ul>
+     * Nothing is allocated while extracting.
+     */
+    public static class DateTimeExtractor extends AbstractExtractor<Long> {
+        private static final long MILLIS_PER_SECOND = 1000;
+        private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+        private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+        private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+        private long value;
+
+        DateTimeExtractor() {
+            super("DateTime");
+        }
+
+        @Override
+        public void extract(char[] data, int offset, int length) {
+            value = parse(data, offset, length);
+        }
+
+        /**
+         * Same parsing as {@link #extract(char[], int, int)}, for parsers that do not read into char buffers.
+         *
+         * @param value epoch milliseconds or an ISO date/date-time
+         * @return milliseconds since epoch
+         */
+        public static long parse(String value) {
+            char[] data = value.toCharArray();
+            return parse(data, 0, data.length);
+        }
+
+        private static long parse(char[] data, int offset, int length) {
+            if (length >= 10 && data[offset + 4] == '-' && data[offset + 7] == '-') {
+                return extractDateTime(data, offset, length);
+            } else {
+                return extractLong(data, offset, length);
+            }
+        }
+
+        @Override
+        public Long value() {
+            return Long.valueOf(value);
+        }
+
+        /**
+         * Value accessor bypassing boxing.
+         *
+         * @return milliseconds since epoch
+         */
+        public long longValue() {
+            return value;
+        }
+
+        private static long extractDateTime(char[] data, int offset, int length) {
+            int year = digits(data, offset, 4);
+            int month = digits(data, offset + 5, 2);
+            int day = digits(data, offset + 8, 2);
+            long millis = daysSinceEpoch(year, month, day) * MILLIS_PER_DAY;
+            if (length == 10) {
+                return millis;
+            }
+
+            if (length < 19 || (data[offset + 10] != 'T' && data[offset + 10] != ' ') ||
+                    data[offset + 13] != ':' || data[offset + 16] != ':') {
+                throw invalid(data, offset, length);
+            }
+            millis += digits(data, offset + 11, 2) * MILLIS_PER_HOUR +
+                    digits(data, offset + 14, 2) * MILLIS_PER_MINUTE +
+                    digits(data, offset + 17, 2) * MILLIS_PER_SECOND;
+
+            int i = 19;
+            if (i < length && data[offset + i] == '.') {
+                // digits beyond milliseconds are ignored
+                int scale = 100;
+                for (i++; i < length && Character.isDigit(data[offset + i]); i++) {
+                    millis += digit(data[offset + i]) * scale;
+                    scale /= 10;
+                }
+            }
+
+            if (i == length) {
+                return millis;
+            }
+            char sign = data[offset + i];
+            if (sign == 'Z' && i + 1 == length) {
+                return millis;
+            }
+            if (sign != '+' && sign != '-') {
+                throw invalid(data, offset, length);
+            }
+            i++;
+            int offsetLength = length - i;
+            int offsetMinutesIndex = (offsetLength == 5 && data[offset + i + 2] == ':') ? i + 3 : i + 2;
+            if (offsetLength != 2 && offsetLength != 4 && offsetMinutesIndex + 2 != length) {
+                throw invalid(data, offset, length);
+            }
+            long offsetMillis = digits(data, offset + i, 2) * MILLIS_PER_HOUR;
+            if (offsetLength > 2) {
+                offsetMillis += digits(data, offset + offsetMinutesIndex, 2) * MILLIS_PER_MINUTE;
+            }
+            return (sign == '+') ? millis - offsetMillis : millis + offsetMillis;
+        }
+
+        // days from 1970-01-01 to given date of proleptic Gregorian calendar
+        private static long daysSinceEpoch(int year, int month, int day) {
+            if (month < 1 || month > 12 || day < 1 || day > 31) {
+                throw new NumberFormatException("Invalid date " + year + "-" + month + "-" + day);
+            }
+            // years start in March, so leap day is last day of year
+            long y = (month <= 2) ? year - 1 : year;
+            long era = (y >= 0 ? y : y - 399) / 400;
+            long yearOfEra = y - era * 400;
+            long dayOfYear = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + day - 1;
+            long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+            return era * 146097 + dayOfEra - 719468;
+        }
+
+        private static int digits(char[] data, int offset, int count) {
+            int result = 0;
+            for (int i = 0; i < count; i++) {
+                result = result * 10 + digit(data[offset + i]);
+            }
+            return result;
+        }
+
+        private static NumberFormatException invalid(char[] data, int offset, int length) {
+            return new NumberFormatException("Invalid date time \"" + String.valueOf(data, offset, length) + "\"");
+        }
+    }
+
     private static long extractLong(char[] data, int offset, int length) {
         if (length == 0) {
             throw new NumberFormatException("For input string \"" + String.valueOf(data, offset, length) + "\"");
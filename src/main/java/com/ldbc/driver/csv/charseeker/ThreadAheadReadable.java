@@ -21,35 +21,57 @@ package com.ldbc.driver.csv.charseeker;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
-import java.util.concurrent.locks.LockSupport;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import static java.lang.Math.min;
 import static java.lang.System.arraycopy;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Like an ordinary {@link CharReadable}, it's just that the reading happens in a separate thread, so when
  * a consumer wants to {@link #read(char[], int, int)}} more data it's already available, merely a memcopy away.
+ * <p/>
+ * The thread reads ahead into a ring of buffers. Filled buffers are handed to the consumer, and consumed buffers
+ * handed back to the thread, through blocking queues, so reading carries on while the consumer copies from and
+ * parses earlier buffers, and either side only waits when all buffers are filled, or all are consumed.
+ * <p/>
+ * Data is read either from another {@link CharReadable}, or from a {@link ReadableByteChannel} into a direct
+ * {@link ByteBuffer}, in which case decoding to characters happens in the read-ahead thread too.
  */
 public class ThreadAheadReadable extends Thread implements CharReadable, Closeable {
-    private static final long PARK_TIME = MILLISECONDS.toNanos(100);
+    public static final int DEFAULT_BUFFER_COUNT = 2;
 
-    private final CharReadable actual;
-    private final Thread owner;
-    private final char[] readAheadArray;
-    private final CharBuffer readAheadBuffer;
-    private volatile boolean hasReadAhead;
+    // handed to consumer after the last buffer, or after an error
+    private static final Chunk END = new Chunk(new char[0]);
+
+    private final Source source;
+    private final BlockingQueue<Chunk> free;
+    private final BlockingQueue<Chunk> filled;
     private volatile boolean closed;
-    private volatile boolean eof;
     private volatile IOException ioException;
 
-    private ThreadAheadReadable(CharReadable actual, int bufferSize) {
-        this.actual = actual;
-        this.owner = Thread.currentThread();
-        this.readAheadArray = new char[bufferSize];
-        this.readAheadBuffer = CharBuffer.wrap(readAheadArray);
-        this.readAheadBuffer.position(bufferSize);
+    // only accessed by consumer
+    private Chunk current;
+
+    private ThreadAheadReadable(Source source, int bufferSize, int bufferCount) {
+        if (bufferSize <= 0 || bufferCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Buffer size and count must be positive: " + bufferSize + ", " + bufferCount);
+        }
+        this.source = source;
+        this.free = new ArrayBlockingQueue<>(bufferCount);
+        // room for the end marker as well
+        this.filled = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            free.add(new Chunk(new char[bufferSize]));
+        }
+        setName(getClass().getSimpleName() + "-thread");
         setDaemon(true);
         start();
     }
@@ -57,31 +79,49 @@ public class ThreadAheadReadable extends Thread implements CharReadable, Closeab
     /**
      * The one calling read doesn't actually read, since reading is up to this guy. Instead the caller just
      * waits for this thread to have fully read the next buffer.
+     * <p/>
+     * Fills all of {@code length}, from as many buffers as needed, unless the end is reached, as
+     * {@link BufferedCharSeeker} takes fewer characters than it asked for to mean the end of data.
      */
     @Override
     public int read(char[] buffer, int offset, int length) throws IOException {
-        // are we still healthy and all that?
-        assertHealthy();
+        int copied = 0;
+        while (copied < length) {
+            if (null == current || current.remaining() == 0) {
+                if (END == current) {
+                    break;
+                }
+                if (null != current) {
+                    // consumed, let thread read into it again
+                    free.add(current);
+                }
+                current = takeFilled();
+                continue;
+            }
 
-        // wait until thread has made data available
-        while (!hasReadAhead) {
-            parkAWhile();
+            // copy data from the read ahead buffer into the target buffer
+            int charsToCopy = min(current.remaining(), length - copied);
+            arraycopy(current.chars, current.position, buffer, offset + copied, charsToCopy);
+            current.position += charsToCopy;
+            copied += charsToCopy;
+        }
+        if (END == current) {
+            // thrown even if some was copied, else a failure would look like a short read, i.e., the end of data
             assertHealthy();
+            if (copied == 0 && length > 0) {
+                return -1;
+            }
         }
+        return copied;
+    }
 
-        if (eof) {
-            return -1;
+    private Chunk takeFilled() throws IOException {
+        try {
+            return filled.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
         }
-
-        // copy data from the read ahead buffer into the target buffer
-        int bytesToCopy = min(readAheadBuffer.remaining(), length);
-        arraycopy(readAheadArray, readAheadBuffer.position(), buffer, offset, bytesToCopy);
-        readAheadBuffer.position(readAheadBuffer.position() + bytesToCopy);
-
-        // wake up the reader... there's stuff to do, data to read
-        hasReadAhead = false;
-        LockSupport.unpark(this);
-        return bytesToCopy == 0 ? -1 : bytesToCopy;
     }
 
     private void assertHealthy() throws IOException {
@@ -90,51 +130,148 @@ public class ThreadAheadReadable extends Thread implements CharReadable, Closeab
         }
     }
 
-    private void parkAWhile() {
-        LockSupport.parkNanos(PARK_TIME);
-    }
-
     @Override
     public void close() throws IOException {
         closed = true;
+        // wakes up thread if waiting for a free buffer
+        interrupt();
         try {
             join();
         } catch (InterruptedException e) {
             throw new IOException(e);
         } finally {
-            actual.close();
+            source.close();
         }
     }
 
     @Override
     public void run() {
-        while (!closed) {
-            if (hasReadAhead || eof) {   // We have already read ahead, sleep a little
-                parkAWhile();
-            } else {   // We haven't read ahead, or the data we read ahead have been consumed
-                try {
-                    readAheadBuffer.compact();
-                    int read = actual.read(readAheadArray, readAheadBuffer.position(), readAheadBuffer.remaining());
-                    if (read == -1) {
-                        eof = true;
-                        read = 0;
-                    }
-                    readAheadBuffer.limit(readAheadBuffer.position() + read);
-                    readAheadBuffer.position(0);
-                    hasReadAhead = true;
-                    LockSupport.unpark(owner);
-                } catch (IOException e) {
-                    ioException = e;
-                    closed = true;
-                } catch (Throwable e) {
-                    ioException = new IOException(e);
-                    closed = true;
+        try {
+            while (!closed) {
+                Chunk chunk = free.take();
+                int read = source.read(chunk.chars);
+                if (read == -1) {
+                    break;
                 }
+                chunk.position = 0;
+                chunk.length = read;
+                filled.put(chunk);
             }
+        } catch (InterruptedException e) {
+            // closed while waiting
+        } catch (IOException e) {
+            ioException = e;
+        } catch (Throwable e) {
+            ioException = new IOException(e);
+        } finally {
+            // never blocks, as there's always room for it
+            filled.offer(END);
         }
     }
 
     public static CharReadable threadAhead(CharReadable actual, int bufferSize) {
-        return new ThreadAheadReadable(actual, bufferSize);
+        return threadAhead(actual, bufferSize, DEFAULT_BUFFER_COUNT);
+    }
+
+    /**
+     * @param actual      the {@link CharReadable} to read ahead from.
+     * @param bufferSize  size of every read-ahead buffer.
+     * @param bufferCount number of read-ahead buffers.
+     * @return a {@link CharReadable} over {@code actual}.
+     */
+    public static CharReadable threadAhead(CharReadable actual, int bufferSize, int bufferCount) {
+        return new ThreadAheadReadable(new CharReadableSource(actual), bufferSize, bufferCount);
+    }
+
+    /**
+     * @param channel     the channel to read ahead from, into a direct {@link ByteBuffer}, from its current position.
+     * @param charset     charset to decode data of {@code channel} with.
+     * @param bufferSize  size of every read-ahead buffer, and of the byte buffer.
+     * @param bufferCount number of read-ahead buffers.
+     * @return a {@link CharReadable} over {@code channel}, which is closed when it is closed.
+     */
+    public static CharReadable threadAhead(ReadableByteChannel channel, Charset charset, int bufferSize,
+            int bufferCount) {
+        return new ThreadAheadReadable(new ChannelSource(channel, charset, bufferSize), bufferSize, bufferCount);
+    }
+
+    private static class Chunk {
+        private final char[] chars;
+        private int position;
+        private int length;
+
+        private Chunk(char[] chars) {
+            this.chars = chars;
+        }
+
+        private int remaining() {
+            return length - position;
+        }
+    }
+
+    private interface Source extends Closeable {
+        /**
+         * @return number of characters read into {@code chars}, or -1 if there are no more.
+         */
+        int read(char[] chars) throws IOException;
+    }
+
+    private static class CharReadableSource implements Source {
+        private final CharReadable actual;
+
+        private CharReadableSource(CharReadable actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public int read(char[] chars) throws IOException {
+            return actual.read(chars, 0, chars.length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            actual.close();
+        }
+    }
+
+    private static class ChannelSource implements Source {
+        private static final int MAX_BYTES_PER_CHAR = 4;
+
+        private final ReadableByteChannel channel;
+        private final CharsetDecoder decoder;
+        private final ByteBuffer bytes;
+        private boolean channelEof;
+
+        private ChannelSource(ReadableByteChannel channel, Charset charset, int bufferSize) {
+            this.channel = channel;
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            // at least room for the bytes of any one character, or it could never be decoded
+            this.bytes = ByteBuffer.allocateDirect(Math.max(bufferSize, MAX_BYTES_PER_CHAR));
+        }
+
+        @Override
+        public int read(char[] chars) throws IOException {
+            CharBuffer out = CharBuffer.wrap(chars);
+            while (out.hasRemaining()) {
+                if (!channelEof && channel.read(bytes) == -1) {
+                    channelEof = true;
+                }
+                bytes.flip();
+                decoder.decode(bytes, out, channelEof);
+                bytes.compact();
+                if (channelEof && (bytes.position() == 0 || !out.hasRemaining())) {
+                    // either all decoded, or rest is decoded into next buffer
+                    break;
+                }
+            }
+            return (channelEof && out.position() == 0) ? -1 : out.position();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
     }
-}
\ No newline at end of file
+}
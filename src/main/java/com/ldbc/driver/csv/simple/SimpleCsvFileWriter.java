@@ -42,6 +42,11 @@ public class SimpleCsvFileWriter implements Closeable
         bufferedWriter.newLine();
     }
 
+    public void flush() throws IOException
+    {
+        bufferedWriter.flush();
+    }
+
     @Override
     public void close() throws IOException
     {
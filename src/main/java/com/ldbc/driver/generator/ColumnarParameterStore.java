@@ -0,0 +1,360 @@
+package com.ldbc.driver.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Immutable, column oriented copy of all rows of a parameters stream.
+ * <p/>
+ * Long, Date and Integer columns are stored in primitive arrays, every other column (e.g., String) is dictionary
+ * encoded, i.e., each distinct value is stored once and rows reference it by int code.
+ * Rows are read via a {@link Row} cursor, which is reused between rows to avoid per row allocation.
+ * Date values are materialized as a new {@link Date} per access, as Date is mutable.
+ */
+public class ColumnarParameterStore
+{
+    private static final int INITIAL_CAPACITY = 1024;
+
+    enum ColumnType
+    {
+        LONG,
+        DATE,
+        INT,
+        DICTIONARY
+    }
+
+    private final int rowCount;
+    private final ColumnType[] columnTypes;
+    private final long[][] longColumns;
+    private final int[][] intColumns;
+    private final Object[][] dictionaries;
+
+    /**
+     * Reads the input iterator to exhaustion, all rows must have the same length and the same value type per column
+     *
+     * @param rows
+     * @return
+     */
+    public static ColumnarParameterStore fromRows( Iterator<Object[]> rows ) throws GeneratorException
+    {
+        if ( false == rows.hasNext() )
+        {
+            return new ColumnarParameterStore( 0, new ColumnType[0], new long[0][], new int[0][], new Object[0][] );
+        }
+        Object[] firstRow = rows.next();
+        int columnCount = firstRow.length;
+        ColumnType[] columnTypes = new ColumnType[columnCount];
+        long[][] longColumns = new long[columnCount][];
+        int[][] intColumns = new int[columnCount][];
+        Object[][] dictionaries = new Object[columnCount][];
+        List<Map<Object,Integer>> dictionaryCodes = new ArrayList<>( columnCount );
+        for ( int column = 0; column < columnCount; column++ )
+        {
+            columnTypes[column] = columnTypeFor( firstRow[column] );
+            // only dictionary encoded columns have codes
+            dictionaryCodes.add( null );
+            switch ( columnTypes[column] )
+            {
+            case LONG:
+            case DATE:
+                longColumns[column] = new long[INITIAL_CAPACITY];
+                break;
+            case INT:
+                intColumns[column] = new int[INITIAL_CAPACITY];
+                break;
+            case DICTIONARY:
+                intColumns[column] = new int[INITIAL_CAPACITY];
+                dictionaryCodes.set( column, new HashMap<Object,Integer>() );
+                break;
+            }
+        }
+
+        int rowCount = 0;
+        Object[] row = firstRow;
+        while ( null != row )
+        {
+            if ( row.length != columnCount )
+            {
+                throw new GeneratorException(
+                        format( "Row %s has %s columns, expected %s: %s",
+                                rowCount, row.length, columnCount, Arrays.toString( row ) ) );
+            }
+            for ( int column = 0; column < columnCount; column++ )
+            {
+                Object value = row[column];
+                if ( columnTypes[column] != ColumnType.DICTIONARY && columnTypeFor( value ) != columnTypes[column] )
+                {
+                    throw new GeneratorException(
+                            format( "Row %s column %s has value %s, expected column type %s",
+                                    rowCount, column, value, columnTypes[column] ) );
+                }
+                switch ( columnTypes[column] )
+                {
+                case LONG:
+                    longColumns[column] = ensureCapacity( longColumns[column], rowCount );
+                    longColumns[column][rowCount] = (Long) value;
+                    break;
+                case DATE:
+                    longColumns[column] = ensureCapacity( longColumns[column], rowCount );
+                    longColumns[column][rowCount] = ((Date) value).getTime();
+                    break;
+                case INT:
+                    intColumns[column] = ensureCapacity( intColumns[column], rowCount );
+                    intColumns[column][rowCount] = (Integer) value;
+                    break;
+                case DICTIONARY:
+                    Map<Object,Integer> codes = dictionaryCodes.get( column );
+                    Integer code = codes.get( value );
+                    if ( null == code )
+                    {
+                        code = codes.size();
+                        codes.put( value, code );
+                    }
+                    intColumns[column] = ensureCapacity( intColumns[column], rowCount );
+                    intColumns[column][rowCount] = code;
+                    break;
+                }
+            }
+            rowCount++;
+            row = (rows.hasNext()) ? rows.next() : null;
+        }
+
+        for ( int column = 0; column < columnCount; column++ )
+        {
+            if ( null != longColumns[column] )
+            {
+                longColumns[column] = Arrays.copyOf( longColumns[column], rowCount );
+            }
+            if ( null != intColumns[column] )
+            {
+                intColumns[column] = Arrays.copyOf( intColumns[column], rowCount );
+            }
+            if ( null != dictionaryCodes.get( column ) )
+            {
+                dictionaries[column] = new Object[dictionaryCodes.get( column ).size()];
+                for ( Map.Entry<Object,Integer> entry : dictionaryCodes.get( column ).entrySet() )
+                {
+                    dictionaries[column][entry.getValue()] = entry.getKey();
+                }
+            }
+        }
+        return new ColumnarParameterStore( rowCount, columnTypes, longColumns, intColumns, dictionaries );
+    }
+
+    private static ColumnType columnTypeFor( Object value )
+    {
+        if ( value instanceof Long )
+        {
+            return ColumnType.LONG;
+        }
+        else if ( value instanceof Date )
+        {
+            return ColumnType.DATE;
+        }
+        else if ( value instanceof Integer )
+        {
+            return ColumnType.INT;
+        }
+        else
+        {
+            return ColumnType.DICTIONARY;
+        }
+    }
+
+    private static long[] ensureCapacity( long[] column, int row )
+    {
+        return (row < column.length) ? column : Arrays.copyOf( column, column.length * 2 );
+    }
+
+    private static int[] ensureCapacity( int[] column, int row )
+    {
+        return (row < column.length) ? column : Arrays.copyOf( column, column.length * 2 );
+    }
+
+    private ColumnarParameterStore(
+            int rowCount,
+            ColumnType[] columnTypes,
+            long[][] longColumns,
+            int[][] intColumns,
+            Object[][] dictionaries )
+    {
+        this.rowCount = rowCount;
+        this.columnTypes = columnTypes;
+        this.longColumns = longColumns;
+        this.intColumns = intColumns;
+        this.dictionaries = dictionaries;
+    }
+
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    public int columnCount()
+    {
+        return columnTypes.length;
+    }
+
+    ColumnType columnType( int column )
+    {
+        return columnTypes[column];
+    }
+
+    /**
+     * @return number of distinct values in column if it is dictionary encoded, -1 otherwise
+     */
+    public int dictionarySize( int column )
+    {
+        return (null == dictionaries[column]) ? -1 : dictionaries[column].length;
+    }
+
+    /**
+     * Returned generator will iterate over all rows once
+     *
+     * @return
+     */
+    public SkippableIterator<Row> rows()
+    {
+        return new RowGenerator( false );
+    }
+
+    /**
+     * Returned generator will loop over all rows indefinitely, unless the store is empty.
+     * Skipping is modular arithmetic on the row position.
+     *
+     * @return
+     */
+    public SkippableIterator<Row> repeatingRows()
+    {
+        return new RowGenerator( true );
+    }
+
+    /**
+     * Cursor over one row of the store. Instance is reused by the generator that returned it, so values must be read
+     * before the generator is advanced.
+     */
+    public class Row
+    {
+        private int row = -1;
+
+        public int rowIndex()
+        {
+            return row;
+        }
+
+        public long longValue( int column )
+        {
+            return longColumns[column][row];
+        }
+
+        public int intValue( int column )
+        {
+            return intColumns[column][row];
+        }
+
+        public Date dateValue( int column )
+        {
+            return new Date( longColumns[column][row] );
+        }
+
+        public String stringValue( int column )
+        {
+            return (String) dictionaries[column][intColumns[column][row]];
+        }
+
+        /**
+         * @return boxed value of any column type, dictionary values are shared between all rows that contain them
+         */
+        public Object value( int column )
+        {
+            switch ( columnTypes[column] )
+            {
+            case LONG:
+                return longValue( column );
+            case DATE:
+                return dateValue( column );
+            case INT:
+                return intValue( column );
+            default:
+                return dictionaries[column][intColumns[column][row]];
+            }
+        }
+
+        public Object[] values()
+        {
+            Object[] values = new Object[columnTypes.length];
+            for ( int column = 0; column < columnTypes.length; column++ )
+            {
+                values[column] = value( column );
+            }
+            return values;
+        }
+    }
+
+    private class RowGenerator extends NoRemoveIterator<Row> implements SkippableIterator<Row>
+    {
+        private final boolean repeating;
+        private final Row cursor = new Row();
+        private int nextRow = 0;
+
+        private RowGenerator( boolean repeating )
+        {
+            this.repeating = repeating;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return nextRow < rowCount || (repeating && rowCount > 0);
+        }
+
+        @Override
+        public Row next()
+        {
+            if ( false == hasNext() )
+            {
+                throw new NoSuchElementException( "Generator has nothing more to generate" );
+            }
+            if ( nextRow == rowCount )
+            {
+                nextRow = 0;
+            }
+            cursor.row = nextRow++;
+            return cursor;
+        }
+
+        @Override
+        public long skip( long count )
+        {
+            if ( count <= 0 )
+            {
+                return 0;
+            }
+            else if ( repeating && rowCount > 0 )
+            {
+                nextRow = (int) ((nextRow + count % rowCount) % rowCount);
+                return count;
+            }
+            else
+            {
+                int skipped = (int) Math.min( count, rowCount - nextRow );
+                nextRow += skipped;
+                return skipped;
+            }
+        }
+
+        @Override
+        public long remaining()
+        {
+            return (repeating && rowCount > 0) ? Long.MAX_VALUE : rowCount - nextRow;
+        }
+    }
+}
@@ -25,22 +25,43 @@ public class CsvEventStreamReaderTimedTypedCharSeeker<BASE_EVENT_TYPE> implement
             Extractors extractors,
             Map<Integer,EventDecoder<BASE_EVENT_TYPE>> decoders,
             int columnDelimiter )
+    {
+        this( charSeeker, extractors, toArray( decoders ), columnDelimiter );
+    }
+
+    /**
+     * @param charSeeker
+     * @param extractors
+     * @param decoders decoder of every event type, indexed by event type code, null for unused codes
+     * @param columnDelimiter
+     */
+    public CsvEventStreamReaderTimedTypedCharSeeker( CharSeeker charSeeker,
+            Extractors extractors,
+            EventDecoder<BASE_EVENT_TYPE>[] decoders,
+            int columnDelimiter )
     {
         this.charSeeker = charSeeker;
         this.extractors = extractors;
         this.mark = new Mark();
         this.columnDelimiters = new int[]{columnDelimiter};
+        this.decoders = decoders;
+    }
+
+    private static <BASE_EVENT_TYPE> EventDecoder<BASE_EVENT_TYPE>[] toArray(
+            Map<Integer,EventDecoder<BASE_EVENT_TYPE>> decoders )
+    {
         int minEventTypeCode = Ordering.<Integer>natural().min( decoders.keySet() );
         int maxEventTypeCode = Ordering.<Integer>natural().max( decoders.keySet() );
         if ( minEventTypeCode < 0 )
         {
             throw new GeneratorException( "Event codes must be positive numbers: " + decoders.keySet().toString() );
         }
-        this.decoders = new EventDecoder[maxEventTypeCode + 1];
+        EventDecoder<BASE_EVENT_TYPE>[] decodersArray = new EventDecoder[maxEventTypeCode + 1];
         for ( Integer eventTypeCode : decoders.keySet() )
         {
-            this.decoders[eventTypeCode] = decoders.get( eventTypeCode );
+            decodersArray[eventTypeCode] = decoders.get( eventTypeCode );
         }
+        return decodersArray;
     }
 
     @Override
@@ -100,7 +121,8 @@ public class CsvEventStreamReaderTimedTypedCharSeeker<BASE_EVENT_TYPE> implement
                 throw new GeneratorException( "No event type found" );
             }
 
-            EventDecoder<BASE_EVENT_TYPE> decoder = decoders[eventType];
+            EventDecoder<BASE_EVENT_TYPE> decoder =
+                    (eventType >= 0 && eventType < decoders.length) ? decoders[eventType] : null;
             if ( null == decoder )
             {
                 throw new NoSuchElementException(
@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 
 import static java.lang.String.format;
@@ -210,12 +211,16 @@ public class GeneratorFactory
         return new OperationStreamComparisonResult( "", OperationStreamComparisonResultType.PASS );
     }
 
+    /**
+     * Advances generator by count elements, by seeking if generator is a {@link SkippableIterator}
+     *
+     * @param generator
+     * @param count
+     * @param <T>
+     */
     public <T> void consume( Iterator<T> generator, long count )
     {
-        for ( long consumed = 0; generator.hasNext() && consumed < count; consumed++ )
-        {
-            generator.next();
-        }
+        SkippableIterators.skip( generator, count );
     }
     /*
      * ----------------------------------------------------------------------------------------------------
@@ -471,6 +476,25 @@ public class GeneratorFactory
         return new MergingGenerator<>( startTimesAsMilli, operations, startTimeAssigningFun );
     }
 
+    /**
+     * Returns the same operation generator, with start times assigned to each operation taken from the start time
+     * generator, without boxing start times. Generator stops as soon as either of the generators, start times or
+     * operations, stops.
+     *
+     * @param startTimesAsMilli
+     * @param operations
+     * @return
+     */
+    public Iterator<Operation> assignStartTimes( PrimitiveIterator.OfLong startTimesAsMilli,
+            Iterator<Operation> operations )
+    {
+        return new TimeAssigningOperationGenerator(
+                startTimesAsMilli,
+                operations,
+                TimeAssigningOperationGenerator.AssignedTime.START_TIME
+        );
+    }
+
     /**
      * Returns the same operation generator, with dependency times assigned to each operation taken from the dependency
      * time
@@ -496,6 +520,25 @@ public class GeneratorFactory
         return new MergingGenerator<>( dependencyTimesAsMilli, operations, dependencyTimeAssigningFun );
     }
 
+    /**
+     * Returns the same operation generator, with dependency times assigned to each operation taken from the dependency
+     * time generator, without boxing dependency times. Generator stops as soon as either of the generators,
+     * dependency times or operations, stops.
+     *
+     * @param dependencyTimesAsMilli
+     * @param operations
+     * @return
+     */
+    public Iterator<Operation> assignDependencyTimes( PrimitiveIterator.OfLong dependencyTimesAsMilli,
+            Iterator<Operation> operations )
+    {
+        return new TimeAssigningOperationGenerator(
+                dependencyTimesAsMilli,
+                operations,
+                TimeAssigningOperationGenerator.AssignedTime.DEPENDENCY_TIME
+        );
+    }
+
     /**
      * Returns numbers, starting at specified number, and thereafter incrementing by a uniformly random amount
      * between the minimum and maximum amounts specified
@@ -539,29 +582,16 @@ public class GeneratorFactory
     }
 
     /**
-     * Returned generator will merge all input generators into one, sorting on the time stamp of operations, ascending
+     * Returned generator will merge all input generators into one, sorting on the time stamp of operations, ascending.
+     * Operations with equal time stamps are returned in input generator order.
+     * Returned generator skips without iterating if all input generators are time stamped skippable iterators.
      *
      * @param generators
      * @return
      */
-    public Iterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
+    public SkippableIterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.timeStamp() > o2.timeStamp() )
-                        { return 1; }
-                        else if ( o1.timeStamp() < o2.timeStamp() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
-                generators
-        );
+        return new TimeStampMergeOperationGenerator( generators );
     }
 
     /**
@@ -618,6 +648,18 @@ public class GeneratorFactory
         return new OrderedMultiGenerator<>( comparator, lookAheadDistance, generators );
     }
 
+    /**
+     * Returned generator will merge all input generators into one sorted generator, without boxing.
+     * Each input generator must already be sorted, equal elements are returned in input generator order.
+     *
+     * @param generators
+     * @return
+     */
+    public PrimitiveIterator.OfLong mergeSort( PrimitiveIterator.OfLong... generators )
+    {
+        return new LongMergeGenerator( generators );
+    }
+
     /**
      * Returned generator will loop over input iterator indefinitely.
      * <p/>
@@ -635,6 +677,21 @@ public class GeneratorFactory
         return new RepeatingGenerator<>( generator );
     }
 
+    /**
+     * Returned generator will loop over rows of input iterator indefinitely.
+     * <p/>
+     * Rows are copied once into a {@link ColumnarParameterStore}, rather than retained as boxed arrays.
+     * The returned row is a cursor that is reused between calls to next(), values must be read from it before the
+     * generator is advanced.
+     *
+     * @param rows
+     * @return
+     */
+    public SkippableIterator<ColumnarParameterStore.Row> repeatingColumnar( Iterator<Object[]> rows )
+    {
+        return ColumnarParameterStore.fromRows( rows ).repeatingRows();
+    }
+
     /**
      * Returned generator will iterate over all of the things, once
      *
@@ -718,6 +775,34 @@ public class GeneratorFactory
         return new TimeMappingOperationGenerator( generator, newStartTimeAsMilli, compressionRatio );
     }
 
+    /**
+     * Offset times such that first time is now the new start time, without boxing.
+     *
+     * @param timesAsMilli
+     * @param newStartTimeAsMilli
+     * @return
+     */
+    public PrimitiveIterator.OfLong timeOffset( PrimitiveIterator.OfLong timesAsMilli, long newStartTimeAsMilli )
+    {
+        return timeOffsetAndCompress( timesAsMilli, newStartTimeAsMilli, null );
+    }
+
+    /**
+     * Offset times such that first time is now the new start time, without boxing.
+     * Compress/expand duration between times by a fixed ratio.
+     * E.g. 2.0 = 2x slower, 0.5 = 2x faster
+     *
+     * @param timesAsMilli
+     * @param newStartTimeAsMilli
+     * @param compressionRatio
+     * @return
+     */
+    public PrimitiveIterator.OfLong timeOffsetAndCompress( PrimitiveIterator.OfLong timesAsMilli,
+            long newStartTimeAsMilli, Double compressionRatio )
+    {
+        return new LongTimeMappingGenerator( timesAsMilli, newStartTimeAsMilli, compressionRatio );
+    }
+
     /**
      * Prefix every generated item with prefix string
      *
@@ -753,6 +838,18 @@ public class GeneratorFactory
         return new LimitGenerator<T>( generator, limit );
     }
 
+    /**
+     * Caps the amount of longs generator can return, without boxing
+     *
+     * @param generator
+     * @param limit
+     * @return
+     */
+    public PrimitiveIterator.OfLong limit( PrimitiveIterator.OfLong generator, long limit )
+    {
+        return new LongLimitGenerator( generator, limit );
+    }
+
     /**
      * next() returns single item from set of items. Each item has equal probability of being chosen.
      *
@@ -1043,6 +1140,35 @@ public class GeneratorFactory
         return boundedIncrementing( start, new ConstantGenerator<T>( incrementBy ), null );
     }
 
+    /**
+     * next() returns start the first time it is called.
+     * Subsequent calls return the value returned in previous call increment by incrementBy.
+     * Same as incrementing(start, incrementBy), but without boxing, e.g., for generating operation start times.
+     *
+     * @param start
+     * @param incrementBy
+     * @return
+     */
+    public PrimitiveIterator.OfLong incrementingLongs( long start, long incrementBy )
+    {
+        return new LongIncrementingGenerator( start, incrementBy, Long.MAX_VALUE );
+    }
+
+    /**
+     * next() returns start the first time it is called.
+     * Subsequent calls return the value returned in previous call increment by incrementBy.
+     * When max is exceeded the generator will be exhausted (hasNext()==false)
+     *
+     * @param start
+     * @param incrementBy
+     * @param max
+     * @return
+     */
+    public PrimitiveIterator.OfLong boundedIncrementingLongs( long start, long incrementBy, long max )
+    {
+        return new LongIncrementingGenerator( start, incrementBy, max );
+    }
+
     /**
      * next() returns start the first time it is called.
      * Subsequent calls return the number value returned in previous call increment by the result of calling next() on
@@ -0,0 +1,109 @@
+package com.ldbc.driver.generator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Generates start, start + incrementBy, ... up to and including max.
+ * Position is pure arithmetic, so skipping and counting do not iterate.
+ */
+public class LongIncrementingGenerator implements PrimitiveIterator.OfLong
+{
+    private final long incrementBy;
+    private long count;
+    // Long.MAX_VALUE is treated as unbounded
+    private long remaining;
+
+    LongIncrementingGenerator( long start, long incrementBy, long max )
+    {
+        this.count = start;
+        this.incrementBy = incrementBy;
+        if ( start > max )
+        {
+            this.remaining = 0;
+        }
+        else if ( incrementBy <= 0 )
+        {
+            this.remaining = Long.MAX_VALUE;
+        }
+        else
+        {
+            this.remaining = saturatedIncrement( Long.divideUnsigned( max - start, incrementBy ) );
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return remaining > 0;
+    }
+
+    @Override
+    public long nextLong()
+    {
+        if ( 0 == remaining )
+        {
+            throw new NoSuchElementException( "Generator has nothing more to generate" );
+        }
+        long next = count;
+        count += incrementBy;
+        if ( Long.MAX_VALUE != remaining )
+        {
+            remaining--;
+        }
+        return next;
+    }
+
+    /**
+     * @param count
+     * @return number of values skipped
+     */
+    public long skip( long count )
+    {
+        long skipped = Math.min( Math.max( count, 0 ), remaining );
+        this.count += skipped * incrementBy;
+        if ( Long.MAX_VALUE != remaining )
+        {
+            remaining -= skipped;
+        }
+        return skipped;
+    }
+
+    /**
+     * @return number of remaining values, Long.MAX_VALUE if unbounded
+     */
+    public long remaining()
+    {
+        return remaining;
+    }
+
+    /**
+     * @param value
+     * @return number of remaining values lower than value, -1 if values do not increase
+     */
+    public long countBefore( long value )
+    {
+        if ( 0 == remaining )
+        {
+            return 0;
+        }
+        else if ( incrementBy <= 0 )
+        {
+            return -1;
+        }
+        else if ( count >= value )
+        {
+            return 0;
+        }
+        else
+        {
+            return Math.min( remaining, saturatedIncrement( Long.divideUnsigned( value - 1 - count, incrementBy ) ) );
+        }
+    }
+
+    // unsigned quotient, plus one, capped at Long.MAX_VALUE
+    private static long saturatedIncrement( long unsignedValue )
+    {
+        return (unsignedValue < 0 || Long.MAX_VALUE == unsignedValue) ? Long.MAX_VALUE : unsignedValue + 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ldbc.driver.generator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class LongLimitGenerator implements PrimitiveIterator.OfLong
+{
+    private final PrimitiveIterator.OfLong generator;
+    private final long limit;
+    private long count = 0;
+
+    LongLimitGenerator( PrimitiveIterator.OfLong generator, long limit )
+    {
+        this.generator = generator;
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return count < limit && generator.hasNext();
+    }
+
+    @Override
+    public long nextLong()
+    {
+        if ( count == limit )
+        {
+            throw new NoSuchElementException( "Generator has nothing more to generate" );
+        }
+        count++;
+        return generator.nextLong();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ldbc.driver.generator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Merges sorted long generators into one sorted generator, using a binary min-heap of generator heads.
+ * Equal values are returned in the order of the generators that produced them.
+ */
+public class LongMergeGenerator implements PrimitiveIterator.OfLong
+{
+    private final PrimitiveIterator.OfLong[] generators;
+    // heap entries are generator positions, ordered by head value then position
+    private final int[] heap;
+    private final long[] heads;
+    private int heapSize = 0;
+
+    LongMergeGenerator( PrimitiveIterator.OfLong... generators )
+    {
+        this.generators = generators;
+        this.heap = new int[generators.length];
+        this.heads = new long[generators.length];
+        for ( int i = 0; i < generators.length; i++ )
+        {
+            if ( generators[i].hasNext() )
+            {
+                heads[i] = generators[i].nextLong();
+                heap[heapSize++] = i;
+            }
+        }
+        for ( int i = heapSize / 2 - 1; i >= 0; i-- )
+        {
+            siftDown( i );
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return heapSize > 0;
+    }
+
+    @Override
+    public long nextLong()
+    {
+        if ( 0 == heapSize )
+        {
+            throw new NoSuchElementException( "Generator has nothing more to generate" );
+        }
+        int generator = heap[0];
+        long next = heads[generator];
+        if ( generators[generator].hasNext() )
+        {
+            heads[generator] = generators[generator].nextLong();
+        }
+        else
+        {
+            heap[0] = heap[--heapSize];
+        }
+        siftDown( 0 );
+        return next;
+    }
+
+    private void siftDown( int position )
+    {
+        int generator = heap[position];
+        int half = heapSize / 2;
+        while ( position < half )
+        {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if ( right < heapSize && lessThan( heap[right], heap[child] ) )
+            {
+                child = right;
+            }
+            if ( false == lessThan( heap[child], generator ) )
+            {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = generator;
+    }
+
+    private boolean lessThan( int generator1, int generator2 )
+    {
+        return heads[generator1] < heads[generator2] ||
+               (heads[generator1] == heads[generator2] && generator1 < generator2);
+    }
+}
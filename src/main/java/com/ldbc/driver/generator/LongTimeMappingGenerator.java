@@ -0,0 +1,53 @@
+package com.ldbc.driver.generator;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Offsets times such that the first time becomes the new start time, then optionally compresses/expands the
+ * duration between each time and the first time by a fixed ratio. Same mapping as
+ * {@link TimeMappingOperationGenerator}, applied to plain times.
+ */
+public class LongTimeMappingGenerator implements PrimitiveIterator.OfLong
+{
+    private final PrimitiveIterator.OfLong times;
+    private final long newStartTimeAsMilli;
+    private final boolean compress;
+    private final double timeCompressionRatio;
+    private boolean first = true;
+    private long offsetAsMilli;
+
+    LongTimeMappingGenerator( PrimitiveIterator.OfLong times, long newStartTimeAsMilli, Double timeCompressionRatio )
+    {
+        this.times = times;
+        this.newStartTimeAsMilli = newStartTimeAsMilli;
+        this.compress = null != timeCompressionRatio;
+        this.timeCompressionRatio = (compress) ? timeCompressionRatio : 1.0;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return times.hasNext();
+    }
+
+    @Override
+    public long nextLong()
+    {
+        long timeAsMilli = times.nextLong();
+        if ( first )
+        {
+            offsetAsMilli = newStartTimeAsMilli - timeAsMilli;
+            first = false;
+        }
+        return mapTime( timeAsMilli, offsetAsMilli, newStartTimeAsMilli, compress, timeCompressionRatio );
+    }
+
+    static long mapTime( long timeAsMilli, long offsetAsMilli, long newStartTimeAsMilli, boolean compress,
+            double timeCompressionRatio )
+    {
+        long offsetTimeAsMilli = timeAsMilli + offsetAsMilli;
+        return (compress)
+               ? newStartTimeAsMilli + Math.round( (offsetTimeAsMilli - newStartTimeAsMilli) * timeCompressionRatio )
+               : offsetTimeAsMilli;
+    }
+}
@@ -5,16 +5,35 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
+/**
+ * Merges generators into a single generator, ordered by comparator.
+ * <p/>
+ * Generator heads are kept in a binary min-heap, so emitting an element costs O(log k) comparisons for k generators.
+ * Ties are broken by generator position (first generator wins), the same order a linear scan over the heads yields.
+ */
 public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE> {
-    private final List<GeneratorHead<GENERATE_TYPE>> generatorHeads;
+    private final List<GeneratorHead<GENERATE_TYPE>> heap;
+    private final int[] heapPositions;
     private final Comparator<GENERATE_TYPE> comparator;
+    private int heapSize;
 
     public OrderedMultiGenerator(Comparator<GENERATE_TYPE> comparator, int lookAheadDistance, Iterator<GENERATE_TYPE>... generators) {
         this.comparator = comparator;
-        if (1 == lookAheadDistance) {
-            this.generatorHeads = buildSimpleGeneratorHeads(generators);
-        } else {
-            this.generatorHeads = buildLookAheadGeneratorHeads(comparator, lookAheadDistance, generators);
+        List<GeneratorHead<GENERATE_TYPE>> generatorHeads = (1 == lookAheadDistance)
+                ? buildSimpleGeneratorHeads(generators)
+                : buildLookAheadGeneratorHeads(comparator, lookAheadDistance, generators);
+        this.heap = new ArrayList<>(generatorHeads.size());
+        this.heapPositions = new int[generatorHeads.size()];
+        this.heapSize = 0;
+        for (int i = 0; i < generatorHeads.size(); i++) {
+            if (null != generatorHeads.get(i).inspectHead()) {
+                heap.add(generatorHeads.get(i));
+                heapPositions[heapSize] = i;
+                heapSize++;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(i);
         }
     }
 
@@ -36,27 +55,48 @@ public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYP
 
     @Override
     protected GENERATE_TYPE doNext() throws GeneratorException {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = getMinGeneratorHead();
-        return (null == minGeneratorHead) ? null : minGeneratorHead.removeHead();
+        if (0 == heapSize) {
+            return null;
+        }
+        GENERATE_TYPE next = heap.get(0).removeHead();
+        if (null == heap.get(0).inspectHead()) {
+            // generator is exhausted, replace it with last heap element
+            heapSize--;
+            heap.set(0, heap.get(heapSize));
+            heapPositions[0] = heapPositions[heapSize];
+            heap.remove(heapSize);
+        }
+        if (heapSize > 0) {
+            siftDown(0);
+        }
+        return next;
     }
 
-    private GeneratorHead<GENERATE_TYPE> getMinGeneratorHead() {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = null;
-
-        // Get generator head with lowest head element (removing empty ones encountered first)
-        for (int i = 0; i < generatorHeads.size(); i++) {
-            GeneratorHead<GENERATE_TYPE> generatorHead = generatorHeads.get(i);
-            if (null == generatorHead) continue;
-            if (null == generatorHead.inspectHead()) {
-                generatorHeads.set(i, null);
-                continue;
+    private void siftDown(int index) {
+        GeneratorHead<GENERATE_TYPE> generatorHead = heap.get(index);
+        int position = heapPositions[index];
+        int half = heapSize / 2;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heapSize
+                    && lessThan(heap.get(right), heapPositions[right], heap.get(child), heapPositions[child])) {
+                child = right;
             }
-            if (null == minGeneratorHead || comparator.compare(generatorHead.inspectHead(), minGeneratorHead.inspectHead()) < 0) {
-                minGeneratorHead = generatorHead;
+            if (false == lessThan(heap.get(child), heapPositions[child], generatorHead, position)) {
+                break;
             }
+            heap.set(index, heap.get(child));
+            heapPositions[index] = heapPositions[child];
+            index = child;
         }
+        heap.set(index, generatorHead);
+        heapPositions[index] = position;
+    }
 
-        return minGeneratorHead;
+    private boolean lessThan(GeneratorHead<GENERATE_TYPE> head1, int position1, GeneratorHead<GENERATE_TYPE> head2, int position2) {
+        int comparison = comparator.compare(head1.inspectHead(), head2.inspectHead());
+        return comparison < 0 || (0 == comparison && position1 < position2);
     }
 
     private static interface GeneratorHead<T1> {
@@ -0,0 +1,23 @@
+package com.ldbc.driver.generator;
+
+import java.util.Iterator;
+
+/**
+ * Iterator that can advance past elements without materializing them, e.g., by seeking in a file or by arithmetic on
+ * its position, rather than by calling next() once per element.
+ */
+public interface SkippableIterator<T> extends Iterator<T>
+{
+    /**
+     * Advances past the next count elements, or past all remaining elements if fewer remain
+     *
+     * @param count
+     * @return number of elements skipped
+     */
+    long skip( long count );
+
+    /**
+     * @return number of remaining elements, Long.MAX_VALUE if unbounded, -1 if not known without iterating
+     */
+    long remaining();
+}
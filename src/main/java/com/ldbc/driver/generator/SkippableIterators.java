@@ -0,0 +1,41 @@
+package com.ldbc.driver.generator;
+
+import java.util.Iterator;
+
+public class SkippableIterators
+{
+    private SkippableIterators()
+    {
+    }
+
+    /**
+     * Skips by seeking if iterator is a {@link SkippableIterator}, otherwise by calling next()
+     *
+     * @param iterator
+     * @param count
+     * @return number of elements skipped
+     */
+    public static <T> long skip( Iterator<T> iterator, long count )
+    {
+        if ( iterator instanceof SkippableIterator )
+        {
+            return ((SkippableIterator<T>) iterator).skip( count );
+        }
+        long skipped = 0;
+        while ( skipped < count && iterator.hasNext() )
+        {
+            iterator.next();
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * @param iterator
+     * @return number of remaining elements, Long.MAX_VALUE if unbounded, -1 if not known without iterating
+     */
+    public static long remaining( Iterator<?> iterator )
+    {
+        return (iterator instanceof SkippableIterator) ? ((SkippableIterator<?>) iterator).remaining() : -1;
+    }
+}
@@ -0,0 +1,265 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.generator.CsvEventStreamReaderTimedTypedCharSeeker.EventDecoder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * {@link EventDecoder} driven by a table with the type of every column that follows the event type column.
+ * <p/>
+ * All columns of an event are sought and extracted in one pass over the table, into a {@link Fields} record, from
+ * which the event is then created by an {@link EventFactory}. The record is reused for every event, so a decoder must
+ * not be shared between readers, and fields must not be read after the factory returns.
+ */
+public class TableDrivenEventDecoder<BASE_EVENT_TYPE> implements EventDecoder<BASE_EVENT_TYPE>
+{
+    public enum FieldType
+    {
+        LONG,
+        INT,
+        // empty values are decoded to empty strings
+        STRING,
+        // ISO date or date time, or milliseconds since epoch, decoded to milliseconds since epoch
+        DATE,
+        LONG_LIST,
+        STRING_LIST,
+        INT_PAIR_LIST
+    }
+
+    public interface EventFactory<BASE_EVENT_TYPE>
+    {
+        BASE_EVENT_TYPE createEvent( long scheduledStartTime, long dependencyTime, Fields fields );
+    }
+
+    public static <BASE_EVENT_TYPE> Builder<BASE_EVENT_TYPE> forEvent( String eventName )
+    {
+        return new Builder<>( eventName );
+    }
+
+    private final String eventName;
+    private final String[] fieldNames;
+    private final FieldType[] fieldTypes;
+    private final EventFactory<BASE_EVENT_TYPE> eventFactory;
+    private final Fields fields;
+
+    private TableDrivenEventDecoder( String eventName, String[] fieldNames, FieldType[] fieldTypes,
+            EventFactory<BASE_EVENT_TYPE> eventFactory )
+    {
+        this.eventName = eventName;
+        this.fieldNames = fieldNames;
+        this.fieldTypes = fieldTypes;
+        this.eventFactory = eventFactory;
+        this.fields = new Fields( fieldTypes.length );
+    }
+
+    @Override
+    public BASE_EVENT_TYPE decodeEvent( long scheduledStartTime, long dependencyTime, CharSeeker charSeeker,
+            Extractors extractors, int[] columnDelimiters, Mark mark )
+    {
+        try
+        {
+            for ( int i = 0; i < fieldTypes.length; i++ )
+            {
+                if ( false == charSeeker.seek( mark, columnDelimiters ) )
+                {
+                    throw new GeneratorException(
+                            format( "Error retrieving %s of %s event", fieldNames[i], eventName ) );
+                }
+                switch ( fieldTypes[i] )
+                {
+                case LONG:
+                    fields.longs[i] = charSeeker.extract( mark, extractors.long_() ).longValue();
+                    break;
+                case DATE:
+                    fields.longs[i] = charSeeker.extract( mark, extractors.dateTime() ).longValue();
+                    break;
+                case INT:
+                    fields.longs[i] = charSeeker.extract( mark, extractors.int_() ).intValue();
+                    break;
+                case STRING:
+                    String value = charSeeker.extract( mark, extractors.string() ).value();
+                    fields.objects[i] = (null == value) ? "" : value;
+                    break;
+                case LONG_LIST:
+                    fields.objects[i] = longList( charSeeker.extract( mark, extractors.longArrayBuffer() ) );
+                    break;
+                case STRING_LIST:
+                    fields.objects[i] = stringList( charSeeker.extract( mark, extractors.stringArrayBuffer() ) );
+                    break;
+                case INT_PAIR_LIST:
+                    fields.intPairs( i, charSeeker.extract( mark, extractors.intTupleArrayBuffer( 2 ) ) );
+                    break;
+                default:
+                    throw new GeneratorException( format( "Unsupported field type: %s", fieldTypes[i] ) );
+                }
+            }
+            return eventFactory.createEvent( scheduledStartTime, dependencyTime, fields );
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException( format( "Error parsing %s event", eventName ), e );
+        }
+    }
+
+    // lists are created at their final size, from buffers that are reused for every event
+
+    private static List<Long> longList( Extractors.LongArrayBufferExtractor extractor )
+    {
+        List<Long> list = new ArrayList<>( extractor.length() );
+        for ( int i = 0; i < extractor.length(); i++ )
+        {
+            list.add( extractor.longValue( i ) );
+        }
+        return list;
+    }
+
+    private static List<String> stringList( Extractors.StringArrayBufferExtractor extractor )
+    {
+        List<String> list = new ArrayList<>( extractor.length() );
+        for ( int i = 0; i < extractor.length(); i++ )
+        {
+            list.add( extractor.stringValue( i ) );
+        }
+        return list;
+    }
+
+    /**
+     * Values of the most recently decoded event, indexed by field, i.e., by column after the event type column
+     */
+    public static class Fields
+    {
+        // values of LONG, INT and DATE fields
+        private final long[] longs;
+        // values of STRING and list fields
+        private final Object[] objects;
+        // values of INT_PAIR_LIST fields, pairs one after the other
+        private final int[][] intPairs;
+        private final int[] intPairCounts;
+
+        private Fields( int fieldCount )
+        {
+            this.longs = new long[fieldCount];
+            this.objects = new Object[fieldCount];
+            this.intPairs = new int[fieldCount][];
+            this.intPairCounts = new int[fieldCount];
+        }
+
+        private void intPairs( int field, Extractors.IntTupleArrayBufferExtractor extractor )
+        {
+            int count = extractor.length();
+            if ( null == intPairs[field] || intPairs[field].length < 2 * count )
+            {
+                intPairs[field] = new int[Math.max( 2 * count, 8 )];
+            }
+            for ( int i = 0; i < count; i++ )
+            {
+                intPairs[field][2 * i] = extractor.intValue( i, 0 );
+                intPairs[field][2 * i + 1] = extractor.intValue( i, 1 );
+            }
+            intPairCounts[field] = count;
+        }
+
+        public long longValue( int field )
+        {
+            return longs[field];
+        }
+
+        public int intValue( int field )
+        {
+            return (int) longs[field];
+        }
+
+        /**
+         * @param field
+         * @return new date every call, {@link #longValue(int)} returns milliseconds since epoch without allocating
+         */
+        public Date dateValue( int field )
+        {
+            return new Date( longs[field] );
+        }
+
+        public String stringValue( int field )
+        {
+            return (String) objects[field];
+        }
+
+        @SuppressWarnings( "unchecked" )
+        public List<Long> longList( int field )
+        {
+            return (List<Long>) objects[field];
+        }
+
+        @SuppressWarnings( "unchecked" )
+        public List<String> stringList( int field )
+        {
+            return (List<String>) objects[field];
+        }
+
+        public int intPairCount( int field )
+        {
+            return intPairCounts[field];
+        }
+
+        /**
+         * @param field
+         * @param pair
+         * @param index 0 or 1
+         * @return
+         */
+        public int intPairValue( int field, int pair, int index )
+        {
+            return intPairs[field][2 * pair + index];
+        }
+    }
+
+    public static class Builder<BASE_EVENT_TYPE>
+    {
+        private final String eventName;
+        private final List<String> fieldNames = new ArrayList<>();
+        private final List<FieldType> fieldTypes = new ArrayList<>();
+
+        private Builder( String eventName )
+        {
+            this.eventName = eventName;
+        }
+
+        /**
+         * Adds the next column of the event, fields are numbered from 0 in the order they are added
+         *
+         * @param fieldName
+         * @param fieldType
+         * @return
+         */
+        public Builder<BASE_EVENT_TYPE> field( String fieldName, FieldType fieldType )
+        {
+            fieldNames.add( fieldName );
+            fieldTypes.add( fieldType );
+            return this;
+        }
+
+        public TableDrivenEventDecoder<BASE_EVENT_TYPE> build( EventFactory<BASE_EVENT_TYPE> eventFactory )
+        {
+            return new TableDrivenEventDecoder<>(
+                    eventName,
+                    fieldNames.toArray( new String[fieldNames.size()] ),
+                    fieldTypes.toArray( new FieldType[fieldTypes.size()] ),
+                    eventFactory
+            );
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return getClass().getSimpleName() + "[" + eventName + ": " + Arrays.toString( fieldTypes ) + "]";
+    }
+}
@@ -0,0 +1,110 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Assigns times taken from a primitive time generator to operations, without boxing.
+ * Generator stops as soon as either of the generators, times or operations, stops.
+ * <p/>
+ * Skipping is arithmetic when times come from {@link LongIncrementingGenerator} and operations are a
+ * {@link SkippableIterator}, e.g., parameters read from a {@link ColumnarParameterStore}.
+ */
+public class TimeAssigningOperationGenerator extends NoRemoveIterator<Operation>
+        implements TimeStampedSkippableIterator<Operation>
+{
+    enum AssignedTime
+    {
+        START_TIME,
+        DEPENDENCY_TIME
+    }
+
+    private final PrimitiveIterator.OfLong timesAsMilli;
+    private final Iterator<Operation> operations;
+    private final AssignedTime assignedTime;
+
+    TimeAssigningOperationGenerator(
+            PrimitiveIterator.OfLong timesAsMilli,
+            Iterator<Operation> operations,
+            AssignedTime assignedTime )
+    {
+        this.timesAsMilli = timesAsMilli;
+        this.operations = operations;
+        this.assignedTime = assignedTime;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return timesAsMilli.hasNext() && operations.hasNext();
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException( "Generator has nothing more to generate" );
+        }
+        long timeAsMilli = timesAsMilli.nextLong();
+        Operation operation = operations.next();
+        switch ( assignedTime )
+        {
+        case START_TIME:
+            operation.setScheduledStartTimeAsMilli( timeAsMilli );
+            operation.setTimeStamp( timeAsMilli );
+            break;
+        case DEPENDENCY_TIME:
+            operation.setDependencyTimeStamp( timeAsMilli );
+            break;
+        }
+        return operation;
+    }
+
+    @Override
+    public long skip( long count )
+    {
+        if ( timesAsMilli instanceof LongIncrementingGenerator )
+        {
+            LongIncrementingGenerator incrementingTimes = (LongIncrementingGenerator) timesAsMilli;
+            long skipped = SkippableIterators.skip( operations, Math.min( count, incrementingTimes.remaining() ) );
+            incrementingTimes.skip( skipped );
+            return skipped;
+        }
+        long skippedTimes = 0;
+        while ( skippedTimes < count && timesAsMilli.hasNext() )
+        {
+            timesAsMilli.nextLong();
+            skippedTimes++;
+        }
+        return SkippableIterators.skip( operations, skippedTimes );
+    }
+
+    @Override
+    public long remaining()
+    {
+        if ( false == timesAsMilli instanceof LongIncrementingGenerator )
+        {
+            return -1;
+        }
+        long remainingOperations = SkippableIterators.remaining( operations );
+        return (-1 == remainingOperations)
+               ? -1
+               : Math.min( remainingOperations, ((LongIncrementingGenerator) timesAsMilli).remaining() );
+    }
+
+    @Override
+    public long countBefore( long timeStampAsMilli )
+    {
+        long remainingOperations = remaining();
+        if ( AssignedTime.START_TIME != assignedTime || -1 == remainingOperations )
+        {
+            return -1;
+        }
+        long countBefore = ((LongIncrementingGenerator) timesAsMilli).countBefore( timeStampAsMilli );
+        return (-1 == countBefore) ? -1 : Math.min( countBefore, remainingOperations );
+    }
+}
@@ -1,7 +1,6 @@
 package com.ldbc.driver.generator;
 
 import com.ldbc.driver.Operation;
-import com.ldbc.driver.util.Function1;
 
 import java.util.Iterator;
 
@@ -9,10 +8,11 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
 {
     private final Iterator<Operation> operations;
     private final long newStartTimeAsMilli;
-    private final Double timeCompressionRatio;
+    private final boolean compress;
+    private final double timeCompressionRatio;
 
-    private Function1<Long,Long,RuntimeException> timeOffsetAsMilliFun = null;
-    private Function1<Long,Long,RuntimeException> startTimeAsMilliCompressionFun = null;
+    private boolean first = true;
+    private long offsetAsMilli;
 
     TimeMappingOperationGenerator(
             Iterator<Operation> operations,
@@ -21,7 +21,8 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
     {
         this.operations = operations;
         this.newStartTimeAsMilli = newStartTimeAsMilli;
-        this.timeCompressionRatio = timeCompressionRatio;
+        this.compress = null != timeCompressionRatio;
+        this.timeCompressionRatio = (compress) ? timeCompressionRatio : 1.0;
     }
 
     @Override
@@ -30,102 +31,21 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
         if ( false == operations.hasNext() )
         { return null; }
         Operation nextOperation = operations.next();
-        if ( null == timeOffsetAsMilliFun )
-        {
-            // Create time offset function
-            long firstStartTimeAsMilli = nextOperation.scheduledStartTimeAsMilli();
-            if ( newStartTimeAsMilli > firstStartTimeAsMilli )
-            {
-                // offset to future
-                long offsetAsMilli = newStartTimeAsMilli - firstStartTimeAsMilli;
-                timeOffsetAsMilliFun = new TimeFutureOffsetFun( offsetAsMilli );
-            }
-            else
-            {
-                // offset to past
-                long offsetAsMilli = firstStartTimeAsMilli - newStartTimeAsMilli;
-                timeOffsetAsMilliFun = new TimePastOffsetFun( offsetAsMilli );
-            }
-
-            // Create time compression function
-            if ( null == timeCompressionRatio )
-            {
-                startTimeAsMilliCompressionFun = new IdentityTimeFun();
-            }
-            else
-            {
-                startTimeAsMilliCompressionFun = new TimeCompressionFun(
-                        timeCompressionRatio,
-                        timeOffsetAsMilliFun.apply( nextOperation.scheduledStartTimeAsMilli() )
-                );
-            }
-        }
-        long offsetStartTimeAsMilli = timeOffsetAsMilliFun.apply( nextOperation.scheduledStartTimeAsMilli() );
-        long offsetAndCompressedStartTimeAsMilli = startTimeAsMilliCompressionFun.apply( offsetStartTimeAsMilli );
-        nextOperation.setScheduledStartTimeAsMilli( offsetAndCompressedStartTimeAsMilli );
+        if ( first )
+        {
+            // offset to future if positive, to past if negative
+            offsetAsMilli = newStartTimeAsMilli - nextOperation.scheduledStartTimeAsMilli();
+            first = false;
+        }
+        nextOperation.setScheduledStartTimeAsMilli(
+                LongTimeMappingGenerator.mapTime(
+                        nextOperation.scheduledStartTimeAsMilli(),
+                        offsetAsMilli,
+                        newStartTimeAsMilli,
+                        compress,
+                        timeCompressionRatio
+                )
+        );
         return nextOperation;
     }
-
-    private class IdentityTimeFun implements Function1<Long,Long,RuntimeException>
-    {
-        @Override
-        public Long apply( Long timeAsMilli )
-        {
-            return timeAsMilli;
-        }
-    }
-
-    private class TimeFutureOffsetFun implements Function1<Long,Long,RuntimeException>
-    {
-        private final long offsetAsMilli;
-
-        private TimeFutureOffsetFun( long offsetAsMilli )
-        {
-            this.offsetAsMilli = offsetAsMilli;
-        }
-
-        @Override
-        public Long apply( Long timeAsMilli )
-        {
-            return timeAsMilli + offsetAsMilli;
-        }
-    }
-
-    private class TimePastOffsetFun implements Function1<Long,Long,RuntimeException>
-    {
-        private final long offsetAsMilli;
-
-        private TimePastOffsetFun( long offsetAsMilli )
-        {
-            this.offsetAsMilli = offsetAsMilli;
-        }
-
-        @Override
-        public Long apply( Long timeAsMilli )
-        {
-            return timeAsMilli - offsetAsMilli;
-        }
-    }
-
-    private class TimeCompressionFun implements Function1<Long,Long,RuntimeException>
-    {
-        private final double timeCompressionRatio;
-        private long firstTimeAsMilli;
-
-        private TimeCompressionFun( double timeCompressionRatio, long firstTimeAsMilli )
-        {
-            this.timeCompressionRatio = timeCompressionRatio;
-            this.firstTimeAsMilli = firstTimeAsMilli;
-        }
-
-        @Override
-        public Long apply( Long timeAsMilli )
-        {
-            long durationFromOriginalStartTimeAsMilli = timeAsMilli - firstTimeAsMilli;
-            long compressedDurationFromOriginalStartTimeAsMilli =
-                    Math.round( durationFromOriginalStartTimeAsMilli * timeCompressionRatio );
-            return firstTimeAsMilli + compressedDurationFromOriginalStartTimeAsMilli;
-        }
-    }
-
 }
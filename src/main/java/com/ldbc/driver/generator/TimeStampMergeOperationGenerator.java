@@ -0,0 +1,258 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges operation generators, each sorted by time stamp, into one generator sorted by time stamp, using a binary
+ * min-heap of generator heads. Operations with equal time stamps are returned in the order of the generators that
+ * produced them.
+ * <p/>
+ * If every input is a {@link TimeStampedSkippableIterator} that can count its operations, skip does not iterate:
+ * it binary searches for the time stamp at which count operations have been passed, then skips each input by the
+ * number of its operations before that time stamp. Otherwise skip falls back to calling next().
+ * For the same reason the merged generator can count its own operations, so merges of merges skip without iterating.
+ */
+public class TimeStampMergeOperationGenerator extends NoRemoveIterator<Operation>
+        implements TimeStampedSkippableIterator<Operation>
+{
+    private final Iterator<Operation>[] generators;
+    // heap entries are generator positions, ordered by head time stamp then position
+    private final int[] heap;
+    private final Operation[] heads;
+    private int heapSize = 0;
+
+    TimeStampMergeOperationGenerator( Iterator<Operation>... generators )
+    {
+        this.generators = generators;
+        this.heap = new int[generators.length];
+        this.heads = new Operation[generators.length];
+        for ( int i = 0; i < generators.length; i++ )
+        {
+            pullHead( i );
+            if ( null != heads[i] )
+            {
+                heap[heapSize++] = i;
+            }
+        }
+        heapify();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return heapSize > 0;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( 0 == heapSize )
+        {
+            throw new NoSuchElementException( "Generator has nothing more to generate" );
+        }
+        int generator = heap[0];
+        Operation next = heads[generator];
+        heads[generator] = null;
+        if ( generators[generator].hasNext() )
+        {
+            heads[generator] = generators[generator].next();
+        }
+        else
+        {
+            heap[0] = heap[--heapSize];
+        }
+        siftDown( 0 );
+        return next;
+    }
+
+    @Override
+    public long skip( long count )
+    {
+        if ( count <= 0 || 0 == heapSize )
+        {
+            return 0;
+        }
+        if ( -1 == countBefore( Long.MAX_VALUE ) )
+        {
+            return SkippableIterators.skip( new IteratingView(), count );
+        }
+
+        // find largest time stamp T with countBefore(T) <= count, i.e., count ends among operations at T
+        long lowTimeStamp = Long.MIN_VALUE;
+        long highTimeStamp = Long.MAX_VALUE;
+        if ( countBefore( highTimeStamp ) <= count )
+        {
+            lowTimeStamp = highTimeStamp;
+        }
+        else
+        {
+            while ( Long.compareUnsigned( highTimeStamp - lowTimeStamp, 1 ) > 0 )
+            {
+                long midTimeStamp = lowTimeStamp + ((highTimeStamp - lowTimeStamp) >>> 1);
+                if ( countBefore( midTimeStamp ) <= count )
+                {
+                    lowTimeStamp = midTimeStamp;
+                }
+                else
+                {
+                    highTimeStamp = midTimeStamp;
+                }
+            }
+        }
+
+        long toSkipAtTimeStamp = count - countBefore( lowTimeStamp );
+        long skipped = 0;
+        for ( int i = 0; i < generators.length; i++ )
+        {
+            long toSkip = countBefore( i, lowTimeStamp );
+            if ( toSkipAtTimeStamp > 0 && Long.MAX_VALUE != lowTimeStamp )
+            {
+                // ties are returned in generator order, so the first generators take the remainder
+                long atTimeStamp = Math.min( toSkipAtTimeStamp, countBefore( i, lowTimeStamp + 1 ) - toSkip );
+                toSkip += atTimeStamp;
+                toSkipAtTimeStamp -= atTimeStamp;
+            }
+            if ( toSkip > 0 && null != heads[i] )
+            {
+                heads[i] = null;
+                skipped += 1 + SkippableIterators.skip( generators[i], toSkip - 1 );
+                pullHead( i );
+            }
+        }
+        heapSize = 0;
+        for ( int i = 0; i < generators.length; i++ )
+        {
+            if ( null != heads[i] )
+            {
+                heap[heapSize++] = i;
+            }
+        }
+        heapify();
+        // only reached if operations exist at time stamp Long.MAX_VALUE
+        return skipped + SkippableIterators.skip( new IteratingView(), count - skipped );
+    }
+
+    @Override
+    public long remaining()
+    {
+        long remaining = 0;
+        for ( int i = 0; i < generators.length; i++ )
+        {
+            if ( null != heads[i] )
+            {
+                long generatorRemaining = SkippableIterators.remaining( generators[i] );
+                if ( -1 == generatorRemaining )
+                {
+                    return -1;
+                }
+                remaining = saturatedAdd( remaining, saturatedAdd( generatorRemaining, 1 ) );
+            }
+        }
+        return remaining;
+    }
+
+    // -1 if any generator can not count
+    @Override
+    public long countBefore( long timeStampAsMilli )
+    {
+        long countBefore = 0;
+        for ( int i = 0; i < generators.length; i++ )
+        {
+            long generatorCountBefore = countBefore( i, timeStampAsMilli );
+            if ( -1 == generatorCountBefore )
+            {
+                return -1;
+            }
+            countBefore = saturatedAdd( countBefore, generatorCountBefore );
+        }
+        return countBefore;
+    }
+
+    private long countBefore( int generator, long timeStampAsMilli )
+    {
+        if ( null == heads[generator] )
+        {
+            return 0;
+        }
+        else if ( false == generators[generator] instanceof TimeStampedSkippableIterator )
+        {
+            return -1;
+        }
+        long generatorCountBefore =
+                ((TimeStampedSkippableIterator<Operation>) generators[generator]).countBefore( timeStampAsMilli );
+        if ( -1 == generatorCountBefore )
+        {
+            return -1;
+        }
+        return (heads[generator].timeStamp() < timeStampAsMilli) ? saturatedAdd( generatorCountBefore, 1 ) : 0;
+    }
+
+    private static long saturatedAdd( long a, long b )
+    {
+        long sum = a + b;
+        return (sum < 0) ? Long.MAX_VALUE : sum;
+    }
+
+    private void pullHead( int generator )
+    {
+        if ( generators[generator].hasNext() )
+        {
+            heads[generator] = generators[generator].next();
+        }
+    }
+
+    private void heapify()
+    {
+        for ( int i = heapSize / 2 - 1; i >= 0; i-- )
+        {
+            siftDown( i );
+        }
+    }
+
+    private void siftDown( int index )
+    {
+        while ( true )
+        {
+            int left = 2 * index + 1;
+            if ( left >= heapSize )
+            {
+                return;
+            }
+            int smallest = (left + 1 < heapSize && lessThan( heap[left + 1], heap[left] )) ? left + 1 : left;
+            if ( false == lessThan( heap[smallest], heap[index] ) )
+            {
+                return;
+            }
+            int temp = heap[index];
+            heap[index] = heap[smallest];
+            heap[smallest] = temp;
+            index = smallest;
+        }
+    }
+
+    private boolean lessThan( int generator1, int generator2 )
+    {
+        long timeStamp1 = heads[generator1].timeStamp();
+        long timeStamp2 = heads[generator2].timeStamp();
+        return timeStamp1 < timeStamp2 || (timeStamp1 == timeStamp2 && generator1 < generator2);
+    }
+
+    // plain iterator view, so fallback skipping calls next() rather than skip()
+    private class IteratingView extends NoRemoveIterator<Operation>
+    {
+        @Override
+        public boolean hasNext()
+        {
+            return TimeStampMergeOperationGenerator.this.hasNext();
+        }
+
+        @Override
+        public Operation next()
+        {
+            return TimeStampMergeOperationGenerator.this.next();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ldbc.driver.generator;
+
+/**
+ * Skippable iterator over operations sorted by time stamp, ascending, that can count its remaining operations up to a
+ * time stamp without materializing them. Allows merged streams to be skipped without iterating their inputs.
+ */
+public interface TimeStampedSkippableIterator<T> extends SkippableIterator<T>
+{
+    /**
+     * @param timeStampAsMilli
+     * @return number of remaining elements with time stamp lower than timeStampAsMilli, -1 if not known without
+     * iterating
+     */
+    long countBefore( long timeStampAsMilli );
+}
@@ -5,12 +5,14 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeLogWriter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
 import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutorException;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
+import com.ldbc.driver.runtime.executor.OperationStreamPrefetcher;
 import com.ldbc.driver.runtime.executor.SameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.ThreadPoolOperationExecutor;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
@@ -44,12 +46,51 @@ public class WorkloadRunner
             MetricsService metricsService,
             ConcurrentErrorReporter errorReporter,
             CompletionTimeService completionTimeService,
+            CompletionTimeLogWriter completionTimeLogWriter,
             LoggingServiceFactory loggingServiceFactory,
             int threadCount,
             long statusDisplayIntervalAsSeconds,
             long spinnerSleepDurationAsMilli,
             boolean ignoreScheduleStartTimes,
             int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+    {
+        this(
+                timeSource,
+                db,
+                workloadStreams,
+                metricsService,
+                errorReporter,
+                completionTimeService,
+                completionTimeLogWriter,
+                loggingServiceFactory,
+                threadCount,
+                statusDisplayIntervalAsSeconds,
+                spinnerSleepDurationAsMilli,
+                ignoreScheduleStartTimes,
+                operationHandlerExecutorsBoundedQueueSize,
+                0
+        );
+    }
+
+    /**
+     * @param operationPrefetchBufferSize operations buffered per stream by background prefetch threads,
+     *                                    0 to retrieve operations on the threads that dispatch them
+     */
+    public WorkloadRunner(
+            TimeSource timeSource,
+            Db db,
+            WorkloadStreams workloadStreams,
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeService completionTimeService,
+            CompletionTimeLogWriter completionTimeLogWriter,
+            LoggingServiceFactory loggingServiceFactory,
+            int threadCount,
+            long statusDisplayIntervalAsSeconds,
+            long spinnerSleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            int operationHandlerExecutorsBoundedQueueSize,
+            int operationPrefetchBufferSize ) throws WorkloadException, MetricsCollectionException
     {
         this.workloadRunnerFuture = new WorkloadRunnerFuture(
                 timeSource,
@@ -58,12 +99,14 @@ public class WorkloadRunner
                 metricsService,
                 errorReporter,
                 completionTimeService,
+                completionTimeLogWriter,
                 loggingServiceFactory,
                 threadCount,
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduleStartTimes,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                operationPrefetchBufferSize
         );
     }
 
@@ -88,12 +131,14 @@ public class WorkloadRunner
                 MetricsService metricsService,
                 ConcurrentErrorReporter errorReporter,
                 CompletionTimeService completionTimeService,
+                CompletionTimeLogWriter completionTimeLogWriter,
                 LoggingServiceFactory loggingServiceFactory,
                 int threadCount,
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
+                int operationHandlerExecutorsBoundedQueueSize,
+                int operationPrefetchBufferSize ) throws MetricsCollectionException, WorkloadException
         {
             this.workloadRunnerThread = new WorkloadRunnerThread(
                     timeSource,
@@ -102,12 +147,14 @@ public class WorkloadRunner
                     metricsService,
                     errorReporter,
                     completionTimeService,
+                    completionTimeLogWriter,
                     loggingServiceFactory,
                     threadCount,
                     statusDisplayIntervalAsSeconds,
                     spinnerSleepDurationAsMilli,
                     ignoreScheduleStartTimes,
-                    operationHandlerExecutorsBoundedQueueSize
+                    operationHandlerExecutorsBoundedQueueSize,
+                    operationPrefetchBufferSize
             );
             this.timeSource = timeSource;
             this.errorReporter = errorReporter;
@@ -277,6 +324,7 @@ public class WorkloadRunner
         private final OperationStreamExecutorService asynchronousStreamExecutorService;
         private final List<OperationStreamExecutorService> blockingStreamExecutorServices = new ArrayList<>();
         private final long statusDisplayIntervalAsMilli;
+        private final OperationStreamPrefetcher operationStreamPrefetcher;
         private final AtomicReference<WorkloadRunnerThreadState> stateRef;
 
         private enum ShutdownType
@@ -291,25 +339,42 @@ public class WorkloadRunner
                 MetricsService metricsService,
                 ConcurrentErrorReporter errorReporter,
                 CompletionTimeService completionTimeService,
+                CompletionTimeLogWriter completionTimeLogWriter,
                 LoggingServiceFactory loggingServiceFactory,
                 int threadCount,
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+                int operationHandlerExecutorsBoundedQueueSize,
+                int operationPrefetchBufferSize ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
             this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
 
+            // decode operations on background threads, so parsing does not delay operation dispatch
+            if ( operationPrefetchBufferSize > 0 )
+            {
+                this.operationStreamPrefetcher =
+                        new OperationStreamPrefetcher( workloadStreams, operationPrefetchBufferSize );
+                workloadStreams = operationStreamPrefetcher.workloadStreams();
+            }
+            else
+            {
+                this.operationStreamPrefetcher = null;
+            }
+
             if ( statusDisplayIntervalAsSeconds > 0 )
             {
                 this.workloadStatusThread = new WorkloadStatusThread(
+                        timeSource,
                         TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ),
                         metricsService.getWriter(),
                         errorReporter,
                         completionTimeService,
+                        completionTimeLogWriter,
+                        operationStreamPrefetcher,
                         loggingServiceFactory
                 );
             }
@@ -545,6 +610,12 @@ public class WorkloadRunner
                 );
             }
 
+            if ( null != operationStreamPrefetcher )
+            {
+                // after forced shutdown prefetch threads may still be waiting for buffer space
+                operationStreamPrefetcher.close();
+            }
+
             if ( statusDisplayIntervalAsMilli > 0 )
             {
                 System.out.println( "Shutting down status thread..." );
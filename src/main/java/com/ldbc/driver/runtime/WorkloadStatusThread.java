@@ -3,10 +3,14 @@ package com.ldbc.driver.runtime;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.control.RecentThroughputAndDuration;
+import com.ldbc.driver.runtime.coordination.CompletionTimeLogWriter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStatusSnapshot;
+import com.ldbc.driver.runtime.executor.OperationStreamPrefetcher;
 import com.ldbc.driver.runtime.metrics.MetricsService.MetricsServiceWriter;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -14,25 +18,35 @@ import static java.lang.String.format;
 
 class WorkloadStatusThread extends Thread
 {
+    private final TimeSource timeSource;
     private final long statusUpdateIntervalAsMilli;
     private final MetricsServiceWriter metricsServiceWriter;
     private final ConcurrentErrorReporter errorReporter;
     private final CompletionTimeService completionTimeService;
+    private final CompletionTimeLogWriter completionTimeLogWriter;
+    private final OperationStreamPrefetcher operationStreamPrefetcher;
     private final LoggingService loggingService;
     private AtomicBoolean continueRunning = new AtomicBoolean( true );
 
     WorkloadStatusThread(
+            TimeSource timeSource,
             long statusUpdateIntervalAsMilli,
             MetricsServiceWriter metricsServiceWriter,
             ConcurrentErrorReporter errorReporter,
             CompletionTimeService completionTimeService,
+            CompletionTimeLogWriter completionTimeLogWriter,
+            OperationStreamPrefetcher operationStreamPrefetcher,
             LoggingServiceFactory loggingServiceFactory )
     {
         super( WorkloadStatusThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+        this.timeSource = timeSource;
         this.statusUpdateIntervalAsMilli = statusUpdateIntervalAsMilli;
         this.metricsServiceWriter = metricsServiceWriter;
         this.errorReporter = errorReporter;
         this.completionTimeService = completionTimeService;
+        this.completionTimeLogWriter = completionTimeLogWriter;
+        // may be null, if operation streams are not prefetched
+        this.operationStreamPrefetcher = operationStreamPrefetcher;
         this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
     }
 
@@ -49,6 +63,7 @@ class WorkloadStatusThread extends Thread
             operationCountsAtDurations[i][1] = -1;
         }
         int statusRecencyIndex = 0;
+        CompletionTimeStatusSnapshot completionTimeStatus = null;
 
         while ( continueRunning.get() )
         {
@@ -60,10 +75,19 @@ class WorkloadStatusThread extends Thread
                 statusRecencyIndex = (statusRecencyIndex + 1) % statusRecency;
                 updateRecentThroughput( operationCountsAtDurations, settableRecentThroughputAndDuration );
 
+                completionTimeStatus = CompletionTimeStatusSnapshot.create(
+                        timeSource.nowAsMilli(),
+                        completionTimeService.completionTimeAsMilli(),
+                        completionTimeService.writerStatuses(),
+                        completionTimeStatus
+                );
+                completionTimeLogWriter.write( completionTimeStatus );
+
                 loggingService.status(
                         status,
                         settableRecentThroughputAndDuration,
-                        completionTimeService.completionTimeAsMilli()
+                        completionTimeStatus,
+                        (null == operationStreamPrefetcher) ? null : operationStreamPrefetcher.status()
                 );
 
                 Spinner.powerNap( statusUpdateIntervalAsMilli );
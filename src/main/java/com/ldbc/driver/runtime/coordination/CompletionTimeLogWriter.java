@@ -0,0 +1,20 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.io.IOException;
+
+public interface CompletionTimeLogWriter extends AutoCloseable
+{
+    String HEADER_TIME = "time";
+    String HEADER_COMPLETION_TIME = "completion_time";
+    String HEADER_COMPLETION_TIME_LAG = "completion_time_lag";
+    String HEADER_COMPLETION_TIME_ADVANCE_RATE = "completion_time_advance_rate";
+    String HEADER_WRITER_ID = "writer_id";
+    String HEADER_WRITER_LOWEST_INITIATED_TIME = "writer_lowest_initiated_time";
+    String HEADER_WRITER_UNCOMPLETED_INITIATED_TIMES = "writer_uncompleted_initiated_times";
+    String HEADER_WRITER_COMPLETION_TIME = "writer_completion_time";
+
+    void write( CompletionTimeStatusSnapshot completionTimeStatus ) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -11,5 +11,14 @@ public interface CompletionTimeService extends CompletionTimeReader
 
     List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException;
 
+    /**
+     * Per writer view of completion time state, used to diagnose which writer is holding completion time back.
+     * Values may lag slightly behind submitted times, e.g., if events are still queued.
+     *
+     * @return status of every writer, ordered by writer ID
+     * @throws CompletionTimeException
+     */
+    List<CompletionTimeWriterStatus> writerStatuses() throws CompletionTimeException;
+
     void shutdown() throws CompletionTimeException;
 }
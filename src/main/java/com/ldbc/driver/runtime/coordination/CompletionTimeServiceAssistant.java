@@ -3,11 +3,27 @@ package com.ldbc.driver.runtime.coordination;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.util.MapUtils;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 
 import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
 
 public class CompletionTimeServiceAssistant
 {
+    public static final String COMPLETION_TIME_SERVICE_ARG = "completion_time_service";
+    // threaded_queued, disruptor
+    public static final String COMPLETION_TIME_SERVICE_DEFAULT = "threaded_queued";
+    public static final String COMPLETION_TIME_WAIT_STRATEGY_ARG = "completion_time_wait_strategy";
+    // only used by disruptor: blocking, sleeping, yielding, busy_spin
+    public static final String COMPLETION_TIME_WAIT_STRATEGY_DEFAULT = "blocking";
+
     public void writeInitiatedAndCompletedTimesToAllWriters(
             CompletionTimeService completionTimeService,
             long timeAsMilli ) throws CompletionTimeException
@@ -45,6 +61,51 @@ public class CompletionTimeServiceAssistant
         return false;
     }
 
+    /**
+     * @param paramsMap configuration parameters, selecting the implementation with {@link #COMPLETION_TIME_SERVICE_ARG}
+     *                  and, for disruptor, its wait strategy with {@link #COMPLETION_TIME_WAIT_STRATEGY_ARG}
+     */
+    public CompletionTimeService newCompletionTimeServiceFromParamsMap(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            Map<String,String> paramsMap ) throws CompletionTimeException
+    {
+        String implementation =
+                MapUtils.getDefault( paramsMap, COMPLETION_TIME_SERVICE_ARG, COMPLETION_TIME_SERVICE_DEFAULT ).trim();
+        String waitStrategy = MapUtils.getDefault(
+                paramsMap, COMPLETION_TIME_WAIT_STRATEGY_ARG, COMPLETION_TIME_WAIT_STRATEGY_DEFAULT ).trim();
+        switch ( implementation )
+        {
+        case "threaded_queued":
+            return newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        case "disruptor":
+            return newDisruptorCompletionTimeService( timeSource, errorReporter, waitStrategy( waitStrategy ) );
+        default:
+            throw new CompletionTimeException(
+                    format( "Unsupported %s: %s\nExpected one of: threaded_queued, disruptor",
+                            COMPLETION_TIME_SERVICE_ARG, implementation ) );
+        }
+    }
+
+    private static WaitStrategy waitStrategy( String waitStrategy ) throws CompletionTimeException
+    {
+        switch ( waitStrategy )
+        {
+        case "blocking":
+            return new BlockingWaitStrategy();
+        case "sleeping":
+            return new SleepingWaitStrategy();
+        case "yielding":
+            return new YieldingWaitStrategy();
+        case "busy_spin":
+            return new BusySpinWaitStrategy();
+        default:
+            throw new CompletionTimeException(
+                    format( "Unsupported %s: %s\nExpected one of: blocking, sleeping, yielding, busy_spin",
+                            COMPLETION_TIME_WAIT_STRATEGY_ARG, waitStrategy ) );
+        }
+    }
+
     public SynchronizedCompletionTimeService newSynchronizedCompletionTimeService() throws CompletionTimeException
     {
         return new SynchronizedCompletionTimeService();
@@ -56,4 +117,28 @@ public class CompletionTimeServiceAssistant
     {
         return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter );
     }
+
+    public DisruptorCompletionTimeService newDisruptorCompletionTimeService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        return newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+    }
+
+    /**
+     * @param waitStrategy strategy used by the consumer thread to wait for new events, e.g.,
+     *                     BlockingWaitStrategy (lowest CPU use), YieldingWaitStrategy or BusySpinWaitStrategy
+     *                     (lowest latency, but each occupies a core)
+     */
+    public DisruptorCompletionTimeService newDisruptorCompletionTimeService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            WaitStrategy waitStrategy ) throws CompletionTimeException
+    {
+        return new DisruptorCompletionTimeService(
+                timeSource,
+                errorReporter,
+                DisruptorCompletionTimeService.DEFAULT_BUFFER_SIZE,
+                waitStrategy );
+    }
 }
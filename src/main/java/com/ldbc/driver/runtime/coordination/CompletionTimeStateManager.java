@@ -46,6 +46,16 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter
         return completionTimeAsMilli;
     }
 
+    long highestInitiatedTimeAsMilli()
+    {
+        return initiatedTimeTracker.highestInitiatedTimeAsMilli();
+    }
+
+    int uncompletedInitiatedTimes()
+    {
+        return initiatedTimeTracker.uncompletedInitiatedTimes();
+    }
+
     /**
      * Logs the new initiated time and updates completion time accordingly.
      * NOTE, initiated times MUST be applied in ascending order!
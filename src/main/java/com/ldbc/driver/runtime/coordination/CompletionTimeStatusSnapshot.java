@@ -0,0 +1,144 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.List;
+
+/**
+ * Point-in-time view of completion time (CT), intended for periodic sampling into a time series.
+ * <p/>
+ * Lag: how far CT trails wall clock time.
+ * Advance rate: milliseconds CT advanced per second of wall clock time, since the previous sample.
+ * A rate of 0 means CT is stalled, a rate close to 1000 means CT is keeping up with wall clock time.
+ * <p/>
+ * -1 is used to denote values that are not (yet) defined.
+ */
+public class CompletionTimeStatusSnapshot
+{
+    private final long timeAsMilli;
+    private final long completionTimeAsMilli;
+    private final long completionTimeLagAsMilli;
+    private final double completionTimeAdvanceRate;
+    private final List<CompletionTimeWriterStatus> writerStatuses;
+
+    /**
+     * @param nowAsMilli            wall clock time at which the sample was taken
+     * @param completionTimeAsMilli completion time at sample time
+     * @param writerStatuses        status of every completion time writer at sample time
+     * @param previous              previous sample, used to compute advance rate, may be null
+     * @return new snapshot
+     */
+    public static CompletionTimeStatusSnapshot create(
+            long nowAsMilli,
+            long completionTimeAsMilli,
+            List<CompletionTimeWriterStatus> writerStatuses,
+            CompletionTimeStatusSnapshot previous )
+    {
+        long completionTimeLagAsMilli = (-1 == completionTimeAsMilli)
+                                        ? -1
+                                        : Math.max( 0, nowAsMilli - completionTimeAsMilli );
+        double completionTimeAdvanceRate;
+        if ( null == previous ||
+             -1 == previous.completionTimeAsMilli() ||
+             -1 == completionTimeAsMilli ||
+             nowAsMilli <= previous.timeAsMilli() )
+        {
+            completionTimeAdvanceRate = -1;
+        }
+        else
+        {
+            completionTimeAdvanceRate = (double) (completionTimeAsMilli - previous.completionTimeAsMilli()) /
+                                        (nowAsMilli - previous.timeAsMilli()) * 1000;
+        }
+        return new CompletionTimeStatusSnapshot(
+                nowAsMilli,
+                completionTimeAsMilli,
+                completionTimeLagAsMilli,
+                completionTimeAdvanceRate,
+                writerStatuses
+        );
+    }
+
+    public CompletionTimeStatusSnapshot(
+            long timeAsMilli,
+            long completionTimeAsMilli,
+            long completionTimeLagAsMilli,
+            double completionTimeAdvanceRate,
+            List<CompletionTimeWriterStatus> writerStatuses )
+    {
+        this.timeAsMilli = timeAsMilli;
+        this.completionTimeAsMilli = completionTimeAsMilli;
+        this.completionTimeLagAsMilli = completionTimeLagAsMilli;
+        this.completionTimeAdvanceRate = completionTimeAdvanceRate;
+        this.writerStatuses = writerStatuses;
+    }
+
+    public long timeAsMilli()
+    {
+        return timeAsMilli;
+    }
+
+    public long completionTimeAsMilli()
+    {
+        return completionTimeAsMilli;
+    }
+
+    public long completionTimeLagAsMilli()
+    {
+        return completionTimeLagAsMilli;
+    }
+
+    public double completionTimeAdvanceRate()
+    {
+        return completionTimeAdvanceRate;
+    }
+
+    public List<CompletionTimeWriterStatus> writerStatuses()
+    {
+        return writerStatuses;
+    }
+
+    /**
+     * Writer that is currently holding completion time back, i.e., the writer with the lowest initiated time.
+     * Writers that have not yet submitted any initiated time keep completion time undefined, so they take precedence.
+     *
+     * @return writer holding completion time back, or null if there are no writers
+     */
+    public CompletionTimeWriterStatus slowestWriter()
+    {
+        CompletionTimeWriterStatus slowestWriter = null;
+        for ( CompletionTimeWriterStatus writerStatus : writerStatuses )
+        {
+            if ( -1 == writerStatus.lowestInitiatedTimeAsMilli() )
+            {
+                return writerStatus;
+            }
+            else if ( null == slowestWriter ||
+                      writerStatus.lowestInitiatedTimeAsMilli() < slowestWriter.lowestInitiatedTimeAsMilli() )
+            {
+                slowestWriter = writerStatus;
+            }
+        }
+        return slowestWriter;
+    }
+
+    public long uncompletedInitiatedTimes()
+    {
+        long uncompletedInitiatedTimes = 0;
+        for ( CompletionTimeWriterStatus writerStatus : writerStatuses )
+        {
+            uncompletedInitiatedTimes += writerStatus.uncompletedInitiatedTimes();
+        }
+        return uncompletedInitiatedTimes;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CompletionTimeStatusSnapshot{" +
+               "timeAsMilli=" + timeAsMilli +
+               ", completionTimeAsMilli=" + completionTimeAsMilli +
+               ", completionTimeLagAsMilli=" + completionTimeLagAsMilli +
+               ", completionTimeAdvanceRate=" + completionTimeAdvanceRate +
+               ", writerStatuses=" + writerStatuses +
+               '}';
+    }
+}
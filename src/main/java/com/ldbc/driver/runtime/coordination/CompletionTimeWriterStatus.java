@@ -0,0 +1,67 @@
+package com.ldbc.driver.runtime.coordination;
+
+/**
+ * Point-in-time view of the completion time state of a single writer.
+ * <p/>
+ * Completion time can not advance past the lowest initiated time of any writer,
+ * so the writer with the lowest initiated time is the one currently holding completion time back.
+ */
+public class CompletionTimeWriterStatus
+{
+    private final int writerId;
+    private final long lowestInitiatedTimeAsMilli;
+    private final long highestInitiatedTimeAsMilli;
+    private final int uncompletedInitiatedTimes;
+    private final long completionTimeAsMilli;
+
+    public CompletionTimeWriterStatus(
+            int writerId,
+            long lowestInitiatedTimeAsMilli,
+            long highestInitiatedTimeAsMilli,
+            int uncompletedInitiatedTimes,
+            long completionTimeAsMilli )
+    {
+        this.writerId = writerId;
+        this.lowestInitiatedTimeAsMilli = lowestInitiatedTimeAsMilli;
+        this.highestInitiatedTimeAsMilli = highestInitiatedTimeAsMilli;
+        this.uncompletedInitiatedTimes = uncompletedInitiatedTimes;
+        this.completionTimeAsMilli = completionTimeAsMilli;
+    }
+
+    public int writerId()
+    {
+        return writerId;
+    }
+
+    public long lowestInitiatedTimeAsMilli()
+    {
+        return lowestInitiatedTimeAsMilli;
+    }
+
+    public long highestInitiatedTimeAsMilli()
+    {
+        return highestInitiatedTimeAsMilli;
+    }
+
+    public int uncompletedInitiatedTimes()
+    {
+        return uncompletedInitiatedTimes;
+    }
+
+    public long completionTimeAsMilli()
+    {
+        return completionTimeAsMilli;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CompletionTimeWriterStatus{" +
+               "writerId=" + writerId +
+               ", lowestInitiatedTimeAsMilli=" + lowestInitiatedTimeAsMilli +
+               ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli +
+               ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes +
+               ", completionTimeAsMilli=" + completionTimeAsMilli +
+               '}';
+    }
+}
@@ -0,0 +1,92 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.coordination.ThreadedQueuedCompletionTimeService.CompletionTimeFuture;
+import com.lmax.disruptor.EventFactory;
+
+/**
+ * Mutable ring buffer entry. Instances are preallocated by the ring buffer and reused, writers only overwrite fields.
+ */
+class DisruptorCompletionTimeEvent
+{
+    // Event Type Codes
+    //   * Operation started executing
+    static final byte WRITE_INITIATED_TIME = 1;
+    //   * Operation completed executing
+    static final byte WRITE_COMPLETED_TIME = 2;
+    //   * Request for future to CT value (value will only be available once event is processed)
+    static final byte READ_CT_FUTURE = 3;
+
+    private byte type;
+    private int writerId;
+    private long timeAsMilli;
+    private CompletionTimeFuture future;
+
+    void setInitiatedTime( int writerId, long timeAsMilli )
+    {
+        this.type = WRITE_INITIATED_TIME;
+        this.writerId = writerId;
+        this.timeAsMilli = timeAsMilli;
+        this.future = null;
+    }
+
+    void setCompletedTime( int writerId, long timeAsMilli )
+    {
+        this.type = WRITE_COMPLETED_TIME;
+        this.writerId = writerId;
+        this.timeAsMilli = timeAsMilli;
+        this.future = null;
+    }
+
+    void setCompletionTimeFuture( CompletionTimeFuture future )
+    {
+        this.type = READ_CT_FUTURE;
+        this.writerId = -1;
+        this.timeAsMilli = -1;
+        this.future = future;
+    }
+
+    byte type()
+    {
+        return type;
+    }
+
+    int writerId()
+    {
+        return writerId;
+    }
+
+    long timeAsMilli()
+    {
+        return timeAsMilli;
+    }
+
+    CompletionTimeFuture future()
+    {
+        return future;
+    }
+
+    void clearFuture()
+    {
+        future = null;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "DisruptorCompletionTimeEvent{" +
+               "type=" + type +
+               ", writerId=" + writerId +
+               ", timeAsMilli=" + timeAsMilli +
+               ", future=" + future +
+               '}';
+    }
+
+    static class DisruptorCompletionTimeEventFactory implements EventFactory<DisruptorCompletionTimeEvent>
+    {
+        @Override
+        public DisruptorCompletionTimeEvent newInstance()
+        {
+            return new DisruptorCompletionTimeEvent();
+        }
+    }
+}
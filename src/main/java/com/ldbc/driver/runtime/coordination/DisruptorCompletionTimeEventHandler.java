@@ -0,0 +1,129 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.TemporalUtil;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.LifecycleAware;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Applies initiated/completed times to the completion time state, one batch at a time.
+ * Completion time is only recomputed, and published to readers, at the end of each batch,
+ * or before answering a completion time future, so a future always reflects all writes published before it.
+ */
+class DisruptorCompletionTimeEventHandler implements EventHandler<DisruptorCompletionTimeEvent>, LifecycleAware
+{
+    private final AtomicBoolean started = new AtomicBoolean( false );
+    private final TemporalUtil temporalUtil = new TemporalUtil();
+    private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
+    private final AtomicLong completionTimeSharedReference;
+    private final AtomicLong processedWriteEventCountSharedReference;
+    private final ConcurrentErrorReporter errorReporter;
+    private long processedWriteEventCount = 0;
+    private boolean completionTimeIsStale = false;
+
+    DisruptorCompletionTimeEventHandler(
+            MultiWriterCompletionTimeStateManager completionTimeStateManager,
+            AtomicLong completionTimeSharedReference,
+            AtomicLong processedWriteEventCountSharedReference,
+            ConcurrentErrorReporter errorReporter )
+    {
+        this.completionTimeStateManager = completionTimeStateManager;
+        this.completionTimeSharedReference = completionTimeSharedReference;
+        this.processedWriteEventCountSharedReference = processedWriteEventCountSharedReference;
+        this.errorReporter = errorReporter;
+    }
+
+    boolean started()
+    {
+        return started.get();
+    }
+
+    @Override
+    public void onStart()
+    {
+        started.set( true );
+    }
+
+    @Override
+    public void onShutdown()
+    {
+        // do nothing
+    }
+
+    @Override
+    public void onEvent( DisruptorCompletionTimeEvent event, long sequence, boolean endOfBatch )
+            throws CompletionTimeException
+    {
+        switch ( event.type() )
+        {
+        case DisruptorCompletionTimeEvent.WRITE_INITIATED_TIME:
+        {
+            completionTimeStateManager.submitInitiatedTimeDeferred( event.writerId(), event.timeAsMilli() );
+            processedWriteEventCount++;
+            completionTimeIsStale = true;
+            break;
+        }
+        case DisruptorCompletionTimeEvent.WRITE_COMPLETED_TIME:
+        {
+            completionTimeStateManager.submitCompletedTimeDeferred( event.writerId(), event.timeAsMilli() );
+            processedWriteEventCount++;
+            completionTimeIsStale = true;
+            break;
+        }
+        case DisruptorCompletionTimeEvent.READ_CT_FUTURE:
+        {
+            updateCompletionTime();
+            event.future().set( completionTimeSharedReference.get() );
+            // do not keep future reachable from the ring buffer
+            event.clearFuture();
+            break;
+        }
+        default:
+        {
+            errorReporter.reportError( this, format( "Encountered unexpected event: %s", event ) );
+            break;
+        }
+        }
+        if ( endOfBatch )
+        {
+            updateCompletionTime();
+        }
+    }
+
+    private void updateCompletionTime() throws CompletionTimeException
+    {
+        processedWriteEventCountSharedReference.lazySet( processedWriteEventCount );
+        if ( !completionTimeIsStale )
+        {
+            return;
+        }
+        completionTimeIsStale = false;
+        completionTimeStateManager.flushCompletionTime();
+        long newCompletionTimeAsMilli = completionTimeStateManager.completionTimeAsMilli();
+        if ( -1 == newCompletionTimeAsMilli )
+        {
+            // no Completion Time receive yet --> not yet possible to know what the lowest time is
+            return;
+        }
+        long prevCompletionTimeAsMilli = completionTimeSharedReference.get();
+        if ( -1 != prevCompletionTimeAsMilli && newCompletionTimeAsMilli < prevCompletionTimeAsMilli )
+        {
+            errorReporter.reportError(
+                    this,
+                    format( "New CT %s / %s smaller than previous CT %s / %s",
+                            temporalUtil.milliTimeToDateTimeString( newCompletionTimeAsMilli ),
+                            newCompletionTimeAsMilli,
+                            temporalUtil.milliTimeToDateTimeString( prevCompletionTimeAsMilli ),
+                            prevCompletionTimeAsMilli ) );
+        }
+        else
+        {
+            completionTimeSharedReference.set( newCompletionTimeAsMilli );
+        }
+    }
+}
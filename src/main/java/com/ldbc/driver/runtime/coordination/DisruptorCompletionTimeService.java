@@ -0,0 +1,270 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.DisruptorCompletionTimeEvent.DisruptorCompletionTimeEventFactory;
+import com.ldbc.driver.runtime.coordination.ThreadedQueuedCompletionTimeService.CompletionTimeFuture;
+import com.ldbc.driver.runtime.metrics.DisruptorExceptionHandler;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Completion time service backed by a Disruptor ring buffer.
+ * <p/>
+ * Compared to ThreadedQueuedCompletionTimeService: events are preallocated and reused (no allocation per submitted
+ * time), writers do not contend on a lock, and the consumer recomputes completion time once per batch of events
+ * rather than once per event.
+ */
+public class DisruptorCompletionTimeService implements CompletionTimeService
+{
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+
+    // Specify the size of the ring buffer, must be power of 2
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final TimeSource timeSource;
+    private final ConcurrentErrorReporter errorReporter;
+    private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
+    private final AtomicLong sharedCtReference = new AtomicLong( -1 );
+    private final AtomicLong sharedWriteEventCountReference = new AtomicLong( 0 );
+    private final AtomicLong sharedProcessedWriteEventCountReference = new AtomicLong( 0 );
+    private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
+    private final List<CompletionTimeWriter> writers = new ArrayList<>();
+    private final ExecutorService executor;
+    private final Disruptor<DisruptorCompletionTimeEvent> disruptor;
+    private final RingBuffer<DisruptorCompletionTimeEvent> ringBuffer;
+
+    DisruptorCompletionTimeService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            int bufferSize,
+            WaitStrategy waitStrategy ) throws CompletionTimeException
+    {
+        this.timeSource = timeSource;
+        this.errorReporter = errorReporter;
+        // see ThreadedQueuedCompletionTimeServiceThread for why writes go through the multi writer state manager
+        this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        this.executor = Executors.newSingleThreadExecutor(
+                new ThreadFactory()
+                {
+                    @Override
+                    public Thread newThread( Runnable runnable )
+                    {
+                        return new Thread(
+                                runnable,
+                                DisruptorCompletionTimeService.class.getSimpleName() + "-" +
+                                System.currentTimeMillis() );
+                    }
+                }
+        );
+        this.disruptor = new Disruptor<>(
+                new DisruptorCompletionTimeEventFactory(),
+                bufferSize,
+                // Executor that will be used to construct new threads for consumers
+                executor,
+                ProducerType.MULTI,
+                waitStrategy
+        );
+        DisruptorCompletionTimeEventHandler eventHandler = new DisruptorCompletionTimeEventHandler(
+                completionTimeStateManager,
+                sharedCtReference,
+                sharedProcessedWriteEventCountReference,
+                errorReporter
+        );
+        disruptor.handleEventsWith( eventHandler );
+        DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
+        disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+        disruptor.handleExceptionsWith( exceptionHandler );
+        this.ringBuffer = disruptor.start();
+
+        // halting the disruptor before its consumer has started leaves the consumer running forever,
+        // so wait for it to start before handing out the service
+        long startTimeoutTimeAsMilli = timeSource.nowAsMilli() + SHUTDOWN_WAIT_TIMEOUT_AS_MILLI;
+        while ( !eventHandler.started() )
+        {
+            if ( timeSource.nowAsMilli() > startTimeoutTimeAsMilli )
+            {
+                throw new CompletionTimeException( "Service took too long to start" );
+            }
+            Spinner.powerNap( 1 );
+        }
+    }
+
+    @Override
+    public long completionTimeAsMilli()
+    {
+        return sharedCtReference.get();
+    }
+
+    /**
+     * IMPORTANT: not safe to call after IT/CT times have been submitted, as it will likely put CT in invalid state
+     */
+    @Override
+    synchronized public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        MultiWriterCompletionTimeStateManagerWriter completionTimeStateManagerWriter =
+                (MultiWriterCompletionTimeStateManagerWriter) completionTimeStateManager.newCompletionTimeWriter();
+        CompletionTimeWriter writer = new DisruptorCompletionTimeWriter(
+                completionTimeStateManagerWriter.id(),
+                sharedIsShuttingDownReference,
+                sharedWriteEventCountReference,
+                ringBuffer
+        );
+        writers.add( writer );
+        return writer;
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        CompletionTimeFuture future = new CompletionTimeFuture( timeSource );
+        long sequence = ringBuffer.next();
+        try
+        {
+            ringBuffer.get( sequence ).setCompletionTimeFuture( future );
+        }
+        finally
+        {
+            ringBuffer.publish( sequence );
+        }
+        return future;
+    }
+
+    @Override
+    synchronized public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return writers;
+    }
+
+    @Override
+    public List<CompletionTimeWriterStatus> writerStatuses() throws CompletionTimeException
+    {
+        // state manager is synchronized, so it is safe to read writer statuses from outside the consumer thread
+        return completionTimeStateManager.writerStatuses();
+    }
+
+    @Override
+    // TODO remove from interface
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        throw new UnsupportedOperationException( "Method not supported" );
+    }
+
+    @Override
+    synchronized public void shutdown() throws CompletionTimeException
+    {
+        if ( sharedIsShuttingDownReference.get() )
+        {
+            return;
+        }
+        sharedIsShuttingDownReference.set( true );
+
+        try
+        {
+            // waits for all published events to be processed
+            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException e )
+        {
+            throw new CompletionTimeException(
+                    format( "Service took too long to shutdown\n%s/%s write events processed",
+                            sharedProcessedWriteEventCountReference.get(),
+                            sharedWriteEventCountReference.get() ),
+                    e );
+        }
+
+        try
+        {
+            executor.shutdown();
+            if ( !executor.awaitTermination( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ) )
+            {
+                throw new CompletionTimeException( "Service executor took too long to shutdown" );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            throw new CompletionTimeException( "Interrupted while waiting for service executor to shutdown", e );
+        }
+
+        if ( errorReporter.errorEncountered() )
+        {
+            errorReporter.reportError( this, "Error encountered while shutting down" );
+            throw new CompletionTimeException( "Error encountered while shutting down" );
+        }
+    }
+
+    public static class DisruptorCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final int writerId;
+        private final AtomicBoolean sharedIsShuttingDownReference;
+        private final AtomicLong sharedWriteEventCountReference;
+        private final RingBuffer<DisruptorCompletionTimeEvent> ringBuffer;
+
+        DisruptorCompletionTimeWriter( int writerId,
+                AtomicBoolean sharedIsShuttingDownReference,
+                AtomicLong sharedWriteEventCountReference,
+                RingBuffer<DisruptorCompletionTimeEvent> ringBuffer )
+        {
+            this.writerId = writerId;
+            this.sharedIsShuttingDownReference = sharedIsShuttingDownReference;
+            this.sharedWriteEventCountReference = sharedWriteEventCountReference;
+            this.ringBuffer = ringBuffer;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            if ( sharedIsShuttingDownReference.get() )
+            {
+                throw new CompletionTimeException( "Can not submit initiated time after calling shutdown" );
+            }
+            sharedWriteEventCountReference.incrementAndGet();
+            long sequence = ringBuffer.next();
+            try
+            {
+                ringBuffer.get( sequence ).setInitiatedTime( writerId, timeAsMilli );
+            }
+            finally
+            {
+                ringBuffer.publish( sequence );
+            }
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            sharedWriteEventCountReference.incrementAndGet();
+            long sequence = ringBuffer.next();
+            try
+            {
+                ringBuffer.get( sequence ).setCompletedTime( writerId, timeAsMilli );
+            }
+            finally
+            {
+                ringBuffer.publish( sequence );
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return "DisruptorCompletionTimeWriter{" + "writerId=" + writerId + '}';
+        }
+    }
+}
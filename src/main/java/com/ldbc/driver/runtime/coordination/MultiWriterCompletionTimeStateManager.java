@@ -24,10 +24,14 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
         READ_CT,
         WRITE_IT,
         WRITE_CT,
-        ADD_WRITER
+        WRITE_IT_DEFERRED,
+        WRITE_CT_DEFERRED,
+        UPDATE_CT,
+        ADD_WRITER,
+        READ_WRITER_STATUSES
     }
 
-    private final List<CompletionTimeReaderWriter> completionTimeReaderWriters = new ArrayList<>();
+    private final List<CompletionTimeStateManager> completionTimeReaderWriters = new ArrayList<>();
     private long completionTimeAsMilli = -1;
     private long initiationTimeAsMilli = -1;
 
@@ -57,6 +61,34 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
         processEvent( Event.WRITE_CT, writerId, scheduledStartTimeAsMilli );
     }
 
+    /**
+     * Same as submitInitiatedTime, but completion time is not updated until flushCompletionTime() is called.
+     * Completion time only ever advances, so applying a batch of writes and then updating once yields the same
+     * completion time as updating after every write.
+     */
+    void submitInitiatedTimeDeferred( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
+    {
+        processEvent( Event.WRITE_IT_DEFERRED, writerId, scheduledStartTimeAsMilli );
+    }
+
+    /**
+     * Same as submitCompletedTime, but completion time is not updated until flushCompletionTime() is called.
+     */
+    void submitCompletedTimeDeferred( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
+    {
+        processEvent( Event.WRITE_CT_DEFERRED, writerId, scheduledStartTimeAsMilli );
+    }
+
+    void flushCompletionTime() throws CompletionTimeException
+    {
+        processEvent( Event.UPDATE_CT, -1, -1 );
+    }
+
+    List<CompletionTimeWriterStatus> writerStatuses() throws CompletionTimeException
+    {
+        return (List<CompletionTimeWriterStatus>) processEvent( Event.READ_WRITER_STATUSES, -1, -1 );
+    }
+
     /**
      * IMPORTANT: not safe to call after IT/CT times have been submitted, as it will likely put CT in invalid state
      *
@@ -99,15 +131,54 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
             updateCompletionTime();
             return null;
         }
+        case WRITE_IT_DEFERRED:
+        {
+            CompletionTimeWriter completionTimeWriter = completionTimeReaderWriters.get( writerId );
+            if ( null == completionTimeWriter )
+            { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
+            completionTimeWriter.submitInitiatedTime( scheduledStartTimeAsMilli );
+            return null;
+        }
+        case WRITE_CT_DEFERRED:
+        {
+            CompletionTimeWriter completionTimeWriter = completionTimeReaderWriters.get( writerId );
+            if ( null == completionTimeWriter )
+            { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
+            completionTimeWriter.submitCompletedTime( scheduledStartTimeAsMilli );
+            return null;
+        }
+        case UPDATE_CT:
+        {
+            updateCompletionTime();
+            return null;
+        }
         case ADD_WRITER:
         {
             int nextWriterId = completionTimeReaderWriters.size();
-            CompletionTimeReaderWriter completionTimeReaderWriter = new CompletionTimeStateManager();
+            CompletionTimeStateManager completionTimeReaderWriter = new CompletionTimeStateManager();
             CompletionTimeWriter completionTimeWriter =
                     new MultiWriterCompletionTimeStateManagerWriter( nextWriterId, this );
             completionTimeReaderWriters.add( completionTimeReaderWriter );
             return completionTimeWriter;
         }
+        case READ_WRITER_STATUSES:
+        {
+            List<CompletionTimeWriterStatus> writerStatuses = new ArrayList<>();
+            for ( int i = 0; i < completionTimeReaderWriters.size(); i++ )
+            {
+                CompletionTimeStateManager completionTimeReaderWriter = completionTimeReaderWriters.get( i );
+                writerStatuses.add(
+                        new CompletionTimeWriterStatus(
+                                i,
+                                completionTimeReaderWriter.lastKnownLowestInitiatedTimeAsMilli(),
+                                completionTimeReaderWriter.highestInitiatedTimeAsMilli(),
+                                completionTimeReaderWriter.uncompletedInitiatedTimes(),
+                                completionTimeReaderWriter.completionTimeAsMilli()
+                        )
+                );
+            }
+            return writerStatuses;
+        }
         default:
         {
             throw new CompletionTimeException( "This should never happen" );
@@ -0,0 +1,18 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.io.IOException;
+
+public class NullCompletionTimeLogWriter implements CompletionTimeLogWriter
+{
+    @Override
+    public void write( CompletionTimeStatusSnapshot completionTimeStatus ) throws IOException
+    {
+        // do nothing
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        // do nothing
+    }
+}
@@ -0,0 +1,58 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes one row per completion time writer per sample, so the log can be plotted as a time series per writer
+ */
+public class SimpleCompletionTimeLogWriter implements CompletionTimeLogWriter
+{
+    private final SimpleCsvFileWriter writer;
+
+    public SimpleCompletionTimeLogWriter( File completionTimeLog ) throws IOException
+    {
+        this.writer = new SimpleCsvFileWriter( completionTimeLog, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
+        writer.writeRow(
+                HEADER_TIME,
+                HEADER_COMPLETION_TIME,
+                HEADER_COMPLETION_TIME_LAG,
+                HEADER_COMPLETION_TIME_ADVANCE_RATE,
+                HEADER_WRITER_ID,
+                HEADER_WRITER_LOWEST_INITIATED_TIME,
+                HEADER_WRITER_UNCOMPLETED_INITIATED_TIMES,
+                HEADER_WRITER_COMPLETION_TIME
+        );
+    }
+
+    @Override
+    public void write( CompletionTimeStatusSnapshot completionTimeStatus ) throws IOException
+    {
+        String time = Long.toString( completionTimeStatus.timeAsMilli() );
+        String completionTime = Long.toString( completionTimeStatus.completionTimeAsMilli() );
+        String completionTimeLag = Long.toString( completionTimeStatus.completionTimeLagAsMilli() );
+        String completionTimeAdvanceRate = Double.toString( completionTimeStatus.completionTimeAdvanceRate() );
+        for ( CompletionTimeWriterStatus writerStatus : completionTimeStatus.writerStatuses() )
+        {
+            writer.writeRow(
+                    time,
+                    completionTime,
+                    completionTimeLag,
+                    completionTimeAdvanceRate,
+                    Integer.toString( writerStatus.writerId() ),
+                    Long.toString( writerStatus.lowestInitiatedTimeAsMilli() ),
+                    Integer.toString( writerStatus.uncompletedInitiatedTimes() ),
+                    Long.toString( writerStatus.completionTimeAsMilli() )
+            );
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        writer.close();
+    }
+}
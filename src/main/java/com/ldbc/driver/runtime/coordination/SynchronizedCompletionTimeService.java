@@ -15,7 +15,8 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         READ_COMPLETION_TIME,
         READ_FUTURE_COMPLETION_TIME,
         CREATE_NEW_COMPLETION_TIME_WRITER,
-        GET_ALL_WRITERS
+        GET_ALL_WRITERS,
+        READ_WRITER_STATUSES
     }
 
     SynchronizedCompletionTimeService() throws CompletionTimeException
@@ -49,6 +50,12 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         return (List<CompletionTimeWriter>) processEvent( Event.GET_ALL_WRITERS );
     }
 
+    @Override
+    public List<CompletionTimeWriterStatus> writerStatuses() throws CompletionTimeException
+    {
+        return (List<CompletionTimeWriterStatus>) processEvent( Event.READ_WRITER_STATUSES );
+    }
+
     @Override
     // TODO remove from interface
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
@@ -97,6 +104,10 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
             {
                 return completionTimeWriters;
             }
+            case READ_WRITER_STATUSES:
+            {
+                return completionTimeStateManager.writerStatuses();
+            }
             default:
             {
                 throw new CompletionTimeException( "Unrecognized event type: " + event.name() );
@@ -106,6 +106,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return writers;
     }
 
+    @Override
+    public List<CompletionTimeWriterStatus> writerStatuses() throws CompletionTimeException
+    {
+        return threadedQueuedCompletionTimeServiceThread.writerStatuses();
+    }
+
     @Override
     // TODO remove from interface
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
@@ -216,7 +222,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         private final AtomicBoolean done = new AtomicBoolean( false );
         private final AtomicLong completionTimeReference = new AtomicLong( -1 );
 
-        private CompletionTimeFuture( TimeSource timeSource )
+        CompletionTimeFuture( TimeSource timeSource )
         {
             this.timeSource = timeSource;
         }
@@ -11,6 +11,7 @@ import com.ldbc.driver.runtime.coordination.ThreadedQueuedCompletionTimeService.
 import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -168,6 +169,12 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         return shutdownComplete.get();
     }
 
+    // state manager is synchronized, so it is safe to read writer statuses from outside this thread
+    List<CompletionTimeWriterStatus> writerStatuses() throws CompletionTimeException
+    {
+        return completionTimeStateManager.writerStatuses();
+    }
+
     private void updateCompletionTime() throws CompletionTimeException
     {
         long newCompletionTimeAsMilli = completionTimeStateManager.completionTimeAsMilli();
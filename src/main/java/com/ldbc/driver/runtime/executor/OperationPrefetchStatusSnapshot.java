@@ -0,0 +1,90 @@
+package com.ldbc.driver.runtime.executor;
+
+import java.util.Arrays;
+
+/**
+ * Point-in-time view of the operation prefetch buffers, one per operation stream.
+ * <p/>
+ * A buffer that is (close to) empty while its stream still has operations to prefetch means decoding is not keeping
+ * up with dispatch, i.e., operations of that stream are likely to start late.
+ * Streams that have been fully prefetched are excluded from the minimum fill, as their buffers only drain.
+ */
+public class OperationPrefetchStatusSnapshot
+{
+    private final int[] bufferFills;
+    private final int[] bufferDepths;
+    private final boolean[] prefetchFinished;
+
+    public OperationPrefetchStatusSnapshot( int[] bufferFills, int[] bufferDepths, boolean[] prefetchFinished )
+    {
+        this.bufferFills = bufferFills;
+        this.bufferDepths = bufferDepths;
+        this.prefetchFinished = prefetchFinished;
+    }
+
+    public int streamCount()
+    {
+        return bufferFills.length;
+    }
+
+    public int bufferFill( int stream )
+    {
+        return bufferFills[stream];
+    }
+
+    public int bufferDepth( int stream )
+    {
+        return bufferDepths[stream];
+    }
+
+    public boolean prefetchFinished( int stream )
+    {
+        return prefetchFinished[stream];
+    }
+
+    public long totalBufferFill()
+    {
+        long totalBufferFill = 0;
+        for ( int bufferFill : bufferFills )
+        {
+            totalBufferFill += bufferFill;
+        }
+        return totalBufferFill;
+    }
+
+    public long totalBufferDepth()
+    {
+        long totalBufferDepth = 0;
+        for ( int bufferDepth : bufferDepths )
+        {
+            totalBufferDepth += bufferDepth;
+        }
+        return totalBufferDepth;
+    }
+
+    /**
+     * @return lowest buffer fill among streams that are still being prefetched, or -1 if there are none
+     */
+    public int minimumBufferFill()
+    {
+        int minimumBufferFill = -1;
+        for ( int i = 0; i < bufferFills.length; i++ )
+        {
+            if ( !prefetchFinished[i] && (-1 == minimumBufferFill || bufferFills[i] < minimumBufferFill) )
+            {
+                minimumBufferFill = bufferFills[i];
+            }
+        }
+        return minimumBufferFill;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "OperationPrefetchStatusSnapshot{" +
+               "bufferFills=" + Arrays.toString( bufferFills ) +
+               ", bufferDepths=" + Arrays.toString( bufferDepths ) +
+               ", prefetchFinished=" + Arrays.toString( prefetchFinished ) +
+               '}';
+    }
+}
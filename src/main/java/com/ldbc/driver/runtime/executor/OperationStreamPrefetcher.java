@@ -0,0 +1,85 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Wraps every operation stream of a workload in a {@link PrefetchingOperationIterator}, so stream decoding happens
+ * on background threads rather than on the threads that dispatch operations to executors.
+ */
+public class OperationStreamPrefetcher implements Closeable
+{
+    public static final String OPERATION_PREFETCH_BUFFER_SIZE_ARG = "operation_prefetch_buffer_size";
+    public static final int DEFAULT_OPERATION_PREFETCH_BUFFER_SIZE = 1024;
+
+    private final List<PrefetchingOperationIterator> prefetchingIterators = new ArrayList<>();
+    private final WorkloadStreams prefetchingWorkloadStreams;
+
+    public OperationStreamPrefetcher( WorkloadStreams workloadStreams, int bufferDepth )
+    {
+        this.prefetchingWorkloadStreams = new WorkloadStreams();
+        WorkloadStreamDefinition asynchronousStream = workloadStreams.asynchronousStream();
+        prefetchingWorkloadStreams.setAsynchronousStream(
+                asynchronousStream.dependentOperationTypes(),
+                asynchronousStream.dependencyOperationTypes(),
+                prefetch( asynchronousStream.dependencyOperations(), bufferDepth, "async-dependency" ),
+                prefetch( asynchronousStream.nonDependencyOperations(), bufferDepth, "async-non_dependency" ),
+                asynchronousStream.childOperationGenerator()
+        );
+        List<WorkloadStreamDefinition> blockingStreams = workloadStreams.blockingStreamDefinitions();
+        for ( int i = 0; i < blockingStreams.size(); i++ )
+        {
+            WorkloadStreamDefinition blockingStream = blockingStreams.get( i );
+            prefetchingWorkloadStreams.addBlockingStream(
+                    blockingStream.dependentOperationTypes(),
+                    blockingStream.dependencyOperationTypes(),
+                    prefetch( blockingStream.dependencyOperations(), bufferDepth, "blocking-" + i + "-dependency" ),
+                    prefetch( blockingStream.nonDependencyOperations(), bufferDepth,
+                            "blocking-" + i + "-non_dependency" ),
+                    blockingStream.childOperationGenerator()
+            );
+        }
+    }
+
+    private Iterator<Operation> prefetch( Iterator<Operation> operations, int bufferDepth, String name )
+    {
+        PrefetchingOperationIterator prefetchingIterator =
+                new PrefetchingOperationIterator( operations, bufferDepth, name );
+        prefetchingIterators.add( prefetchingIterator );
+        return prefetchingIterator;
+    }
+
+    public WorkloadStreams workloadStreams()
+    {
+        return prefetchingWorkloadStreams;
+    }
+
+    public OperationPrefetchStatusSnapshot status()
+    {
+        int[] bufferFills = new int[prefetchingIterators.size()];
+        int[] bufferDepths = new int[prefetchingIterators.size()];
+        boolean[] prefetchFinished = new boolean[prefetchingIterators.size()];
+        for ( int i = 0; i < prefetchingIterators.size(); i++ )
+        {
+            bufferFills[i] = prefetchingIterators.get( i ).bufferFill();
+            bufferDepths[i] = prefetchingIterators.get( i ).bufferDepth();
+            prefetchFinished[i] = prefetchingIterators.get( i ).prefetchFinished();
+        }
+        return new OperationPrefetchStatusSnapshot( bufferFills, bufferDepths, prefetchFinished );
+    }
+
+    @Override
+    public void close()
+    {
+        for ( PrefetchingOperationIterator prefetchingIterator : prefetchingIterators )
+        {
+            prefetchingIterator.close();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Retrieves operations from the wrapped iterator on a background thread, into a bounded buffer.
+ * <p/>
+ * Any decoding (e.g., parsing of CSV files) or mapping done by the wrapped iterator happens on the background thread,
+ * so the consuming thread only blocks when the buffer is empty.
+ * If the wrapped iterator throws, the error is rethrown to the consumer once all operations before it are consumed.
+ */
+public class PrefetchingOperationIterator implements Iterator<Operation>, Closeable
+{
+    private static final long POLL_INTERVAL_AS_MILLI = 100;
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> buffer;
+    private final int bufferDepth;
+    private final AtomicBoolean closed = new AtomicBoolean( false );
+    private final AtomicLong prefetchedCount = new AtomicLong( 0 );
+    private final Thread prefetchThread;
+    private volatile Throwable error = null;
+    private volatile boolean prefetchFinished = false;
+    private Object next = null;
+
+    public PrefetchingOperationIterator( final Iterator<Operation> operations, int bufferDepth, String name )
+    {
+        this.bufferDepth = bufferDepth;
+        this.buffer = new ArrayBlockingQueue<>( bufferDepth );
+        this.prefetchThread = new Thread( PrefetchingOperationIterator.class.getSimpleName() + "-" + name )
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    while ( operations.hasNext() )
+                    {
+                        if ( false == put( operations.next() ) )
+                        {
+                            return;
+                        }
+                        prefetchedCount.incrementAndGet();
+                    }
+                }
+                catch ( Throwable e )
+                {
+                    error = e;
+                }
+                prefetchFinished = true;
+                put( END );
+            }
+        };
+        // must not keep the process alive if a run is terminated before all operations are consumed
+        this.prefetchThread.setDaemon( true );
+        this.prefetchThread.start();
+    }
+
+    // returns false if iterator was closed while waiting for space in buffer
+    private boolean put( Object element )
+    {
+        try
+        {
+            while ( false == closed.get() )
+            {
+                if ( buffer.offer( element, POLL_INTERVAL_AS_MILLI, TimeUnit.MILLISECONDS ) )
+                {
+                    return true;
+                }
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if ( null == next )
+        {
+            try
+            {
+                while ( null == next && false == closed.get() )
+                {
+                    next = buffer.poll( POLL_INTERVAL_AS_MILLI, TimeUnit.MILLISECONDS );
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                throw new RuntimeException( "Interrupted while waiting for prefetched operation", e );
+            }
+            if ( null == next )
+            {
+                // closed
+                next = END;
+            }
+        }
+        if ( END == next && null != error )
+        {
+            throw new RuntimeException( format( "Error encountered while prefetching operations: %s",
+                    prefetchThread.getName() ), error );
+        }
+        return END != next;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException( "No more prefetched operations" );
+        }
+        Operation operation = (Operation) next;
+        next = null;
+        return operation;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "Method not supported" );
+    }
+
+    public int bufferDepth()
+    {
+        return bufferDepth;
+    }
+
+    public int bufferFill()
+    {
+        return buffer.size();
+    }
+
+    /**
+     * @return true if all operations of wrapped iterator have been retrieved, i.e., buffer will not fill up again
+     */
+    public boolean prefetchFinished()
+    {
+        return prefetchFinished;
+    }
+
+    public long prefetchedCount()
+    {
+        return prefetchedCount.get();
+    }
+
+    @Override
+    public void close()
+    {
+        // not interrupted, as that would also interrupt (and possibly close) channels read by the wrapped iterator,
+        // background thread notices within one poll interval
+        closed.set( true );
+    }
+}
@@ -22,12 +22,22 @@ public class ContinuousMetricManager
     public ContinuousMetricManager( String name, TimeUnit unit, long highestExpectedValue,
             int numberOfSignificantDigits )
     {
-        long lowestExpectedValue = 1;
-        histogram = new Histogram( lowestExpectedValue, highestExpectedValue, numberOfSignificantDigits );
+        this( name, unit, newHistogram( highestExpectedValue, numberOfSignificantDigits ) );
+    }
+
+    public ContinuousMetricManager( String name, TimeUnit unit, Histogram histogram )
+    {
+        this.histogram = histogram;
         this.name = name;
         this.unit = unit;
     }
 
+    public static Histogram newHistogram( long highestExpectedValue, int numberOfSignificantDigits )
+    {
+        long lowestExpectedValue = 1;
+        return new Histogram( lowestExpectedValue, highestExpectedValue, numberOfSignificantDigits );
+    }
+
     public void addMeasurement( long value )
     {
         histogram.recordValue( value );
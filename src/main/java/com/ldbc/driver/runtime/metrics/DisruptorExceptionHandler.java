@@ -43,8 +43,7 @@ public class DisruptorExceptionHandler implements ExceptionHandler
     {
         errorReporter.reportError(
                 this,
-                format( "%s encountered error on shutdown\n%s",
-                        DisruptorSbeMetricsService.class.getSimpleName(),
+                format( "Disruptor encountered error on shutdown\n%s",
                         ConcurrentErrorReporter.stackTraceToString( throwable )
                 )
         );
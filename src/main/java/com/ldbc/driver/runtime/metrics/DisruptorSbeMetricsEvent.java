@@ -18,8 +18,7 @@ public class DisruptorSbeMetricsEvent {
     // Event Type Codes
     //   * Submit operation result for its metrics to be collected
     static final byte SUBMIT_OPERATION_RESULT = 1;
-    //   * Request metrics summary
-    static final byte GET_WORKLOAD_STATUS = 2;
+    //   * (2 was request metrics summary, status is now read from WorkloadStatusCounters)
     //   * Request complete workload results
     static final byte GET_WORKLOAD_RESULTS = 3;
 
@@ -16,8 +16,6 @@ import static java.lang.String.format;
 
 class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
 {
-    private final AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference =
-            new AtomicStampedReference<>( null, 0 );
     private final AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshotReference =
             new AtomicStampedReference<>( null, 0 );
 
@@ -31,6 +29,8 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
     DisruptorSbeMetricsEventHandler(
             ConcurrentErrorReporter errorReporter,
             ResultsLogWriter resultsLogWriter,
+            IntervalHistogramLogWriter intervalHistogramLogWriter,
+            long histogramLogIntervalAsMilli,
             TimeUnit unit,
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
@@ -44,16 +44,13 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                 unit,
                 maxRuntimeDurationAsNano,
                 operationTypeToClassMapping,
-                loggingServiceFactory );
+                loggingServiceFactory,
+                intervalHistogramLogWriter,
+                histogramLogIntervalAsMilli );
         operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
         this.metricsEvent = new MetricsEvent();
     }
 
-    AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshot()
-    {
-        return statusSnapshotReference;
-    }
-
     AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshot()
     {
         return resultsSnapshotReference;
@@ -97,21 +94,9 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
             processedEventCount++;
             break;
         }
-        case DisruptorSbeMetricsEvent.GET_WORKLOAD_STATUS:
-        {
-            WorkloadStatusSnapshot newStatus = metricsManager.status();
-            WorkloadStatusSnapshot oldStatus;
-            int oldStamp;
-            do
-            {
-                oldStatus = statusSnapshotReference.getReference();
-                oldStamp = statusSnapshotReference.getStamp();
-            }
-            while ( !statusSnapshotReference.compareAndSet( oldStatus, newStatus, oldStamp, oldStamp + 1 ) );
-            break;
-        }
         case DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS:
         {
+            metricsManager.flushIntervalHistograms();
             WorkloadResultsSnapshot newResults = metricsManager.snapshot();
             WorkloadResultsSnapshot oldResults;
             int oldStamp;
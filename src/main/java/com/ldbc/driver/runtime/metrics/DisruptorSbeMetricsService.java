@@ -26,7 +26,6 @@ import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.locks.LockSupport;
 
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS;
-import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_STATUS;
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE;
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MetricsCollectionEventFactory;
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT;
@@ -42,6 +41,7 @@ public class DisruptorSbeMetricsService implements MetricsService
     private final AtomicLong initiatedEvents = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final TimeSource timeSource;
+    private final WorkloadStatusCounters workloadStatusCounters;
     private final RingBuffer<DirectBuffer> ringBuffer;
     private final Disruptor<DirectBuffer> disruptor;
     private final DisruptorSbeMetricsEventHandler eventHandler;
@@ -54,6 +54,8 @@ public class DisruptorSbeMetricsService implements MetricsService
             TimeUnit timeUnit,
             long maxRuntimeDurationAsNano,
             ResultsLogWriter resultsLogWriter,
+            IntervalHistogramLogWriter intervalHistogramLogWriter,
+            long histogramLogIntervalAsMilli,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
@@ -81,6 +83,8 @@ public class DisruptorSbeMetricsService implements MetricsService
         eventHandler = new DisruptorSbeMetricsEventHandler(
                 errorReporter,
                 resultsLogWriter,
+                intervalHistogramLogWriter,
+                histogramLogIntervalAsMilli,
                 timeUnit,
                 timeSource,
                 maxRuntimeDurationAsNano,
@@ -98,6 +102,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         ringBuffer = disruptor.start();
 
         this.timeSource = timeSource;
+        this.workloadStatusCounters = new WorkloadStatusCounters( timeSource );
         metricsServiceWriters = new ConcurrentLinkedQueue<>();
     }
 
@@ -183,7 +188,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
         DisruptorSbeMetricsServiceWriter metricsServiceWriter =
-                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler );
+                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler, workloadStatusCounters );
         metricsServiceWriters.add( metricsServiceWriter );
         return metricsServiceWriter;
     }
@@ -193,22 +198,23 @@ public class DisruptorSbeMetricsService implements MetricsService
         private final AtomicLong initiatedEvents;
         private final RingBuffer<DirectBuffer> ringBuffer;
         private final DisruptorSbeMetricsEventHandler eventHandler;
+        private final WorkloadStatusCounters workloadStatusCounters;
         private final SubmitOperationResultTranslator submitOperationResultTranslator;
-        private final GetWorkloadStatusTranslator getWorkloadStatusTranslator;
         private final GetWorkloadResultsTranslator getWorkloadResultsTranslator;
 
         private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
 
         public DisruptorSbeMetricsServiceWriter( AtomicLong initiatedEvents,
                 RingBuffer<DirectBuffer> ringBuffer,
-                DisruptorSbeMetricsEventHandler eventHandler )
+                DisruptorSbeMetricsEventHandler eventHandler,
+                WorkloadStatusCounters workloadStatusCounters )
         {
             this.initiatedEvents = initiatedEvents;
             this.ringBuffer = ringBuffer;
             this.eventHandler = eventHandler;
+            this.workloadStatusCounters = workloadStatusCounters;
             MetricsEvent metricsEvent = new MetricsEvent();
             this.submitOperationResultTranslator = new SubmitOperationResultTranslator( metricsEvent );
-            this.getWorkloadStatusTranslator = new GetWorkloadStatusTranslator( metricsEvent );
             this.getWorkloadResultsTranslator = new GetWorkloadResultsTranslator( metricsEvent );
         }
 
@@ -230,6 +236,7 @@ public class DisruptorSbeMetricsService implements MetricsService
                 alreadyShutdownPolicy.apply();
             }
             initiatedEvents.incrementAndGet();
+            workloadStatusCounters.measure( actualStartTimeAsMilli, runDurationAsNano );
             ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
                     actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
         }
@@ -241,14 +248,8 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 alreadyShutdownPolicy.apply();
             }
-            AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference = eventHandler.statusSnapshot();
-            int oldStamp = statusSnapshotReference.getStamp();
-            ringBuffer.publishEvent( getWorkloadStatusTranslator );
-            while ( statusSnapshotReference.getStamp() <= oldStamp )
-            {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
-            }
-            return statusSnapshotReference.getReference();
+            // read directly from the status counters, rather than queueing behind submitted operation results
+            return workloadStatusCounters.status();
         }
 
         @Override
@@ -263,7 +264,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             ringBuffer.publishEvent( getWorkloadResultsTranslator );
             while ( resultsSnapshotReference.getStamp() <= oldStamp )
             {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 1 ) );
             }
             return resultsSnapshotReference.getReference();
         }
@@ -291,23 +292,6 @@ public class DisruptorSbeMetricsService implements MetricsService
             }
         }
 
-        public static class GetWorkloadStatusTranslator implements EventTranslator<DirectBuffer>
-        {
-            private final MetricsEvent metricsEvent;
-
-            public GetWorkloadStatusTranslator( MetricsEvent metricsEvent )
-            {
-                this.metricsEvent = metricsEvent;
-            }
-
-            @Override
-            public void translateTo( DirectBuffer event, long l )
-            {
-                metricsEvent.wrapForEncode( event, MESSAGE_HEADER_SIZE )
-                        .eventType( GET_WORKLOAD_STATUS );
-            }
-        }
-
         public static class GetWorkloadResultsTranslator implements EventTranslator<DirectBuffer>
         {
             private final MetricsEvent metricsEvent;
@@ -0,0 +1,193 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.util.MapUtils;
+import com.ldbc.driver.validation.ResultsLogValidationSummary;
+import com.ldbc.driver.validation.ResultsLogValidationSummaryCalculator;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a subset of operation results to the results log, so long runs do not pay for a log row per operation.
+ * <p/>
+ * An operation is written if its type is selected, and it is either sampled (1 in every N operations),
+ * or it exceeded the runtime threshold, or it exceeded the start delay threshold.
+ * Filtering only applies to the results log, the results summary is still computed from all operations.
+ * <p/>
+ * Results log validation can not count late operations that were filtered out of the log, so when given an excessive
+ * delay threshold the writer summarizes the delays of all operations itself, see {@link #validationSummary()}.
+ */
+public class FilteringResultsLogWriter implements ResultsLogWriter
+{
+    public static final String SAMPLE_EVERY_ARG = "results_log_sample_every";
+    // 1 = write every operation, N = write 1 in every N operations, 0 = write only operations that exceed a threshold
+    public static final long SAMPLE_EVERY_DEFAULT = 1;
+    public static final String RUNTIME_THRESHOLD_ARG = "results_log_runtime_threshold";
+    // milliseconds, -1 = disabled
+    public static final long RUNTIME_THRESHOLD_DEFAULT = -1;
+    public static final String START_DELAY_THRESHOLD_ARG = "results_log_start_delay_threshold";
+    // milliseconds, -1 = disabled
+    public static final long START_DELAY_THRESHOLD_DEFAULT = -1;
+    public static final String OPERATION_TYPES_ARG = "results_log_operation_types";
+    // comma separated operation class simple names, empty = all operation types
+    public static final String OPERATION_TYPES_DEFAULT = "";
+
+    private final ResultsLogWriter writer;
+    private final long sampleEvery;
+    private final long runtimeThresholdAsNano;
+    private final long startDelayThresholdAsMilli;
+    private final Set<String> operationNames;
+    private final ResultsLogValidationSummaryCalculator validationSummaryCalculator;
+    private long sampleCounter = 0;
+
+    /**
+     * @param writer   writer that filtered results are written to
+     * @param paramsMap configuration parameters
+     * @return writer, if parameters do not specify any filtering, otherwise a filtering writer that wraps writer
+     */
+    public static ResultsLogWriter fromParamsMap( ResultsLogWriter writer, Map<String,String> paramsMap )
+    {
+        return fromParamsMap( writer, paramsMap, -1 );
+    }
+
+    /**
+     * @param writer                         writer that filtered results are written to
+     * @param paramsMap                      configuration parameters
+     * @param excessiveDelayThresholdAsMilli threshold of the validation summary of all operations, -1 = no summary
+     * @return writer, if parameters do not specify any filtering, otherwise a filtering writer that wraps writer
+     */
+    public static ResultsLogWriter fromParamsMap( ResultsLogWriter writer, Map<String,String> paramsMap,
+            long excessiveDelayThresholdAsMilli )
+    {
+        long sampleEvery = Long.parseLong(
+                MapUtils.getDefault( paramsMap, SAMPLE_EVERY_ARG, Long.toString( SAMPLE_EVERY_DEFAULT ) ) );
+        long runtimeThresholdAsMilli = Long.parseLong(
+                MapUtils.getDefault( paramsMap, RUNTIME_THRESHOLD_ARG, Long.toString( RUNTIME_THRESHOLD_DEFAULT ) ) );
+        long startDelayThresholdAsMilli = Long.parseLong(
+                MapUtils.getDefault( paramsMap, START_DELAY_THRESHOLD_ARG,
+                        Long.toString( START_DELAY_THRESHOLD_DEFAULT ) ) );
+        String operationTypes = MapUtils.getDefault( paramsMap, OPERATION_TYPES_ARG, OPERATION_TYPES_DEFAULT ).trim();
+        Set<String> operationNames = (operationTypes.isEmpty())
+                                     ? null
+                                     : new HashSet<>( Arrays.asList( operationTypes.split( "\\s*,\\s*" ) ) );
+        if ( SAMPLE_EVERY_DEFAULT == sampleEvery && null == operationNames )
+        {
+            // every operation is written, thresholds make no difference
+            return writer;
+        }
+        return new FilteringResultsLogWriter(
+                writer,
+                sampleEvery,
+                runtimeThresholdAsMilli,
+                startDelayThresholdAsMilli,
+                operationNames,
+                excessiveDelayThresholdAsMilli
+        );
+    }
+
+    /**
+     * @param writer                     writer that filtered results are written to
+     * @param sampleEvery                1 in every sampleEvery operations is written, 0 = none are sampled
+     * @param runtimeThresholdAsMilli    operations with runtime above threshold are written, -1 = disabled
+     * @param startDelayThresholdAsMilli operations that started later than scheduled by more than threshold are
+     *                                   written, -1 = disabled
+     * @param operationNames             only operations of these types are written, null = all operation types
+     */
+    public FilteringResultsLogWriter(
+            ResultsLogWriter writer,
+            long sampleEvery,
+            long runtimeThresholdAsMilli,
+            long startDelayThresholdAsMilli,
+            Set<String> operationNames )
+    {
+        this( writer, sampleEvery, runtimeThresholdAsMilli, startDelayThresholdAsMilli, operationNames, -1 );
+    }
+
+    /**
+     * @param excessiveDelayThresholdAsMilli threshold of the validation summary of all operations, -1 = no summary
+     */
+    public FilteringResultsLogWriter(
+            ResultsLogWriter writer,
+            long sampleEvery,
+            long runtimeThresholdAsMilli,
+            long startDelayThresholdAsMilli,
+            Set<String> operationNames,
+            long excessiveDelayThresholdAsMilli )
+    {
+        this.writer = writer;
+        this.sampleEvery = sampleEvery;
+        this.runtimeThresholdAsNano = (-1 == runtimeThresholdAsMilli)
+                                      ? -1
+                                      : TimeUnit.MILLISECONDS.toNanos( runtimeThresholdAsMilli );
+        this.startDelayThresholdAsMilli = startDelayThresholdAsMilli;
+        this.operationNames = operationNames;
+        this.validationSummaryCalculator = (-1 == excessiveDelayThresholdAsMilli)
+                                           ? null
+                                           : new ResultsLogValidationSummaryCalculator(
+                                                   excessiveDelayThresholdAsMilli );
+    }
+
+    /**
+     * @return summary of the delays of all operations, including those not written, or null if not summarized
+     */
+    public ResultsLogValidationSummary validationSummary()
+    {
+        return (null == validationSummaryCalculator) ? null : validationSummaryCalculator.snapshot();
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        if ( null != validationSummaryCalculator )
+        {
+            validationSummaryCalculator.recordDelay( operationName,
+                    actualStartTimeAsMilli - scheduledStartTimeAsMilli );
+        }
+        if ( null != operationNames && !operationNames.contains( operationName ) )
+        {
+            return;
+        }
+        boolean sampled = sampleEvery > 0 && 0 == sampleCounter++ % sampleEvery;
+        if ( sampled ||
+             (-1 != runtimeThresholdAsNano && runDurationAsNano > runtimeThresholdAsNano) ||
+             (-1 != startDelayThresholdAsMilli &&
+              actualStartTimeAsMilli - scheduledStartTimeAsMilli > startDelayThresholdAsMilli) )
+        {
+            writer.write(
+                    operationName,
+                    scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano,
+                    resultCode,
+                    originalStartTime
+            );
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "FilteringResultsLogWriter{" +
+               "sampleEvery=" + sampleEvery +
+               ", runtimeThresholdAsNano=" + runtimeThresholdAsNano +
+               ", startDelayThresholdAsMilli=" + startDelayThresholdAsMilli +
+               ", operationNames=" + operationNames +
+               '}';
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        writer.close();
+    }
+}
@@ -0,0 +1,107 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Re-aggregates the interval histogram logs written by SimpleIntervalHistogramLogWriter into the same per operation
+ * type summary that is reported at the end of a run, but over a chosen time range.
+ * <p/>
+ * Time ranges are in seconds since log start, i.e., since the start of the first measured interval.
+ * Intervals are included when their start falls within the range.
+ */
+public class IntervalHistogramLogReader
+{
+    private static final String METRIC_RUNTIME = "Runtime";
+
+    private final File logDirectory;
+    private final TimeUnit unit;
+
+    public IntervalHistogramLogReader( File logDirectory, TimeUnit unit )
+    {
+        this.logDirectory = logDirectory;
+        this.unit = unit;
+    }
+
+    public List<OperationMetricsSnapshot> readAll() throws MetricsCollectionException
+    {
+        return read( 0.0, Double.MAX_VALUE );
+    }
+
+    public List<OperationMetricsSnapshot> read( double rangeStartTimeAsSecond, double rangeEndTimeAsSecond )
+            throws MetricsCollectionException
+    {
+        File[] logFiles = logDirectory.listFiles(
+                file -> file.getName().endsWith( IntervalHistogramLogWriter.LOG_FILENAME_SUFFIX ) );
+        if ( null == logFiles )
+        {
+            throw new MetricsCollectionException(
+                    format( "Could not list interval histogram logs in: %s", logDirectory.getAbsolutePath() ) );
+        }
+        Arrays.sort( logFiles );
+        List<OperationMetricsSnapshot> snapshots = new ArrayList<>();
+        for ( File logFile : logFiles )
+        {
+            Histogram histogram = aggregate( logFile, rangeStartTimeAsSecond, rangeEndTimeAsSecond );
+            if ( null != histogram && histogram.getTotalCount() > 0 )
+            {
+                String operationName = logFile.getName().substring(
+                        0,
+                        logFile.getName().length() - IntervalHistogramLogWriter.LOG_FILENAME_SUFFIX.length() );
+                ContinuousMetricManager runTimeMetric = new ContinuousMetricManager( METRIC_RUNTIME, unit, histogram );
+                snapshots.add(
+                        new OperationMetricsSnapshot(
+                                operationName,
+                                unit,
+                                histogram.getTotalCount(),
+                                runTimeMetric.snapshot()
+                        )
+                );
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * @return sum of all interval histograms that start within the time range, or null if there are none
+     */
+    static Histogram aggregate( File logFile, double rangeStartTimeAsSecond, double rangeEndTimeAsSecond )
+            throws MetricsCollectionException
+    {
+        try ( InputStream logInputStream = new FileInputStream( logFile ) )
+        {
+            HistogramLogReader logReader = new HistogramLogReader( logInputStream );
+            Histogram aggregate = null;
+            Histogram intervalHistogram;
+            while ( null != (intervalHistogram =
+                    logReader.nextIntervalHistogram( rangeStartTimeAsSecond, rangeEndTimeAsSecond )) )
+            {
+                if ( null == aggregate )
+                {
+                    aggregate = intervalHistogram.copy();
+                }
+                else
+                {
+                    aggregate.add( intervalHistogram );
+                }
+            }
+            return aggregate;
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error reading interval histogram log: %s", logFile.getAbsolutePath() ), e );
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+
+/**
+ * Writes runtime histograms of consecutive measurement intervals, one log per operation type,
+ * in HdrHistogram interval log format.
+ * <p/>
+ * Unlike the cumulative histograms reported in the results summary, interval histograms show how latency changes
+ * over the course of a run, and can be re-aggregated over any time range with IntervalHistogramLogReader.
+ */
+public interface IntervalHistogramLogWriter extends AutoCloseable
+{
+    String LOG_FILENAME_SUFFIX = ".hlog";
+    String COMMENT_OPERATION_PREFIX = "Operation: ";
+    String COMMENT_TIME_UNIT_PREFIX = "TimeUnit: ";
+
+    /**
+     * @param operationName            operation type the histogram was recorded for
+     * @param intervalStartTimeAsMilli interval start, inclusive
+     * @param intervalEndTimeAsMilli   interval end, exclusive
+     * @param histogram                runtimes measured during the interval, not retained after the call returns
+     * @throws IOException
+     */
+    void write(
+            String operationName,
+            long intervalStartTimeAsMilli,
+            long intervalEndTimeAsMilli,
+            Histogram histogram ) throws IOException;
+}
@@ -5,6 +5,7 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TimeSource;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.HashMap;
@@ -22,6 +23,9 @@ public class MetricsManager
     private long latestFinishTimeAsMilli;
     private final OperationTypeMetricsManager[] operationTypeMetricsManagers;
     private final Map<Integer,Class<? extends Operation>> operationTypeToClassMapping;
+    private final IntervalHistogramLogWriter intervalHistogramLogWriter;
+    private final long histogramLogIntervalAsMilli;
+    private long intervalStartTimeAsMilli;
 
     public static void export(
             WorkloadResultsSnapshot workloadResults,
@@ -45,6 +49,7 @@ public class MetricsManager
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
+            boolean recordIntervalHistograms,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
         if ( operationTypeToClassMapping.isEmpty() )
@@ -76,6 +81,7 @@ public class MetricsManager
                             operationClass.getSimpleName(),
                             unit,
                             highestExpectedRuntimeDurationAsNano,
+                            recordIntervalHistograms,
                             loggingServiceFactory
                     );
                 }
@@ -122,14 +128,41 @@ public class MetricsManager
             long highestExpectedRuntimeDurationAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                new NullIntervalHistogramLogWriter(),
+                0
+        );
+    }
+
+    /**
+     * @param histogramLogIntervalAsMilli duration of the intervals written to the interval histogram log,
+     *                                    0 = do not record interval histograms
+     */
+    public MetricsManager( TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            IntervalHistogramLogWriter intervalHistogramLogWriter,
+            long histogramLogIntervalAsMilli ) throws MetricsCollectionException
     {
         operationTypeMetricsManagers = toOperationTypeMetricsManagerArray(
                 operationTypeToClassMapping,
                 unit,
                 highestExpectedRuntimeDurationAsNano,
+                histogramLogIntervalAsMilli > 0,
                 loggingServiceFactory
         );
         this.operationTypeToClassMapping = operationTypeToClassMapping;
+        this.intervalHistogramLogWriter = intervalHistogramLogWriter;
+        this.histogramLogIntervalAsMilli = histogramLogIntervalAsMilli;
+        this.intervalStartTimeAsMilli = -1;
         this.startTimeAsMilli = Long.MAX_VALUE;
         this.latestFinishTimeAsMilli = Long.MIN_VALUE;
         this.timeSource = timeSource;
@@ -152,9 +185,67 @@ public class MetricsManager
             latestFinishTimeAsMilli = operationFinishTimeAsMilli;
         }
 
+        if ( histogramLogIntervalAsMilli > 0 )
+        {
+            if ( -1 == intervalStartTimeAsMilli )
+            {
+                intervalStartTimeAsMilli = actualStartTimeAsMilli;
+            }
+            else if ( operationFinishTimeAsMilli >= intervalStartTimeAsMilli + histogramLogIntervalAsMilli )
+            {
+                // intervals during which no operation finished are not written
+                long elapsedIntervals =
+                        (operationFinishTimeAsMilli - intervalStartTimeAsMilli) / histogramLogIntervalAsMilli;
+                writeIntervalHistograms( intervalStartTimeAsMilli + histogramLogIntervalAsMilli );
+                intervalStartTimeAsMilli = intervalStartTimeAsMilli + elapsedIntervals * histogramLogIntervalAsMilli;
+            }
+        }
+
         operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
     }
 
+    /**
+     * Writes the (partial) current interval to the interval histogram log, e.g., once the last operation has been
+     * measured. The next interval starts where the written interval ended.
+     */
+    public void flushIntervalHistograms() throws MetricsCollectionException
+    {
+        if ( histogramLogIntervalAsMilli > 0 && -1 != intervalStartTimeAsMilli )
+        {
+            // interval end is exclusive
+            long intervalEndTimeAsMilli = Math.max( latestFinishTimeAsMilli + 1, intervalStartTimeAsMilli );
+            writeIntervalHistograms( intervalEndTimeAsMilli );
+            intervalStartTimeAsMilli = intervalEndTimeAsMilli;
+        }
+    }
+
+    private void writeIntervalHistograms( long intervalEndTimeAsMilli ) throws MetricsCollectionException
+    {
+        for ( OperationTypeMetricsManager operationTypeMetricsManager : operationTypeMetricsManagers )
+        {
+            if ( null != operationTypeMetricsManager &&
+                 operationTypeMetricsManager.intervalRunTimeHistogram().getTotalCount() > 0 )
+            {
+                try
+                {
+                    intervalHistogramLogWriter.write(
+                            operationTypeMetricsManager.name(),
+                            intervalStartTimeAsMilli,
+                            intervalEndTimeAsMilli,
+                            operationTypeMetricsManager.intervalRunTimeHistogram()
+                    );
+                }
+                catch ( IOException e )
+                {
+                    throw new MetricsCollectionException(
+                            format( "Error writing interval histogram for: %s", operationTypeMetricsManager.name() ),
+                            e );
+                }
+                operationTypeMetricsManager.intervalRunTimeHistogram().reset();
+            }
+        }
+    }
+
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
     {
         Map<String,Integer> simpleNameToTypeMapping = simpleNameToTypeMapping( operationTypeToClassMapping );
@@ -206,23 +297,29 @@ public class MetricsManager
 
     WorkloadStatusSnapshot status()
     {
-        long nowAsMilli = timeSource.nowAsMilli();
+        return status( timeSource.nowAsMilli(), startTimeAsMilli, latestFinishTimeAsMilli, totalOperationCount() );
+    }
+
+    static WorkloadStatusSnapshot status(
+            long nowAsMilli,
+            long startTimeAsMilli,
+            long latestFinishTimeAsMilli,
+            long operationCount )
+    {
         if ( nowAsMilli < startTimeAsMilli )
         {
             long runDurationAsMilli = 0;
-            long operationCount = 0;
             long durationSinceLastMeasurementAsMilli = 0;
             double operationsPerSecond = 0;
             return new WorkloadStatusSnapshot(
                     runDurationAsMilli,
-                    operationCount,
+                    0,
                     durationSinceLastMeasurementAsMilli,
                     operationsPerSecond );
         }
         else
         {
             long runDurationAsMilli = nowAsMilli - startTimeAsMilli;
-            long operationCount = totalOperationCount();
             long durationSinceLastMeasurementAsMilli =
                     (-1 == latestFinishTimeAsMilli) ? -1 : nowAsMilli - latestFinishTimeAsMilli;
             double operationsPerSecond =
@@ -0,0 +1,24 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+
+public class NullIntervalHistogramLogWriter implements IntervalHistogramLogWriter
+{
+    @Override
+    public void write(
+            String operationName,
+            long intervalStartTimeAsMilli,
+            long intervalEndTimeAsMilli,
+            Histogram histogram ) throws IOException
+    {
+        // do nothing
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        // do nothing
+    }
+}
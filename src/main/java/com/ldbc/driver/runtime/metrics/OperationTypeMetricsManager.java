@@ -3,6 +3,7 @@ package com.ldbc.driver.runtime.metrics;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TemporalUtil;
+import org.HdrHistogram.Histogram;
 
 import java.util.Comparator;
 import java.util.concurrent.TimeUnit;
@@ -15,6 +16,8 @@ public class OperationTypeMetricsManager
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    // runtimes measured since the start of the current interval, null if interval histograms are not recorded
+    private final Histogram intervalRunTimeHistogram;
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
@@ -24,6 +27,7 @@ public class OperationTypeMetricsManager
             String name,
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
+            boolean recordIntervalHistogram,
             LoggingServiceFactory loggingServiceFactory )
     {
         this.name = name;
@@ -36,6 +40,11 @@ public class OperationTypeMetricsManager
                 unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
                 4
         );
+        this.intervalRunTimeHistogram = (recordIntervalHistogram)
+                                        ? ContinuousMetricManager.newHistogram(
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4 )
+                                        : null;
     }
 
     void measure( long runDurationAsNano ) throws MetricsCollectionException
@@ -68,6 +77,10 @@ public class OperationTypeMetricsManager
         try
         {
             runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
+            if ( null != intervalRunTimeHistogram )
+            {
+                intervalRunTimeHistogram.recordValue( runtimeInAppropriateUnit );
+            }
         }
         catch ( Throwable e )
         {
@@ -92,6 +105,11 @@ public class OperationTypeMetricsManager
         return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
     }
 
+    Histogram intervalRunTimeHistogram()
+    {
+        return intervalRunTimeHistogram;
+    }
+
     public String name()
     {
         return name;
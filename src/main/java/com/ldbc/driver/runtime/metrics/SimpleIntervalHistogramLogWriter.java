@@ -0,0 +1,94 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Writes one log file per operation type, named after the operation, to the log directory.
+ * Logs are created the first time an operation type is written, and all of them share the same start time
+ * (the start of the first interval written to any of them), so relative interval times are comparable across logs.
+ */
+public class SimpleIntervalHistogramLogWriter implements IntervalHistogramLogWriter
+{
+    private final File logDirectory;
+    private final TimeUnit unit;
+    private final Map<String,PrintStream> logStreams = new HashMap<>();
+    private final Map<String,HistogramLogWriter> logWriters = new HashMap<>();
+    private long logStartTimeAsMilli = -1;
+
+    public SimpleIntervalHistogramLogWriter( File logDirectory, TimeUnit unit ) throws IOException
+    {
+        if ( !logDirectory.isDirectory() )
+        {
+            throw new IOException( format( "Not a directory: %s", logDirectory.getAbsolutePath() ) );
+        }
+        this.logDirectory = logDirectory;
+        this.unit = unit;
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long intervalStartTimeAsMilli,
+            long intervalEndTimeAsMilli,
+            Histogram histogram ) throws IOException
+    {
+        if ( -1 == logStartTimeAsMilli )
+        {
+            logStartTimeAsMilli = intervalStartTimeAsMilli;
+        }
+        HistogramLogWriter logWriter = logWriters.get( operationName );
+        if ( null == logWriter )
+        {
+            logWriter = newLogWriter( operationName );
+        }
+        logWriter.outputIntervalHistogram(
+                asSecondsSinceLogStart( intervalStartTimeAsMilli ),
+                asSecondsSinceLogStart( intervalEndTimeAsMilli ),
+                histogram
+        );
+        logStreams.get( operationName ).flush();
+    }
+
+    private HistogramLogWriter newLogWriter( String operationName ) throws IOException
+    {
+        PrintStream logStream = new PrintStream(
+                new FileOutputStream( new File( logDirectory, operationName + LOG_FILENAME_SUFFIX ) ),
+                false,
+                "UTF-8"
+        );
+        HistogramLogWriter logWriter = new HistogramLogWriter( logStream );
+        logWriter.outputComment( COMMENT_OPERATION_PREFIX + operationName );
+        logWriter.outputComment( COMMENT_TIME_UNIT_PREFIX + unit.name() );
+        logWriter.outputLogFormatVersion();
+        logWriter.outputStartTime( logStartTimeAsMilli );
+        logWriter.outputLegend();
+        logStreams.put( operationName, logStream );
+        logWriters.put( operationName, logWriter );
+        return logWriter;
+    }
+
+    private double asSecondsSinceLogStart( long timeAsMilli )
+    {
+        return (timeAsMilli - logStartTimeAsMilli) / 1000d;
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        for ( PrintStream logStream : logStreams.values() )
+        {
+            logStream.close();
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.csv.CharSeekerCsvFileReader;
 
 import java.io.File;
 import java.io.IOException;
@@ -18,13 +18,13 @@ import static java.util.concurrent.TimeUnit.valueOf;
 
 public class SimpleResultsLogReader implements ResultsLogReader
 {
-    private final SimpleCsvFileReader reader;
+    private final CharSeekerCsvFileReader reader;
     private final TimeUnit unit;
     private String[] row = null;
 
     public SimpleResultsLogReader( File resultsLog ) throws IOException
     {
-        this.reader = new SimpleCsvFileReader( resultsLog, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+        this.reader = new CharSeekerCsvFileReader( resultsLog, CharSeekerCsvFileReader.DEFAULT_COLUMN_SEPARATOR );
         this.unit = processHeaders();
     }
 
@@ -0,0 +1,48 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Workload status counters that are updated directly by the threads submitting operation results,
+ * and read without going through the metrics event handler.
+ * <p/>
+ * Counters are striped over padded cells, so concurrent writers do not contend on the same cache line,
+ * and a reader aggregates the cells. Status reads therefore never wait behind queued operation results,
+ * and never slow down the threads submitting them.
+ */
+class WorkloadStatusCounters
+{
+    private final TimeSource timeSource;
+    private final LongAdder operationCount = new LongAdder();
+    private final LongAccumulator startTimeAsMilli = new LongAccumulator( Math::min, Long.MAX_VALUE );
+    private final LongAccumulator latestFinishTimeAsMilli = new LongAccumulator( Math::max, Long.MIN_VALUE );
+
+    WorkloadStatusCounters( TimeSource timeSource )
+    {
+        this.timeSource = timeSource;
+    }
+
+    void measure( long actualStartTimeAsMilli, long runDurationAsNano )
+    {
+        startTimeAsMilli.accumulate( actualStartTimeAsMilli );
+        latestFinishTimeAsMilli.accumulate( actualStartTimeAsMilli + (runDurationAsNano / MetricsManager.ONE_MS_AS_NS) );
+        operationCount.increment();
+    }
+
+    WorkloadStatusSnapshot status()
+    {
+        // count is read first, so it never includes operations whose times have not yet been accumulated
+        long count = operationCount.sum();
+        // start time may already be accumulated while latest finish time is not, during the first measurement
+        long latestFinishTimeAsMilli = this.latestFinishTimeAsMilli.get();
+        return MetricsManager.status(
+                timeSource.nowAsMilli(),
+                startTimeAsMilli.get(),
+                (latestFinishTimeAsMilli == Long.MIN_VALUE) ? -1 : latestFinishTimeAsMilli,
+                count
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+
+import java.util.Map;
+
+public class ResultsLogAnalysis
+{
+    private final ResultsLogValidationSummary summary;
+    private final Map<String,ContinuousMetricSnapshot> delaysPerType;
+    private final Map<String,ContinuousMetricSnapshot> runtimesPerType;
+
+    ResultsLogAnalysis(
+            ResultsLogValidationSummary summary,
+            Map<String,ContinuousMetricSnapshot> delaysPerType,
+            Map<String,ContinuousMetricSnapshot> runtimesPerType )
+    {
+        this.summary = summary;
+        this.delaysPerType = delaysPerType;
+        this.runtimesPerType = runtimesPerType;
+    }
+
+    public ResultsLogValidationSummary summary()
+    {
+        return summary;
+    }
+
+    /**
+     * @return delay percentiles, in milliseconds, per operation type, empty if percentiles were not computed
+     */
+    public Map<String,ContinuousMetricSnapshot> delaysPerType()
+    {
+        return delaysPerType;
+    }
+
+    /**
+     * @return runtime percentiles, in the unit of the results log, per operation type, empty if percentiles were not
+     * computed
+     */
+    public Map<String,ContinuousMetricSnapshot> runtimesPerType()
+    {
+        return runtimesPerType;
+    }
+}
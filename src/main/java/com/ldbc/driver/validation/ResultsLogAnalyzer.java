@@ -0,0 +1,542 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.csv.CharSeekerCsvFileReader;
+import com.ldbc.driver.csv.charseeker.ByteBufferCharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractor;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricManager;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
+import com.ldbc.driver.temporal.TemporalUtil;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.HEADER_EXECUTION_DURATION_PREFIX;
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_ACTUAL_START_TIME;
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_EXECUTION_DURATION;
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_SCHEDULED_START_TIME;
+import static java.lang.String.format;
+
+/**
+ * Computes the {@link ResultsLogValidationSummary} of a results log, and optionally delay and runtime percentiles per
+ * operation type, in one pass over the log.
+ * <p/>
+ * Log is split into chunks of roughly chunkSize bytes, each ending at a line end, and chunks are memory-mapped and
+ * analyzed on a pool of threads. Each thread accumulates the chunks it analyzes, and the accumulations of all threads
+ * are added together once the whole log has been analyzed.
+ * <p/>
+ * Summary is exact. Percentiles are computed with histograms of 3 significant digits, values above
+ * {@link ThreadedQueuedMetricsService#DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO} are recorded as that value.
+ */
+public class ResultsLogAnalyzer
+{
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+    public static final int DEFAULT_THREAD_COUNT = Math.min( 4, Runtime.getRuntime().availableProcessors() );
+
+    private static final String METRIC_DELAY = "Delay";
+    private static final String METRIC_RUNTIME = "Runtime";
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+    private static final char NO_QUOTE_CHARACTER = '\0';
+    private static final int[] COLUMN_SEPARATORS = new int[]{CharSeekerCsvFileReader.DEFAULT_COLUMN_SEPARATOR};
+    private static final int HEADER_BUFFER_SIZE = 64 * 1024;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final int threadCount;
+    private final int chunkSize;
+
+    public ResultsLogAnalyzer()
+    {
+        this( DEFAULT_THREAD_COUNT, DEFAULT_CHUNK_SIZE );
+    }
+
+    /**
+     * @param threadCount number of threads analyzing chunks
+     * @param chunkSize
+     */
+    public ResultsLogAnalyzer( int threadCount, int chunkSize )
+    {
+        if ( threadCount <= 0 || chunkSize <= 0 )
+        {
+            throw new IllegalArgumentException(
+                    format( "Thread count and chunk size must be positive: %s, %s", threadCount, chunkSize ) );
+        }
+        this.threadCount = threadCount;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param resultsLog uncompressed results log, as written by {@link ResultsLogWriter}
+     * @param excessiveDelayThresholdAsMilli
+     * @param percentiles compute delay and runtime percentiles per operation type
+     * @return
+     * @throws ValidationException
+     */
+    public ResultsLogAnalysis analyze(
+            final File resultsLog,
+            long excessiveDelayThresholdAsMilli,
+            boolean percentiles ) throws ValidationException
+    {
+        TimeUnit unit = runtimeUnit( resultsLog, percentiles );
+        ExecutorService executor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadFactory()
+                {
+                    private int count = 0;
+
+                    @Override
+                    public Thread newThread( Runnable runnable )
+                    {
+                        Thread thread = new Thread(
+                                runnable,
+                                ResultsLogAnalyzer.class.getSimpleName() + "-" + resultsLog.getName() +
+                                "-thread(" + count++ + ")" );
+                        thread.setDaemon( true );
+                        return thread;
+                    }
+                }
+        );
+        try ( FileChannel channel = new RandomAccessFile( resultsLog, "r" ).getChannel() )
+        {
+            long[] chunkStarts = chunkStarts( channel );
+            AtomicInteger nextChunk = new AtomicInteger( 0 );
+            List<Future<PartialAnalysis>> partialAnalyses = new ArrayList<>();
+            for ( int i = 0; i < threadCount; i++ )
+            {
+                partialAnalyses.add( executor.submit(
+                        new ChunkAnalyzer( resultsLog, channel, chunkStarts, nextChunk, excessiveDelayThresholdAsMilli,
+                                (percentiles) ? unit : null ) ) );
+            }
+            PartialAnalysis analysis = new PartialAnalysis( excessiveDelayThresholdAsMilli, percentiles );
+            for ( Future<PartialAnalysis> partialAnalysis : partialAnalyses )
+            {
+                analysis.add( partialAnalysis.get() );
+            }
+            return analysis.snapshot( unit );
+        }
+        catch ( IOException e )
+        {
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new ValidationException(
+                    format( "Interrupted while analyzing results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof ValidationException )
+            {
+                throw (ValidationException) e.getCause();
+            }
+            throw new ValidationException(
+                    format( "Error analyzing results log: %s", resultsLog.getAbsolutePath() ), e.getCause() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    // unit of runtimes, null if not required and not in headers
+    private static TimeUnit runtimeUnit( File resultsLog, boolean required ) throws ValidationException
+    {
+        try ( CharSeekerCsvFileReader reader = new CharSeekerCsvFileReader(
+                resultsLog,
+                CharSeekerCsvFileReader.DEFAULT_COLUMN_SEPARATOR,
+                HEADER_BUFFER_SIZE ) )
+        {
+            String[] headers = (reader.hasNext()) ? reader.next() : new String[0];
+            if ( headers.length > INDEX_EXECUTION_DURATION &&
+                 headers[INDEX_EXECUTION_DURATION].startsWith( HEADER_EXECUTION_DURATION_PREFIX ) )
+            {
+                return TimeUnit.valueOf(
+                        headers[INDEX_EXECUTION_DURATION].substring( HEADER_EXECUTION_DURATION_PREFIX.length() ) );
+            }
+            else if ( required )
+            {
+                throw new ValidationException(
+                        format( "Results log headers do not specify runtime unit: %s", resultsLog.getAbsolutePath() ) );
+            }
+            return null;
+        }
+        catch ( IOException | IllegalArgumentException e )
+        {
+            throw new ValidationException( format( "Error reading results log headers: %s",
+                    resultsLog.getAbsolutePath() ), e );
+        }
+    }
+
+    // chunk i spans chunkStarts[i] until chunkStarts[i + 1], the first line, i.e., headers, is in no chunk
+    private long[] chunkStarts( FileChannel channel ) throws IOException
+    {
+        long end = channel.size();
+        List<Long> chunkStarts = new ArrayList<>();
+        long chunkStart = lineStartFrom( channel, 1, end );
+        chunkStarts.add( chunkStart );
+        while ( chunkStart < end )
+        {
+            chunkStart = lineStartFrom( channel, Math.min( end, chunkStart + chunkSize ), end );
+            chunkStarts.add( chunkStart );
+        }
+        long[] starts = new long[chunkStarts.size()];
+        for ( int i = 0; i < starts.length; i++ )
+        {
+            starts[i] = chunkStarts.get( i );
+        }
+        return starts;
+    }
+
+    // first line start at or after position, skipping empty lines
+    private static long lineStartFrom( FileChannel channel, long position, long end ) throws IOException
+    {
+        ByteBuffer scanBuffer = ByteBuffer.allocate( SCAN_BUFFER_SIZE );
+        boolean afterNewLine = false;
+        position--;
+        while ( position < end )
+        {
+            scanBuffer.clear();
+            channel.read( scanBuffer, position );
+            scanBuffer.flip();
+            while ( scanBuffer.hasRemaining() )
+            {
+                byte b = scanBuffer.get();
+                if ( '\n' == b || '\r' == b )
+                {
+                    afterNewLine = true;
+                }
+                else if ( afterNewLine )
+                {
+                    return position;
+                }
+                position++;
+            }
+        }
+        return end;
+    }
+
+    private static class ChunkAnalyzer implements Callable<PartialAnalysis>
+    {
+        private final File resultsLog;
+        private final FileChannel channel;
+        private final long[] chunkStarts;
+        private final AtomicInteger nextChunk;
+        private final PartialAnalysis analysis;
+        private final TimeUnit unit;
+        private final Mark mark = new Mark();
+        private final OperationTypeExtractor operationTypes = new OperationTypeExtractor();
+        private final Extractors.LongExtractor longs = new Extractors( ';', ',' ).long_();
+
+        private ChunkAnalyzer(
+                File resultsLog,
+                FileChannel channel,
+                long[] chunkStarts,
+                AtomicInteger nextChunk,
+                long excessiveDelayThresholdAsMilli,
+                TimeUnit unit )
+        {
+            this.resultsLog = resultsLog;
+            this.channel = channel;
+            this.chunkStarts = chunkStarts;
+            this.nextChunk = nextChunk;
+            this.analysis = new PartialAnalysis( excessiveDelayThresholdAsMilli, null != unit );
+            this.unit = unit;
+        }
+
+        @Override
+        public PartialAnalysis call() throws Exception
+        {
+            int chunk;
+            while ( (chunk = nextChunk.getAndIncrement()) < chunkStarts.length - 1 )
+            {
+                analyze( chunkStarts[chunk], chunkStarts[chunk + 1] );
+            }
+            return analysis;
+        }
+
+        private void analyze( long start, long end ) throws IOException, ValidationException
+        {
+            ByteBufferCharSeeker charSeeker = new ByteBufferCharSeeker(
+                    channel.map( FileChannel.MapMode.READ_ONLY, start, end - start ),
+                    NO_QUOTE_CHARACTER );
+            while ( charSeeker.seek( mark, COLUMN_SEPARATORS ) )
+            {
+                String operationType = charSeeker.extract( mark, operationTypes ).value();
+                long scheduledStartTimeAsMilli = 0;
+                long actualStartTimeAsMilli = 0;
+                long runtime = 0;
+                for ( int column = 1; column <= INDEX_EXECUTION_DURATION; column++ )
+                {
+                    if ( mark.isEndOfLine() || false == charSeeker.seek( mark, COLUMN_SEPARATORS ) )
+                    {
+                        throw new ValidationException( format(
+                                "Results log row has fewer than %s columns, at line %s after byte %s: %s",
+                                INDEX_EXECUTION_DURATION + 1, mark.lineNumber(), start,
+                                resultsLog.getAbsolutePath() ) );
+                    }
+                    long value = extractLong( charSeeker, start );
+                    switch ( column )
+                    {
+                    case INDEX_SCHEDULED_START_TIME:
+                        scheduledStartTimeAsMilli = value;
+                        break;
+                    case INDEX_ACTUAL_START_TIME:
+                        actualStartTimeAsMilli = value;
+                        break;
+                    case INDEX_EXECUTION_DURATION:
+                        runtime = value;
+                        break;
+                    }
+                }
+                // result code, original start time
+                while ( false == mark.isEndOfLine() && charSeeker.seek( mark, COLUMN_SEPARATORS ) )
+                {
+                }
+                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+                if ( delayAsMilli < 0 )
+                {
+                    throw negativeDelay( delayAsMilli, scheduledStartTimeAsMilli, actualStartTimeAsMilli );
+                }
+                analysis.record( operationType, delayAsMilli, runtime, unit );
+            }
+        }
+
+        private long extractLong( ByteBufferCharSeeker charSeeker, long start ) throws ValidationException
+        {
+            try
+            {
+                return charSeeker.extract( mark, longs ).longValue();
+            }
+            catch ( NumberFormatException e )
+            {
+                throw new ValidationException(
+                        format( "Results log row has invalid number, at line %s after byte %s: %s",
+                                mark.lineNumber(), start, resultsLog.getAbsolutePath() ), e );
+            }
+        }
+
+        private static ValidationException negativeDelay(
+                long delayAsMilli,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli )
+        {
+            TemporalUtil temporalUtil = new TemporalUtil();
+            return new ValidationException(
+                    format( "Delay can not be negative\n" +
+                            "Delay: %s (ms) / %s\n" +
+                            "Scheduled Start Time: %s (ms) / %s\n" +
+                            "Actual Start Time: %s (ms) / %s",
+                            delayAsMilli,
+                            temporalUtil.milliDurationToString( delayAsMilli ),
+                            scheduledStartTimeAsMilli,
+                            temporalUtil.milliTimeToTimeString( scheduledStartTimeAsMilli ),
+                            actualStartTimeAsMilli,
+                            temporalUtil.milliTimeToTimeString( actualStartTimeAsMilli )
+                    )
+            );
+        }
+    }
+
+    private static class PartialAnalysis
+    {
+        private final ResultsLogValidationSummaryCalculator calculator;
+        // null when percentiles are not computed
+        private final Map<String,Histogram> delaysPerType;
+        private final Map<String,Histogram> runtimesPerType;
+
+        private PartialAnalysis( long excessiveDelayThresholdAsMilli, boolean percentiles )
+        {
+            this.calculator = new ResultsLogValidationSummaryCalculator( excessiveDelayThresholdAsMilli );
+            this.delaysPerType = (percentiles) ? new HashMap<String,Histogram>() : null;
+            this.runtimesPerType = (percentiles) ? new HashMap<String,Histogram>() : null;
+        }
+
+        private void record( String operationType, long delayAsMilli, long runtime, TimeUnit unit )
+        {
+            calculator.recordDelay( operationType, delayAsMilli );
+            if ( null != delaysPerType )
+            {
+                histogramFor( delaysPerType, operationType, TimeUnit.MILLISECONDS ).recordValue(
+                        Math.min( delayAsMilli, highestTrackableValue( TimeUnit.MILLISECONDS ) ) );
+                histogramFor( runtimesPerType, operationType, unit ).recordValue(
+                        Math.max( 0, Math.min( runtime, highestTrackableValue( unit ) ) ) );
+            }
+        }
+
+        private void add( PartialAnalysis other )
+        {
+            calculator.add( other.calculator );
+            if ( null != delaysPerType )
+            {
+                addHistograms( delaysPerType, other.delaysPerType );
+                addHistograms( runtimesPerType, other.runtimesPerType );
+            }
+        }
+
+        private ResultsLogAnalysis snapshot( TimeUnit unit )
+        {
+            return new ResultsLogAnalysis(
+                    calculator.snapshot(),
+                    snapshots( delaysPerType, METRIC_DELAY, TimeUnit.MILLISECONDS ),
+                    snapshots( runtimesPerType, METRIC_RUNTIME, unit )
+            );
+        }
+
+        private static Histogram histogramFor( Map<String,Histogram> histograms, String operationType, TimeUnit unit )
+        {
+            Histogram histogram = histograms.get( operationType );
+            if ( null == histogram )
+            {
+                histogram = ContinuousMetricManager.newHistogram(
+                        highestTrackableValue( unit ),
+                        NUMBER_OF_SIGNIFICANT_DIGITS );
+                histograms.put( operationType, histogram );
+            }
+            return histogram;
+        }
+
+        private static long highestTrackableValue( TimeUnit unit )
+        {
+            return unit.convert(
+                    ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    TimeUnit.NANOSECONDS );
+        }
+
+        private static void addHistograms( Map<String,Histogram> histograms, Map<String,Histogram> otherHistograms )
+        {
+            for ( Map.Entry<String,Histogram> entry : otherHistograms.entrySet() )
+            {
+                Histogram histogram = histograms.get( entry.getKey() );
+                if ( null == histogram )
+                {
+                    histograms.put( entry.getKey(), entry.getValue() );
+                }
+                else
+                {
+                    histogram.add( entry.getValue() );
+                }
+            }
+        }
+
+        private static Map<String,ContinuousMetricSnapshot> snapshots(
+                Map<String,Histogram> histograms,
+                String name,
+                TimeUnit unit )
+        {
+            Map<String,ContinuousMetricSnapshot> snapshots = new HashMap<>();
+            if ( null != histograms )
+            {
+                for ( Map.Entry<String,Histogram> entry : histograms.entrySet() )
+                {
+                    snapshots.put( entry.getKey(),
+                            new ContinuousMetricManager( name, unit, entry.getValue() ).snapshot() );
+                }
+            }
+            return snapshots;
+        }
+    }
+
+    /**
+     * Extracts operation types as canonical strings, so a string is only created the first time a type is seen.
+     */
+    private static class OperationTypeExtractor implements Extractor<String>
+    {
+        private String[] operationTypes = new String[64];
+        private int count = 0;
+        private String value;
+
+        @Override
+        public void extract( char[] data, int offset, int length )
+        {
+            int hash = 0;
+            for ( int i = offset; i < offset + length; i++ )
+            {
+                hash = 31 * hash + data[i];
+            }
+            int mask = operationTypes.length - 1;
+            int slot = hash & mask;
+            while ( null != operationTypes[slot] )
+            {
+                if ( matches( operationTypes[slot], data, offset, length ) )
+                {
+                    value = operationTypes[slot];
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            value = new String( data, offset, length );
+            operationTypes[slot] = value;
+            if ( 2 * ++count > operationTypes.length )
+            {
+                grow();
+            }
+        }
+
+        private static boolean matches( String operationType, char[] data, int offset, int length )
+        {
+            if ( operationType.length() != length )
+            {
+                return false;
+            }
+            for ( int i = 0; i < length; i++ )
+            {
+                if ( operationType.charAt( i ) != data[offset + i] )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // String.hashCode() equals hash computed during extraction
+        private void grow()
+        {
+            String[] oldOperationTypes = operationTypes;
+            operationTypes = new String[2 * oldOperationTypes.length];
+            int mask = operationTypes.length - 1;
+            for ( String operationType : oldOperationTypes )
+            {
+                if ( null != operationType )
+                {
+                    int slot = operationType.hashCode() & mask;
+                    while ( null != operationTypes[slot] )
+                    {
+                        slot = (slot + 1) & mask;
+                    }
+                    operationTypes[slot] = operationType;
+                }
+            }
+        }
+
+        @Override
+        public String value()
+        {
+            return value;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "operationType";
+        }
+    }
+}
@@ -1,84 +1,121 @@
 package com.ldbc.driver.validation;
 
-import org.HdrHistogram.Histogram;
-
 import java.util.HashMap;
 import java.util.Map;
 
-class ResultsLogValidationSummaryCalculator
+/**
+ * Summarizes delays exactly, per operation type, so it needs no bound on delays up front. Calculators of different
+ * parts of a results log can be added together.
+ * <p/>
+ * Also used while a workload runs, to summarize delays of all operations when the results log only holds some.
+ */
+public class ResultsLogValidationSummaryCalculator
 {
-    private final Histogram delays;
-    private final Map<String,Histogram> delaysPerType;
-    private final Map<String,Long> delaysAboveThresholdPerType;
-    private final long maxDelayAsMilli;
+    private final Map<String,Delays> delaysPerType;
     private final long excessiveDelayThresholdAsMilli;
-    private long delaysAboveThreshold;
 
-    ResultsLogValidationSummaryCalculator( long maxDelayAsMilli, long excessiveDelayThresholdAsMilli )
+    public ResultsLogValidationSummaryCalculator( long excessiveDelayThresholdAsMilli )
     {
-        this.maxDelayAsMilli = maxDelayAsMilli;
         this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
-        this.delays = new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
         this.delaysPerType = new HashMap<>();
-        this.delaysAboveThresholdPerType = new HashMap<>();
-        this.delaysAboveThreshold = 0;
     }
 
-    void recordDelay( String operationType, long delayAsMilli )
+    public void recordDelay( String operationType, long delayAsMilli )
     {
-        delays.recordValue( delayAsMilli );
-
-        Histogram delayForType = delaysPerType.get( operationType );
-        if ( null == delayForType )
+        Delays delaysForType = delaysPerType.get( operationType );
+        if ( null == delaysForType )
         {
-            delayForType = new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
-            delaysPerType.put( operationType, delayForType );
+            delaysForType = new Delays();
+            delaysPerType.put( operationType, delaysForType );
         }
-        delayForType.recordValue( delayAsMilli );
+        delaysForType.record( delayAsMilli, excessiveDelayThresholdAsMilli );
+    }
 
-        Long delaysAboveThresholdForType = delaysAboveThresholdPerType.get( operationType );
-        if ( null == delaysAboveThresholdForType )
-        {
-            delaysAboveThresholdForType = 0L;
-            delaysAboveThresholdPerType.put( operationType, delaysAboveThresholdForType );
-        }
-        if ( delayAsMilli > excessiveDelayThresholdAsMilli )
+    void add( ResultsLogValidationSummaryCalculator other )
+    {
+        for ( Map.Entry<String,Delays> entry : other.delaysPerType.entrySet() )
         {
-            delaysAboveThreshold++;
-            delaysAboveThresholdPerType.put( operationType, delaysAboveThresholdForType + 1 );
+            Delays delaysForType = delaysPerType.get( entry.getKey() );
+            if ( null == delaysForType )
+            {
+                delaysForType = new Delays();
+                delaysPerType.put( entry.getKey(), delaysForType );
+            }
+            delaysForType.add( entry.getValue() );
         }
     }
 
-    ResultsLogValidationSummary snapshot()
+    public ResultsLogValidationSummary snapshot()
     {
+        Delays delays = new Delays();
+        Map<String,Long> delaysAboveThresholdPerType = new HashMap<>();
         Map<String,Long> minDelayAsMilliPerType = new HashMap<>();
         Map<String,Long> maxDelayAsMilliPerType = new HashMap<>();
         Map<String,Long> meanDelayAsMilliPerType = new HashMap<>();
-        for ( String operationType : delaysPerType.keySet() )
+        for ( Map.Entry<String,Delays> entry : delaysPerType.entrySet() )
         {
-            minDelayAsMilliPerType.put(
-                    operationType,
-                    delaysPerType.get( operationType ).getMinValue()
-            );
-            maxDelayAsMilliPerType.put(
-                    operationType,
-                    delaysPerType.get( operationType ).getMaxValue()
-            );
-            meanDelayAsMilliPerType.put(
-                    operationType,
-                    Math.round( Math.ceil( delaysPerType.get( operationType ).getMean() ) )
-            );
+            Delays delaysForType = entry.getValue();
+            delays.add( delaysForType );
+            delaysAboveThresholdPerType.put( entry.getKey(), delaysForType.aboveThreshold );
+            minDelayAsMilliPerType.put( entry.getKey(), delaysForType.min() );
+            maxDelayAsMilliPerType.put( entry.getKey(), delaysForType.max() );
+            meanDelayAsMilliPerType.put( entry.getKey(), Math.round( Math.ceil( delaysForType.mean() ) ) );
         }
         return new ResultsLogValidationSummary(
                 excessiveDelayThresholdAsMilli,
-                delaysAboveThreshold,
+                delays.aboveThreshold,
                 delaysAboveThresholdPerType,
-                delays.getMinValue(),
-                delays.getMaxValue(),
-                Math.round( delays.getMean() ),
+                delays.min(),
+                delays.max(),
+                Math.round( delays.mean() ),
                 minDelayAsMilliPerType,
                 maxDelayAsMilliPerType,
                 meanDelayAsMilliPerType
         );
     }
+
+    private static class Delays
+    {
+        private long count = 0;
+        private long sum = 0;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private long aboveThreshold = 0;
+
+        private void record( long delayAsMilli, long excessiveDelayThresholdAsMilli )
+        {
+            count++;
+            sum += delayAsMilli;
+            min = Math.min( min, delayAsMilli );
+            max = Math.max( max, delayAsMilli );
+            if ( delayAsMilli > excessiveDelayThresholdAsMilli )
+            {
+                aboveThreshold++;
+            }
+        }
+
+        private void add( Delays other )
+        {
+            count += other.count;
+            sum += other.sum;
+            min = Math.min( min, other.min );
+            max = Math.max( max, other.max );
+            aboveThreshold += other.aboveThreshold;
+        }
+
+        private long min()
+        {
+            return (0 == count) ? 0 : min;
+        }
+
+        private long max()
+        {
+            return (0 == count) ? 0 : max;
+        }
+
+        private double mean()
+        {
+            return (0 == count) ? 0 : sum / (double) count;
+        }
+    }
 }
@@ -1,45 +1,39 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 
-import com.google.common.base.Charsets;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharReadable;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
-import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.generator.ColumnarParameterStore;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.NoRemoveIterator;
+import com.ldbc.driver.generator.SkippableIterator;
+import com.ldbc.driver.generator.SkippableIterators;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.Iterator;
 
 import static java.lang.String.format;
 
-abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> implements Closeable
+abstract class BaseEventStreamReader extends NoRemoveIterator<Operation>
+        implements SkippableIterator<Operation>, Closeable
 {
     private final CharSeeker charSeeker;
-    private final InputStream parametersInputStream;
-    private final Iterator<Object[]> parametersIterator;
+    private final Iterator<ColumnarParameterStore.Row> parametersIterator;
 
     public BaseEventStreamReader(
-            InputStream parametersInputStream,
+            CharReadable parametersReadable,
             CharSeekerParams charSeekerParams,
             GeneratorFactory gf ) throws WorkloadException
     {
-        this.parametersInputStream = parametersInputStream;
-        charSeeker = new BufferedCharSeeker(
-                Readables.wrap(
-                        new InputStreamReader( parametersInputStream, Charsets.UTF_8 )
-                ),
-                charSeekerParams.bufferSize()
-        );
+        charSeeker = new BufferedCharSeeker( parametersReadable, charSeekerParams.bufferSize() );
         Mark mark = new Mark();
         // skip headers
         try
@@ -52,10 +46,10 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
         catch ( IOException e )
         {
             throw new WorkloadException(
-                    format( "Unable to advance parameters stream beyond headers: %s", parametersInputStream ), e );
+                    format( "Unable to advance parameters stream beyond headers: %s", parametersReadable ), e );
         }
 
-        parametersIterator = gf.repeating(
+        parametersIterator = gf.repeatingColumnar(
                 new CsvEventStreamReaderBasicCharSeeker<>(
                         charSeeker,
                         new Extractors( charSeekerParams.arrayDelimiter(), charSeekerParams.tupleDelimiter() ),
@@ -75,20 +69,32 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
     @Override
     public Operation next()
     {
-        Object[] parameters = parametersIterator.next();
+        ColumnarParameterStore.Row parameters = parametersIterator.next();
         Operation operation = operationFromParameters( parameters );
         operation.setDependencyTimeStamp( 0 );
         return operation;
     }
 
+    @Override
+    public long skip( long count )
+    {
+        return SkippableIterators.skip( parametersIterator, count );
+    }
+
+    @Override
+    public long remaining()
+    {
+        return SkippableIterators.remaining( parametersIterator );
+    }
+
     @Override
     public void close() throws IOException
     {
+        // closes readable too
         charSeeker.close();
-        parametersInputStream.close();
     }
 
-    abstract Operation operationFromParameters( Object[] parameters );
+    abstract Operation operationFromParameters( ColumnarParameterStore.Row parameters );
 
     abstract CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder();
 
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -51,6 +54,14 @@ public class LdbcSnbBiQuery10TagPerson extends Operation<List<LdbcSnbBiQuery10Ta
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitString( TAG, tag );
+        visitor.visitLong( DATE, date );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -127,6 +138,36 @@ public class LdbcSnbBiQuery10TagPerson extends Operation<List<LdbcSnbBiQuery10Ta
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery10TagPersonResult> results = (List<LdbcSnbBiQuery10TagPersonResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery10TagPersonResult result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeVarInt( result.score() );
+            writer.writeVarInt( result.friendsScore() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery10TagPersonResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery10TagPersonResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery10TagPersonResult(
+                    reader.readVarLong(),
+                    reader.readVarInt(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -51,6 +54,14 @@ public class LdbcSnbBiQuery11UnrelatedReplies extends Operation<List<LdbcSnbBiQu
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitObject( BLACKLIST, blacklist );
+        visitor.visitString( COUNTRY, country );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -132,6 +143,39 @@ public class LdbcSnbBiQuery11UnrelatedReplies extends Operation<List<LdbcSnbBiQu
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery11UnrelatedRepliesResult> results =
+                (List<LdbcSnbBiQuery11UnrelatedRepliesResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery11UnrelatedRepliesResult result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.tag() );
+            writer.writeVarInt( result.likeCount() );
+            writer.writeVarInt( result.replyCount() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery11UnrelatedRepliesResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery11UnrelatedRepliesResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery11UnrelatedRepliesResult(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
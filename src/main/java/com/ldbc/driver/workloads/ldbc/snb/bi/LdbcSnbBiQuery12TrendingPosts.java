@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -51,6 +54,14 @@ public class LdbcSnbBiQuery12TrendingPosts extends Operation<List<LdbcSnbBiQuery
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( DATE, date );
+        visitor.visitInt( LIKE_THRESHOLD, likeThreshold );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -133,6 +144,40 @@ public class LdbcSnbBiQuery12TrendingPosts extends Operation<List<LdbcSnbBiQuery
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery12TrendingPostsResult> results = (List<LdbcSnbBiQuery12TrendingPostsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery12TrendingPostsResult result = results.get( i );
+            writer.writeVarLong( result.messageId() );
+            writer.writeVarLong( result.messageCreationDate() );
+            writer.writeString( result.creatorFirstName() );
+            writer.writeString( result.creatorLastName() );
+            writer.writeVarInt( result.likeCount() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery12TrendingPostsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery12TrendingPostsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery12TrendingPostsResult(
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -2,7 +2,10 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -43,6 +46,13 @@ public class LdbcSnbBiQuery13PopularMonthlyTags extends Operation<List<LdbcSnbBi
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitString( COUNTRY, country );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -131,6 +141,50 @@ public class LdbcSnbBiQuery13PopularMonthlyTags extends Operation<List<LdbcSnbBi
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery13PopularMonthlyTagsResult> results =
+                (List<LdbcSnbBiQuery13PopularMonthlyTagsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery13PopularMonthlyTagsResult result = results.get( i );
+            writer.writeVarInt( result.year() );
+            writer.writeVarInt( result.month() );
+            writer.writeVarInt( result.popularTags().size() );
+            for ( LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity tagPopularity : result.popularTags() )
+            {
+                writer.writeString( tagPopularity.tagName() );
+                writer.writeVarInt( tagPopularity.popularity() );
+            }
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery13PopularMonthlyTagsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery13PopularMonthlyTagsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            int year = reader.readVarInt();
+            int month = reader.readVarInt();
+            int popularTagCount = reader.readVarInt();
+            List<LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity> popularTags =
+                    new ArrayList<>( popularTagCount );
+            for ( int j = 0; j < popularTagCount; j++ )
+            {
+                popularTags.add( new LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity(
+                        reader.readString(),
+                        reader.readVarInt()
+                ) );
+            }
+            results.add( new LdbcSnbBiQuery13PopularMonthlyTagsResult( year, month, popularTags ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -51,6 +54,14 @@ public class LdbcSnbBiQuery14TopThreadInitiators extends Operation<List<LdbcSnbB
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( START_DATE, startDate );
+        visitor.visitLong( END_DATE, endDate );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -135,6 +146,41 @@ public class LdbcSnbBiQuery14TopThreadInitiators extends Operation<List<LdbcSnbB
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery14TopThreadInitiatorsResult> results =
+                (List<LdbcSnbBiQuery14TopThreadInitiatorsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery14TopThreadInitiatorsResult result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.personFirstName() );
+            writer.writeString( result.personLastName() );
+            writer.writeVarInt( result.threadCount() );
+            writer.writeVarInt( result.messageCount() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery14TopThreadInitiatorsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery14TopThreadInitiatorsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery14TopThreadInitiatorsResult(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
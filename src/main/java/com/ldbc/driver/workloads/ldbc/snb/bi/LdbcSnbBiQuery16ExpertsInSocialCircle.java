@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -79,6 +82,17 @@ public class LdbcSnbBiQuery16ExpertsInSocialCircle extends Operation<List<LdbcSn
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitString( COUNTRY, country );
+        visitor.visitString( TAG_CLASS, tagClass );
+        visitor.visitInt( MIN_PATH_DISTANCE, minPathDistance );
+        visitor.visitInt( MAX_PATH_DISTANCE, maxPathDistance );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString() {
         return "LdbcSnbBiQuery16ExpertsInSocialCircle{" +
@@ -158,6 +172,37 @@ public class LdbcSnbBiQuery16ExpertsInSocialCircle extends Operation<List<LdbcSn
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> results =
+                (List<LdbcSnbBiQuery16ExpertsInSocialCircleResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery16ExpertsInSocialCircleResult result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.tag() );
+            writer.writeVarInt( result.count() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery16ExpertsInSocialCircleResult(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
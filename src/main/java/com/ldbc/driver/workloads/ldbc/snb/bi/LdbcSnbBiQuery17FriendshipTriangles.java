@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -32,6 +35,12 @@ public class LdbcSnbBiQuery17FriendshipTriangles extends Operation<LdbcSnbBiQuer
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitString( COUNTRY, country );
+    }
+
     @Override
     public String toString()
     {
@@ -81,6 +90,21 @@ public class LdbcSnbBiQuery17FriendshipTriangles extends Operation<LdbcSnbBiQuer
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        LdbcSnbBiQuery17FriendshipTrianglesResult result = (LdbcSnbBiQuery17FriendshipTrianglesResult) resultsObject;
+        writer.writeVarInt( result.count() );
+    }
+
+    @Override
+    public LdbcSnbBiQuery17FriendshipTrianglesResult decodeResult( BinaryReader reader )
+    {
+        return new LdbcSnbBiQuery17FriendshipTrianglesResult(
+                reader.readVarInt()
+        );
+    }
+
     @Override
     public int type()
     {
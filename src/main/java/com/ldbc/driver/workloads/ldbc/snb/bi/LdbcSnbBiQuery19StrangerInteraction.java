@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -60,6 +63,15 @@ public class LdbcSnbBiQuery19StrangerInteraction extends Operation<List<LdbcSnbB
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( DATE, date );
+        visitor.visitString( TAG_CLASS1, tagClass1 );
+        visitor.visitString( TAG_CLASS2, tagClass2 );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -142,6 +154,37 @@ public class LdbcSnbBiQuery19StrangerInteraction extends Operation<List<LdbcSnbB
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery19StrangerInteractionResult> results =
+                (List<LdbcSnbBiQuery19StrangerInteractionResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery19StrangerInteractionResult result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeVarInt( result.strangerCount() );
+            writer.writeVarInt( result.count() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery19StrangerInteractionResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery19StrangerInteractionResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery19StrangerInteractionResult(
+                    reader.readVarLong(),
+                    reader.readVarInt(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
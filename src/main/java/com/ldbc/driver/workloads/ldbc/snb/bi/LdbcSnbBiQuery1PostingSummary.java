@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -32,6 +35,12 @@ public class LdbcSnbBiQuery1PostingSummary extends Operation<List<LdbcSnbBiQuery
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( DATE, date );
+    }
+
     @Override
     public String toString()
     {
@@ -113,6 +122,44 @@ public class LdbcSnbBiQuery1PostingSummary extends Operation<List<LdbcSnbBiQuery
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery1PostingSummaryResult> results = (List<LdbcSnbBiQuery1PostingSummaryResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery1PostingSummaryResult result = results.get( i );
+            writer.writeVarInt( result.messageYear() );
+            writer.writeBoolean( result.isComment() );
+            writer.writeVarInt( result.lengthCategory() );
+            writer.writeVarLong( result.messageCount() );
+            writer.writeVarLong( result.averageMessageLength() );
+            writer.writeVarLong( result.sumMessageLength() );
+            writer.writeFloat( result.percentOfMessages() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery1PostingSummaryResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery1PostingSummaryResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery1PostingSummaryResult(
+                    reader.readVarInt(),
+                    reader.readBoolean(),
+                    reader.readVarInt(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readFloat()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
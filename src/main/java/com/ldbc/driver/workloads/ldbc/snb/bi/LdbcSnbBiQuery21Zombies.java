@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -53,6 +56,14 @@ public class LdbcSnbBiQuery21Zombies extends Operation<List<LdbcSnbBiQuery21Zomb
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitString( COUNTRY, country );
+        visitor.visitLong( END_DATE, endDate );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -122,6 +133,38 @@ public class LdbcSnbBiQuery21Zombies extends Operation<List<LdbcSnbBiQuery21Zomb
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery21ZombiesResult> results = (List<LdbcSnbBiQuery21ZombiesResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery21ZombiesResult result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeVarInt( result.zombieLikeCount() );
+            writer.writeVarInt( result.totalLikeCount() );
+            writer.writeDouble( result.zombieScore() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery21ZombiesResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery21ZombiesResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery21ZombiesResult(
+                    reader.readVarLong(),
+                    reader.readVarInt(),
+                    reader.readVarInt(),
+                    reader.readDouble()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
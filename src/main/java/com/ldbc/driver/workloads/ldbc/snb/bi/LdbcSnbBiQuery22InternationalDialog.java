@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -51,6 +54,14 @@ public class LdbcSnbBiQuery22InternationalDialog extends Operation<List<LdbcSnbB
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitString( COUNTRY1, country1 );
+        visitor.visitString( COUNTRY2, country2 );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -132,6 +143,39 @@ public class LdbcSnbBiQuery22InternationalDialog extends Operation<List<LdbcSnbB
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery22InternationalDialogResult> results =
+                (List<LdbcSnbBiQuery22InternationalDialogResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery22InternationalDialogResult result = results.get( i );
+            writer.writeVarLong( result.personId1() );
+            writer.writeVarLong( result.personId2() );
+            writer.writeString( result.city1Name() );
+            writer.writeVarInt( result.score() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery22InternationalDialogResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery22InternationalDialogResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery22InternationalDialogResult(
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -42,6 +45,13 @@ public class LdbcSnbBiQuery23HolidayDestinations extends Operation<List<LdbcSnbB
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitString( COUNTRY, country );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -116,6 +126,37 @@ public class LdbcSnbBiQuery23HolidayDestinations extends Operation<List<LdbcSnbB
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery23HolidayDestinationsResult> results =
+                (List<LdbcSnbBiQuery23HolidayDestinationsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery23HolidayDestinationsResult result = results.get( i );
+            writer.writeVarInt( result.messageCount() );
+            writer.writeString( result.destinationName() );
+            writer.writeVarInt( result.month() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery23HolidayDestinationsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery23HolidayDestinationsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery23HolidayDestinationsResult(
+                    reader.readVarInt(),
+                    reader.readString(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
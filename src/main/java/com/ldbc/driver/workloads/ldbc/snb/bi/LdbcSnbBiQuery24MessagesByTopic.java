@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -42,6 +45,13 @@ public class LdbcSnbBiQuery24MessagesByTopic extends Operation<List<LdbcSnbBiQue
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitString( TAG_CLASS, tagClass );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -122,6 +132,41 @@ public class LdbcSnbBiQuery24MessagesByTopic extends Operation<List<LdbcSnbBiQue
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery24MessagesByTopicResult> results =
+                (List<LdbcSnbBiQuery24MessagesByTopicResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery24MessagesByTopicResult result = results.get( i );
+            writer.writeVarInt( result.messageCount() );
+            writer.writeVarInt( result.likeCount() );
+            writer.writeVarInt( result.year() );
+            writer.writeVarInt( result.month() );
+            writer.writeString( result.continentName() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery24MessagesByTopicResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery24MessagesByTopicResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery24MessagesByTopicResult(
+                    reader.readVarInt(),
+                    reader.readVarInt(),
+                    reader.readVarInt(),
+                    reader.readVarInt(),
+                    reader.readString()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -60,6 +63,15 @@ public class LdbcSnbBiQuery25WeightedPaths extends Operation<List<LdbcSnbBiQuery
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON1_ID, person1Id );
+        visitor.visitLong( PERSON2_ID, person2Id );
+        visitor.visitLong( START_DATE, startDate );
+        visitor.visitLong( END_DATE, endDate );
+    }
+
     @Override
     public String toString()
     {
@@ -141,6 +153,34 @@ public class LdbcSnbBiQuery25WeightedPaths extends Operation<List<LdbcSnbBiQuery
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery25WeightedPathsResult> results = (List<LdbcSnbBiQuery25WeightedPathsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery25WeightedPathsResult result = results.get( i );
+            writer.writeLongs( result.personIds() );
+            writer.writeDouble( result.weight() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery25WeightedPathsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery25WeightedPathsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery25WeightedPathsResult(
+                    reader.readLongs(),
+                    reader.readDouble()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
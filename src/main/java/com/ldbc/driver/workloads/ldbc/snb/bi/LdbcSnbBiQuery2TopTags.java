@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -74,6 +77,16 @@ public class LdbcSnbBiQuery2TopTags extends Operation<List<LdbcSnbBiQuery2TopTag
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( START_DATE, startDate );
+        visitor.visitLong( END_DATE, endDate );
+        visitor.visitString( COUNTRY1, country1 );
+        visitor.visitString( COUNTRY2, country2 );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -156,6 +169,42 @@ public class LdbcSnbBiQuery2TopTags extends Operation<List<LdbcSnbBiQuery2TopTag
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery2TopTagsResult> results = (List<LdbcSnbBiQuery2TopTagsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery2TopTagsResult result = results.get( i );
+            writer.writeString( result.countryName() );
+            writer.writeVarInt( result.messageMonth() );
+            writer.writeString( result.personGender() );
+            writer.writeVarInt( result.ageGroup() );
+            writer.writeString( result.tagName() );
+            writer.writeVarInt( result.messageCount() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery2TopTagsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery2TopTagsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery2TopTagsResult(
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readString(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
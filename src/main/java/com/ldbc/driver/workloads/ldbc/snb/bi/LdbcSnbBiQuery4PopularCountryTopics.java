@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.util.ArrayList;
@@ -51,6 +54,14 @@ public class LdbcSnbBiQuery4PopularCountryTopics extends Operation<List<LdbcSnbB
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitString( TAG_CLASS, tagClass );
+        visitor.visitString( COUNTRY, country );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public String toString()
     {
@@ -135,6 +146,41 @@ public class LdbcSnbBiQuery4PopularCountryTopics extends Operation<List<LdbcSnbB
         return SerializationUtil.toJson( resultsFields );
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcSnbBiQuery4PopularCountryTopicsResult> results =
+                (List<LdbcSnbBiQuery4PopularCountryTopicsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcSnbBiQuery4PopularCountryTopicsResult result = results.get( i );
+            writer.writeVarLong( result.forumId() );
+            writer.writeString( result.forumTitle() );
+            writer.writeVarLong( result.forumCreationDate() );
+            writer.writeVarLong( result.personId() );
+            writer.writeVarInt( result.postCount() );
+        }
+    }
+
+    @Override
+    public List<LdbcSnbBiQuery4PopularCountryTopicsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcSnbBiQuery4PopularCountryTopicsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcSnbBiQuery4PopularCountryTopicsResult(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,5 +1,7 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
@@ -7,6 +9,8 @@ import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.csv.CompressedFiles;
+import com.ldbc.driver.csv.charseeker.CharReadable;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.generator.GeneratorFactory;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -14,8 +18,6 @@ import org.codehaus.jackson.type.TypeReference;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,35 +35,39 @@ public class LdbcSnbBiWorkload extends Workload
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     // TODO alternatively they could be CloseableStream (or similar) where files and everything are in 1 class
     private List<Closeable> readOperationFileReaders = new ArrayList<>();
-    private FileInputStream readOperation1FileInputStream;
-    private FileInputStream readOperation2FileInputStream;
-    private FileInputStream readOperation3FileInputStream;
-    private FileInputStream readOperation4FileInputStream;
-    private FileInputStream readOperation5FileInputStream;
-    private FileInputStream readOperation6FileInputStream;
-    private FileInputStream readOperation7FileInputStream;
-    private FileInputStream readOperation8FileInputStream;
-    private FileInputStream readOperation9FileInputStream;
-    private FileInputStream readOperation10FileInputStream;
-    private FileInputStream readOperation11FileInputStream;
-    private FileInputStream readOperation12FileInputStream;
-    private FileInputStream readOperation13FileInputStream;
-    private FileInputStream readOperation14FileInputStream;
-    private FileInputStream readOperation15FileInputStream;
-    private FileInputStream readOperation16FileInputStream;
-    private FileInputStream readOperation17FileInputStream;
-    private FileInputStream readOperation18FileInputStream;
-    private FileInputStream readOperation19FileInputStream;
-    private FileInputStream readOperation20FileInputStream;
-    private FileInputStream readOperation21FileInputStream;
-    private FileInputStream readOperation22FileInputStream;
-    private FileInputStream readOperation23FileInputStream;
-    private FileInputStream readOperation24FileInputStream;
-    private FileInputStream readOperation25FileInputStream;
+    // readables of disabled operations are never read, so are closed here rather than by a reader
+    private List<Closeable> readOperationReadables = new ArrayList<>();
+    private CharReadable readOperation1Readable;
+    private CharReadable readOperation2Readable;
+    private CharReadable readOperation3Readable;
+    private CharReadable readOperation4Readable;
+    private CharReadable readOperation5Readable;
+    private CharReadable readOperation6Readable;
+    private CharReadable readOperation7Readable;
+    private CharReadable readOperation8Readable;
+    private CharReadable readOperation9Readable;
+    private CharReadable readOperation10Readable;
+    private CharReadable readOperation11Readable;
+    private CharReadable readOperation12Readable;
+    private CharReadable readOperation13Readable;
+    private CharReadable readOperation14Readable;
+    private CharReadable readOperation15Readable;
+    private CharReadable readOperation16Readable;
+    private CharReadable readOperation17Readable;
+    private CharReadable readOperation18Readable;
+    private CharReadable readOperation19Readable;
+    private CharReadable readOperation20Readable;
+    private CharReadable readOperation21Readable;
+    private CharReadable readOperation22Readable;
+    private CharReadable readOperation23Readable;
+    private CharReadable readOperation24Readable;
+    private CharReadable readOperation25Readable;
 
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     private LdbcSnbBiWorkloadConfiguration.LdbcSnbBiInterleaves interleaves = null;
 
+    private File parametersDir;
+
     private double compressionRatio;
 
     private Set<Class> enabledOperationTypes;
@@ -111,7 +117,7 @@ public class LdbcSnbBiWorkload extends Workload
         }
         for ( String readOperationParamsFilename : LdbcSnbBiWorkloadConfiguration.OPERATION_PARAMS_FILENAMES )
         {
-            if ( false == new File( parametersDir, readOperationParamsFilename ).exists() )
+            if ( false == paramsFile( parametersDir, readOperationParamsFilename ).exists() )
             {
                 throw new WorkloadException( format(
                         "Read operation parameters file does not exist: %s",
@@ -119,88 +125,7 @@ public class LdbcSnbBiWorkload extends Workload
                 ) );
             }
         }
-        try
-        {
-            readOperation1FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_1_PARAMS_FILENAME )
-            );
-            readOperation2FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_2_PARAMS_FILENAME )
-            );
-            readOperation3FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_3_PARAMS_FILENAME )
-            );
-            readOperation4FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_4_PARAMS_FILENAME )
-            );
-            readOperation5FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_5_PARAMS_FILENAME )
-            );
-            readOperation6FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_6_PARAMS_FILENAME )
-            );
-            readOperation7FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_7_PARAMS_FILENAME )
-            );
-            readOperation8FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_8_PARAMS_FILENAME )
-            );
-            readOperation9FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_9_PARAMS_FILENAME )
-            );
-            readOperation10FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_10_PARAMS_FILENAME )
-            );
-            readOperation11FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_11_PARAMS_FILENAME )
-            );
-            readOperation12FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_12_PARAMS_FILENAME )
-            );
-            readOperation13FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_13_PARAMS_FILENAME )
-            );
-            readOperation14FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_14_PARAMS_FILENAME )
-            );
-            readOperation15FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_15_PARAMS_FILENAME )
-            );
-            readOperation16FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_16_PARAMS_FILENAME )
-            );
-            readOperation17FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_17_PARAMS_FILENAME )
-            );
-            readOperation18FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_18_PARAMS_FILENAME )
-            );
-            readOperation19FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_19_PARAMS_FILENAME )
-            );
-            readOperation20FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_20_PARAMS_FILENAME )
-            );
-            readOperation21FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_21_PARAMS_FILENAME )
-            );
-            readOperation22FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_22_PARAMS_FILENAME )
-            );
-            readOperation23FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_23_PARAMS_FILENAME )
-            );
-            readOperation24FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_24_PARAMS_FILENAME )
-            );
-            readOperation25FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_25_PARAMS_FILENAME )
-            );
-        }
-        catch ( FileNotFoundException e )
-        {
-            throw new WorkloadException( "Error load query parameters file", e );
-        }
+        this.parametersDir = parametersDir;
 
         enabledOperationTypes = new HashSet<>();
         for ( String operationEnableKey : LdbcSnbBiWorkloadConfiguration.OPERATION_ENABLE_KEYS )
@@ -258,11 +183,94 @@ public class LdbcSnbBiWorkload extends Workload
         {
             readOperationFileReader.close();
         }
+        for ( Closeable readOperationReadable : readOperationReadables )
+        {
+            readOperationReadable.close();
+        }
+    }
+
+    private static File paramsFile( File parametersDir, String paramsFilename )
+    {
+        return CompressedFiles.resolve( new File( parametersDir, paramsFilename ) );
+    }
+
+    private CharReadable openParamsFile( File paramsFile ) throws IOException
+    {
+        CharReadable readable = CompressedFiles.readable( paramsFile, BUFFER_SIZE,
+                loggingServiceFactory().loggingServiceFor( CompressedFiles.class.getSimpleName() ) );
+        readOperationReadables.add( readable );
+        return readable;
+    }
+
+    @Override
+    protected ChildOperationGenerator getAsynchronousChildOperationGenerator( GeneratorFactory gf,
+            boolean hasDbConnected ) throws WorkloadException
+    {
+        return null;
     }
 
     @Override
     protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
     {
+        // opened here, not on init, so workloads replayed from a schedule never open them
+        try
+        {
+            readOperation1Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_1_PARAMS_FILENAME ) );
+            readOperation2Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_2_PARAMS_FILENAME ) );
+            readOperation3Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_3_PARAMS_FILENAME ) );
+            readOperation4Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_4_PARAMS_FILENAME ) );
+            readOperation5Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_5_PARAMS_FILENAME ) );
+            readOperation6Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_6_PARAMS_FILENAME ) );
+            readOperation7Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_7_PARAMS_FILENAME ) );
+            readOperation8Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_8_PARAMS_FILENAME ) );
+            readOperation9Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_9_PARAMS_FILENAME ) );
+            readOperation10Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_10_PARAMS_FILENAME ) );
+            readOperation11Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_11_PARAMS_FILENAME ) );
+            readOperation12Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_12_PARAMS_FILENAME ) );
+            readOperation13Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_13_PARAMS_FILENAME ) );
+            readOperation14Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_14_PARAMS_FILENAME ) );
+            readOperation15Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_15_PARAMS_FILENAME ) );
+            readOperation16Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_16_PARAMS_FILENAME ) );
+            readOperation17Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_17_PARAMS_FILENAME ) );
+            readOperation18Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_18_PARAMS_FILENAME ) );
+            readOperation19Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_19_PARAMS_FILENAME ) );
+            readOperation20Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_20_PARAMS_FILENAME ) );
+            readOperation21Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_21_PARAMS_FILENAME ) );
+            readOperation22Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_22_PARAMS_FILENAME ) );
+            readOperation23Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_23_PARAMS_FILENAME ) );
+            readOperation24Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_24_PARAMS_FILENAME ) );
+            readOperation25Readable = openParamsFile(
+                    paramsFile( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_25_PARAMS_FILENAME ) );
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException( "Error load query parameters file", e );
+        }
+
         long workloadStartTimeAsMilli = 0;
         WorkloadStreams ldbcSnbInteractiveWorkloadStreams = new WorkloadStreams();
         List<Iterator<?>> asynchronousNonDependencyStreamsList = new ArrayList<>();
@@ -274,14 +282,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery1PostingSummary.class ) )
         {
             Query1EventStreamReader operation1StreamWithoutTimes = new Query1EventStreamReader(
-                    readOperation1FileInputStream,
+                    readOperation1Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation1StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation1Interleave,
                                     interleaves.operation1Interleave
                             ),
@@ -294,14 +302,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery2TopTags.class ) )
         {
             Query2EventStreamReader operation2StreamWithoutTimes = new Query2EventStreamReader(
-                    readOperation2FileInputStream,
+                    readOperation2Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation2StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation2Interleave,
                                     interleaves.operation2Interleave
                             ),
@@ -314,14 +322,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery3TagEvolution.class ) )
         {
             Query3EventStreamReader operation3StreamWithoutTimes = new Query3EventStreamReader(
-                    readOperation3FileInputStream,
+                    readOperation3Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation3StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation3Interleave,
                                     interleaves.operation3Interleave
                             ),
@@ -335,14 +343,14 @@ public class LdbcSnbBiWorkload extends Workload
         {
             Query4EventStreamReader operation4StreamWithoutTimes = null;
             operation4StreamWithoutTimes = new Query4EventStreamReader(
-                    readOperation4FileInputStream,
+                    readOperation4Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation4StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation4Interleave,
                                     interleaves.operation4Interleave
                             ),
@@ -355,14 +363,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery5TopCountryPosters.class ) )
         {
             Query5EventStreamReader operation5StreamWithoutTimes = new Query5EventStreamReader(
-                    readOperation5FileInputStream,
+                    readOperation5Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation5StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation5Interleave,
                                     interleaves.operation5Interleave
                             ),
@@ -375,14 +383,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery6ActivePosters.class ) )
         {
             Query6EventStreamReader operation6StreamWithoutTimes = new Query6EventStreamReader(
-                    readOperation6FileInputStream,
+                    readOperation6Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation6StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation6Interleave,
                                     interleaves.operation6Interleave
                             ),
@@ -395,14 +403,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery7AuthoritativeUsers.class ) )
         {
             Query7EventStreamReader operation7StreamWithoutTimes = new Query7EventStreamReader(
-                    readOperation7FileInputStream,
+                    readOperation7Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation7StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation7Interleave,
                                     interleaves.operation7Interleave
                             ),
@@ -415,14 +423,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery8RelatedTopics.class ) )
         {
             Query8EventStreamReader operation8StreamWithoutTimes = new Query8EventStreamReader(
-                    readOperation8FileInputStream,
+                    readOperation8Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation8StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation8Interleave,
                                     interleaves.operation8Interleave
                             ),
@@ -435,14 +443,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery9RelatedForums.class ) )
         {
             Query9EventStreamReader operation9StreamWithoutTimes = new Query9EventStreamReader(
-                    readOperation9FileInputStream,
+                    readOperation9Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation9StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation9Interleave,
                                     interleaves.operation9Interleave
                             ),
@@ -455,14 +463,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery10TagPerson.class ) )
         {
             Query10EventStreamReader operation10StreamWithoutTimes = new Query10EventStreamReader(
-                    readOperation10FileInputStream,
+                    readOperation10Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation10StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation10Interleave,
                                     interleaves.operation10Interleave
                             ),
@@ -475,14 +483,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery11UnrelatedReplies.class ) )
         {
             Query11EventStreamReader operation11StreamWithoutTimes = new Query11EventStreamReader(
-                    readOperation11FileInputStream,
+                    readOperation11Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation11StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation11Interleave,
                                     interleaves.operation11Interleave
                             ),
@@ -495,14 +503,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery12TrendingPosts.class ) )
         {
             Query12EventStreamReader operation12StreamWithoutTimes = new Query12EventStreamReader(
-                    readOperation12FileInputStream,
+                    readOperation12Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation12StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation12Interleave,
                                     interleaves.operation12Interleave
                             ),
@@ -515,14 +523,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery13PopularMonthlyTags.class ) )
         {
             Query13EventStreamReader operation13StreamWithoutTimes = new Query13EventStreamReader(
-                    readOperation13FileInputStream,
+                    readOperation13Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation13StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation13Interleave,
                                     interleaves.operation13Interleave
                             ),
@@ -535,14 +543,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery14TopThreadInitiators.class ) )
         {
             Query14EventStreamReader operation14StreamWithoutTimes = new Query14EventStreamReader(
-                    readOperation14FileInputStream,
+                    readOperation14Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation14StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation14Interleave,
                                     interleaves.operation14Interleave
                             ),
@@ -555,14 +563,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery15SocialNormals.class ) )
         {
             Query15EventStreamReader operation15StreamWithoutTimes = new Query15EventStreamReader(
-                    readOperation15FileInputStream,
+                    readOperation15Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation15StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation15Interleave,
                                     interleaves.operation15Interleave
                             ),
@@ -575,14 +583,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery16ExpertsInSocialCircle.class ) )
         {
             Query16EventStreamReader operation16StreamWithoutTimes = new Query16EventStreamReader(
-                    readOperation16FileInputStream,
+                    readOperation16Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation16StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation16Interleave,
                                     interleaves.operation16Interleave
                             ),
@@ -595,14 +603,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery17FriendshipTriangles.class ) )
         {
             Query17EventStreamReader operation17StreamWithoutTimes = new Query17EventStreamReader(
-                    readOperation17FileInputStream,
+                    readOperation17Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation17StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation17Interleave,
                                     interleaves.operation17Interleave
                             ),
@@ -615,14 +623,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery18PersonPostCounts.class ) )
         {
             Query18EventStreamReader operation18StreamWithoutTimes = new Query18EventStreamReader(
-                    readOperation18FileInputStream,
+                    readOperation18Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation18StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation18Interleave,
                                     interleaves.operation18Interleave
                             ),
@@ -635,14 +643,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery19StrangerInteraction.class ) )
         {
             Query19EventStreamReader operation19StreamWithoutTimes = new Query19EventStreamReader(
-                    readOperation19FileInputStream,
+                    readOperation19Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation19StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation19Interleave,
                                     interleaves.operation19Interleave
                             ),
@@ -655,14 +663,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery20HighLevelTopics.class ) )
         {
             Query20EventStreamReader operation20StreamWithoutTimes = new Query20EventStreamReader(
-                    readOperation20FileInputStream,
+                    readOperation20Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation20StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation20Interleave,
                                     interleaves.operation20Interleave
                             ),
@@ -675,14 +683,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery21Zombies.class ) )
         {
             Query21EventStreamReader operation21StreamWithoutTimes = new Query21EventStreamReader(
-                    readOperation21FileInputStream,
+                    readOperation21Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation21StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation21Interleave,
                                     interleaves.operation21Interleave
                             ),
@@ -695,14 +703,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery22InternationalDialog.class ) )
         {
             Query22EventStreamReader operation22StreamWithoutTimes = new Query22EventStreamReader(
-                    readOperation22FileInputStream,
+                    readOperation22Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation22StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation22Interleave,
                                     interleaves.operation22Interleave
                             ),
@@ -715,14 +723,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery23HolidayDestinations.class ) )
         {
             Query23EventStreamReader operation23StreamWithoutTimes = new Query23EventStreamReader(
-                    readOperation23FileInputStream,
+                    readOperation23Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation23StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation23Interleave,
                                     interleaves.operation23Interleave
                             ),
@@ -735,14 +743,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery24MessagesByTopic.class ) )
         {
             Query24EventStreamReader operation24StreamWithoutTimes = new Query24EventStreamReader(
-                    readOperation24FileInputStream,
+                    readOperation24Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation24StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation24Interleave,
                                     interleaves.operation24Interleave
                             ),
@@ -755,14 +763,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery25WeightedPaths.class ) )
         {
             Query25EventStreamReader operation25StreamWithoutTimes = new Query25EventStreamReader(
-                    readOperation25FileInputStream,
+                    readOperation25Readable,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation25StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLongs(
                                     workloadStartTimeAsMilli + interleaves.operation25Interleave,
                                     interleaves.operation25Interleave
                             ),
@@ -1324,6 +1332,340 @@ public class LdbcSnbBiWorkload extends Workload
                         serializedOperation ) );
     }
 
+    private static final int BINARY_FORMAT_VERSION = 1;
+
+    @Override
+    public int binaryFormatVersion()
+    {
+        return BINARY_FORMAT_VERSION;
+    }
+
+    @Override
+    public void encodeOperation( Operation operation, BinaryWriter writer ) throws SerializingMarshallingException
+    {
+        writer.writeVarInt( operation.type() );
+        switch ( operation.type() )
+        {
+        case LdbcSnbBiQuery1PostingSummary.TYPE:
+        {
+            writer.writeVarLong( ((LdbcSnbBiQuery1PostingSummary) operation).date() );
+            return;
+        }
+        case LdbcSnbBiQuery2TopTags.TYPE:
+        {
+            LdbcSnbBiQuery2TopTags ldbcQuery = (LdbcSnbBiQuery2TopTags) operation;
+            writer.writeVarLong( ldbcQuery.startDate() );
+            writer.writeVarLong( ldbcQuery.endDate() );
+            writer.writeString( ldbcQuery.country1() );
+            writer.writeString( ldbcQuery.country2() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery3TagEvolution.TYPE:
+        {
+            LdbcSnbBiQuery3TagEvolution ldbcQuery = (LdbcSnbBiQuery3TagEvolution) operation;
+            writer.writeVarInt( ldbcQuery.year() );
+            writer.writeVarInt( ldbcQuery.month() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery4PopularCountryTopics.TYPE:
+        {
+            LdbcSnbBiQuery4PopularCountryTopics ldbcQuery = (LdbcSnbBiQuery4PopularCountryTopics) operation;
+            writer.writeString( ldbcQuery.tagClass() );
+            writer.writeString( ldbcQuery.country() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery5TopCountryPosters.TYPE:
+        {
+            LdbcSnbBiQuery5TopCountryPosters ldbcQuery = (LdbcSnbBiQuery5TopCountryPosters) operation;
+            writer.writeString( ldbcQuery.country() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery6ActivePosters.TYPE:
+        {
+            LdbcSnbBiQuery6ActivePosters ldbcQuery = (LdbcSnbBiQuery6ActivePosters) operation;
+            writer.writeString( ldbcQuery.tag() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery7AuthoritativeUsers.TYPE:
+        {
+            LdbcSnbBiQuery7AuthoritativeUsers ldbcQuery = (LdbcSnbBiQuery7AuthoritativeUsers) operation;
+            writer.writeString( ldbcQuery.tag() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery8RelatedTopics.TYPE:
+        {
+            LdbcSnbBiQuery8RelatedTopics ldbcQuery = (LdbcSnbBiQuery8RelatedTopics) operation;
+            writer.writeString( ldbcQuery.tag() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery9RelatedForums.TYPE:
+        {
+            LdbcSnbBiQuery9RelatedForums ldbcQuery = (LdbcSnbBiQuery9RelatedForums) operation;
+            writer.writeString( ldbcQuery.tagClass1() );
+            writer.writeString( ldbcQuery.tagClass2() );
+            writer.writeVarInt( ldbcQuery.threshold() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery10TagPerson.TYPE:
+        {
+            LdbcSnbBiQuery10TagPerson ldbcQuery = (LdbcSnbBiQuery10TagPerson) operation;
+            writer.writeString( ldbcQuery.tag() );
+            writer.writeVarLong( ldbcQuery.date() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery11UnrelatedReplies.TYPE:
+        {
+            LdbcSnbBiQuery11UnrelatedReplies ldbcQuery = (LdbcSnbBiQuery11UnrelatedReplies) operation;
+            writer.writeString( ldbcQuery.country() );
+            writer.writeStrings( ldbcQuery.blacklist() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery12TrendingPosts.TYPE:
+        {
+            LdbcSnbBiQuery12TrendingPosts ldbcQuery = (LdbcSnbBiQuery12TrendingPosts) operation;
+            writer.writeVarLong( ldbcQuery.date() );
+            writer.writeVarInt( ldbcQuery.likeThreshold() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery13PopularMonthlyTags.TYPE:
+        {
+            LdbcSnbBiQuery13PopularMonthlyTags ldbcQuery = (LdbcSnbBiQuery13PopularMonthlyTags) operation;
+            writer.writeString( ldbcQuery.country() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery14TopThreadInitiators.TYPE:
+        {
+            LdbcSnbBiQuery14TopThreadInitiators ldbcQuery = (LdbcSnbBiQuery14TopThreadInitiators) operation;
+            writer.writeVarLong( ldbcQuery.startDate() );
+            writer.writeVarLong( ldbcQuery.endDate() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery15SocialNormals.TYPE:
+        {
+            LdbcSnbBiQuery15SocialNormals ldbcQuery = (LdbcSnbBiQuery15SocialNormals) operation;
+            writer.writeString( ldbcQuery.country() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery16ExpertsInSocialCircle.TYPE:
+        {
+            LdbcSnbBiQuery16ExpertsInSocialCircle ldbcQuery = (LdbcSnbBiQuery16ExpertsInSocialCircle) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeString( ldbcQuery.country() );
+            writer.writeString( ldbcQuery.tagClass() );
+            writer.writeVarInt( ldbcQuery.minPathDistance() );
+            writer.writeVarInt( ldbcQuery.maxPathDistance() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery17FriendshipTriangles.TYPE:
+        {
+            writer.writeString( ((LdbcSnbBiQuery17FriendshipTriangles) operation).country() );
+            return;
+        }
+        case LdbcSnbBiQuery18PersonPostCounts.TYPE:
+        {
+            LdbcSnbBiQuery18PersonPostCounts ldbcQuery = (LdbcSnbBiQuery18PersonPostCounts) operation;
+            writer.writeVarLong( ldbcQuery.date() );
+            writer.writeVarInt( ldbcQuery.lengthThreshold() );
+            writer.writeStrings( ldbcQuery.languages() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery19StrangerInteraction.TYPE:
+        {
+            LdbcSnbBiQuery19StrangerInteraction ldbcQuery = (LdbcSnbBiQuery19StrangerInteraction) operation;
+            writer.writeVarLong( ldbcQuery.date() );
+            writer.writeString( ldbcQuery.tagClass1() );
+            writer.writeString( ldbcQuery.tagClass2() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery20HighLevelTopics.TYPE:
+        {
+            LdbcSnbBiQuery20HighLevelTopics ldbcQuery = (LdbcSnbBiQuery20HighLevelTopics) operation;
+            writer.writeStrings( ldbcQuery.tagClasses() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery21Zombies.TYPE:
+        {
+            LdbcSnbBiQuery21Zombies ldbcQuery = (LdbcSnbBiQuery21Zombies) operation;
+            writer.writeString( ldbcQuery.country() );
+            writer.writeVarLong( ldbcQuery.endDate() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery22InternationalDialog.TYPE:
+        {
+            LdbcSnbBiQuery22InternationalDialog ldbcQuery = (LdbcSnbBiQuery22InternationalDialog) operation;
+            writer.writeString( ldbcQuery.country1() );
+            writer.writeString( ldbcQuery.country2() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery23HolidayDestinations.TYPE:
+        {
+            LdbcSnbBiQuery23HolidayDestinations ldbcQuery = (LdbcSnbBiQuery23HolidayDestinations) operation;
+            writer.writeString( ldbcQuery.country() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery24MessagesByTopic.TYPE:
+        {
+            LdbcSnbBiQuery24MessagesByTopic ldbcQuery = (LdbcSnbBiQuery24MessagesByTopic) operation;
+            writer.writeString( ldbcQuery.tagClass() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcSnbBiQuery25WeightedPaths.TYPE:
+        {
+            LdbcSnbBiQuery25WeightedPaths ldbcQuery = (LdbcSnbBiQuery25WeightedPaths) operation;
+            writer.writeVarLong( ldbcQuery.person1Id() );
+            writer.writeVarLong( ldbcQuery.person2Id() );
+            writer.writeVarLong( ldbcQuery.startDate() );
+            writer.writeVarLong( ldbcQuery.endDate() );
+            return;
+        }
+        default:
+        {
+            throw new SerializingMarshallingException(
+                    format(
+                            "Workload does not know how to encode operation\nWorkload: %s\nOperation Type: " +
+                            "%s\nOperation: %s",
+                            getClass().getName(),
+                            operation.getClass().getName(),
+                            operation ) );
+        }
+        }
+    }
+
+    @Override
+    public Operation decodeOperation( BinaryReader reader ) throws SerializingMarshallingException
+    {
+        int operationType = reader.readVarInt();
+        switch ( operationType )
+        {
+        case LdbcSnbBiQuery1PostingSummary.TYPE:
+            return new LdbcSnbBiQuery1PostingSummary( reader.readVarLong() );
+        case LdbcSnbBiQuery2TopTags.TYPE:
+            return new LdbcSnbBiQuery2TopTags(
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery3TagEvolution.TYPE:
+            return new LdbcSnbBiQuery3TagEvolution( reader.readVarInt(), reader.readVarInt(), reader.readVarInt() );
+        case LdbcSnbBiQuery4PopularCountryTopics.TYPE:
+            return new LdbcSnbBiQuery4PopularCountryTopics(
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery5TopCountryPosters.TYPE:
+            return new LdbcSnbBiQuery5TopCountryPosters( reader.readString(), reader.readVarInt() );
+        case LdbcSnbBiQuery6ActivePosters.TYPE:
+            return new LdbcSnbBiQuery6ActivePosters( reader.readString(), reader.readVarInt() );
+        case LdbcSnbBiQuery7AuthoritativeUsers.TYPE:
+            return new LdbcSnbBiQuery7AuthoritativeUsers( reader.readString(), reader.readVarInt() );
+        case LdbcSnbBiQuery8RelatedTopics.TYPE:
+            return new LdbcSnbBiQuery8RelatedTopics( reader.readString(), reader.readVarInt() );
+        case LdbcSnbBiQuery9RelatedForums.TYPE:
+            return new LdbcSnbBiQuery9RelatedForums(
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery10TagPerson.TYPE:
+            return new LdbcSnbBiQuery10TagPerson( reader.readString(), reader.readVarLong(), reader.readVarInt() );
+        case LdbcSnbBiQuery11UnrelatedReplies.TYPE:
+            return new LdbcSnbBiQuery11UnrelatedReplies(
+                    reader.readString(),
+                    reader.readStrings(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery12TrendingPosts.TYPE:
+            return new LdbcSnbBiQuery12TrendingPosts( reader.readVarLong(), reader.readVarInt(), reader.readVarInt() );
+        case LdbcSnbBiQuery13PopularMonthlyTags.TYPE:
+            return new LdbcSnbBiQuery13PopularMonthlyTags( reader.readString(), reader.readVarInt() );
+        case LdbcSnbBiQuery14TopThreadInitiators.TYPE:
+            return new LdbcSnbBiQuery14TopThreadInitiators(
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery15SocialNormals.TYPE:
+            return new LdbcSnbBiQuery15SocialNormals( reader.readString(), reader.readVarInt() );
+        case LdbcSnbBiQuery16ExpertsInSocialCircle.TYPE:
+            return new LdbcSnbBiQuery16ExpertsInSocialCircle(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readVarInt(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery17FriendshipTriangles.TYPE:
+            return new LdbcSnbBiQuery17FriendshipTriangles( reader.readString() );
+        case LdbcSnbBiQuery18PersonPostCounts.TYPE:
+            return new LdbcSnbBiQuery18PersonPostCounts(
+                    reader.readVarLong(),
+                    reader.readVarInt(),
+                    reader.readStrings(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery19StrangerInteraction.TYPE:
+            return new LdbcSnbBiQuery19StrangerInteraction(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery20HighLevelTopics.TYPE:
+            return new LdbcSnbBiQuery20HighLevelTopics( reader.readStrings(), reader.readVarInt() );
+        case LdbcSnbBiQuery21Zombies.TYPE:
+            return new LdbcSnbBiQuery21Zombies( reader.readString(), reader.readVarLong(), reader.readVarInt() );
+        case LdbcSnbBiQuery22InternationalDialog.TYPE:
+            return new LdbcSnbBiQuery22InternationalDialog(
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt()
+            );
+        case LdbcSnbBiQuery23HolidayDestinations.TYPE:
+            return new LdbcSnbBiQuery23HolidayDestinations( reader.readString(), reader.readVarInt() );
+        case LdbcSnbBiQuery24MessagesByTopic.TYPE:
+            return new LdbcSnbBiQuery24MessagesByTopic( reader.readString(), reader.readVarInt() );
+        case LdbcSnbBiQuery25WeightedPaths.TYPE:
+            return new LdbcSnbBiQuery25WeightedPaths(
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarLong()
+            );
+        default:
+            throw new SerializingMarshallingException(
+                    format( "Workload does not know how to decode operation\nWorkload: %s\nOperation Type: %s",
+                            getClass().getName(),
+                            operationType ) );
+        }
+    }
+
     @Override
     public boolean resultsEqual( Operation operation, Object result1, Object result2 ) throws WorkloadException
     {
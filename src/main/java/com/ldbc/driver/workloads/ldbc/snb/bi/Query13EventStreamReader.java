@@ -3,32 +3,33 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.csv.charseeker.CharReadable;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.generator.ColumnarParameterStore;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
 
 public class Query13EventStreamReader extends BaseEventStreamReader
 {
     public Query13EventStreamReader(
-            InputStream parametersInputStream,
+            CharReadable parametersReadable,
             CharSeekerParams charSeekerParams,
             GeneratorFactory gf ) throws WorkloadException
     {
-        super( parametersInputStream, charSeekerParams, gf );
+        super( parametersReadable, charSeekerParams, gf );
     }
 
     @Override
-    Operation operationFromParameters( Object[] parameters )
+    Operation operationFromParameters( ColumnarParameterStore.Row parameters )
     {
         return new LdbcSnbBiQuery13PopularMonthlyTags(
-                (String) parameters[0],
-                (int) parameters[1]
+                parameters.stringValue( 0 ),
+                parameters.intValue( 1 )
         );
     }
 
@@ -0,0 +1,94 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import java.io.Closeable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import static java.lang.String.format;
+
+/**
+ * Threads that decode update stream chunks for {@link ParallelWriteEventStreamReader}s, shared by all readers of a
+ * workload, so the number of decoding threads does not grow with the number of update streams.
+ * <p/>
+ * Chunks in flight, i.e., reserved by a reader but not yet taken by it, are bounded to two per thread across all
+ * readers, which bounds the memory held by decoded operations. Threads are started when chunks are first submitted.
+ */
+public class ChunkDecoderPool implements Closeable
+{
+    public static final int DEFAULT_THREAD_COUNT = Math.min( 4, Runtime.getRuntime().availableProcessors() );
+
+    private final int threadCount;
+    private final int maxChunksInFlight;
+    private final Semaphore chunkPermits;
+    private final ExecutorService executor;
+
+    /**
+     * @param threadCount number of threads decoding chunks
+     */
+    public ChunkDecoderPool( int threadCount )
+    {
+        if ( threadCount <= 0 )
+        {
+            throw new IllegalArgumentException( format( "Thread count must be positive: %s", threadCount ) );
+        }
+        this.threadCount = threadCount;
+        this.maxChunksInFlight = 2 * threadCount;
+        this.chunkPermits = new Semaphore( maxChunksInFlight );
+        // fixed thread pool starts its threads on submit, not on creation
+        this.executor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadFactory()
+                {
+                    private int count = 0;
+
+                    @Override
+                    public Thread newThread( Runnable runnable )
+                    {
+                        Thread thread = new Thread(
+                                runnable,
+                                ChunkDecoderPool.class.getSimpleName() + "-thread(" + count++ + ")" );
+                        thread.setDaemon( true );
+                        return thread;
+                    }
+                }
+        );
+    }
+
+    int threadCount()
+    {
+        return threadCount;
+    }
+
+    /**
+     * @return true if a chunk may be submitted, in which case it must be released once taken
+     */
+    boolean tryReserve()
+    {
+        return chunkPermits.tryAcquire();
+    }
+
+    <T> Future<T> submit( Callable<T> chunkDecoder )
+    {
+        return executor.submit( chunkDecoder );
+    }
+
+    void release()
+    {
+        chunkPermits.release();
+    }
+
+    int chunksInFlight()
+    {
+        return maxChunksInFlight - chunkPermits.availablePermits();
+    }
+
+    @Override
+    public void close()
+    {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.String.format;
+
+/**
+ * Lock-free, bounded, first-in-first-out buffer of primitive longs, which evicts its oldest value when a value is
+ * added to it while it is full, like a {@link com.google.common.collect.EvictingQueue}.
+ * <p/>
+ * Values are numbered in the order they are added, and value n is stored in slot n modulo slot count, along with n
+ * itself, so that a poller can tell whether a slot holds the value it expects. Adders evict before they store, so a
+ * value is only overwritten once it can no longer be polled. Adding never waits for pollers, and polling never waits
+ * for adders: if the oldest value has been claimed by an adder but not yet stored, poll returns
+ * {@link LdbcSnbShortReadGenerator.IdBuffer#NO_ID} as if the buffer were empty.
+ * <p/>
+ * Adders claim a slot before storing into it, and never store over a newer value, so an adder that stalls until its
+ * value has been evicted drops that value. An adder only waits for another adder that is storing into the same slot.
+ */
+class ConcurrentLongRingBuffer implements LdbcSnbShortReadGenerator.IdBuffer
+{
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray values;
+    // number of value stored in each slot, plus one, zero while no value has been stored in it, negated while storing
+    private final AtomicLongArray sequences;
+    // number of next value to poll
+    private final AtomicLong head = new AtomicLong( 0 );
+    // number of next value to add
+    private final AtomicLong tail = new AtomicLong( 0 );
+
+    ConcurrentLongRingBuffer( int capacity )
+    {
+        if ( capacity <= 0 || capacity > (1 << 30) )
+        {
+            throw new IllegalArgumentException( format( "Capacity must be in [1,2^30]: %s", capacity ) );
+        }
+        int slotCount = Integer.highestOneBit( capacity );
+        slotCount = (slotCount == capacity) ? slotCount : slotCount << 1;
+        this.capacity = capacity;
+        this.mask = slotCount - 1;
+        this.values = new AtomicLongArray( slotCount );
+        this.sequences = new AtomicLongArray( slotCount );
+    }
+
+    @Override
+    public void add( long value )
+    {
+        store( claim(), value );
+    }
+
+    /**
+     * @return number of the value to add, whose slot the oldest value has been evicted from
+     */
+    long claim()
+    {
+        long number = tail.getAndIncrement();
+        // evict oldest values, before storing, so that pollers never find an overwritten slot ahead of head
+        long oldestRetained = number + 1 - capacity;
+        long oldest;
+        while ( (oldest = head.get()) < oldestRetained && false == head.compareAndSet( oldest, oldestRetained ) )
+        {
+        }
+        return number;
+    }
+
+    /**
+     * Stores value, unless a newer value has been stored in, or is being stored in, its slot. In that case the value
+     * has been evicted, by the adder of the newer value, before it could be stored.
+     */
+    void store( long number, long value )
+    {
+        int slot = (int) (number & mask);
+        while ( true )
+        {
+            long sequence = sequences.get( slot );
+            // negative while an adder is storing into slot, as minus the number of its value, minus one
+            long storedNumber = (sequence < 0) ? -sequence - 1 : sequence - 1;
+            if ( storedNumber > number )
+            {
+                return;
+            }
+            if ( sequence >= 0 && sequences.compareAndSet( slot, sequence, -(number + 1) ) )
+            {
+                break;
+            }
+            // slot changed meanwhile, or an older value is still being stored, as buffer wrapped around meanwhile
+        }
+        values.set( slot, value );
+        sequences.set( slot, number + 1 );
+    }
+
+    @Override
+    public long poll()
+    {
+        while ( true )
+        {
+            long number = head.get();
+            if ( number >= tail.get() )
+            {
+                return NO_ID;
+            }
+            int slot = (int) (number & mask);
+            long sequence = sequences.get( slot );
+            long storedNumber = (sequence < 0) ? -sequence - 1 : sequence - 1;
+            if ( storedNumber < number || (storedNumber == number && sequence < 0) )
+            {
+                // claimed by an adder, but not yet stored
+                return NO_ID;
+            }
+            long value = values.get( slot );
+            if ( sequence == number + 1 && head.compareAndSet( number, number + 1 ) )
+            {
+                return value;
+            }
+            // overwritten, or polled by another thread, head has moved on
+        }
+    }
+
+    /**
+     * @return number of values in buffer, which may be stale by the time it is returned
+     */
+    int size()
+    {
+        return (int) Math.max( 0, Math.min( capacity, tail.get() - head.get() ) );
+    }
+}
@@ -2,7 +2,10 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -59,6 +62,14 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitString( FIRST_NAME, firstName );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -189,6 +200,56 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer ) throws SerializingMarshallingException
+    {
+        List<LdbcQuery1Result> results = (List<LdbcQuery1Result>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery1Result result = results.get( i );
+            writer.writeVarLong( result.friendId() );
+            writer.writeString( result.friendLastName() );
+            writer.writeVarInt( result.distanceFromPerson() );
+            writer.writeVarLong( result.friendBirthday() );
+            writer.writeVarLong( result.friendCreationDate() );
+            writer.writeString( result.friendGender() );
+            writer.writeString( result.friendBrowserUsed() );
+            writer.writeString( result.friendLocationIp() );
+            writer.writeStrings( result.friendEmails() );
+            writer.writeStrings( result.friendLanguages() );
+            writer.writeString( result.friendCityName() );
+            writer.writeValue( result.friendUniversities() );
+            writer.writeValue( result.friendCompanies() );
+        }
+    }
+
+    @Override
+    public List<LdbcQuery1Result> decodeResult( BinaryReader reader ) throws SerializingMarshallingException
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcQuery1Result> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcQuery1Result(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readStrings(),
+                    reader.readStrings(),
+                    reader.readString(),
+                    (Iterable<List<Object>>) reader.readValue(),
+                    (Iterable<List<Object>>) reader.readValue()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
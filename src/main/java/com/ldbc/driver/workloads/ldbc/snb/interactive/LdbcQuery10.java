@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -59,6 +62,14 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitInt( MONTH, month );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -167,6 +178,42 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcQuery10Result> results = (List<LdbcQuery10Result>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery10Result result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.personFirstName() );
+            writer.writeString( result.personLastName() );
+            writer.writeVarInt( result.commonInterestScore() );
+            writer.writeString( result.personGender() );
+            writer.writeString( result.personCityName() );
+        }
+    }
+
+    @Override
+    public List<LdbcQuery10Result> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcQuery10Result> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcQuery10Result(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readString(),
+                    reader.readString()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
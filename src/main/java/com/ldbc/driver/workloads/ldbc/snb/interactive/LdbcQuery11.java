@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -67,6 +70,15 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitString( COUNTRY_NAME, countryName );
+        visitor.visitInt( WORK_FROM_YEAR, workFromYear );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -176,6 +188,40 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcQuery11Result> results = (List<LdbcQuery11Result>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery11Result result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.personFirstName() );
+            writer.writeString( result.personLastName() );
+            writer.writeString( result.organizationName() );
+            writer.writeVarInt( result.organizationWorkFromYear() );
+        }
+    }
+
+    @Override
+    public List<LdbcQuery11Result> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcQuery11Result> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcQuery11Result(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -58,6 +61,14 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitString( TAG_CLASS_NAME, tagClassName );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -163,6 +174,40 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcQuery12Result> results = (List<LdbcQuery12Result>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery12Result result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.personFirstName() );
+            writer.writeString( result.personLastName() );
+            writer.writeStrings( result.tagNames() );
+            writer.writeVarInt( result.replyCount() );
+        }
+    }
+
+    @Override
+    public List<LdbcQuery12Result> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcQuery12Result> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcQuery12Result(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readStrings(),
+                    reader.readVarInt()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -48,6 +51,13 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON1_ID, person1Id );
+        visitor.visitLong( PERSON2_ID, person2Id );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -121,6 +131,21 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        LdbcQuery13Result result = (LdbcQuery13Result) resultsObject;
+        writer.writeVarInt( result.shortestPathLength() );
+    }
+
+    @Override
+    public LdbcQuery13Result decodeResult( BinaryReader reader )
+    {
+        return new LdbcQuery13Result(
+                reader.readVarInt()
+        );
+    }
+
     @Override
     public int type()
     {
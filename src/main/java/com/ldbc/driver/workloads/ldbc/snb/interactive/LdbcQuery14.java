@@ -3,7 +3,10 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -50,6 +53,13 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON1_ID, person1Id );
+        visitor.visitLong( PERSON2_ID, person2Id );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -154,6 +164,34 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcQuery14Result> results = (List<LdbcQuery14Result>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery14Result result = results.get( i );
+            writer.writeLongs( result.personsIdsInPath() );
+            writer.writeDouble( result.pathWeight() );
+        }
+    }
+
+    @Override
+    public List<LdbcQuery14Result> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcQuery14Result> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcQuery14Result(
+                    reader.readLongs(),
+                    reader.readDouble()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
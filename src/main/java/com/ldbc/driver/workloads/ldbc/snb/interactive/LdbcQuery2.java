@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -60,6 +63,14 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitDate( MAX_DATE, maxDate.getTime() );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -168,6 +179,42 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcQuery2Result> results = (List<LdbcQuery2Result>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery2Result result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.personFirstName() );
+            writer.writeString( result.personLastName() );
+            writer.writeVarLong( result.postOrCommentId() );
+            writer.writeString( result.postOrCommentContent() );
+            writer.writeVarLong( result.postOrCommentCreationDate() );
+        }
+    }
+
+    @Override
+    public List<LdbcQuery2Result> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcQuery2Result> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcQuery2Result(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarLong()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -87,6 +90,17 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
             .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitString( COUNTRY_X_NAME, countryXName );
+        visitor.visitString( COUNTRY_Y_NAME, countryYName );
+        visitor.visitDate( START_DATE, startDate.getTime() );
+        visitor.visitInt( DURATION_DAYS, durationDays );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -207,6 +221,42 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcQuery3Result> results = (List<LdbcQuery3Result>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery3Result result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.personFirstName() );
+            writer.writeString( result.personLastName() );
+            writer.writeVarLong( result.xCount() );
+            writer.writeVarLong( result.yCount() );
+            writer.writeVarLong( result.count() );
+        }
+    }
+
+    @Override
+    public List<LdbcQuery3Result> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcQuery3Result> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcQuery3Result(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarLong()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
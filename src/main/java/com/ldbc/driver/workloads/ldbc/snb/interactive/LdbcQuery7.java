@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -50,6 +53,13 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -160,6 +170,46 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
         }
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcQuery7Result> results = (List<LdbcQuery7Result>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcQuery7Result result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.personFirstName() );
+            writer.writeString( result.personLastName() );
+            writer.writeVarLong( result.likeCreationDate() );
+            writer.writeVarLong( result.commentOrPostId() );
+            writer.writeString( result.commentOrPostContent() );
+            writer.writeVarInt( result.minutesLatency() );
+            writer.writeBoolean( result.isNew() );
+        }
+    }
+
+    @Override
+    public List<LdbcQuery7Result> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcQuery7Result> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcQuery7Result(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readBoolean()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
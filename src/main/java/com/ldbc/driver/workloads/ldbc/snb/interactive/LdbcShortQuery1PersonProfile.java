@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -39,6 +42,12 @@ public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1Perso
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+    }
+
     @Override
     public LdbcShortQuery1PersonProfileResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
@@ -131,6 +140,35 @@ public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1Perso
                '}';
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        LdbcShortQuery1PersonProfileResult result = (LdbcShortQuery1PersonProfileResult) resultsObject;
+        writer.writeString( result.firstName() );
+        writer.writeString( result.lastName() );
+        writer.writeVarLong( result.birthday() );
+        writer.writeString( result.locationIp() );
+        writer.writeString( result.browserUsed() );
+        writer.writeVarLong( result.cityId() );
+        writer.writeString( result.gender() );
+        writer.writeVarLong( result.creationDate() );
+    }
+
+    @Override
+    public LdbcShortQuery1PersonProfileResult decodeResult( BinaryReader reader )
+    {
+        return new LdbcShortQuery1PersonProfileResult(
+                reader.readString(),
+                reader.readString(),
+                reader.readVarLong(),
+                reader.readString(),
+                reader.readString(),
+                reader.readVarLong(),
+                reader.readString(),
+                reader.readVarLong()
+        );
+    }
+
     @Override
     public int type()
     {
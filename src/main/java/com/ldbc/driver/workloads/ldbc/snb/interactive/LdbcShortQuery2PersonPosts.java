@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -48,6 +51,13 @@ public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2Pe
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitInt( LIMIT, limit );
+    }
+
     @Override
     public List<LdbcShortQuery2PersonPostsResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
@@ -160,6 +170,44 @@ public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2Pe
                '}';
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcShortQuery2PersonPostsResult> results = (List<LdbcShortQuery2PersonPostsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcShortQuery2PersonPostsResult result = results.get( i );
+            writer.writeVarLong( result.messageId() );
+            writer.writeString( result.messageContent() );
+            writer.writeVarLong( result.messageCreationDate() );
+            writer.writeVarLong( result.originalPostId() );
+            writer.writeVarLong( result.originalPostAuthorId() );
+            writer.writeString( result.originalPostAuthorFirstName() );
+            writer.writeString( result.originalPostAuthorLastName() );
+        }
+    }
+
+    @Override
+    public List<LdbcShortQuery2PersonPostsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcShortQuery2PersonPostsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcShortQuery2PersonPostsResult(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -38,6 +41,12 @@ public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+    }
+
     @Override
     public List<LdbcShortQuery3PersonFriendsResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
@@ -136,6 +145,38 @@ public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3
                '}';
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcShortQuery3PersonFriendsResult> results = (List<LdbcShortQuery3PersonFriendsResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcShortQuery3PersonFriendsResult result = results.get( i );
+            writer.writeVarLong( result.personId() );
+            writer.writeString( result.firstName() );
+            writer.writeString( result.lastName() );
+            writer.writeVarLong( result.friendshipCreationDate() );
+        }
+    }
+
+    @Override
+    public List<LdbcShortQuery3PersonFriendsResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcShortQuery3PersonFriendsResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcShortQuery3PersonFriendsResult(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarLong()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
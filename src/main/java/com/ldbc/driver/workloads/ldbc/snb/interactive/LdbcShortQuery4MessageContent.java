@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -38,6 +41,12 @@ public class LdbcShortQuery4MessageContent extends Operation<LdbcShortQuery4Mess
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( MESSAGE_ID, messageId );
+    }
+
     @Override
     public LdbcShortQuery4MessageContentResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
@@ -112,6 +121,23 @@ public class LdbcShortQuery4MessageContent extends Operation<LdbcShortQuery4Mess
                '}';
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        LdbcShortQuery4MessageContentResult result = (LdbcShortQuery4MessageContentResult) resultsObject;
+        writer.writeString( result.messageContent() );
+        writer.writeVarLong( result.messageCreationDate() );
+    }
+
+    @Override
+    public LdbcShortQuery4MessageContentResult decodeResult( BinaryReader reader )
+    {
+        return new LdbcShortQuery4MessageContentResult(
+                reader.readString(),
+                reader.readVarLong()
+        );
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -38,6 +41,12 @@ public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5Mess
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( MESSAGE_ID, messageId );
+    }
+
     @Override
     public LdbcShortQuery5MessageCreatorResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
@@ -116,6 +125,25 @@ public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5Mess
                '}';
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        LdbcShortQuery5MessageCreatorResult result = (LdbcShortQuery5MessageCreatorResult) resultsObject;
+        writer.writeVarLong( result.personId() );
+        writer.writeString( result.firstName() );
+        writer.writeString( result.lastName() );
+    }
+
+    @Override
+    public LdbcShortQuery5MessageCreatorResult decodeResult( BinaryReader reader )
+    {
+        return new LdbcShortQuery5MessageCreatorResult(
+                reader.readVarLong(),
+                reader.readString(),
+                reader.readString()
+        );
+    }
+
     @Override
     public int type()
     {
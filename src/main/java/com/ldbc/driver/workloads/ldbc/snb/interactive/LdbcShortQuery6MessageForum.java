@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -38,6 +41,12 @@ public class LdbcShortQuery6MessageForum extends Operation<LdbcShortQuery6Messag
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( MESSAGE_ID, messageId );
+    }
+
     @Override
     public LdbcShortQuery6MessageForumResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
@@ -122,6 +131,29 @@ public class LdbcShortQuery6MessageForum extends Operation<LdbcShortQuery6Messag
                '}';
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        LdbcShortQuery6MessageForumResult result = (LdbcShortQuery6MessageForumResult) resultsObject;
+        writer.writeVarLong( result.forumId() );
+        writer.writeString( result.forumTitle() );
+        writer.writeVarLong( result.moderatorId() );
+        writer.writeString( result.moderatorFirstName() );
+        writer.writeString( result.moderatorLastName() );
+    }
+
+    @Override
+    public LdbcShortQuery6MessageForumResult decodeResult( BinaryReader reader )
+    {
+        return new LdbcShortQuery6MessageForumResult(
+                reader.readVarLong(),
+                reader.readString(),
+                reader.readVarLong(),
+                reader.readString(),
+                reader.readString()
+        );
+    }
+
     @Override
     public int type()
     {
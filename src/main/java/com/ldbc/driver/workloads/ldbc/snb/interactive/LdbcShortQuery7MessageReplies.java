@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.type.TypeReference;
@@ -38,6 +41,12 @@ public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( MESSAGE_ID, messageId );
+    }
+
     @Override
     public List<LdbcShortQuery7MessageRepliesResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
@@ -145,6 +154,44 @@ public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery
                '}';
     }
 
+    @Override
+    public void encodeResult( Object resultsObject, BinaryWriter writer )
+    {
+        List<LdbcShortQuery7MessageRepliesResult> results = (List<LdbcShortQuery7MessageRepliesResult>) resultsObject;
+        writer.writeVarInt( results.size() );
+        for ( int i = 0; i < results.size(); i++ )
+        {
+            LdbcShortQuery7MessageRepliesResult result = results.get( i );
+            writer.writeVarLong( result.commentId() );
+            writer.writeString( result.commentContent() );
+            writer.writeVarLong( result.commentCreationDate() );
+            writer.writeVarLong( result.replyAuthorId() );
+            writer.writeString( result.replyAuthorFirstName() );
+            writer.writeString( result.replyAuthorLastName() );
+            writer.writeBoolean( result.isReplyAuthorKnowsOriginalMessageAuthor() );
+        }
+    }
+
+    @Override
+    public List<LdbcShortQuery7MessageRepliesResult> decodeResult( BinaryReader reader )
+    {
+        int resultCount = reader.readVarInt();
+        List<LdbcShortQuery7MessageRepliesResult> results = new ArrayList<>( resultCount );
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            results.add( new LdbcShortQuery7MessageRepliesResult(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readBoolean()
+            ) );
+        }
+        return results;
+    }
+
     @Override
     public int type()
     {
@@ -0,0 +1,153 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.CountOnlyResult;
+
+/**
+ * Adds the ids of one result row to a {@link CountOnlyResult}, per operation type, for handlers that report counts
+ * instead of results. Each method adds exactly the ids, in the same order, that
+ * {@link LdbcSnbShortReadGenerator.ResultBufferReplenishFun} takes from the equivalent materialized row, so short reads
+ * are generated from the same ids either way.
+ * <p/>
+ * Results of operation types without a method here contribute no ids, i.e., handlers only report their row count:
+ * {@link LdbcQuery4}, {@link LdbcQuery5}, {@link LdbcQuery6}, {@link LdbcQuery13},
+ * {@link LdbcShortQuery1PersonProfile}, {@link LdbcShortQuery4MessageContent}, and all updates.
+ */
+public final class LdbcSnbCountOnlyResults
+{
+    private LdbcSnbCountOnlyResults()
+    {
+    }
+
+    /**
+     * @see LdbcQuery1Result
+     */
+    public static void addQuery1Row( CountOnlyResult result, long friendId )
+    {
+        result.addPersonId( friendId );
+    }
+
+    /**
+     * @see LdbcQuery2Result
+     */
+    public static void addQuery2Row( CountOnlyResult result, long personId, long postOrCommentId )
+    {
+        result.addPersonId( personId );
+        result.addMessageId( postOrCommentId );
+    }
+
+    /**
+     * @see LdbcQuery3Result
+     */
+    public static void addQuery3Row( CountOnlyResult result, long personId )
+    {
+        result.addPersonId( personId );
+    }
+
+    /**
+     * @see LdbcQuery7Result
+     */
+    public static void addQuery7Row( CountOnlyResult result, long personId, long commentOrPostId )
+    {
+        result.addPersonId( personId );
+        result.addMessageId( commentOrPostId );
+    }
+
+    /**
+     * @see LdbcQuery8Result
+     */
+    public static void addQuery8Row( CountOnlyResult result, long personId, long commentId )
+    {
+        result.addPersonId( personId );
+        result.addMessageId( commentId );
+    }
+
+    /**
+     * @see LdbcQuery9Result
+     */
+    public static void addQuery9Row( CountOnlyResult result, long personId, long commentOrPostId )
+    {
+        result.addPersonId( personId );
+        result.addMessageId( commentOrPostId );
+    }
+
+    /**
+     * @see LdbcQuery10Result
+     */
+    public static void addQuery10Row( CountOnlyResult result, long personId )
+    {
+        result.addPersonId( personId );
+    }
+
+    /**
+     * @see LdbcQuery11Result
+     */
+    public static void addQuery11Row( CountOnlyResult result, long personId )
+    {
+        result.addPersonId( personId );
+    }
+
+    /**
+     * @see LdbcQuery12Result
+     */
+    public static void addQuery12Row( CountOnlyResult result, long personId )
+    {
+        result.addPersonId( personId );
+    }
+
+    /**
+     * Every person on the path, in path order
+     *
+     * @see LdbcQuery14Result
+     */
+    public static void addQuery14Row( CountOnlyResult result, long[] personIdsInPath )
+    {
+        for ( long personId : personIdsInPath )
+        {
+            result.addPersonId( personId );
+        }
+    }
+
+    /**
+     * @see LdbcShortQuery2PersonPostsResult
+     */
+    public static void addShortQuery2Row( CountOnlyResult result, long messageId, long originalPostId,
+            long originalPostAuthorId )
+    {
+        result.addPersonId( originalPostAuthorId );
+        result.addMessageId( messageId );
+        result.addMessageId( originalPostId );
+    }
+
+    /**
+     * @see LdbcShortQuery3PersonFriendsResult
+     */
+    public static void addShortQuery3Row( CountOnlyResult result, long personId )
+    {
+        result.addPersonId( personId );
+    }
+
+    /**
+     * @see LdbcShortQuery5MessageCreatorResult
+     */
+    public static void addShortQuery5Row( CountOnlyResult result, long personId )
+    {
+        result.addPersonId( personId );
+    }
+
+    /**
+     * @see LdbcShortQuery6MessageForumResult
+     */
+    public static void addShortQuery6Row( CountOnlyResult result, long moderatorId )
+    {
+        result.addPersonId( moderatorId );
+    }
+
+    /**
+     * @see LdbcShortQuery7MessageRepliesResult
+     */
+    public static void addShortQuery7Row( CountOnlyResult result, long commentId, long replyAuthorId )
+    {
+        result.addPersonId( replyAuthorId );
+        result.addMessageId( commentId );
+    }
+}
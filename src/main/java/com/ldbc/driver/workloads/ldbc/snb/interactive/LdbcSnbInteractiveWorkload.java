@@ -1,6 +1,5 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.google.common.base.Charsets;
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
@@ -8,20 +7,23 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.WorkloadStreamsIndex;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
-import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.csv.CharSeekerCsvFileReader;
+import com.ldbc.driver.csv.CompressedFiles;
+import com.ldbc.driver.csv.charseeker.ByteBufferCharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
-import com.ldbc.driver.csv.charseeker.Readables;
-import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
@@ -36,10 +38,7 @@ import org.codehaus.jackson.type.TypeReference;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -49,7 +48,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Queue;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -101,6 +100,13 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private Set<Class> enabledShortReadOperationTypes;
     private Set<Class> enabledWriteOperationTypes;
     private LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private File lineOffsetIndexDir;
+    private int readAheadBufferCount;
+    private int updateDecoderThreadCount;
+    // created on first use, shared by update streams
+    private ChunkDecoderPool updateDecoderPool = null;
+    // decompression throughput of compressed files is reported to
+    private LoggingService compressedFilesLoggingService;
 
     @Override
     public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
@@ -111,6 +117,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
     @Override
     public void onInit( Map<String,String> params ) throws WorkloadException
     {
+        compressedFilesLoggingService =
+                loggingServiceFactory().loggingServiceFor( CompressedFiles.class.getSimpleName() );
+
         List<String> compulsoryKeys = Lists.newArrayList(
                 LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY );
 
@@ -162,7 +171,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
         for ( String readOperationParamsFilename :
                 LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_PARAMS_FILENAMES )
         {
-            File readOperationParamsFile = new File( parametersDir, readOperationParamsFilename );
+            File readOperationParamsFile = paramsFile( parametersDir, readOperationParamsFilename );
             if ( false == readOperationParamsFile.exists() )
             {
                 throw new WorkloadException(
@@ -171,33 +180,33 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
         }
         readOperation1File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_1_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_1_PARAMS_FILENAME );
         readOperation2File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_2_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_2_PARAMS_FILENAME );
         readOperation3File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_3_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_3_PARAMS_FILENAME );
         readOperation4File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_4_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_4_PARAMS_FILENAME );
         readOperation5File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_5_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_5_PARAMS_FILENAME );
         readOperation7File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_7_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_7_PARAMS_FILENAME );
         readOperation8File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_8_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_8_PARAMS_FILENAME );
         readOperation9File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_9_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_9_PARAMS_FILENAME );
         readOperation6File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_6_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_6_PARAMS_FILENAME );
         readOperation10File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_10_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_10_PARAMS_FILENAME );
         readOperation11File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_11_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_11_PARAMS_FILENAME );
         readOperation12File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_12_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_12_PARAMS_FILENAME );
         readOperation13File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_13_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_13_PARAMS_FILENAME );
         readOperation14File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_14_PARAMS_FILENAME );
+                paramsFile( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_14_PARAMS_FILENAME );
 
         enabledLongReadOperationTypes = new HashSet<>();
         for ( String longReadOperationEnableKey : LdbcSnbInteractiveWorkloadConfiguration
@@ -402,6 +411,45 @@ public class LdbcSnbInteractiveWorkload extends Workload
             throw new WorkloadException( "Invalid parser: " + parserString );
         }
         this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf( parserString.trim() );
+        String readAheadBufferCountString =
+                params.get( LdbcSnbInteractiveWorkloadConfiguration.READ_AHEAD_BUFFER_COUNT );
+        try
+        {
+            this.readAheadBufferCount = (null == readAheadBufferCountString)
+                                        ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_READ_AHEAD_BUFFER_COUNT
+                                        : Integer.parseInt( readAheadBufferCountString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException( "Unable to parse read ahead buffer count: " + readAheadBufferCountString, e );
+        }
+        if ( readAheadBufferCount < 1 )
+        {
+            throw new WorkloadException( "Read ahead buffer count must be positive: " + readAheadBufferCount );
+        }
+        String updateDecoderThreadCountString =
+                params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_DECODER_THREAD_COUNT );
+        try
+        {
+            this.updateDecoderThreadCount =
+                    (null == updateDecoderThreadCountString)
+                    ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_DECODER_THREAD_COUNT
+                    : Integer.parseInt( updateDecoderThreadCountString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException(
+                    "Unable to parse update decoder thread count: " + updateDecoderThreadCountString, e );
+        }
+        if ( updateDecoderThreadCount < 1 )
+        {
+            throw new WorkloadException( "Update decoder thread count must be positive: " + updateDecoderThreadCount );
+        }
+        // update stream line offset indexes are kept with the workload stream index, if there is one
+        String workloadStreamIndexDirPath = params.get( WorkloadStreamsIndex.WORKLOAD_STREAM_INDEX_DIR_ARG );
+        this.lineOffsetIndexDir = (null == workloadStreamIndexDirPath)
+                                  ? null
+                                  : new File( workloadStreamIndexDirPath.trim() );
         this.compressionRatio = Double.parseDouble(
                 params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim()
         );
@@ -424,58 +472,86 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             readOperationFileReader.close();
         }
+
+        if ( null != updateDecoderPool )
+        {
+            updateDecoderPool.close();
+        }
+    }
+
+    private static File paramsFile( File parametersDir, String paramsFilename )
+    {
+        return CompressedFiles.resolve( new File( parametersDir, paramsFilename ) );
     }
 
     private Tuple2<Iterator<Operation>,Closeable> fileToWriteStreamParser( File updateOperationsFile,
             LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser ) throws IOException, WorkloadException
     {
+        if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.REGEX != parser &&
+             CompressedFiles.isCompressed( updateOperationsFile ) )
+        {
+            return compressedFileToWriteStreamParser( updateOperationsFile );
+        }
         switch ( parser )
         {
         case REGEX:
         {
-            SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader( updateOperationsFile,
-                    SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
-            return Tuple.<Iterator<Operation>,Closeable>tuple2( WriteEventStreamReaderRegex.create( csvFileReader ),
-                    csvFileReader );
+            return regexFileToWriteStreamParser( updateOperationsFile );
         }
         case CHAR_SEEKER:
+        case CHAR_SEEKER_THREAD:
         {
             int bufferSize = 1 * 1024 * 1024;
-//                BufferedCharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new FileReader
-// (updateOperationsFile)), bufferSize);
-            BufferedCharSeeker charSeeker = new BufferedCharSeeker(
-                    Readables.wrap(
-                            new InputStreamReader( new FileInputStream( updateOperationsFile ), Charsets.UTF_8 )
-                    ),
-                    bufferSize
-            );
-            Extractors extractors = new Extractors( ';', ',' );
-            return Tuple.<Iterator<Operation>,Closeable>tuple2(
-                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
+            WriteEventStreamFileReader fileReader = new WriteEventStreamFileReader( updateOperationsFile, parser,
+                    bufferSize, readAheadBufferCount, lineOffsetIndexDir );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( fileReader, fileReader );
         }
-        case CHAR_SEEKER_THREAD:
+        case CHAR_SEEKER_MAPPED:
         {
-            int bufferSize = 1 * 1024 * 1024;
-            BufferedCharSeeker charSeeker = new BufferedCharSeeker(
-                    ThreadAheadReadable.threadAhead(
-                            Readables.wrap(
-                                    new InputStreamReader( new FileInputStream( updateOperationsFile ), Charsets.UTF_8 )
-                            ),
-                            bufferSize
-                    ),
-                    bufferSize
-            );
-            Extractors extractors = new Extractors( ';', ',' );
-            return Tuple.<Iterator<Operation>,Closeable>tuple2(
-                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
+            WriteEventStreamFileReader fileReader = new WriteEventStreamFileReader( updateOperationsFile, parser,
+                    ByteBufferCharSeeker.DEFAULT_WINDOW_SIZE, lineOffsetIndexDir );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( fileReader, fileReader );
         }
+        case CHAR_SEEKER_PARALLEL:
+        {
+            if ( null == updateDecoderPool )
+            {
+                updateDecoderPool = new ChunkDecoderPool( updateDecoderThreadCount );
+            }
+            WriteEventStreamFileReader fileReader = new WriteEventStreamFileReader( updateOperationsFile, parser,
+                    ParallelWriteEventStreamReader.DEFAULT_CHUNK_SIZE, readAheadBufferCount, updateDecoderPool,
+                    lineOffsetIndexDir );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( fileReader, fileReader );
         }
-        SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader( updateOperationsFile,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+        }
+        return regexFileToWriteStreamParser( updateOperationsFile );
+    }
+
+    private Tuple2<Iterator<Operation>,Closeable> regexFileToWriteStreamParser( File updateOperationsFile )
+            throws IOException
+    {
+        CharSeekerCsvFileReader csvFileReader = new CharSeekerCsvFileReader(
+                CompressedFiles.readable( updateOperationsFile, CharSeekerCsvFileReader.DEFAULT_BUFFER_SIZE,
+                        compressedFilesLoggingService ),
+                CharSeekerCsvFileReader.DEFAULT_COLUMN_SEPARATOR,
+                CharSeekerCsvFileReader.DEFAULT_BUFFER_SIZE );
         return Tuple.<Iterator<Operation>,Closeable>tuple2( WriteEventStreamReaderRegex.create( csvFileReader ),
                 csvFileReader );
     }
 
+    // compressed files can only be read sequentially, so char seeker parsers read them like CHAR_SEEKER_THREAD does,
+    // without seeking, mapping or indexing
+    private Tuple2<Iterator<Operation>,Closeable> compressedFileToWriteStreamParser( File updateOperationsFile )
+            throws IOException
+    {
+        int bufferSize = 1 * 1024 * 1024;
+        CharSeeker charSeeker = CompressedFiles.charSeeker( updateOperationsFile, bufferSize, readAheadBufferCount,
+                compressedFilesLoggingService );
+        return Tuple.<Iterator<Operation>,Closeable>tuple2(
+                WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' ),
+                charSeeker );
+    }
+
     @Override
     protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
     {
@@ -494,6 +570,19 @@ public class LdbcSnbInteractiveWorkload extends Workload
          * *******
          * *******/
 
+        boolean allWriteOperationTypesEnabled = enabledWriteOperationTypes.containsAll(
+                Sets.<Class>newHashSet(
+                        LdbcUpdate1AddPerson.class,
+                        LdbcUpdate2AddPostLike.class,
+                        LdbcUpdate3AddCommentLike.class,
+                        LdbcUpdate4AddForum.class,
+                        LdbcUpdate5AddForumMembership.class,
+                        LdbcUpdate6AddPost.class,
+                        LdbcUpdate7AddComment.class,
+                        LdbcUpdate8AddFriendship.class
+                )
+        );
+
         // TODO put person/forum update stream pairs into same streams, to half required thread count
          /*
          * Create person write operation streams
@@ -531,7 +620,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     continue;
                 }
                 PeekingIterator<Operation> unfilteredPersonUpdateOperations =
-                        Iterators.peekingIterator( personUpdateOperationsParser );
+                        (personUpdateOperationsParser instanceof PeekingIterator)
+                        ? (PeekingIterator<Operation>) personUpdateOperationsParser
+                        : Iterators.peekingIterator( personUpdateOperationsParser );
 
                 try
                 {
@@ -555,8 +646,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         return enabledWriteOperationTypes.contains( operation.getClass() );
                     }
                 };
-                Iterator<Operation> filteredPersonUpdateOperations =
-                        Iterators.filter( unfilteredPersonUpdateOperations, enabledWriteOperationsFilter );
+                // without a filter, the stream keeps the ability of the parser to skip by seeking
+                Iterator<Operation> filteredPersonUpdateOperations = (allWriteOperationTypesEnabled)
+                                                                ? unfilteredPersonUpdateOperations
+                                                                : Iterators.filter( unfilteredPersonUpdateOperations,
+                                                                        enabledWriteOperationsFilter );
 
                 Set<Class<? extends Operation>> dependentPersonUpdateOperationTypes = Sets.newHashSet();
                 Set<Class<? extends Operation>> dependencyPersonUpdateOperationTypes =
@@ -619,7 +713,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     continue;
                 }
                 PeekingIterator<Operation> unfilteredForumUpdateOperations =
-                        Iterators.peekingIterator( forumUpdateOperationsParser );
+                        (forumUpdateOperationsParser instanceof PeekingIterator)
+                        ? (PeekingIterator<Operation>) forumUpdateOperationsParser
+                        : Iterators.peekingIterator( forumUpdateOperationsParser );
 
                 try
                 {
@@ -642,8 +738,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         return enabledWriteOperationTypes.contains( operation.getClass() );
                     }
                 };
-                Iterator<Operation> filteredForumUpdateOperations =
-                        Iterators.filter( unfilteredForumUpdateOperations, enabledWriteOperationsFilter );
+                // without a filter, the stream keeps the ability of the parser to skip by seeking
+                Iterator<Operation> filteredForumUpdateOperations = (allWriteOperationTypesEnabled)
+                                                                ? unfilteredForumUpdateOperations
+                                                                : Iterators.filter( unfilteredForumUpdateOperations,
+                                                                        enabledWriteOperationsFilter );
 
                 Set<Class<? extends Operation>> dependentForumUpdateOperationTypes =
                         Sets.<Class<? extends Operation>>newHashSet(
@@ -696,14 +795,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation1File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation1File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation1File.getAbsolutePath() ),
@@ -723,7 +818,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation1StreamWithoutTimes = new Query1EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -734,8 +829,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation1StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation1InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation1StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation1InterleaveAsMilli,
                             readOperation1InterleaveAsMilli );
 
             readOperation1Stream = gf.assignStartTimes(
@@ -754,14 +849,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation2File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation2File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation2File.getAbsolutePath() ),
@@ -781,7 +872,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation2StreamWithoutTimes = new Query2EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -792,8 +883,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation2StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation2InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation2StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation2InterleaveAsMilli,
                             readOperation2InterleaveAsMilli );
 
             readOperation2Stream = gf.assignStartTimes(
@@ -812,14 +903,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation3File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation3File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation3File.getAbsolutePath() ),
@@ -842,7 +929,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation3StreamWithoutTimes = new Query3EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -853,8 +940,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation3StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation3InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation3StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation3InterleaveAsMilli,
                             readOperation3InterleaveAsMilli );
 
             readOperation3Stream = gf.assignStartTimes(
@@ -873,14 +960,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation4File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation4File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation4File.getAbsolutePath() ),
@@ -901,7 +984,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation4StreamWithoutTimes = new Query4EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -912,8 +995,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation4StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation4InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation4StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation4InterleaveAsMilli,
                             readOperation4InterleaveAsMilli );
 
             readOperation4Stream = gf.assignStartTimes(
@@ -932,14 +1015,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation5File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation5File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation5File.getAbsolutePath() ),
@@ -959,7 +1038,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation5StreamWithoutTimes = new Query5EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -970,8 +1049,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation5StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation5InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation5StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation5InterleaveAsMilli,
                             readOperation5InterleaveAsMilli );
 
             readOperation5Stream = gf.assignStartTimes(
@@ -990,14 +1069,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation6File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation6File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation6File.getAbsolutePath() ),
@@ -1017,7 +1092,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation6StreamWithoutTimes = new Query6EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1028,8 +1103,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation6StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation6InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation6StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation6InterleaveAsMilli,
                             readOperation6InterleaveAsMilli );
 
             readOperation6Stream = gf.assignStartTimes(
@@ -1048,14 +1123,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation7File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation7File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation7File.getAbsolutePath() ),
@@ -1074,7 +1145,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation7StreamWithoutTimes = new Query7EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1085,8 +1156,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation7StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation7InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation7StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation7InterleaveAsMilli,
                             readOperation7InterleaveAsMilli );
 
             readOperation7Stream = gf.assignStartTimes(
@@ -1105,14 +1176,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation8File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation8File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation8File.getAbsolutePath() ),
@@ -1131,7 +1198,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation8StreamWithoutTimes = new Query8EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1142,8 +1209,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation8StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation8InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation8StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation8InterleaveAsMilli,
                             readOperation8InterleaveAsMilli );
 
             readOperation8Stream = gf.assignStartTimes(
@@ -1162,14 +1229,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation9File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation9File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation9File.getAbsolutePath() ),
@@ -1189,7 +1252,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation9StreamWithoutTimes = new Query9EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1200,8 +1263,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation9StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation9InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation9StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation9InterleaveAsMilli,
                             readOperation9InterleaveAsMilli );
 
             readOperation9Stream = gf.assignStartTimes(
@@ -1220,14 +1283,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation10File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation10File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation10File.getAbsolutePath() ),
@@ -1247,7 +1306,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation10StreamWithoutTimes = new Query10EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1258,8 +1317,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation10StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation10InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation10StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation10InterleaveAsMilli,
                             readOperation10InterleaveAsMilli );
 
             readOperation10Stream = gf.assignStartTimes(
@@ -1278,14 +1337,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation11File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation11File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation11File.getAbsolutePath() ),
@@ -1306,7 +1361,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation11StreamWithoutTimes = new Query11EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1317,8 +1372,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation11StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation11InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation11StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation11InterleaveAsMilli,
                             readOperation11InterleaveAsMilli );
 
             readOperation11Stream = gf.assignStartTimes(
@@ -1337,14 +1392,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation12File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation12File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation12File.getAbsolutePath() ),
@@ -1364,7 +1415,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation12StreamWithoutTimes = new Query12EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1375,8 +1426,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation12StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation12InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation12StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation12InterleaveAsMilli,
                             readOperation12InterleaveAsMilli );
 
             readOperation12Stream = gf.assignStartTimes(
@@ -1395,14 +1446,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation13File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation13File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation13File.getAbsolutePath() ),
@@ -1422,7 +1469,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation13StreamWithoutTimes = new Query13EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1433,8 +1480,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation13StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation13InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation13StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation13InterleaveAsMilli,
                             readOperation13InterleaveAsMilli );
 
             readOperation13Stream = gf.assignStartTimes(
@@ -1453,14 +1500,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation14File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = CompressedFiles.charSeeker( readOperation14File, bufferSize, readAheadBufferCount,
+                        compressedFilesLoggingService );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation14File.getAbsolutePath() ),
@@ -1480,7 +1523,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             }
 
             Iterator<Operation> operation14StreamWithoutTimes = new Query14EventStreamReader(
-                    gf.repeating(
+                    gf.repeatingColumnar(
                             new CsvEventStreamReaderBasicCharSeeker<>(
                                     charSeeker,
                                     extractors,
@@ -1491,8 +1534,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     )
             );
 
-            Iterator<Long> operation14StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation14InterleaveAsMilli,
+            PrimitiveIterator.OfLong operation14StartTimes =
+                    gf.incrementingLongs( workloadStartTimeAsMilli + readOperation14InterleaveAsMilli,
                             readOperation14InterleaveAsMilli );
 
             readOperation14Stream = gf.assignStartTimes(
@@ -1554,58 +1597,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
          * *******
          * *******/
 
-        ChildOperationGenerator shortReadsChildGenerator = null;
-        if ( false == enabledShortReadOperationTypes.isEmpty() )
-        {
-            Map<Integer,Long> longReadInterleavesAsMilli = new HashMap<>();
-            longReadInterleavesAsMilli.put( LdbcQuery1.TYPE, readOperation1InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery2.TYPE, readOperation2InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery3.TYPE, readOperation3InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery4.TYPE, readOperation4InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery5.TYPE, readOperation5InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery6.TYPE, readOperation6InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery7.TYPE, readOperation7InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery8.TYPE, readOperation8InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery9.TYPE, readOperation9InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery10.TYPE, readOperation10InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery11.TYPE, readOperation11InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery12.TYPE, readOperation12InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery13.TYPE, readOperation13InterleaveAsMilli );
-            longReadInterleavesAsMilli.put( LdbcQuery14.TYPE, readOperation14InterleaveAsMilli );
-
-            RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory( 42l );
-            double initialProbability = 1.0;
-            Queue<Long> personIdBuffer = (hasDbConnected)
-                                         ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( 1024 )
-                                         : LdbcSnbShortReadGenerator.constantBuffer( 1 );
-            Queue<Long> messageIdBuffer = (hasDbConnected)
-                                          ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( 1024 )
-                                          : LdbcSnbShortReadGenerator.constantBuffer( 1 );
-            LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
-                                                                                             ?
-                                                                                             LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME
-                                                                                             :
-                                                                                             LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_SCHEDULED_START_TIME;
-            LdbcSnbShortReadGenerator.BufferReplenishFun bufferReplenishFun = (hasDbConnected)
-                                                                              ? new LdbcSnbShortReadGenerator
-                    .ResultBufferReplenishFun(
-                    personIdBuffer, messageIdBuffer )
-                                                                              : new LdbcSnbShortReadGenerator
-                                                                                      .NoOpBufferReplenishFun();
-            shortReadsChildGenerator = new LdbcSnbShortReadGenerator(
-                    initialProbability,
-                    shortReadDissipationFactor,
-                    updateInterleaveAsMilli,
-                    enabledShortReadOperationTypes,
-                    compressionRatio,
-                    personIdBuffer,
-                    messageIdBuffer,
-                    randomFactory,
-                    longReadInterleavesAsMilli,
-                    scheduledStartTimePolicy,
-                    bufferReplenishFun
-            );
-        }
+        ChildOperationGenerator shortReadsChildGenerator = shortReadsChildGenerator( hasDbConnected );
 
         /* **************
          * **************
@@ -1626,6 +1618,70 @@ public class LdbcSnbInteractiveWorkload extends Workload
         return ldbcSnbInteractiveWorkloadStreams;
     }
 
+    @Override
+    protected ChildOperationGenerator getAsynchronousChildOperationGenerator( GeneratorFactory gf,
+            boolean hasDbConnected ) throws WorkloadException
+    {
+        return shortReadsChildGenerator( hasDbConnected );
+    }
+
+    // null if short reads are disabled
+    private ChildOperationGenerator shortReadsChildGenerator( boolean hasDbConnected )
+    {
+        if ( enabledShortReadOperationTypes.isEmpty() )
+        {
+            return null;
+        }
+        Map<Integer,Long> longReadInterleavesAsMilli = new HashMap<>();
+        longReadInterleavesAsMilli.put( LdbcQuery1.TYPE, readOperation1InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery2.TYPE, readOperation2InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery3.TYPE, readOperation3InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery4.TYPE, readOperation4InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery5.TYPE, readOperation5InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery6.TYPE, readOperation6InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery7.TYPE, readOperation7InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery8.TYPE, readOperation8InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery9.TYPE, readOperation9InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery10.TYPE, readOperation10InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery11.TYPE, readOperation11InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery12.TYPE, readOperation12InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery13.TYPE, readOperation13InterleaveAsMilli );
+        longReadInterleavesAsMilli.put( LdbcQuery14.TYPE, readOperation14InterleaveAsMilli );
+
+        RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory( 42l );
+        double initialProbability = 1.0;
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = (hasDbConnected)
+                                                            ? LdbcSnbShortReadGenerator.circularBuffer( 1024 )
+                                                            : LdbcSnbShortReadGenerator.constantBuffer( 1 );
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = (hasDbConnected)
+                                                             ? LdbcSnbShortReadGenerator.circularBuffer( 1024 )
+                                                             : LdbcSnbShortReadGenerator.constantBuffer( 1 );
+        LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
+                                                                                         ?
+                                                                                         LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME
+                                                                                         :
+                                                                                         LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_SCHEDULED_START_TIME;
+        LdbcSnbShortReadGenerator.BufferReplenishFun bufferReplenishFun = (hasDbConnected)
+                                                                          ? new LdbcSnbShortReadGenerator
+                .ResultBufferReplenishFun(
+                personIdBuffer, messageIdBuffer )
+                                                                          : new LdbcSnbShortReadGenerator
+                                                                                  .NoOpBufferReplenishFun();
+        return new LdbcSnbShortReadGenerator(
+                initialProbability,
+                shortReadDissipationFactor,
+                updateInterleaveAsMilli,
+                enabledShortReadOperationTypes,
+                compressionRatio,
+                personIdBuffer,
+                messageIdBuffer,
+                randomFactory,
+                longReadInterleavesAsMilli,
+                scheduledStartTimePolicy,
+                bufferReplenishFun
+        );
+    }
+
     @Override
     public DbValidationParametersFilter dbValidationParametersFilter( Integer requiredValidationParameterCount )
     {
@@ -2079,8 +2135,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.personFirstName() );
             operationAsList.add( ldbcQuery.personLastName() );
             operationAsList.add( ldbcQuery.gender() );
-            operationAsList.add( ldbcQuery.birthday().getTime() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.birthdayAsMilli() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             operationAsList.add( ldbcQuery.locationIp() );
             operationAsList.add( ldbcQuery.browserUsed() );
             operationAsList.add( ldbcQuery.cityId() );
@@ -2130,7 +2186,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.personId() );
             operationAsList.add( ldbcQuery.postId() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             try
             {
                 return OBJECT_MAPPER.writeValueAsString( operationAsList );
@@ -2148,7 +2204,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.personId() );
             operationAsList.add( ldbcQuery.commentId() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             try
             {
                 return OBJECT_MAPPER.writeValueAsString( operationAsList );
@@ -2166,7 +2222,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.forumId() );
             operationAsList.add( ldbcQuery.forumTitle() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             operationAsList.add( ldbcQuery.moderatorPersonId() );
             operationAsList.add( ldbcQuery.tagIds() );
             try
@@ -2186,7 +2242,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.forumId() );
             operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.joinDate().getTime() );
+            operationAsList.add( ldbcQuery.joinDateAsMilli() );
             try
             {
                 return OBJECT_MAPPER.writeValueAsString( operationAsList );
@@ -2204,7 +2260,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.postId() );
             operationAsList.add( ldbcQuery.imageFile() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             operationAsList.add( ldbcQuery.locationIp() );
             operationAsList.add( ldbcQuery.browserUsed() );
             operationAsList.add( ldbcQuery.language() );
@@ -2257,7 +2313,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             operationAsList.add( ldbcQuery.getClass().getName() );
             operationAsList.add( ldbcQuery.person1Id() );
             operationAsList.add( ldbcQuery.person2Id() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
+            operationAsList.add( ldbcQuery.creationDateAsMilli() );
             try
             {
                 return OBJECT_MAPPER.writeValueAsString( operationAsList );
@@ -2621,6 +2677,443 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         serializedOperation ) );
     }
 
+    private static final int BINARY_FORMAT_VERSION = 1;
+
+    @Override
+    public int binaryFormatVersion()
+    {
+        return BINARY_FORMAT_VERSION;
+    }
+
+    @Override
+    public void encodeOperation( Operation operation, BinaryWriter writer ) throws SerializingMarshallingException
+    {
+        writer.writeVarInt( operation.type() );
+        switch ( operation.type() )
+        {
+        case LdbcQuery1.TYPE:
+        {
+            LdbcQuery1 ldbcQuery = (LdbcQuery1) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeString( ldbcQuery.firstName() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery2.TYPE:
+        {
+            LdbcQuery2 ldbcQuery = (LdbcQuery2) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarLong( ldbcQuery.maxDate().getTime() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery3.TYPE:
+        {
+            LdbcQuery3 ldbcQuery = (LdbcQuery3) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeString( ldbcQuery.countryXName() );
+            writer.writeString( ldbcQuery.countryYName() );
+            writer.writeVarLong( ldbcQuery.startDate().getTime() );
+            writer.writeVarInt( ldbcQuery.durationDays() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery4.TYPE:
+        {
+            LdbcQuery4 ldbcQuery = (LdbcQuery4) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarLong( ldbcQuery.startDate().getTime() );
+            writer.writeVarInt( ldbcQuery.durationDays() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery5.TYPE:
+        {
+            LdbcQuery5 ldbcQuery = (LdbcQuery5) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarLong( ldbcQuery.minDate().getTime() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery6.TYPE:
+        {
+            LdbcQuery6 ldbcQuery = (LdbcQuery6) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeString( ldbcQuery.tagName() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery7.TYPE:
+        {
+            LdbcQuery7 ldbcQuery = (LdbcQuery7) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery8.TYPE:
+        {
+            LdbcQuery8 ldbcQuery = (LdbcQuery8) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery9.TYPE:
+        {
+            LdbcQuery9 ldbcQuery = (LdbcQuery9) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarLong( ldbcQuery.maxDate().getTime() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery10.TYPE:
+        {
+            LdbcQuery10 ldbcQuery = (LdbcQuery10) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarInt( ldbcQuery.month() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery11.TYPE:
+        {
+            LdbcQuery11 ldbcQuery = (LdbcQuery11) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeString( ldbcQuery.countryName() );
+            writer.writeVarInt( ldbcQuery.workFromYear() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery12.TYPE:
+        {
+            LdbcQuery12 ldbcQuery = (LdbcQuery12) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeString( ldbcQuery.tagClassName() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcQuery13.TYPE:
+        {
+            LdbcQuery13 ldbcQuery = (LdbcQuery13) operation;
+            writer.writeVarLong( ldbcQuery.person1Id() );
+            writer.writeVarLong( ldbcQuery.person2Id() );
+            return;
+        }
+        case LdbcQuery14.TYPE:
+        {
+            LdbcQuery14 ldbcQuery = (LdbcQuery14) operation;
+            writer.writeVarLong( ldbcQuery.person1Id() );
+            writer.writeVarLong( ldbcQuery.person2Id() );
+            return;
+        }
+        case LdbcShortQuery1PersonProfile.TYPE:
+        {
+            writer.writeVarLong( ((LdbcShortQuery1PersonProfile) operation).personId() );
+            return;
+        }
+        case LdbcShortQuery2PersonPosts.TYPE:
+        {
+            LdbcShortQuery2PersonPosts ldbcQuery = (LdbcShortQuery2PersonPosts) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarInt( ldbcQuery.limit() );
+            return;
+        }
+        case LdbcShortQuery3PersonFriends.TYPE:
+        {
+            writer.writeVarLong( ((LdbcShortQuery3PersonFriends) operation).personId() );
+            return;
+        }
+        case LdbcShortQuery4MessageContent.TYPE:
+        {
+            writer.writeVarLong( ((LdbcShortQuery4MessageContent) operation).messageId() );
+            return;
+        }
+        case LdbcShortQuery5MessageCreator.TYPE:
+        {
+            writer.writeVarLong( ((LdbcShortQuery5MessageCreator) operation).messageId() );
+            return;
+        }
+        case LdbcShortQuery6MessageForum.TYPE:
+        {
+            writer.writeVarLong( ((LdbcShortQuery6MessageForum) operation).messageId() );
+            return;
+        }
+        case LdbcShortQuery7MessageReplies.TYPE:
+        {
+            writer.writeVarLong( ((LdbcShortQuery7MessageReplies) operation).messageId() );
+            return;
+        }
+        case LdbcUpdate1AddPerson.TYPE:
+        {
+            LdbcUpdate1AddPerson ldbcQuery = (LdbcUpdate1AddPerson) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeString( ldbcQuery.personFirstName() );
+            writer.writeString( ldbcQuery.personLastName() );
+            writer.writeString( ldbcQuery.gender() );
+            writer.writeVarLong( ldbcQuery.birthdayAsMilli() );
+            writer.writeVarLong( ldbcQuery.creationDateAsMilli() );
+            writer.writeString( ldbcQuery.locationIp() );
+            writer.writeString( ldbcQuery.browserUsed() );
+            writer.writeVarLong( ldbcQuery.cityId() );
+            writer.writeStrings( ldbcQuery.languages() );
+            writer.writeStrings( ldbcQuery.emails() );
+            writer.writeLongs( ldbcQuery.tagIds() );
+            encodeOrganizations( ldbcQuery.studyAt(), writer );
+            encodeOrganizations( ldbcQuery.workAt(), writer );
+            return;
+        }
+        case LdbcUpdate2AddPostLike.TYPE:
+        {
+            LdbcUpdate2AddPostLike ldbcQuery = (LdbcUpdate2AddPostLike) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarLong( ldbcQuery.postId() );
+            writer.writeVarLong( ldbcQuery.creationDateAsMilli() );
+            return;
+        }
+        case LdbcUpdate3AddCommentLike.TYPE:
+        {
+            LdbcUpdate3AddCommentLike ldbcQuery = (LdbcUpdate3AddCommentLike) operation;
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarLong( ldbcQuery.commentId() );
+            writer.writeVarLong( ldbcQuery.creationDateAsMilli() );
+            return;
+        }
+        case LdbcUpdate4AddForum.TYPE:
+        {
+            LdbcUpdate4AddForum ldbcQuery = (LdbcUpdate4AddForum) operation;
+            writer.writeVarLong( ldbcQuery.forumId() );
+            writer.writeString( ldbcQuery.forumTitle() );
+            writer.writeVarLong( ldbcQuery.creationDateAsMilli() );
+            writer.writeVarLong( ldbcQuery.moderatorPersonId() );
+            writer.writeLongs( ldbcQuery.tagIds() );
+            return;
+        }
+        case LdbcUpdate5AddForumMembership.TYPE:
+        {
+            LdbcUpdate5AddForumMembership ldbcQuery = (LdbcUpdate5AddForumMembership) operation;
+            writer.writeVarLong( ldbcQuery.forumId() );
+            writer.writeVarLong( ldbcQuery.personId() );
+            writer.writeVarLong( ldbcQuery.joinDateAsMilli() );
+            return;
+        }
+        case LdbcUpdate6AddPost.TYPE:
+        {
+            LdbcUpdate6AddPost ldbcQuery = (LdbcUpdate6AddPost) operation;
+            writer.writeVarLong( ldbcQuery.postId() );
+            writer.writeString( ldbcQuery.imageFile() );
+            writer.writeVarLong( ldbcQuery.creationDateAsMilli() );
+            writer.writeString( ldbcQuery.locationIp() );
+            writer.writeString( ldbcQuery.browserUsed() );
+            writer.writeString( ldbcQuery.language() );
+            writer.writeString( ldbcQuery.content() );
+            writer.writeVarInt( ldbcQuery.length() );
+            writer.writeVarLong( ldbcQuery.authorPersonId() );
+            writer.writeVarLong( ldbcQuery.forumId() );
+            writer.writeVarLong( ldbcQuery.countryId() );
+            writer.writeLongs( ldbcQuery.tagIds() );
+            return;
+        }
+        case LdbcUpdate7AddComment.TYPE:
+        {
+            LdbcUpdate7AddComment ldbcQuery = (LdbcUpdate7AddComment) operation;
+            writer.writeVarLong( ldbcQuery.commentId() );
+            writer.writeVarLong( ldbcQuery.creationDateAsMilli() );
+            writer.writeString( ldbcQuery.locationIp() );
+            writer.writeString( ldbcQuery.browserUsed() );
+            writer.writeString( ldbcQuery.content() );
+            writer.writeVarInt( ldbcQuery.length() );
+            writer.writeVarLong( ldbcQuery.authorPersonId() );
+            writer.writeVarLong( ldbcQuery.countryId() );
+            writer.writeVarLong( ldbcQuery.replyToPostId() );
+            writer.writeVarLong( ldbcQuery.replyToCommentId() );
+            writer.writeLongs( ldbcQuery.tagIds() );
+            return;
+        }
+        case LdbcUpdate8AddFriendship.TYPE:
+        {
+            LdbcUpdate8AddFriendship ldbcQuery = (LdbcUpdate8AddFriendship) operation;
+            writer.writeVarLong( ldbcQuery.person1Id() );
+            writer.writeVarLong( ldbcQuery.person2Id() );
+            writer.writeVarLong( ldbcQuery.creationDateAsMilli() );
+            return;
+        }
+        default:
+        {
+            throw new SerializingMarshallingException(
+                    format(
+                            "Workload does not know how to encode operation\nWorkload: %s\nOperation Type: " +
+                            "%s\nOperation: %s",
+                            getClass().getName(),
+                            operation.getClass().getName(),
+                            operation ) );
+        }
+        }
+    }
+
+    @Override
+    public Operation decodeOperation( BinaryReader reader ) throws SerializingMarshallingException
+    {
+        int operationType = reader.readVarInt();
+        switch ( operationType )
+        {
+        case LdbcQuery1.TYPE:
+            return new LdbcQuery1( reader.readVarLong(), reader.readString(), reader.readVarInt() );
+        case LdbcQuery2.TYPE:
+            return new LdbcQuery2( reader.readVarLong(), new Date( reader.readVarLong() ), reader.readVarInt() );
+        case LdbcQuery3.TYPE:
+            return new LdbcQuery3(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    new Date( reader.readVarLong() ),
+                    reader.readVarInt(),
+                    reader.readVarInt()
+            );
+        case LdbcQuery4.TYPE:
+            return new LdbcQuery4(
+                    reader.readVarLong(),
+                    new Date( reader.readVarLong() ),
+                    reader.readVarInt(),
+                    reader.readVarInt()
+            );
+        case LdbcQuery5.TYPE:
+            return new LdbcQuery5( reader.readVarLong(), new Date( reader.readVarLong() ), reader.readVarInt() );
+        case LdbcQuery6.TYPE:
+            return new LdbcQuery6( reader.readVarLong(), reader.readString(), reader.readVarInt() );
+        case LdbcQuery7.TYPE:
+            return new LdbcQuery7( reader.readVarLong(), reader.readVarInt() );
+        case LdbcQuery8.TYPE:
+            return new LdbcQuery8( reader.readVarLong(), reader.readVarInt() );
+        case LdbcQuery9.TYPE:
+            return new LdbcQuery9( reader.readVarLong(), new Date( reader.readVarLong() ), reader.readVarInt() );
+        case LdbcQuery10.TYPE:
+            return new LdbcQuery10( reader.readVarLong(), reader.readVarInt(), reader.readVarInt() );
+        case LdbcQuery11.TYPE:
+            return new LdbcQuery11( reader.readVarLong(), reader.readString(), reader.readVarInt(),
+                    reader.readVarInt() );
+        case LdbcQuery12.TYPE:
+            return new LdbcQuery12( reader.readVarLong(), reader.readString(), reader.readVarInt() );
+        case LdbcQuery13.TYPE:
+            return new LdbcQuery13( reader.readVarLong(), reader.readVarLong() );
+        case LdbcQuery14.TYPE:
+            return new LdbcQuery14( reader.readVarLong(), reader.readVarLong() );
+        case LdbcShortQuery1PersonProfile.TYPE:
+            return new LdbcShortQuery1PersonProfile( reader.readVarLong() );
+        case LdbcShortQuery2PersonPosts.TYPE:
+            return new LdbcShortQuery2PersonPosts( reader.readVarLong(), reader.readVarInt() );
+        case LdbcShortQuery3PersonFriends.TYPE:
+            return new LdbcShortQuery3PersonFriends( reader.readVarLong() );
+        case LdbcShortQuery4MessageContent.TYPE:
+            return new LdbcShortQuery4MessageContent( reader.readVarLong() );
+        case LdbcShortQuery5MessageCreator.TYPE:
+            return new LdbcShortQuery5MessageCreator( reader.readVarLong() );
+        case LdbcShortQuery6MessageForum.TYPE:
+            return new LdbcShortQuery6MessageForum( reader.readVarLong() );
+        case LdbcShortQuery7MessageReplies.TYPE:
+            return new LdbcShortQuery7MessageReplies( reader.readVarLong() );
+        case LdbcUpdate1AddPerson.TYPE:
+            return new LdbcUpdate1AddPerson(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readStrings(),
+                    reader.readStrings(),
+                    reader.readLongs(),
+                    decodeOrganizations( reader ),
+                    decodeOrganizations( reader )
+            );
+        case LdbcUpdate2AddPostLike.TYPE:
+            return new LdbcUpdate2AddPostLike( reader.readVarLong(), reader.readVarLong(),
+                    reader.readVarLong() );
+        case LdbcUpdate3AddCommentLike.TYPE:
+            return new LdbcUpdate3AddCommentLike( reader.readVarLong(), reader.readVarLong(),
+                    reader.readVarLong() );
+        case LdbcUpdate4AddForum.TYPE:
+            return new LdbcUpdate4AddForum(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readLongs()
+            );
+        case LdbcUpdate5AddForumMembership.TYPE:
+            return new LdbcUpdate5AddForumMembership( reader.readVarLong(), reader.readVarLong(),
+                    reader.readVarLong() );
+        case LdbcUpdate6AddPost.TYPE:
+            return new LdbcUpdate6AddPost(
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readLongs()
+            );
+        case LdbcUpdate7AddComment.TYPE:
+            return new LdbcUpdate7AddComment(
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readVarInt(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readVarLong(),
+                    reader.readLongs()
+            );
+        case LdbcUpdate8AddFriendship.TYPE:
+            return new LdbcUpdate8AddFriendship( reader.readVarLong(), reader.readVarLong(),
+                    reader.readVarLong() );
+        default:
+            throw new SerializingMarshallingException(
+                    format( "Workload does not know how to decode operation\nWorkload: %s\nOperation Type: %s",
+                            getClass().getName(),
+                            operationType ) );
+        }
+    }
+
+    private static void encodeOrganizations( List<LdbcUpdate1AddPerson.Organization> organizations,
+            BinaryWriter writer )
+    {
+        if ( null == organizations )
+        {
+            writer.writeVarInt( -1 );
+            return;
+        }
+        writer.writeVarInt( organizations.size() );
+        for ( LdbcUpdate1AddPerson.Organization organization : organizations )
+        {
+            writer.writeVarLong( organization.organizationId() );
+            writer.writeVarInt( organization.year() );
+        }
+    }
+
+    private static List<LdbcUpdate1AddPerson.Organization> decodeOrganizations( BinaryReader reader )
+    {
+        int count = reader.readVarInt();
+        if ( -1 == count )
+        {
+            return null;
+        }
+        List<LdbcUpdate1AddPerson.Organization> organizations = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            organizations.add( new LdbcUpdate1AddPerson.Organization( reader.readVarLong(), reader.readVarInt() ) );
+        }
+        return organizations;
+    }
+
     private static final Equator<LdbcQuery14Result> LDBC_QUERY_14_RESULT_EQUATOR = new Equator<LdbcQuery14Result>()
     {
         @Override
@@ -6,6 +6,8 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.control.DriverConfigurationFileHelper;
+import com.ldbc.driver.csv.CompressedFiles;
+import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
 import com.ldbc.driver.util.FileUtils;
 import com.ldbc.driver.util.MapUtils;
 
@@ -42,11 +44,23 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration
     {
         REGEX,
         CHAR_SEEKER,
-        CHAR_SEEKER_THREAD
+        CHAR_SEEKER_THREAD,
+        // seeks over memory-mapped bytes, decoding only extracted values
+        CHAR_SEEKER_MAPPED,
+        // decodes chunks of memory-mapped bytes in parallel, returning operations in file order
+        CHAR_SEEKER_PARALLEL
     }
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
     public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.CHAR_SEEKER;
+    // Number of buffers that compressed files, and CHAR_SEEKER_THREAD update streams, are read ahead into
+    public final static String READ_AHEAD_BUFFER_COUNT =
+            LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "read_ahead_buffer_count";
+    public final static int DEFAULT_READ_AHEAD_BUFFER_COUNT = ThreadAheadReadable.DEFAULT_BUFFER_COUNT;
+    // Number of threads, shared by all update streams, that CHAR_SEEKER_PARALLEL decodes chunks on
+    public final static String UPDATE_DECODER_THREAD_COUNT =
+            LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_decoder_thread_count";
+    public final static int DEFAULT_UPDATE_DECODER_THREAD_COUNT = ChunkDecoderPool.DEFAULT_THREAD_COUNT;
     public final static String LDBC_INTERACTIVE_PACKAGE_PREFIX =
             removeSuffix( LdbcQuery1.class.getName(), LdbcQuery1.class.getSimpleName() );
 
@@ -558,11 +572,27 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration
 
     public static List<File> forumUpdateFilesInDirectory( File directory )
     {
-        return FileUtils.filesWithSuffixInDirectory( directory, "_forum.csv" );
+        return updateFilesInDirectory( directory, "_forum.csv" );
     }
 
     public static List<File> personUpdateFilesInDirectory( File directory )
     {
-        return FileUtils.filesWithSuffixInDirectory( directory, "_person.csv" );
+        return updateFilesInDirectory( directory, "_person.csv" );
+    }
+
+    // compressed files are included, unless the uncompressed file is there too
+    private static List<File> updateFilesInDirectory( File directory, String fileNameSuffix )
+    {
+        List<File> updateFiles = FileUtils.filesWithSuffixInDirectory( directory, fileNameSuffix );
+        for ( File compressedUpdateFile : FileUtils.filesWithSuffixInDirectory( directory,
+                fileNameSuffix + CompressedFiles.GZIP_SUFFIX ) )
+        {
+            if ( false == updateFiles.contains(
+                    new File( directory, CompressedFiles.uncompressedName( compressedUpdateFile ) ) ) )
+            {
+                updateFiles.add( compressedUpdateFile );
+            }
+        }
+        return updateFiles;
     }
 }
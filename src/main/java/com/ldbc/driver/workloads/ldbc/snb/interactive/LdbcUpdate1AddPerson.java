@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.util.ListUtils;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -11,6 +14,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static java.lang.String.format;
 
@@ -37,8 +41,8 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
     private final String personFirstName;
     private final String personLastName;
     private final String gender;
-    private final Date birthday; // input format "1984-03-22"
-    private final Date creationDate; // input format "2004-03-22"
+    private final long birthday; // input format "1984-03-22"
+    private final long creationDate; // input format "2004-03-22"
     private final String locationIp;
     private final String browserUsed;
     private final long cityId;
@@ -48,6 +52,9 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
     private final List<Organization> studyAt;
     private final List<Organization> workAt;
 
+    /**
+     * @throws NullPointerException if a date is null, as dates are stored as epoch milliseconds
+     */
     public LdbcUpdate1AddPerson( long personId,
             String personFirstName,
             String personLastName,
@@ -62,13 +69,47 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
             List<Long> tagIds,
             List<Organization> studyAt,
             List<Organization> workAt )
+    {
+        this( personId,
+                personFirstName,
+                personLastName,
+                gender,
+                Objects.requireNonNull( birthday, "birthday" ).getTime(),
+                Objects.requireNonNull( creationDate, "creationDate" ).getTime(),
+                locationIp,
+                browserUsed,
+                cityId,
+                languages,
+                emails,
+                tagIds,
+                studyAt,
+                workAt );
+    }
+
+    /**
+     * Like the constructor taking dates, without allocating them
+     */
+    public LdbcUpdate1AddPerson( long personId,
+            String personFirstName,
+            String personLastName,
+            String gender,
+            long birthdayAsMilli,
+            long creationDateAsMilli,
+            String locationIp,
+            String browserUsed,
+            long cityId,
+            List<String> languages,
+            List<String> emails,
+            List<Long> tagIds,
+            List<Organization> studyAt,
+            List<Organization> workAt )
     {
         this.personId = personId;
         this.personFirstName = personFirstName;
         this.personLastName = personLastName;
         this.gender = gender;
-        this.birthday = birthday;
-        this.creationDate = creationDate;
+        this.birthday = birthdayAsMilli;
+        this.creationDate = creationDateAsMilli;
         this.locationIp = locationIp;
         this.browserUsed = browserUsed;
         this.cityId = cityId;
@@ -99,12 +140,28 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         return gender;
     }
 
+    /**
+     * @return new date every call, {@link #birthdayAsMilli()} does not allocate
+     */
     public Date birthday()
+    {
+        return new Date( birthday );
+    }
+
+    public long birthdayAsMilli()
     {
         return birthday;
     }
 
+    /**
+     * @return new date every call, {@link #creationDateAsMilli()} does not allocate
+     */
     public Date creationDate()
+    {
+        return new Date( creationDate );
+    }
+
+    public long creationDateAsMilli()
     {
         return creationDate;
     }
@@ -156,8 +213,8 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
                 .put(PERSON_FIRST_NAME, personFirstName)
                 .put(PERSON_LAST_NAME, personLastName)
                 .put(GENDER, gender)
-                .put(BIRTHDAY, birthday)
-                .put(CREATION_DATE, creationDate)
+                .put(BIRTHDAY, birthday())
+                .put(CREATION_DATE, creationDate())
                 .put(LOCATION_IP, locationIp)
                 .put(BROWSER_USED, browserUsed)
                 .put(CITY_ID, cityId)
@@ -169,6 +226,25 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitString( PERSON_FIRST_NAME, personFirstName );
+        visitor.visitString( PERSON_LAST_NAME, personLastName );
+        visitor.visitString( GENDER, gender );
+        visitor.visitDate( BIRTHDAY, birthday );
+        visitor.visitDate( CREATION_DATE, creationDate );
+        visitor.visitString( LOCATION_IP, locationIp );
+        visitor.visitString( BROWSER_USED, browserUsed );
+        visitor.visitLong( CITY_ID, cityId );
+        visitor.visitObject( LANGUAGES, languages );
+        visitor.visitObject( EMAILS, emails );
+        visitor.visitObject( TAG_IDS, tagIds );
+        visitor.visitObject( STUDY_AT, studyAt );
+        visitor.visitObject( WORK_AT, workAt );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -182,11 +258,11 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( birthday != null ? !birthday.equals( that.birthday ) : that.birthday != null )
+        if ( birthday != that.birthday )
         { return false; }
         if ( browserUsed != null ? !browserUsed.equals( that.browserUsed ) : that.browserUsed != null )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDate != that.creationDate )
         { return false; }
         if ( emails != null ? !ListUtils.listsEqual( sort( emails ), sort( that.emails ) ) : that.emails != null )
         { return false; }
@@ -224,8 +300,8 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         result = 31 * result + (personFirstName != null ? personFirstName.hashCode() : 0);
         result = 31 * result + (personLastName != null ? personLastName.hashCode() : 0);
         result = 31 * result + (gender != null ? gender.hashCode() : 0);
-        result = 31 * result + (birthday != null ? birthday.hashCode() : 0);
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (birthday ^ (birthday >>> 32));
+        result = 31 * result + (int) (creationDate ^ (creationDate >>> 32));
         result = 31 * result + (locationIp != null ? locationIp.hashCode() : 0);
         result = 31 * result + (browserUsed != null ? browserUsed.hashCode() : 0);
         result = 31 * result + (int) (cityId ^ (cityId >>> 32));
@@ -245,8 +321,8 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
                ", personFirstName='" + personFirstName + '\'' +
                ", personLastName='" + personLastName + '\'' +
                ", gender='" + gender + '\'' +
-               ", birthday=" + birthday +
-               ", creationDate=" + creationDate +
+               ", birthday=" + birthday() +
+               ", creationDate=" + creationDate() +
                ", locationIp='" + locationIp + '\'' +
                ", browserUsed='" + browserUsed + '\'' +
                ", cityId=" + cityId +
@@ -336,6 +412,17 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         }
     }
 
+    @Override
+    public void encodeResult( Object operationResultInstance, BinaryWriter writer )
+    {
+    }
+
+    @Override
+    public LdbcNoResult decodeResult( BinaryReader reader )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
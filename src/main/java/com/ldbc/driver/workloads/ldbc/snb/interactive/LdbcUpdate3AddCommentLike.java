@@ -1,13 +1,17 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 
 import java.io.IOException;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 
 import static java.lang.String.format;
 
@@ -21,13 +25,24 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
 
     private final long personId;
     private final long commentId;
-    private final Date creationDate;
+    private final long creationDate;
 
+    /**
+     * @throws NullPointerException if creationDate is null, as dates are stored as epoch milliseconds
+     */
     public LdbcUpdate3AddCommentLike( long personId, long commentId, Date creationDate )
+    {
+        this( personId, commentId, Objects.requireNonNull( creationDate, "creationDate" ).getTime() );
+    }
+
+    /**
+     * Like the constructor taking dates, without allocating them
+     */
+    public LdbcUpdate3AddCommentLike( long personId, long commentId, long creationDateAsMilli )
     {
         this.personId = personId;
         this.commentId = commentId;
-        this.creationDate = creationDate;
+        this.creationDate = creationDateAsMilli;
     }
 
     public long personId()
@@ -40,7 +55,15 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         return commentId;
     }
 
+    /**
+     * @return new date every call, {@link #creationDateAsMilli()} does not allocate
+     */
     public Date creationDate()
+    {
+        return new Date( creationDate );
+    }
+
+    public long creationDateAsMilli()
     {
         return creationDate;
     }
@@ -50,10 +73,18 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         return ImmutableMap.<String, Object>builder()
                 .put(PERSON_ID, personId)
                 .put(COMMENT_ID, commentId)
-                .put(CREATION_DATE, creationDate)
+                .put(CREATION_DATE, creationDate())
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitLong( COMMENT_ID, commentId );
+        visitor.visitDate( CREATION_DATE, creationDate );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -68,7 +99,7 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDate != that.creationDate )
         { return false; }
 
         return true;
@@ -79,7 +110,7 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
     {
         int result = (int) (personId ^ (personId >>> 32));
         result = 31 * result + (int) (commentId ^ (commentId >>> 32));
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDate ^ (creationDate >>> 32));
         return result;
     }
 
@@ -89,7 +120,7 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         return "LdbcUpdate3AddCommentLike{" +
                "personId=" + personId +
                ", commentId=" + commentId +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                '}';
     }
 
@@ -114,6 +145,17 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         }
     }
 
+    @Override
+    public void encodeResult( Object operationResultInstance, BinaryWriter writer )
+    {
+    }
+
+    @Override
+    public LdbcNoResult decodeResult( BinaryReader reader )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
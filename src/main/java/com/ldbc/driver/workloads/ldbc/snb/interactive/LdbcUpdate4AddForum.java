@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.util.ListUtils;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -11,6 +14,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static java.lang.String.format;
 
@@ -26,16 +30,29 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
 
     private final long forumId;
     private final String forumTitle;
-    private final Date creationDate;
+    private final long creationDate;
     private final long moderatorPersonId;
     private final List<Long> tagIds;
 
+    /**
+     * @throws NullPointerException if creationDate is null, as dates are stored as epoch milliseconds
+     */
     public LdbcUpdate4AddForum( long forumId, String forumTitle, Date creationDate, long moderatorPersonId,
             List<Long> tagIds )
+    {
+        this( forumId, forumTitle, Objects.requireNonNull( creationDate, "creationDate" ).getTime(), moderatorPersonId,
+                tagIds );
+    }
+
+    /**
+     * Like the constructor taking dates, without allocating them
+     */
+    public LdbcUpdate4AddForum( long forumId, String forumTitle, long creationDateAsMilli, long moderatorPersonId,
+            List<Long> tagIds )
     {
         this.forumId = forumId;
         this.forumTitle = forumTitle;
-        this.creationDate = creationDate;
+        this.creationDate = creationDateAsMilli;
         this.moderatorPersonId = moderatorPersonId;
         this.tagIds = tagIds;
     }
@@ -50,7 +67,15 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         return forumTitle;
     }
 
+    /**
+     * @return new date every call, {@link #creationDateAsMilli()} does not allocate
+     */
     public Date creationDate()
+    {
+        return new Date( creationDate );
+    }
+
+    public long creationDateAsMilli()
     {
         return creationDate;
     }
@@ -70,12 +95,22 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         return ImmutableMap.<String, Object>builder()
                 .put(FORUM_ID, forumId)
                 .put(FORUM_TITLE, forumTitle)
-                .put(CREATION_DATE, creationDate)
+                .put(CREATION_DATE, creationDate())
                 .put(MODERATOR_PERSON_ID, moderatorPersonId)
                 .put(TAG_IDS, tagIds)
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( FORUM_ID, forumId );
+        visitor.visitString( FORUM_TITLE, forumTitle );
+        visitor.visitDate( CREATION_DATE, creationDate );
+        visitor.visitLong( MODERATOR_PERSON_ID, moderatorPersonId );
+        visitor.visitObject( TAG_IDS, tagIds );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -90,7 +125,7 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         { return false; }
         if ( moderatorPersonId != that.moderatorPersonId )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDate != that.creationDate )
         { return false; }
         if ( forumTitle != null ? !forumTitle.equals( that.forumTitle ) : that.forumTitle != null )
         { return false; }
@@ -111,7 +146,7 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
     {
         int result = (int) (forumId ^ (forumId >>> 32));
         result = 31 * result + (forumTitle != null ? forumTitle.hashCode() : 0);
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDate ^ (creationDate >>> 32));
         result = 31 * result + (int) (moderatorPersonId ^ (moderatorPersonId >>> 32));
         result = 31 * result + (tagIds != null ? tagIds.hashCode() : 0);
         return result;
@@ -123,7 +158,7 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         return "LdbcUpdate4AddForum{" +
                "forumId=" + forumId +
                ", forumTitle='" + forumTitle + '\'' +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                ", moderatorPersonId=" + moderatorPersonId +
                ", tagIds=" + tagIds +
                '}';
@@ -150,6 +185,17 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         }
     }
 
+    @Override
+    public void encodeResult( Object operationResultInstance, BinaryWriter writer )
+    {
+    }
+
+    @Override
+    public LdbcNoResult decodeResult( BinaryReader reader )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
@@ -1,13 +1,17 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 
 import java.io.IOException;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 
 import static java.lang.String.format;
 
@@ -21,13 +25,24 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
 
     private final long forumId;
     private final long personId;
-    private final Date joinDate;
+    private final long joinDate;
 
+    /**
+     * @throws NullPointerException if joinDate is null, as dates are stored as epoch milliseconds
+     */
     public LdbcUpdate5AddForumMembership( long forumId, long personId, Date joinDate )
+    {
+        this( forumId, personId, Objects.requireNonNull( joinDate, "joinDate" ).getTime() );
+    }
+
+    /**
+     * Like the constructor taking dates, without allocating them
+     */
+    public LdbcUpdate5AddForumMembership( long forumId, long personId, long joinDateAsMilli )
     {
         this.forumId = forumId;
         this.personId = personId;
-        this.joinDate = joinDate;
+        this.joinDate = joinDateAsMilli;
     }
 
     public long forumId()
@@ -40,7 +55,15 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         return personId;
     }
 
+    /**
+     * @return new date every call, {@link #joinDateAsMilli()} does not allocate
+     */
     public Date joinDate()
+    {
+        return new Date( joinDate );
+    }
+
+    public long joinDateAsMilli()
     {
         return joinDate;
     }
@@ -50,10 +73,18 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         return ImmutableMap.<String, Object>builder()
                 .put(FORUM_ID, forumId)
                 .put(PERSON_ID, personId)
-                .put(JOIN_DATE, joinDate)
+                .put(JOIN_DATE, joinDate())
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( FORUM_ID, forumId );
+        visitor.visitLong( PERSON_ID, personId );
+        visitor.visitDate( JOIN_DATE, joinDate );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -68,7 +99,7 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         { return false; }
         if ( personId != that.personId )
         { return false; }
-        if ( joinDate != null ? !joinDate.equals( that.joinDate ) : that.joinDate != null )
+        if ( joinDate != that.joinDate )
         { return false; }
 
         return true;
@@ -79,7 +110,7 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
     {
         int result = (int) (forumId ^ (forumId >>> 32));
         result = 31 * result + (int) (personId ^ (personId >>> 32));
-        result = 31 * result + (joinDate != null ? joinDate.hashCode() : 0);
+        result = 31 * result + (int) (joinDate ^ (joinDate >>> 32));
         return result;
     }
 
@@ -89,7 +120,7 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         return "LdbcUpdate5AddForumMembership{" +
                "forumId=" + forumId +
                ", personId=" + personId +
-               ", joinDate=" + joinDate +
+               ", joinDate=" + joinDate() +
                '}';
     }
 
@@ -114,6 +145,17 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         }
     }
 
+    @Override
+    public void encodeResult( Object operationResultInstance, BinaryWriter writer )
+    {
+    }
+
+    @Override
+    public LdbcNoResult decodeResult( BinaryReader reader )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.util.ListUtils;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -11,6 +14,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static java.lang.String.format;
 
@@ -33,7 +37,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
 
     private final long postId;
     private final String imageFile;
-    private final Date creationDate;
+    private final long creationDate;
     private final String locationIp;
     private final String browserUsed;
     private final String language;
@@ -44,6 +48,9 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
     private final long countryId;
     private final List<Long> tagIds;
 
+    /**
+     * @throws NullPointerException if creationDate is null, as dates are stored as epoch milliseconds
+     */
     public LdbcUpdate6AddPost( long postId,
             String imageFile,
             Date creationDate,
@@ -56,10 +63,40 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
             long forumId,
             long countryId,
             List<Long> tagIds )
+    {
+        this( postId,
+                imageFile,
+                Objects.requireNonNull( creationDate, "creationDate" ).getTime(),
+                locationIp,
+                browserUsed,
+                language,
+                content,
+                length,
+                authorPersonId,
+                forumId,
+                countryId,
+                tagIds );
+    }
+
+    /**
+     * Like the constructor taking dates, without allocating them
+     */
+    public LdbcUpdate6AddPost( long postId,
+            String imageFile,
+            long creationDateAsMilli,
+            String locationIp,
+            String browserUsed,
+            String language,
+            String content,
+            int length,
+            long authorPersonId,
+            long forumId,
+            long countryId,
+            List<Long> tagIds )
     {
         this.postId = postId;
         this.imageFile = imageFile;
-        this.creationDate = creationDate;
+        this.creationDate = creationDateAsMilli;
         this.locationIp = locationIp;
         this.browserUsed = browserUsed;
         this.language = language;
@@ -81,7 +118,15 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         return imageFile;
     }
 
+    /**
+     * @return new date every call, {@link #creationDateAsMilli()} does not allocate
+     */
     public Date creationDate()
+    {
+        return new Date( creationDate );
+    }
+
+    public long creationDateAsMilli()
     {
         return creationDate;
     }
@@ -136,7 +181,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         return ImmutableMap.<String, Object>builder()
                 .put(POST_ID, postId)
                 .put(IMAGE_FILE, imageFile)
-                .put(CREATION_DATE, creationDate)
+                .put(CREATION_DATE, creationDate())
                 .put(LOCATION_IP, locationIp)
                 .put(BROWSER_USED, browserUsed)
                 .put(LANGUAGE, language)
@@ -149,6 +194,23 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( POST_ID, postId );
+        visitor.visitString( IMAGE_FILE, imageFile );
+        visitor.visitDate( CREATION_DATE, creationDate );
+        visitor.visitString( LOCATION_IP, locationIp );
+        visitor.visitString( BROWSER_USED, browserUsed );
+        visitor.visitString( LANGUAGE, language );
+        visitor.visitString( CONTENT, content );
+        visitor.visitInt( LENGTH, length );
+        visitor.visitLong( AUTHOR_PERSON_ID, authorPersonId );
+        visitor.visitLong( FORUM_ID, forumId );
+        visitor.visitLong( COUNTRY_ID, countryId );
+        visitor.visitObject( TAG_IDS, tagIds );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -173,7 +235,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         { return false; }
         if ( content != null ? !content.equals( that.content ) : that.content != null )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDate != that.creationDate )
         { return false; }
         if ( imageFile != null ? !imageFile.equals( that.imageFile ) : that.imageFile != null )
         { return false; }
@@ -198,7 +260,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
     {
         int result = (int) (postId ^ (postId >>> 32));
         result = 31 * result + (imageFile != null ? imageFile.hashCode() : 0);
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDate ^ (creationDate >>> 32));
         result = 31 * result + (locationIp != null ? locationIp.hashCode() : 0);
         result = 31 * result + (browserUsed != null ? browserUsed.hashCode() : 0);
         result = 31 * result + (language != null ? language.hashCode() : 0);
@@ -217,7 +279,7 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         return "LdbcUpdate6AddPost{" +
                "postId=" + postId +
                ", imageFile='" + imageFile + '\'' +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                ", locationIp='" + locationIp + '\'' +
                ", browserUsed='" + browserUsed + '\'' +
                ", language='" + language + '\'' +
@@ -251,6 +313,17 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         }
     }
 
+    @Override
+    public void encodeResult( Object operationResultInstance, BinaryWriter writer )
+    {
+    }
+
+    @Override
+    public LdbcNoResult decodeResult( BinaryReader reader )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
@@ -1,7 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.util.ListUtils;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -11,6 +14,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static java.lang.String.format;
 
@@ -31,7 +35,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     public static final String TAG_IDS = "tagIds";
 
     private final long commentId;
-    private final Date creationDate;
+    private final long creationDate;
     private final String locationIp;
     private final String browserUsed;
     private final String content;
@@ -42,6 +46,9 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     private final long replyToCommentId;
     private final List<Long> tagIds;
 
+    /**
+     * @throws NullPointerException if creationDate is null, as dates are stored as epoch milliseconds
+     */
     public LdbcUpdate7AddComment( long commentId,
             Date creationDate,
             String locationIp,
@@ -53,9 +60,37 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
             long replyToPostId,
             long replyToCommentId,
             List<Long> tagIds )
+    {
+        this( commentId,
+                Objects.requireNonNull( creationDate, "creationDate" ).getTime(),
+                locationIp,
+                browserUsed,
+                content,
+                length,
+                authorPersonId,
+                countryId,
+                replyToPostId,
+                replyToCommentId,
+                tagIds );
+    }
+
+    /**
+     * Like the constructor taking dates, without allocating them
+     */
+    public LdbcUpdate7AddComment( long commentId,
+            long creationDateAsMilli,
+            String locationIp,
+            String browserUsed,
+            String content,
+            int length,
+            long authorPersonId,
+            long countryId,
+            long replyToPostId,
+            long replyToCommentId,
+            List<Long> tagIds )
     {
         this.commentId = commentId;
-        this.creationDate = creationDate;
+        this.creationDate = creationDateAsMilli;
         this.locationIp = locationIp;
         this.browserUsed = browserUsed;
         this.content = content;
@@ -72,7 +107,15 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
         return commentId;
     }
 
+    /**
+     * @return new date every call, {@link #creationDateAsMilli()} does not allocate
+     */
     public Date creationDate()
+    {
+        return new Date( creationDate );
+    }
+
+    public long creationDateAsMilli()
     {
         return creationDate;
     }
@@ -126,7 +169,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
                 .put(COMMENT_ID, commentId)
-                .put(CREATION_DATE, creationDate)
+                .put(CREATION_DATE, creationDate())
                 .put(LOCATION_IP, locationIp)
                 .put(BROWSER_USED, browserUsed)
                 .put(CONTENT, content)
@@ -139,6 +182,22 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( COMMENT_ID, commentId );
+        visitor.visitDate( CREATION_DATE, creationDate );
+        visitor.visitString( LOCATION_IP, locationIp );
+        visitor.visitString( BROWSER_USED, browserUsed );
+        visitor.visitString( CONTENT, content );
+        visitor.visitInt( LENGTH, length );
+        visitor.visitLong( AUTHOR_PERSON_ID, authorPersonId );
+        visitor.visitLong( COUNTRY_ID, countryId );
+        visitor.visitLong( REPLY_TO_POST_ID, replyToPostId );
+        visitor.visitLong( REPLY_TO_COMMENT_ID, replyToCommentId );
+        visitor.visitObject( TAG_IDS, tagIds );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -165,7 +224,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
         { return false; }
         if ( content != null ? !content.equals( that.content ) : that.content != null )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDate != that.creationDate )
         { return false; }
         if ( locationIp != null ? !locationIp.equals( that.locationIp ) : that.locationIp != null )
         { return false; }
@@ -185,7 +244,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     public int hashCode()
     {
         int result = (int) (commentId ^ (commentId >>> 32));
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDate ^ (creationDate >>> 32));
         result = 31 * result + (locationIp != null ? locationIp.hashCode() : 0);
         result = 31 * result + (browserUsed != null ? browserUsed.hashCode() : 0);
         result = 31 * result + (content != null ? content.hashCode() : 0);
@@ -203,7 +262,7 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     {
         return "LdbcUpdate7AddComment{" +
                "commentId=" + commentId +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                ", locationIp='" + locationIp + '\'' +
                ", browserUsed='" + browserUsed + '\'' +
                ", content='" + content + '\'' +
@@ -237,6 +296,17 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
         }
     }
 
+    @Override
+    public void encodeResult( Object operationResultInstance, BinaryWriter writer )
+    {
+    }
+
+    @Override
+    public LdbcNoResult decodeResult( BinaryReader reader )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
@@ -1,13 +1,17 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import com.ldbc.driver.SerializingMarshallingException;
 import org.codehaus.jackson.map.ObjectMapper;
 
 import java.io.IOException;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 
 import static java.lang.String.format;
 
@@ -21,13 +25,24 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
 
     private final long person1Id;
     private final long person2Id;
-    private final Date creationDate;
+    private final long creationDate;
 
+    /**
+     * @throws NullPointerException if creationDate is null, as dates are stored as epoch milliseconds
+     */
     public LdbcUpdate8AddFriendship( long person1Id, long person2Id, Date creationDate )
+    {
+        this( person1Id, person2Id, Objects.requireNonNull( creationDate, "creationDate" ).getTime() );
+    }
+
+    /**
+     * Like the constructor taking dates, without allocating them
+     */
+    public LdbcUpdate8AddFriendship( long person1Id, long person2Id, long creationDateAsMilli )
     {
         this.person1Id = person1Id;
         this.person2Id = person2Id;
-        this.creationDate = creationDate;
+        this.creationDate = creationDateAsMilli;
     }
 
     public long person1Id()
@@ -40,7 +55,15 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         return person2Id;
     }
 
+    /**
+     * @return new date every call, {@link #creationDateAsMilli()} does not allocate
+     */
     public Date creationDate()
+    {
+        return new Date( creationDate );
+    }
+
+    public long creationDateAsMilli()
     {
         return creationDate;
     }
@@ -51,10 +74,18 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         return ImmutableMap.<String, Object>builder()
                 .put(PERSON1_ID, person1Id)
                 .put(PERSON2_ID, person2Id)
-                .put(CREATION_DATE, creationDate)
+                .put(CREATION_DATE, creationDate())
                 .build();
     }
 
+    @Override
+    public void visitParameters( OperationParameterVisitor visitor )
+    {
+        visitor.visitLong( PERSON1_ID, person1Id );
+        visitor.visitLong( PERSON2_ID, person2Id );
+        visitor.visitDate( CREATION_DATE, creationDate );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -69,7 +100,7 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         { return false; }
         if ( person2Id != that.person2Id )
         { return false; }
-        if ( creationDate != null ? !creationDate.equals( that.creationDate ) : that.creationDate != null )
+        if ( creationDate != that.creationDate )
         { return false; }
 
         return true;
@@ -80,7 +111,7 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
     {
         int result = (int) (person1Id ^ (person1Id >>> 32));
         result = 31 * result + (int) (person2Id ^ (person2Id >>> 32));
-        result = 31 * result + (creationDate != null ? creationDate.hashCode() : 0);
+        result = 31 * result + (int) (creationDate ^ (creationDate >>> 32));
         return result;
     }
 
@@ -90,7 +121,7 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         return "LdbcUpdate8AddFriendship{" +
                "person1Id=" + person1Id +
                ", person2Id=" + person2Id +
-               ", creationDate=" + creationDate +
+               ", creationDate=" + creationDate() +
                '}';
     }
 
@@ -115,6 +146,17 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         }
     }
 
+    @Override
+    public void encodeResult( Object operationResultInstance, BinaryWriter writer )
+    {
+    }
+
+    @Override
+    public LdbcNoResult decodeResult( BinaryReader reader )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
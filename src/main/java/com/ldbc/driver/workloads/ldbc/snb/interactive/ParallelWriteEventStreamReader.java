@@ -0,0 +1,243 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.ByteBufferCharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.NoRemoveIterator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static java.lang.String.format;
+
+/**
+ * Reads write operations from one update stream file, decoding chunks of the file in parallel.
+ * <p/>
+ * File is split into chunks of roughly chunkSize bytes, each ending at a line end. Chunks are memory-mapped and
+ * decoded on a {@link ChunkDecoderPool} shared with other readers, at most one chunk per pool thread ahead of this
+ * reader. Decoded chunks are queued in file order, so operations are returned in the order they appear in the file,
+ * whichever chunk finished decoding first. If the pool has no chunks to spare, the next chunk is decoded by the caller.
+ * <p/>
+ * Nothing is read or decoded until operations are first asked for.
+ * <p/>
+ * Chunks are split on new lines, so values in the file must not contain new lines.
+ */
+public class ParallelWriteEventStreamReader extends NoRemoveIterator<Operation> implements Closeable
+{
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private final FileChannel channel;
+    private final long end;
+    private final int chunkSize;
+    // of this reader, pool bounds chunks in flight of all readers
+    private final int maxChunksInFlight;
+    private final ChunkDecoderPool decoderPool;
+    // reorder buffer, chunks are queued in file order but may complete in any order
+    private final Queue<Future<List<Operation>>> chunks = new ArrayDeque<>();
+    private final ByteBuffer scanBuffer = ByteBuffer.allocate( SCAN_BUFFER_SIZE );
+    private long nextChunkStart;
+    private Iterator<Operation> operations = Collections.emptyIterator();
+
+    /**
+     * @param file
+     * @param offset byte offset to start reading from, must be the start of a line
+     * @param decoderPool pool to decode chunks on, not closed when reader is closed
+     * @param chunkSize
+     * @throws IOException
+     */
+    public ParallelWriteEventStreamReader( File file, long offset, ChunkDecoderPool decoderPool, int chunkSize )
+            throws IOException
+    {
+        if ( chunkSize <= 0 )
+        {
+            throw new IllegalArgumentException( format( "Chunk size must be positive: %s", chunkSize ) );
+        }
+        this.file = file;
+        this.channel = new RandomAccessFile( file, "r" ).getChannel();
+        this.end = channel.size();
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = decoderPool.threadCount();
+        this.decoderPool = decoderPool;
+        this.nextChunkStart = offset;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while ( false == operations.hasNext() )
+        {
+            if ( chunks.isEmpty() && nextChunkStart >= end )
+            {
+                return false;
+            }
+            operations = nextChunk().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException( format( "No more operations in: %s", file.getAbsolutePath() ) );
+        }
+        return operations.next();
+    }
+
+    private List<Operation> nextChunk()
+    {
+        try
+        {
+            submitChunks();
+            Future<List<Operation>> chunk = chunks.poll();
+            if ( null == chunk )
+            {
+                // pool is busy with chunks of other readers
+                return decode( nextChunkDecoder() );
+            }
+            try
+            {
+                return chunk.get();
+            }
+            finally
+            {
+                decoderPool.release();
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException( format( "Error reading update stream: %s", file.getAbsolutePath() ), e );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new GeneratorException(
+                    format( "Interrupted while decoding update stream: %s", file.getAbsolutePath() ), e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new GeneratorException( format( "Error decoding update stream: %s", file.getAbsolutePath() ),
+                    e.getCause() );
+        }
+    }
+
+    private List<Operation> decode( ChunkDecoder chunkDecoder ) throws IOException
+    {
+        try
+        {
+            return chunkDecoder.call();
+        }
+        catch ( RuntimeException e )
+        {
+            throw new GeneratorException( format( "Error decoding update stream: %s", file.getAbsolutePath() ), e );
+        }
+    }
+
+    private void submitChunks() throws IOException
+    {
+        while ( chunks.size() < maxChunksInFlight && nextChunkStart < end && decoderPool.tryReserve() )
+        {
+            try
+            {
+                chunks.add( decoderPool.submit( nextChunkDecoder() ) );
+            }
+            catch ( IOException | RuntimeException e )
+            {
+                decoderPool.release();
+                throw e;
+            }
+        }
+    }
+
+    private ChunkDecoder nextChunkDecoder() throws IOException
+    {
+        long chunkStart = nextChunkStart;
+        nextChunkStart = lineStartFrom( Math.min( end, nextChunkStart + chunkSize ) );
+        return new ChunkDecoder( chunkStart, nextChunkStart - chunkStart );
+    }
+
+    // first line start at or after position, skipping empty lines
+    private long lineStartFrom( long position ) throws IOException
+    {
+        boolean afterNewLine = false;
+        position--;
+        while ( position < end )
+        {
+            scanBuffer.clear();
+            channel.read( scanBuffer, position );
+            scanBuffer.flip();
+            while ( scanBuffer.hasRemaining() )
+            {
+                byte b = scanBuffer.get();
+                if ( '\n' == b || '\r' == b )
+                {
+                    afterNewLine = true;
+                }
+                else if ( afterNewLine )
+                {
+                    return position;
+                }
+                position++;
+            }
+        }
+        return end;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        for ( Future<List<Operation>> chunk : chunks )
+        {
+            chunk.cancel( true );
+            decoderPool.release();
+        }
+        chunks.clear();
+        channel.close();
+    }
+
+    private class ChunkDecoder implements Callable<List<Operation>>
+    {
+        private final long start;
+        private final long size;
+
+        private ChunkDecoder( long start, long size )
+        {
+            this.start = start;
+            this.size = size;
+        }
+
+        @Override
+        public List<Operation> call() throws IOException
+        {
+            ByteBufferCharSeeker charSeeker =
+                    new ByteBufferCharSeeker( channel.map( FileChannel.MapMode.READ_ONLY, start, size ) );
+            Iterator<Operation> chunkOperations =
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+            List<Operation> decoded = new ArrayList<>();
+            while ( chunkOperations.hasNext() )
+            {
+                decoded.add( chunkOperations.next() );
+            }
+            return decoded;
+        }
+    }
+}
@@ -5,43 +5,58 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.generator.ColumnarParameterStore;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.SkippableIterator;
+import com.ldbc.driver.generator.SkippableIterators;
 
 import java.io.IOException;
 import java.util.Iterator;
 
 import static java.lang.String.format;
 
-public class Query11EventStreamReader implements Iterator<Operation>
+public class Query11EventStreamReader implements SkippableIterator<Operation>
 {
-    private final Iterator<Object[]> csvRows;
+    private final Iterator<ColumnarParameterStore.Row> parameterRows;
 
-    public Query11EventStreamReader( Iterator<Object[]> csvRows )
+    public Query11EventStreamReader( Iterator<ColumnarParameterStore.Row> parameterRows )
     {
-        this.csvRows = csvRows;
+        this.parameterRows = parameterRows;
     }
 
     @Override
     public boolean hasNext()
     {
-        return csvRows.hasNext();
+        return parameterRows.hasNext();
     }
 
     @Override
     public Operation next()
     {
-        Object[] rowAsObjects = csvRows.next();
+        ColumnarParameterStore.Row parameters = parameterRows.next();
         Operation operation = new LdbcQuery11(
-                (long) rowAsObjects[0],
-                (String) rowAsObjects[1],
-                (int) rowAsObjects[2],
+                parameters.longValue( 0 ),
+                parameters.stringValue( 1 ),
+                parameters.intValue( 2 ),
                 LdbcQuery11.DEFAULT_LIMIT
         );
         operation.setDependencyTimeStamp( 0 );
         return operation;
     }
 
+    @Override
+    public long skip( long count )
+    {
+        return SkippableIterators.skip( parameterRows, count );
+    }
+
+    @Override
+    public long remaining()
+    {
+        return SkippableIterators.remaining( parameterRows );
+    }
+
     @Override
     public void remove()
     {
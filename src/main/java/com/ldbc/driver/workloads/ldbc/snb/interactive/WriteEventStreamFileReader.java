@@ -0,0 +1,404 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.PeekingIterator;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.LineOffsetIndex;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharReadable;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeekers;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.NoRemoveIterator;
+import com.ldbc.driver.generator.TimeStampedSkippableIterator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Reads write operations from one update stream file, one operation per line.
+ * <p/>
+ * Skips by seeking rather than decoding: the byte offset of the target line is taken from a sparse
+ * {@link LineOffsetIndex}, and the file is reopened at that offset. The index is built on the first long skip, or
+ * loaded from (and persisted to) index directory when one is given. Skips shorter than one index entry are done by
+ * decoding, as reopening the file would cost more.
+ * <p/>
+ * Counts operations before a time stamp without decoding them either: as update streams are sorted by time stamp, the
+ * leading time stamp field of lines is binary searched, first among lines at index entries, then within one entry.
+ * <p/>
+ * With {@link LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser#CHAR_SEEKER_MAPPED} the file is memory-mapped
+ * and delimiters are sought over its bytes, with
+ * {@link LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser#CHAR_SEEKER_PARALLEL} chunks of it are decoded in
+ * parallel by a {@link ParallelWriteEventStreamReader}, otherwise it is decoded into a buffer first, with
+ * {@link LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser#CHAR_SEEKER_THREAD} read and decoded ahead into a
+ * ring of buffers by a {@link ThreadAheadReadable}.
+ */
+public class WriteEventStreamFileReader extends NoRemoveIterator<Operation>
+        implements PeekingIterator<Operation>, TimeStampedSkippableIterator<Operation>, Closeable
+{
+    private static final int LINES_PER_ENTRY = LineOffsetIndex.DEFAULT_LINES_PER_ENTRY;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private final LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private final int bufferSize;
+    private final int readAheadBufferCount;
+    private final File indexDir;
+    private ChunkDecoderPool decoderPool;
+    // created by this reader, as none was given
+    private boolean ownsDecoderPool = false;
+    private LineOffsetIndex index = null;
+    // char seeker or parallel reader that operations are read from
+    private Closeable source = null;
+    private Iterator<Operation> operations = null;
+    private Operation peeked = null;
+    // number of lines read from file, including peeked
+    private long position = 0;
+    // time stamps of first line of every index entry, read on first count
+    private long[] entryTimeStamps = null;
+    // time stamps of all lines of the most recently counted index entry
+    private int countedEntry = -1;
+    private long[] countedEntryTimeStamps = null;
+
+    /**
+     * @param file
+     * @param parser one of the char seeker parsers
+     * @param bufferSize buffer size, window size for mapped file, or chunk size for parallel decoding
+     * @param indexDir directory to persist line offset index in, or null to build index in memory only
+     * @throws IOException
+     */
+    public WriteEventStreamFileReader( File file, LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser,
+            int bufferSize, File indexDir ) throws IOException
+    {
+        this( file, parser, bufferSize, ThreadAheadReadable.DEFAULT_BUFFER_COUNT, indexDir );
+    }
+
+    /**
+     * @param file
+     * @param parser one of the char seeker parsers
+     * @param bufferSize buffer size, window size for mapped file, or chunk size for parallel decoding
+     * @param readAheadBufferCount number of buffers to read ahead into, with CHAR_SEEKER_THREAD parser
+     * @param indexDir directory to persist line offset index in, or null to build index in memory only
+     * @throws IOException
+     */
+    public WriteEventStreamFileReader( File file, LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser,
+            int bufferSize, int readAheadBufferCount, File indexDir ) throws IOException
+    {
+        this( file, parser, bufferSize, readAheadBufferCount, null, indexDir );
+    }
+
+    /**
+     * @param file
+     * @param parser one of the char seeker parsers
+     * @param bufferSize buffer size, window size for mapped file, or chunk size for parallel decoding
+     * @param readAheadBufferCount number of buffers to read ahead into, with CHAR_SEEKER_THREAD parser
+     * @param decoderPool pool to decode chunks on, with CHAR_SEEKER_PARALLEL parser, or null to create one
+     * @param indexDir directory to persist line offset index in, or null to build index in memory only
+     * @throws IOException
+     */
+    public WriteEventStreamFileReader( File file, LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser,
+            int bufferSize, int readAheadBufferCount, ChunkDecoderPool decoderPool, File indexDir ) throws IOException
+    {
+        if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.REGEX == parser )
+        {
+            throw new IllegalArgumentException( format( "Unsupported parser: %s", parser.name() ) );
+        }
+        this.file = file;
+        this.parser = parser;
+        this.bufferSize = bufferSize;
+        this.readAheadBufferCount = readAheadBufferCount;
+        this.decoderPool = decoderPool;
+        this.indexDir = indexDir;
+        openAt( 0 );
+    }
+
+    private void openAt( long offset ) throws IOException
+    {
+        if ( null != source )
+        {
+            source.close();
+        }
+        if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_PARALLEL == parser )
+        {
+            if ( null == decoderPool )
+            {
+                decoderPool = new ChunkDecoderPool( ChunkDecoderPool.DEFAULT_THREAD_COUNT );
+                ownsDecoderPool = true;
+            }
+            ParallelWriteEventStreamReader parallelReader =
+                    new ParallelWriteEventStreamReader( file, offset, decoderPool, bufferSize );
+            source = parallelReader;
+            operations = parallelReader;
+            return;
+        }
+        CharSeeker charSeeker;
+        if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_MAPPED == parser )
+        {
+            charSeeker =
+                    CharSeekers.mappedCharSeeker( file, offset, bufferSize, BufferedCharSeeker.DEFAULT_QUOTE_CHAR );
+        }
+        else if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_THREAD == parser )
+        {
+            // bytes are read and decoded ahead, into a ring of buffers, while the seeker parses
+            FileChannel channel = new FileInputStream( file ).getChannel();
+            channel.position( offset );
+            charSeeker = new BufferedCharSeeker( ThreadAheadReadable.threadAhead( channel, Charsets.UTF_8,
+                    bufferSize, readAheadBufferCount ), bufferSize );
+        }
+        else
+        {
+            FileInputStream inputStream = new FileInputStream( file );
+            inputStream.getChannel().position( offset );
+            CharReadable readable = Readables.wrap( new InputStreamReader( inputStream, Charsets.UTF_8 ) );
+            charSeeker = new BufferedCharSeeker( readable, bufferSize );
+        }
+        source = charSeeker;
+        operations = WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return null != peeked || operations.hasNext();
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( null != peeked )
+        {
+            Operation next = peeked;
+            peeked = null;
+            return next;
+        }
+        if ( false == operations.hasNext() )
+        {
+            throw new NoSuchElementException( format( "No more operations in: %s", file.getAbsolutePath() ) );
+        }
+        position++;
+        return operations.next();
+    }
+
+    @Override
+    public Operation peek()
+    {
+        if ( null == peeked )
+        {
+            peeked = next();
+        }
+        return peeked;
+    }
+
+    @Override
+    public long skip( long count )
+    {
+        if ( count <= 0 )
+        {
+            return 0;
+        }
+        long skipped = 0;
+        if ( null != peeked )
+        {
+            peeked = null;
+            skipped++;
+        }
+        if ( count - skipped < LineOffsetIndex.DEFAULT_LINES_PER_ENTRY )
+        {
+            while ( skipped < count && operations.hasNext() )
+            {
+                operations.next();
+                position++;
+                skipped++;
+            }
+            return skipped;
+        }
+        try
+        {
+            LineOffsetIndex lineOffsetIndex = index();
+            long targetPosition = position + Math.min( count - skipped, lineOffsetIndex.lineCount() - position );
+            openAt( lineOffsetIndex.offsetOfLine( targetPosition ) );
+            skipped += targetPosition - position;
+            position = targetPosition;
+            return skipped;
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException( format( "Error seeking in update stream: %s", file.getAbsolutePath() ), e );
+        }
+    }
+
+    @Override
+    public long remaining()
+    {
+        return (null == index) ? -1 : index.lineCount() - position + ((null == peeked) ? 0 : 1);
+    }
+
+    @Override
+    public long countBefore( long timeStampAsMilli )
+    {
+        try
+        {
+            long firstRemainingLine = position - ((null == peeked) ? 0 : 1);
+            return Math.max( 0, linesBefore( timeStampAsMilli ) - firstRemainingLine );
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException( format( "Error counting in update stream: %s", file.getAbsolutePath() ), e );
+        }
+    }
+
+    // number of lines in file with time stamp lower than timeStampAsMilli
+    private long linesBefore( long timeStampAsMilli ) throws IOException
+    {
+        LineOffsetIndex lineOffsetIndex = index();
+        if ( null == entryTimeStamps )
+        {
+            entryTimeStamps = new long[(int) ((lineOffsetIndex.lineCount() + LINES_PER_ENTRY - 1) / LINES_PER_ENTRY)];
+            try ( FileChannel channel = new RandomAccessFile( file, "r" ).getChannel() )
+            {
+                for ( int entry = 0; entry < entryTimeStamps.length; entry++ )
+                {
+                    long entryOffset = lineOffsetIndex.offsetOfLine( (long) entry * LINES_PER_ENTRY );
+                    entryTimeStamps[entry] = readTimeStamps( channel, entryOffset, 1 )[0];
+                }
+            }
+        }
+        // last entry with a line before time stamp
+        int entry = countLowerThan( entryTimeStamps, timeStampAsMilli ) - 1;
+        if ( entry < 0 )
+        {
+            return 0;
+        }
+        if ( entry != countedEntry )
+        {
+            long entryLine = (long) entry * LINES_PER_ENTRY;
+            int entryLineCount = (int) Math.min( LINES_PER_ENTRY, lineOffsetIndex.lineCount() - entryLine );
+            try ( FileChannel channel = new RandomAccessFile( file, "r" ).getChannel() )
+            {
+                countedEntryTimeStamps =
+                        readTimeStamps( channel, lineOffsetIndex.offsetOfLine( entryLine ), entryLineCount );
+            }
+            countedEntry = entry;
+        }
+        return (long) entry * LINES_PER_ENTRY + countLowerThan( countedEntryTimeStamps, timeStampAsMilli );
+    }
+
+    // values are sorted ascending
+    private static int countLowerThan( long[] values, long value )
+    {
+        int low = 0;
+        int high = values.length;
+        while ( low < high )
+        {
+            int middle = (low + high) >>> 1;
+            if ( values[middle] < value )
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // parses only the first field, the time stamp, of lineCount lines starting at offset, skipping empty lines
+    private long[] readTimeStamps( FileChannel channel, long offset, int lineCount ) throws IOException
+    {
+        long[] timeStamps = new long[lineCount];
+        int lines = 0;
+        boolean inLine = false;
+        boolean inTimeStamp = false;
+        boolean negative = false;
+        long timeStamp = 0;
+        ByteBuffer buffer = ByteBuffer.allocate( SCAN_BUFFER_SIZE );
+        channel.position( offset );
+        while ( lines < lineCount )
+        {
+            buffer.clear();
+            boolean endOfFile = -1 == channel.read( buffer );
+            buffer.flip();
+            while ( buffer.hasRemaining() && lines < lineCount )
+            {
+                byte b = buffer.get();
+                if ( '\n' == b || '\r' == b )
+                {
+                    inLine = false;
+                }
+                else if ( false == inLine )
+                {
+                    inLine = true;
+                    inTimeStamp = true;
+                    negative = '-' == b;
+                    timeStamp = negative ? 0 : b - '0';
+                    continue;
+                }
+                if ( inTimeStamp )
+                {
+                    if ( b >= '0' && b <= '9' )
+                    {
+                        timeStamp = timeStamp * 10 + (b - '0');
+                    }
+                    else
+                    {
+                        timeStamps[lines++] = negative ? -timeStamp : timeStamp;
+                        inTimeStamp = false;
+                    }
+                }
+            }
+            if ( endOfFile )
+            {
+                if ( inTimeStamp && lines < lineCount )
+                {
+                    timeStamps[lines++] = negative ? -timeStamp : timeStamp;
+                }
+                if ( lines < lineCount )
+                {
+                    throw new IOException(
+                            format( "File changed since it was indexed: %s", file.getAbsolutePath() ) );
+                }
+            }
+        }
+        return timeStamps;
+    }
+
+    private LineOffsetIndex index() throws IOException
+    {
+        if ( null == index )
+        {
+            if ( null == indexDir )
+            {
+                index = LineOffsetIndex.build( file, LineOffsetIndex.DEFAULT_LINES_PER_ENTRY );
+            }
+            else
+            {
+                index = LineOffsetIndex.loadOrBuild( file, indexDir, LineOffsetIndex.DEFAULT_LINES_PER_ENTRY );
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        source.close();
+        if ( ownsDecoderPool )
+        {
+            decoderPool.close();
+        }
+    }
+}
@@ -3,12 +3,12 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.generator.CsvEventStreamReaderTimedTypedCsvReader;
 import com.ldbc.driver.generator.CsvEventStreamReaderTimedTypedCsvReader.EventDecoder;
 import com.ldbc.driver.util.Function1;
 
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -66,10 +66,10 @@ public class WriteEventStreamReaderRegex
             String gender = csvRow[6];
 
             String birthdayString = csvRow[7];
-            Date birthday = new Date( Long.parseLong( birthdayString ) );
+            long birthdayAsMilli = Extractors.DateTimeExtractor.parse( birthdayString );
 
             String creationDateString = csvRow[8];
-            Date creationDate = new Date( Long.parseLong( creationDateString ) );
+            long creationDateAsMilli = Extractors.DateTimeExtractor.parse( creationDateString );
 
             String locationIp = csvRow[9];
 
@@ -135,8 +135,8 @@ public class WriteEventStreamReaderRegex
                     firstName,
                     lastName,
                     gender,
-                    birthday,
-                    creationDate,
+                    birthdayAsMilli,
+                    creationDateAsMilli,
                     locationIp,
                     browserUsed,
                     cityId,
@@ -169,9 +169,9 @@ public class WriteEventStreamReaderRegex
             long postId = Long.parseLong( csvRow[4] );
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date( Long.parseLong( creationDateString ) );
+            long creationDateAsMilli = Extractors.DateTimeExtractor.parse( creationDateString );
 
-            Operation operation = new LdbcUpdate2AddPostLike( personId, postId, creationDate );
+            Operation operation = new LdbcUpdate2AddPostLike( personId, postId, creationDateAsMilli );
             operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
             operation.setTimeStamp( scheduledStartTimeAsMilli );
             operation.setDependencyTimeStamp( dependencyTimeAsMilli );
@@ -196,9 +196,9 @@ public class WriteEventStreamReaderRegex
             long commentId = Long.parseLong( csvRow[4] );
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date( Long.parseLong( creationDateString ) );
+            long creationDateAsMilli = Extractors.DateTimeExtractor.parse( creationDateString );
 
-            Operation operation = new LdbcUpdate3AddCommentLike( personId, commentId, creationDate );
+            Operation operation = new LdbcUpdate3AddCommentLike( personId, commentId, creationDateAsMilli );
             operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
             operation.setTimeStamp( scheduledStartTimeAsMilli );
             operation.setDependencyTimeStamp( dependencyTimeAsMilli );
@@ -225,7 +225,7 @@ public class WriteEventStreamReaderRegex
             String forumTitle = csvRow[4];
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date( Long.parseLong( creationDateString ) );
+            long creationDateAsMilli = Extractors.DateTimeExtractor.parse( creationDateString );
 
             long moderatorPersonId = Long.parseLong( csvRow[6] );
 
@@ -241,7 +241,7 @@ public class WriteEventStreamReaderRegex
             }
 
             Operation operation =
-                    new LdbcUpdate4AddForum( forumId, forumTitle, creationDate, moderatorPersonId, tagIds );
+                    new LdbcUpdate4AddForum( forumId, forumTitle, creationDateAsMilli, moderatorPersonId, tagIds );
             operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
             operation.setTimeStamp( scheduledStartTimeAsMilli );
             operation.setDependencyTimeStamp( dependencyTimeAsMilli );
@@ -266,9 +266,9 @@ public class WriteEventStreamReaderRegex
             long personId = Long.parseLong( csvRow[4] );
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date( Long.parseLong( creationDateString ) );
+            long creationDateAsMilli = Extractors.DateTimeExtractor.parse( creationDateString );
 
-            Operation operation = new LdbcUpdate5AddForumMembership( forumId, personId, creationDate );
+            Operation operation = new LdbcUpdate5AddForumMembership( forumId, personId, creationDateAsMilli );
             operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
             operation.setTimeStamp( scheduledStartTimeAsMilli );
             operation.setDependencyTimeStamp( dependencyTimeAsMilli );
@@ -295,7 +295,7 @@ public class WriteEventStreamReaderRegex
             String imageFile = csvRow[4];
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date( Long.parseLong( creationDateString ) );
+            long creationDateAsMilli = Extractors.DateTimeExtractor.parse( creationDateString );
 
             String locationIp = csvRow[6];
 
@@ -327,7 +327,7 @@ public class WriteEventStreamReaderRegex
             Operation operation = new LdbcUpdate6AddPost(
                     postId,
                     imageFile,
-                    creationDate,
+                    creationDateAsMilli,
                     locationIp,
                     browserUsed,
                     language,
@@ -361,7 +361,7 @@ public class WriteEventStreamReaderRegex
             long commentId = Long.parseLong( csvRow[3] );
 
             String creationDateString = csvRow[4];
-            Date creationDate = new Date( Long.parseLong( creationDateString ) );
+            long creationDateAsMilli = Extractors.DateTimeExtractor.parse( creationDateString );
 
             String locationIp = csvRow[5];
 
@@ -392,7 +392,7 @@ public class WriteEventStreamReaderRegex
 
             Operation operation = new LdbcUpdate7AddComment(
                     commentId,
-                    creationDate,
+                    creationDateAsMilli,
                     locationIp,
                     browserUsed,
                     content,
@@ -426,9 +426,9 @@ public class WriteEventStreamReaderRegex
             long person2Id = Long.parseLong( csvRow[4] );
 
             String creationDateString = csvRow[5];
-            Date creationDate = new Date( Long.parseLong( creationDateString ) );
+            long creationDateAsMilli = Extractors.DateTimeExtractor.parse( creationDateString );
 
-            Operation operation = new LdbcUpdate8AddFriendship( person1Id, person2Id, creationDate );
+            Operation operation = new LdbcUpdate8AddFriendship( person1Id, person2Id, creationDateAsMilli );
             operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
             operation.setTimeStamp( scheduledStartTimeAsMilli );
             operation.setDependencyTimeStamp( dependencyTimeAsMilli );
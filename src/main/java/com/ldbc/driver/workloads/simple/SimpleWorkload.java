@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 
 import static java.lang.String.format;
 
@@ -201,7 +202,7 @@ public class SimpleWorkload extends Workload
         Iterator<Operation> workloadOperations =
                 Iterators.concat( initialInsertOperationGenerator, transactionalOperationGenerator );
 
-        Iterator<Long> startTimesAsMilli = gf.incrementing( workloadStartTimeAsMilli + 1, 100l );
+        PrimitiveIterator.OfLong startTimesAsMilli = gf.incrementingLongs( workloadStartTimeAsMilli + 1, 100l );
         Iterator<Long> dependencyTimesAsMilli = gf.constant( workloadStartTimeAsMilli );
 
         WorkloadStreams workloadStreams = new WorkloadStreams();
@@ -0,0 +1,107 @@
+package com.ldbc.driver;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class BinaryReaderWriterTest
+{
+    private static final long[] LONGS = new long[]{
+            0, 1, -1, 63, -64, 64, -65, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE,
+            1343270400000l
+    };
+    private static final String[] STRINGS = new String[]{"", "a", "Müller", "北京", "😀", null};
+
+    @Test
+    public void shouldReadWhatWasWritten() throws Exception
+    {
+        // Given
+        BinaryWriter writer = new BinaryWriter( 1 );
+        List<Object> values = Lists.<Object>newArrayList(
+                "a", 1, 2l, 3.5d, 4.5f, true, null,
+                Lists.newArrayList( "b", Lists.newArrayList( 5, 6l ) ) );
+
+        // When
+        for ( long value : LONGS )
+        {
+            writer.writeVarLong( value );
+            writer.writeVarInt( (int) value );
+        }
+        for ( String value : STRINGS )
+        {
+            writer.writeString( value );
+        }
+        writer.writeBoolean( true );
+        writer.writeBoolean( false );
+        writer.writeByte( 0xFF );
+        writer.writeFloat( -1.25f );
+        writer.writeDouble( Double.MIN_VALUE );
+        writer.writeStrings( Arrays.asList( STRINGS ) );
+        writer.writeStrings( null );
+        writer.writeLongs( Arrays.asList( 1, 2l, Long.MIN_VALUE ) );
+        writer.writeLongs( new ArrayList<Long>() );
+        writer.writeValue( values );
+
+        // Then
+        BinaryReader reader = new BinaryReader( writer.toByteArray() );
+        for ( long value : LONGS )
+        {
+            assertThat( reader.readVarLong(), equalTo( value ) );
+            assertThat( reader.readVarInt(), equalTo( (int) value ) );
+        }
+        for ( String value : STRINGS )
+        {
+            assertThat( reader.readString(), equalTo( value ) );
+        }
+        assertThat( reader.readBoolean(), equalTo( true ) );
+        assertThat( reader.readBoolean(), equalTo( false ) );
+        assertThat( reader.readByte(), equalTo( (byte) 0xFF ) );
+        assertThat( reader.readFloat(), equalTo( -1.25f ) );
+        assertThat( reader.readDouble(), equalTo( Double.MIN_VALUE ) );
+        assertThat( reader.readStrings(), equalTo( Arrays.asList( STRINGS ) ) );
+        assertThat( reader.readStrings(), nullValue() );
+        assertThat( reader.readLongs(), equalTo( Arrays.asList( 1l, 2l, Long.MIN_VALUE ) ) );
+        assertThat( reader.readLongs(), equalTo( (List<Long>) new ArrayList<Long>() ) );
+        assertThat( reader.readValue(), equalTo( (Object) values ) );
+        assertThat( reader.position(), equalTo( writer.size() ) );
+    }
+
+    @Test
+    public void shouldWriteSmallIntegersInOneByte()
+    {
+        // Given
+        BinaryWriter writer = new BinaryWriter();
+
+        // When
+        writer.writeVarLong( -64 );
+        writer.writeVarInt( 63 );
+        writer.writeString( "" );
+
+        // Then
+        assertThat( writer.size(), equalTo( 3 ) );
+        writer.reset();
+        assertThat( writer.size(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldFailToWriteUnsupportedValue()
+    {
+        try
+        {
+            new BinaryWriter().writeValue( new Object() );
+            fail( "Unsupported value should not be written" );
+        }
+        catch ( SerializingMarshallingException e )
+        {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SimpleResultReporterTest
+{
+    @Test
+    public void shouldReportCountAndIdsWhenFullResultsAreNotRequired() throws Exception
+    {
+        // Given
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter(), false );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read2();
+
+        // When
+        CountOnlyResult countOnlyResult = resultReporter.countOnlyResult();
+        for ( long id = 0; id < 100; id++ )
+        {
+            countOnlyResult.addPersonId( id );
+            countOnlyResult.addMessageId( -id );
+        }
+        resultReporter.reportCount( 0, 100, operation );
+
+        // Then
+        assertThat( resultReporter.fullResultsRequired(), is( false ) );
+        assertThat( resultReporter.resultCode(), equalTo( 0 ) );
+        assertThat( resultReporter.result(), sameInstance( (Object) countOnlyResult ) );
+        assertThat( countOnlyResult.rowCount(), equalTo( 100 ) );
+        assertThat( countOnlyResult.personIdCount(), equalTo( 100 ) );
+        assertThat( countOnlyResult.messageIdCount(), equalTo( 100 ) );
+        for ( int i = 0; i < 100; i++ )
+        {
+            assertThat( countOnlyResult.personId( i ), equalTo( (long) i ) );
+            assertThat( countOnlyResult.messageId( i ), equalTo( (long) -i ) );
+        }
+
+        // When
+        countOnlyResult = resultReporter.countOnlyResult();
+        resultReporter.reportCount( 1, 0, operation );
+
+        // Then
+        assertThat( resultReporter.resultCode(), equalTo( 1 ) );
+        assertThat( countOnlyResult.rowCount(), equalTo( 0 ) );
+        assertThat( countOnlyResult.personIdCount(), equalTo( 0 ) );
+        assertThat( countOnlyResult.messageIdCount(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldFailToReportCountWhenFullResultsAreRequired()
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
+
+        // When/Then
+        assertThat( resultReporter.fullResultsRequired(), is( true ) );
+        try
+        {
+            resultReporter.reportCount( 0, 1, DummyLdbcSnbInteractiveOperationInstances.read2() );
+            fail( "Count should not be accepted when full results are required" );
+        }
+        catch ( DbException e )
+        {
+            assertThat( errorReporter.errorEncountered(), is( true ) );
+        }
+    }
+
+    @Test
+    public void shouldNotStoreCountWhenOperationIsNull() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter, false );
+
+        // When/Then
+        try
+        {
+            resultReporter.reportCount( 0, 1, null );
+            fail( "Count should not be accepted without operation" );
+        }
+        catch ( DbException e )
+        {
+            assertThat( errorReporter.errorEncountered(), is( true ) );
+        }
+        assertThat( resultReporter.result(), nullValue() );
+        assertThat( resultReporter.resultCode(), equalTo( -1 ) );
+    }
+
+    @Test
+    public void shouldRequireFullResultsFromReportersThatDoNotImplementCounts()
+    {
+        // Given
+        ResultReporter resultReporter = new ResultReporter()
+        {
+            @Override
+            public <OTHER_RESULT_TYPE> void report( int resultCode, OTHER_RESULT_TYPE result,
+                    Operation<OTHER_RESULT_TYPE> operation ) throws DbException
+            {
+            }
+
+            @Override
+            public Object result()
+            {
+                return null;
+            }
+
+            @Override
+            public int resultCode()
+            {
+                return 0;
+            }
+
+            @Override
+            public long runDurationAsNano()
+            {
+                return 0;
+            }
+
+            @Override
+            public long actualStartTimeAsMilli()
+            {
+                return 0;
+            }
+        };
+
+        // When/Then
+        assertThat( resultReporter.fullResultsRequired(), is( true ) );
+        try
+        {
+            resultReporter.reportCount( 0, 1, DummyLdbcSnbInteractiveOperationInstances.read2() );
+            fail( "Count should not be accepted by reporters that do not implement counts" );
+        }
+        catch ( DbException e )
+        {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.ldbc.driver;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.util.Tuple3;
+import com.ldbc.driver.workloads.WorkloadFactory;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1Factory;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation2Factory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class WorkloadScheduleTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReplayScheduleIdenticallyToWorkloadStreams()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        // records are 36 bytes: 74 byte windows leave a 2 byte remainder, 100 byte windows need a padding marker
+        doShouldReplayScheduleIdenticallyToWorkloadStreams( WorkloadSchedule.DEFAULT_WINDOW_SIZE );
+        doShouldReplayScheduleIdenticallyToWorkloadStreams( 74 );
+        doShouldReplayScheduleIdenticallyToWorkloadStreams( 100 );
+    }
+
+    private void doShouldReplayScheduleIdenticallyToWorkloadStreams( int windowSize )
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                return new SerializingTestWorkload();
+            }
+        };
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 );
+        LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+        long offset = 10;
+        long limit = 100;
+        File scheduleFile = WorkloadSchedule.scheduleFileFor( temporaryFolder.newFolder(), offset, limit );
+
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> compiled =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory, configuration, gf, false, offset, limit, loggingServiceFactory );
+        long operationCount = WorkloadSchedule.write(
+                scheduleFile, configuration, compiled._2(), compiled._1(), offset, limit, compiled._3(), windowSize );
+        compiled._2().close();
+        assertThat( operationCount, is( limit ) );
+
+        gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> expected =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory, configuration, gf, false, offset, limit, loggingServiceFactory );
+        Tuple3<WorkloadStreams,Workload,Long> replayed = WorkloadSchedule.read(
+                scheduleFile, workloadFactory, configuration, gf, false, offset, limit );
+
+        assertThat( replayed._3(), equalTo( expected._3() ) );
+        List<List<Operation>> expectedStreams = streamsAsLists( expected._1() );
+        List<List<Operation>> replayedStreams = streamsAsLists( replayed._1() );
+        assertThat( replayedStreams.size(), is( expectedStreams.size() ) );
+        for ( int i = 0; i < expectedStreams.size(); i++ )
+        {
+            assertThat( format( "stream %s", i ), replayedStreams.get( i ), equalTo( expectedStreams.get( i ) ) );
+        }
+        List<WorkloadStreams.WorkloadStreamDefinition> expectedDefinitions = definitions( expected._1() );
+        List<WorkloadStreams.WorkloadStreamDefinition> replayedDefinitions = definitions( replayed._1() );
+        assertThat( replayedDefinitions.size(), is( expectedDefinitions.size() ) );
+        for ( int i = 0; i < expectedDefinitions.size(); i++ )
+        {
+            assertThat( replayedDefinitions.get( i ).dependentOperationTypes(),
+                    equalTo( expectedDefinitions.get( i ).dependentOperationTypes() ) );
+            assertThat( replayedDefinitions.get( i ).dependencyOperationTypes(),
+                    equalTo( expectedDefinitions.get( i ).dependencyOperationTypes() ) );
+        }
+        assertThat( ((SerializingTestWorkload) replayed._2()).streamsCreated, is( false ) );
+        expected._2().close();
+        replayed._2().close();
+    }
+
+    @Test( expected = WorkloadException.class )
+    public void shouldFailToReplayScheduleCompiledWithDifferentLimit()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                return new SerializingTestWorkload();
+            }
+        };
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 );
+        File scheduleFile = temporaryFolder.newFile();
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> compiled =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory, configuration, gf, false, 0, 100, new Log4jLoggingServiceFactory( false ) );
+        WorkloadSchedule.write( scheduleFile, configuration, compiled._2(), compiled._1(), 0, 100, compiled._3() );
+        compiled._2().close();
+
+        WorkloadSchedule.read( scheduleFile, workloadFactory, configuration, gf, false, 0, 50 );
+    }
+
+    @Test( expected = WorkloadException.class )
+    public void shouldFailToReplayScheduleCompiledWithDifferentWorkloadParameters()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                return new SerializingTestWorkload();
+            }
+        };
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 );
+        File scheduleFile = temporaryFolder.newFile();
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> compiled =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory, configuration, gf, false, 0, 100, new Log4jLoggingServiceFactory( false ) );
+        WorkloadSchedule.write( scheduleFile, configuration, compiled._2(), compiled._1(), 0, 100, compiled._3() );
+        compiled._2().close();
+
+        WorkloadSchedule.read( scheduleFile, workloadFactory, configuration.applyArg( "parameter", "changed" ), gf,
+                false, 0, 100 );
+    }
+
+    private static List<WorkloadStreams.WorkloadStreamDefinition> definitions( WorkloadStreams workloadStreams )
+    {
+        List<WorkloadStreams.WorkloadStreamDefinition> definitions = new ArrayList<>();
+        definitions.add( workloadStreams.asynchronousStream() );
+        definitions.addAll( workloadStreams.blockingStreamDefinitions() );
+        return definitions;
+    }
+
+    private static List<List<Operation>> streamsAsLists( WorkloadStreams workloadStreams )
+    {
+        List<List<Operation>> streams = new ArrayList<>();
+        streams.add( Lists.newArrayList( workloadStreams.asynchronousStream().dependencyOperations() ) );
+        streams.add( Lists.newArrayList( workloadStreams.asynchronousStream().nonDependencyOperations() ) );
+        for ( WorkloadStreams.WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+        {
+            streams.add( Lists.newArrayList( stream.dependencyOperations() ) );
+            streams.add( Lists.newArrayList( stream.nonDependencyOperations() ) );
+        }
+        return streams;
+    }
+
+    private static class SerializingTestWorkload extends Workload
+    {
+        private boolean streamsCreated = false;
+
+        @Override
+        public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+        {
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+            operationTypeToClassMapping.put( NothingOperation.TYPE, NothingOperation.class );
+            operationTypeToClassMapping.put( TimedNamedOperation1.TYPE, TimedNamedOperation1.class );
+            operationTypeToClassMapping.put( TimedNamedOperation2.TYPE, TimedNamedOperation2.class );
+            return operationTypeToClassMapping;
+        }
+
+        @Override
+        public void onInit( Map<String,String> params ) throws WorkloadException
+        {
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected ChildOperationGenerator getAsynchronousChildOperationGenerator( GeneratorFactory gf,
+                boolean hasDbConnected ) throws WorkloadException
+        {
+            return null;
+        }
+
+        @Override
+        protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected )
+                throws WorkloadException
+        {
+            streamsCreated = true;
+            Iterator<Operation> asyncDependencyStream = new TimedNamedOperation1Factory(
+                    gf.incrementing( 0l, 10l ),
+                    gf.incrementing( 0l, 10l ),
+                    gf.constant( "ad" )
+            );
+            Iterator<Operation> asyncNonDependencyStream = new TimedNamedOperation1Factory(
+                    gf.incrementing( 2l, 100l ),
+                    gf.incrementing( 2l, 100l ),
+                    gf.constant( "an" )
+            );
+            Iterator<Operation> blockingDependencyStream = new TimedNamedOperation2Factory(
+                    gf.incrementing( 4l, 1000l ),
+                    gf.incrementing( 4l, 1000l ),
+                    gf.constant( "bd" )
+            );
+            Iterator<Operation> blockingNonDependencyStream = new TimedNamedOperation2Factory(
+                    gf.incrementing( 6l, 10000l ),
+                    gf.incrementing( 6l, 10000l ),
+                    gf.constant( "bn" )
+            );
+            WorkloadStreams workloadStreams = new WorkloadStreams();
+            workloadStreams.setAsynchronousStream(
+                    Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ),
+                    new HashSet<Class<? extends Operation>>(),
+                    asyncDependencyStream,
+                    asyncNonDependencyStream,
+                    null
+            );
+            workloadStreams.addBlockingStream(
+                    new HashSet<Class<? extends Operation>>(),
+                    Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation2.class ),
+                    blockingDependencyStream,
+                    blockingNonDependencyStream,
+                    null
+            );
+            return workloadStreams;
+        }
+
+        @Override
+        public String serializeOperation( Operation operation ) throws SerializingMarshallingException
+        {
+            switch ( operation.type() )
+            {
+            case TimedNamedOperation1.TYPE:
+                return TimedNamedOperation1.TYPE + "|" + ((TimedNamedOperation1) operation).name();
+            case TimedNamedOperation2.TYPE:
+                return TimedNamedOperation2.TYPE + "|" + ((TimedNamedOperation2) operation).name();
+            default:
+                throw new SerializingMarshallingException( "Unsupported operation: " + operation );
+            }
+        }
+
+        @Override
+        public Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException
+        {
+            String[] typeAndName = serializedOperation.split( "\\|" );
+            switch ( Integer.parseInt( typeAndName[0] ) )
+            {
+            case TimedNamedOperation1.TYPE:
+                return new TimedNamedOperation1( -1, -1, -1, typeAndName[1] );
+            case TimedNamedOperation2.TYPE:
+                return new TimedNamedOperation2( -1, -1, -1, typeAndName[1] );
+            default:
+                throw new SerializingMarshallingException( "Unsupported operation: " + serializedOperation );
+            }
+        }
+
+        @Override
+        public boolean resultsEqual( Operation operation, Object result1, Object result2 ) throws WorkloadException
+        {
+            return null != result1 && result1.equals( result2 );
+        }
+    }
+}
@@ -18,8 +18,11 @@ import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation2Factory;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation3;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation3Factory;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,6 +30,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -36,6 +40,8 @@ import static org.junit.Assert.assertThat;
 
 public class WorkloadStreamsTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test
     public void shouldReturnSameWorkloadStreamsAsCreatedWith()
@@ -301,6 +307,65 @@ public class WorkloadStreamsTest
         workload.close();
     }
 
+    @Test
+    public void shouldReuseWorkloadStreamsIndexWhenConfigurationIsUnchanged()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        final AtomicInteger createdWorkloadCount = new AtomicInteger( 0 );
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                createdWorkloadCount.incrementAndGet();
+                return new TestWorkload();
+            }
+        };
+        File indexDir = temporaryFolder.newFolder();
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 );
+        Map<String,String> indexParams = new HashMap<>();
+        indexParams.put( WorkloadStreamsIndex.WORKLOAD_STREAM_INDEX_DIR_ARG, indexDir.getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( indexParams );
+        LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+        // first run calculates limits and writes index
+        GeneratorFactory gf1 = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> first =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory, configuration, gf1, false, 10, 100, loggingServiceFactory );
+        assertThat( createdWorkloadCount.get(), is( 2 ) );
+        assertThat( indexDir.listFiles().length, is( 1 ) );
+        List<Operation> firstOperations = Lists.newArrayList(
+                WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators( gf1, first._1() ) );
+        first._2().close();
+
+        // second run reads limits from index
+        createdWorkloadCount.set( 0 );
+        GeneratorFactory gf2 = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> second =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory, configuration, gf2, false, 10, 100, loggingServiceFactory );
+        assertThat( createdWorkloadCount.get(), is( 1 ) );
+        List<Operation> secondOperations = Lists.newArrayList(
+                WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators( gf2, second._1() ) );
+        second._2().close();
+
+        assertThat( second._3(), equalTo( first._3() ) );
+        assertThat( secondOperations.size(), is( 100 ) );
+        assertThat( secondOperations, equalTo( firstOperations ) );
+
+        // different limit uses a different index
+        createdWorkloadCount.set( 0 );
+        Tuple3<WorkloadStreams,Workload,Long> third =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory, configuration, new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) ),
+                        false, 10, 50, loggingServiceFactory );
+        third._2().close();
+        assertThat( createdWorkloadCount.get(), is( 2 ) );
+        assertThat( indexDir.listFiles().length, is( 2 ) );
+    }
+
     @Test
     public void shouldLimitWorkloadCorrectly_WITH_OFFSET()
             throws WorkloadException, DriverConfigurationException, IOException
@@ -0,0 +1,118 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.ByteBufferCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeekers;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.csv.charseeker.Readables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ByteBufferCharSeekerTest {
+    private static final String[] DATA = {
+            "",
+            "a",
+            "a|b|c",
+            "1|2|3\n4|5|6\n",
+            "1|2\r\n\r\n\n3|4\r\n",
+            "|||\n|",
+            "\"quoted|value\"|plain\n",
+            "\"double \"\" quote\"|\"back \\\" slash\"|x\n",
+            "\"new\nline\"|\"\"\n",
+            "not \"\" quoted|a\\\"b\n",
+            "\"a\"\"\"\"b\"|c\nd|e\n",
+            "multi|bÿte|ünïcødé|日本語|\"quöted \"\" ü\"\n",
+            "trailing|\"",
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldSeekAndExtractSameValuesAsBufferedCharSeeker() throws IOException {
+        for (String data : DATA) {
+            List<String> expected = values(bufferedCharSeeker(data));
+
+            byte[] bytes = data.getBytes(Charsets.UTF_8);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 4);
+            direct.put(new byte[]{'x', '|'}).put(bytes).put(new byte[]{'|', 'x'});
+            direct.position(2).limit(bytes.length + 2);
+
+            assertThat(data, values(new ByteBufferCharSeeker(ByteBuffer.wrap(bytes))), equalTo(expected));
+            assertThat(data, values(new ByteBufferCharSeeker(direct)), equalTo(expected));
+            assertThat(direct.position(), is(2));
+        }
+    }
+
+    @Test
+    public void shouldSeekAcrossMappedWindowsFromOffset() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (String data : DATA) {
+            builder.append(data).append('\n');
+        }
+        String data = builder.toString();
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), data.getBytes(Charsets.UTF_8));
+        int offset = data.indexOf("\"double");
+        String dataFromOffset = data.substring(offset);
+        long byteOffset = data.substring(0, offset).getBytes(Charsets.UTF_8).length;
+
+        for (int windowSize : new int[]{40, 41, 64, 1024}) {
+            assertThat(values(CharSeekers.mappedCharSeeker(file, 0, windowSize, '"')),
+                    equalTo(values(bufferedCharSeeker(data))));
+            assertThat(values(CharSeekers.mappedCharSeeker(file, byteOffset, windowSize, '"')),
+                    equalTo(values(bufferedCharSeeker(dataFromOffset))));
+        }
+    }
+
+    @Test
+    public void shouldFailOnValueLargerThanWindow() throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "a|0123456789|b\n".getBytes(Charsets.UTF_8));
+        CharSeeker seeker = CharSeekers.mappedCharSeeker(file, 0, 8, '"');
+        Mark mark = new Mark();
+        assertThat(seeker.seek(mark, new int[]{'|'}), is(true));
+        try {
+            seeker.seek(mark, new int[]{'|'});
+            fail("Value larger than window should not be read");
+        } catch (IllegalStateException e) {
+            // expected
+        } finally {
+            seeker.close();
+        }
+    }
+
+    private static CharSeeker bufferedCharSeeker(String data) {
+        return new BufferedCharSeeker(Readables.wrap(new StringReader(data)), 1024);
+    }
+
+    // line number, value and delimiter of every value, in order
+    private static List<String> values(CharSeeker seeker) throws IOException {
+        List<String> values = new ArrayList<>();
+        Extractors extractors = new Extractors(';', ',');
+        Mark mark = new Mark();
+        while (seeker.seek(mark, new int[]{'|'})) {
+            String value = seeker.extract(mark, extractors.string()).value();
+            values.add(mark.lineNumber() + ":" + value + (mark.isEndOfLine() ? "$" : "|"));
+        }
+        seeker.close();
+        return values;
+    }
+}
@@ -0,0 +1,117 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CharSeekerCsvFileReaderTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadSameRowsAsSimpleCsvFileReader() throws IOException
+    {
+        // Given
+        String data = "" +
+                      "operation|scheduled_start_time|actual_start_time\n" +
+                      "LdbcQuery1|1|2\n" +
+                      "|||\n" +
+                      "\"quoted\"|{\"json\":[1,2]}|é中\r\n" +
+                      "a\\|b|\"|\n" +
+                      "last|row|without|new line";
+
+        for ( int bufferSize : new int[]{32, 1024} )
+        {
+            // When
+            List<String[]> expectedRows = rows( new SimpleCsvFileReader(
+                    new BufferedReader( new StringReader( data ) ),
+                    SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) );
+            List<String[]> rows = rows( new CharSeekerCsvFileReader(
+                    Readables.wrap( new StringReader( data ) ),
+                    CharSeekerCsvFileReader.DEFAULT_COLUMN_SEPARATOR,
+                    bufferSize ) );
+
+            // Then
+            assertThat( rows.size(), is( 6 ) );
+            for ( int i = 0; i < expectedRows.size(); i++ )
+            {
+                assertThat( Arrays.toString( rows.get( i ) ), equalTo( Arrays.toString( expectedRows.get( i ) ) ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldReadRowsWithManyColumnsFromCompressedFile() throws IOException
+    {
+        // Given
+        StringBuilder content = new StringBuilder();
+        List<String> expectedRows = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ )
+        {
+            StringBuilder row = new StringBuilder( Integer.toString( i ) );
+            for ( int j = 0; j < i % 50; j++ )
+            {
+                row.append( '|' ).append( j );
+            }
+            content.append( row ).append( '\n' );
+            expectedRows.add( row.toString() );
+        }
+        File file = temporaryFolder.newFile( "rows.csv" );
+        Files.write( file.toPath(), content.toString().getBytes( Charsets.UTF_8 ) );
+        File compressedFile = temporaryFolder.newFile( "rows.csv.gz" );
+        try ( OutputStream outputStream = new GZIPOutputStream( new FileOutputStream( compressedFile ) ) )
+        {
+            outputStream.write( content.toString().getBytes( Charsets.UTF_8 ) );
+        }
+
+        for ( File csvFile : Lists.newArrayList( file, compressedFile ) )
+        {
+            // When
+            List<String[]> rows = rows( new CharSeekerCsvFileReader( csvFile, '|', 64 ) );
+
+            // Then
+            assertThat( rows.size(), is( expectedRows.size() ) );
+            for ( int i = 0; i < rows.size(); i++ )
+            {
+                assertThat( rows.get( i ).length, is( 1 + i % 50 ) );
+                assertThat( String.join( "|", rows.get( i ) ), equalTo( expectedRows.get( i ) ) );
+            }
+        }
+    }
+
+    private static <READER extends Iterator<String[]> & Closeable> List<String[]> rows( READER reader )
+            throws IOException
+    {
+        try
+        {
+            return Lists.newArrayList( reader );
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+}
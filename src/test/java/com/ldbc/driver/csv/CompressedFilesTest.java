@@ -0,0 +1,127 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.control.NullLoggingService;
+import com.ldbc.driver.csv.charseeker.CharReadable;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class CompressedFilesTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadCompressedFileLikeUncompressedFile() throws IOException
+    {
+        // Given
+        StringBuilder content = new StringBuilder();
+        for ( int i = 0; i < 10000; i++ )
+        {
+            // multi byte characters, so they are split across buffers
+            content.append( i ).append( "|é中|" ).append( i * 31 ).append( "\n" );
+        }
+        File file = temporaryFolder.newFile( "params.csv" );
+        Files.write( file.toPath(), content.toString().getBytes( Charsets.UTF_8 ) );
+        File compressedFile = temporaryFolder.newFile( "compressed_params.csv.gz" );
+        try ( OutputStream outputStream = new GZIPOutputStream( new FileOutputStream( compressedFile ) ) )
+        {
+            outputStream.write( content.toString().getBytes( Charsets.UTF_8 ) );
+        }
+
+        for ( int bufferSize : new int[]{1, 7, 1024, 1024 * 1024} )
+        {
+            // When/Then
+            assertThat( readFully( CompressedFiles.readable( file, bufferSize ) ), equalTo( content.toString() ) );
+            assertThat( readFully( CompressedFiles.readable( compressedFile, bufferSize ) ),
+                    equalTo( content.toString() ) );
+        }
+    }
+
+    @Test
+    public void shouldResolveCompressedFileOnlyWhenUncompressedFileDoesNotExist() throws IOException
+    {
+        File file = new File( temporaryFolder.getRoot(), "params.csv" );
+        assertThat( CompressedFiles.resolve( file ), equalTo( file ) );
+
+        File compressedFile = temporaryFolder.newFile( "params.csv.gz" );
+        assertThat( CompressedFiles.resolve( file ), equalTo( compressedFile ) );
+        assertThat( CompressedFiles.isCompressed( CompressedFiles.resolve( file ) ), is( true ) );
+        assertThat( CompressedFiles.uncompressedName( compressedFile ), equalTo( "params.csv" ) );
+
+        temporaryFolder.newFile( "params.csv" );
+        assertThat( CompressedFiles.resolve( file ), equalTo( file ) );
+        assertThat( CompressedFiles.isCompressed( CompressedFiles.resolve( file ) ), is( false ) );
+        assertThat( CompressedFiles.uncompressedName( file ), equalTo( "params.csv" ) );
+    }
+
+    @Test
+    public void shouldReportDecompressionThroughput()
+    {
+        assertThat(
+                CompressedFiles.throughputReport(
+                        new File( "updateStream_0_0_forum.csv.gz" ),
+                        1024 * 1024,
+                        4 * 1024 * 1024,
+                        TimeUnit.MILLISECONDS.toNanos( 500 ) ),
+                equalTo( "Decompressed updateStream_0_0_forum.csv.gz: 1.0 MB to 4.0 MB in 0.50 s, 8.0 MB/s" )
+        );
+    }
+
+    @Test
+    public void shouldReportDecompressionThroughputToGivenLoggingService() throws IOException
+    {
+        // Given
+        File compressedFile = temporaryFolder.newFile( "params.csv.gz" );
+        try ( OutputStream outputStream = new GZIPOutputStream( new FileOutputStream( compressedFile ) ) )
+        {
+            outputStream.write( "1|2\n".getBytes( Charsets.UTF_8 ) );
+        }
+        final List<String> messages = new ArrayList<>();
+        NullLoggingService loggingService = new NullLoggingService()
+        {
+            @Override
+            public void info( String message )
+            {
+                messages.add( message );
+            }
+        };
+
+        // When
+        String content = readFully( CompressedFiles.readable( compressedFile, 1024, loggingService ) );
+
+        // Then
+        assertThat( content, equalTo( "1|2\n" ) );
+        assertThat( messages.size(), is( 1 ) );
+        assertThat( messages.get( 0 ), startsWith( "Decompressed params.csv.gz: " ) );
+    }
+
+    private static String readFully( CharReadable readable ) throws IOException
+    {
+        StringBuilder content = new StringBuilder();
+        char[] chars = new char[100];
+        int read;
+        while ( -1 != (read = readable.read( chars, 0, chars.length )) )
+        {
+            content.append( chars, 0, read );
+        }
+        readable.close();
+        return content.toString();
+    }
+}
@@ -4,10 +4,13 @@ import com.ldbc.driver.csv.charseeker.*;
 import org.junit.Test;
 
 import java.io.StringReader;
+import java.text.SimpleDateFormat;
+import java.util.TimeZone;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class ExtractorsTest {
     @Test
@@ -59,4 +62,95 @@ public class ExtractorsTest {
         assertThat(intTupleArray[2], equalTo(new int[]{5, 6}));
         assertThat(intTupleArray[3], equalTo(new int[]{7, 8}));
     }
+
+    @Test
+    public void shouldParseArraysIntoReusedBuffersAsArrayExtractorsDo() throws Exception {
+        int[] columnDelimiters = new int[]{'|'};
+        String data = "1,2;3,4;5,6|a;bc;;d|1;22;333\n" +
+                "||\n" +
+                "7,8|efg|4\n" +
+                "1,1;2,2;3,3;4,4;5,5;6,6;7,7;8,8;9,9;10,10;11,11;12,12;13,13;14,14;15,15;16,16;17,17|" +
+                "a;b;c;d;e;f;g;h;i;j;k;l;m;n;o;p;q;r;s|1;2;3;4;5;6;7;8;9;10;11;12;13;14;15;16;17;18\n";
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        CharSeeker bufferCharSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        Extractors extractors = new Extractors(';', ',');
+        Extractors bufferExtractors = new Extractors(';', ',');
+        Mark mark = new Mark();
+        Mark bufferMark = new Mark();
+
+        for (int line = 0; line < 4; line++) {
+            charSeeker.seek(mark, columnDelimiters);
+            bufferCharSeeker.seek(bufferMark, columnDelimiters);
+            int[][] intTupleArray = charSeeker.extract(mark, extractors.intTupleArray(2)).value();
+            Extractors.IntTupleArrayBufferExtractor intTupleArrayBuffer =
+                    bufferCharSeeker.extract(bufferMark, bufferExtractors.intTupleArrayBuffer(2));
+            assertThat(intTupleArrayBuffer.length(), is(intTupleArray.length));
+            for (int i = 0; i < intTupleArray.length; i++) {
+                assertThat(intTupleArrayBuffer.intValue(i, 0), is(intTupleArray[i][0]));
+                assertThat(intTupleArrayBuffer.intValue(i, 1), is(intTupleArray[i][1]));
+            }
+            assertThat(intTupleArrayBuffer.value(), equalTo(intTupleArray));
+
+            charSeeker.seek(mark, columnDelimiters);
+            bufferCharSeeker.seek(bufferMark, columnDelimiters);
+            String[] stringArray = charSeeker.extract(mark, extractors.stringArray()).value();
+            Extractors.StringArrayBufferExtractor stringArrayBuffer =
+                    bufferCharSeeker.extract(bufferMark, bufferExtractors.stringArrayBuffer());
+            assertThat(stringArrayBuffer.length(), is(stringArray.length));
+            for (int i = 0; i < stringArray.length; i++) {
+                assertThat(stringArrayBuffer.stringValue(i), equalTo(stringArray[i]));
+            }
+            assertThat(stringArrayBuffer.value(), equalTo(stringArray));
+
+            charSeeker.seek(mark, columnDelimiters);
+            bufferCharSeeker.seek(bufferMark, columnDelimiters);
+            long[] longArray = charSeeker.extract(mark, extractors.longArray()).value();
+            Extractors.LongArrayBufferExtractor longArrayBuffer =
+                    bufferCharSeeker.extract(bufferMark, bufferExtractors.longArrayBuffer());
+            assertThat(longArrayBuffer.length(), is(longArray.length));
+            for (int i = 0; i < longArray.length; i++) {
+                assertThat(longArrayBuffer.longValue(i), is(longArray[i]));
+            }
+            assertThat(longArrayBuffer.value(), equalTo(longArray));
+        }
+    }
+
+    @Test
+    public void shouldParseDatesAndDateTimesAsSimpleDateFormatDoes() throws Exception {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+        String[] dates = {"1970-01-01", "1981-12-21", "2000-02-29", "2012-10-20", "1899-03-01", "2100-12-31"};
+        String[] dateTimes = {
+                "2012-10-20T15:59:04.673+0000", "1970-01-01T00:00:00.000+0000", "2010-02-28T23:59:59.999+0000",
+                "2012-10-20T15:59:04.673+0130", "2012-10-20T01:02:03.004-0800", "1969-12-31T23:59:59.999+0000"};
+        Extractors.DateTimeExtractor extractor = new Extractors(';', ',').dateTime();
+
+        for (String date : dates) {
+            extractor.extract(date.toCharArray(), 0, date.length());
+            assertThat(date, extractor.longValue(), is(dateFormat.parse(date).getTime()));
+        }
+        for (String dateTime : dateTimes) {
+            char[] data = ("x|" + dateTime + "|x").toCharArray();
+            extractor.extract(data, 2, dateTime.length());
+            assertThat(dateTime, extractor.longValue(), is(dateTimeFormat.parse(dateTime).getTime()));
+        }
+
+        long millis = dateTimeFormat.parse("2012-10-20T15:59:04.673+0000").getTime();
+        for (String dateTime : new String[]{"2012-10-20T15:59:04.673Z", "2012-10-20T15:59:04.673", "2012-10-20 " +
+                "15:59:04.673+00:00", "2012-10-20T15:59:04.6734+00", "2012-10-20T17:59:04.673+02:00", "" + millis}) {
+            extractor.extract(dateTime.toCharArray(), 0, dateTime.length());
+            assertThat(dateTime, extractor.longValue(), is(millis));
+        }
+
+        for (String invalid : new String[]{"2012-10-2x", "2012-13-20", "2012-10-20T15:59", "2012-10-20T15:59:04+1",
+                "2012-10-20T15:59:04.673 UTC", ""}) {
+            try {
+                extractor.extract(invalid.toCharArray(), 0, invalid.length());
+                fail("Should not parse " + invalid);
+            } catch (NumberFormatException e) {
+                // expected
+            }
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LineOffsetIndexTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldFindOffsetOfEveryLine() throws IOException
+    {
+        // Given
+        StringBuilder content = new StringBuilder();
+        long[] expectedOffsets = new long[1000];
+        for ( int i = 0; i < expectedOffsets.length; i++ )
+        {
+            expectedOffsets[i] = content.toString().getBytes( Charsets.UTF_8 ).length;
+            // multi byte characters, so byte offsets differ from char offsets
+            content.append( i ).append( "|é中|" ).append( i * 31 ).append( "\n" );
+        }
+        File file = write( content.toString() );
+
+        for ( int linesPerEntry : new int[]{1, 7, 64, 2000} )
+        {
+            // When
+            LineOffsetIndex index = LineOffsetIndex.build( file, linesPerEntry );
+
+            // Then
+            assertThat( index.lineCount(), is( 1000L ) );
+            for ( int i = 0; i < expectedOffsets.length; i++ )
+            {
+                assertThat( index.offsetOfLine( i ), is( expectedOffsets[i] ) );
+            }
+            assertThat( index.offsetOfLine( 1000 ), is( file.length() ) );
+            assertThat( index.offsetOfLine( 5000 ), is( file.length() ) );
+        }
+    }
+
+    @Test
+    public void shouldCountLastLineWithoutNewLineAndSkipEmptyLines() throws IOException
+    {
+        assertThat( LineOffsetIndex.build( write( "a\nbb\nccc" ), 2 ).lineCount(), is( 3L ) );
+        assertThat( LineOffsetIndex.build( write( "\na\r\nbb\n\n\nccc\n\n" ), 2 ).lineCount(), is( 3L ) );
+        for ( int linesPerEntry : new int[]{1, 2, 3} )
+        {
+            LineOffsetIndex index = LineOffsetIndex.build( write( "\na\r\nbb\n\n\nccc\n\n" ), linesPerEntry );
+            assertThat( index.offsetOfLine( 0 ), is( 1L ) );
+            assertThat( index.offsetOfLine( 1 ), is( 4L ) );
+            assertThat( index.offsetOfLine( 2 ), is( 9L ) );
+            assertThat( index.offsetOfLine( 3 ), is( 14L ) );
+        }
+        assertThat( LineOffsetIndex.build( write( "" ), 2 ).lineCount(), is( 0L ) );
+    }
+
+    @Test
+    public void shouldRebuildPersistedIndexWhenFileChanges() throws IOException
+    {
+        // Given
+        File file = write( "a\nbb\nccc\n" );
+        File indexDir = new File( temporaryFolder.getRoot(), "index" );
+        assertThat( LineOffsetIndex.loadOrBuild( file, indexDir, 2 ).lineCount(), is( 3L ) );
+        assertThat( LineOffsetIndex.indexFileFor( file, indexDir ).exists(), is( true ) );
+        assertThat( LineOffsetIndex.loadOrBuild( file, indexDir, 2 ).offsetOfLine( 2 ), is( 5L ) );
+
+        // When
+        Files.write( file.toPath(), "a\nbb\nccc\ndddd\n".getBytes( Charsets.UTF_8 ) );
+
+        // Then
+        LineOffsetIndex index = LineOffsetIndex.loadOrBuild( file, indexDir, 2 );
+        assertThat( index.lineCount(), is( 4L ) );
+        assertThat( index.offsetOfLine( 3 ), is( 9L ) );
+    }
+
+    private File write( String content ) throws IOException
+    {
+        File file = temporaryFolder.newFile();
+        Files.write( file.toPath(), content.getBytes( Charsets.UTF_8 ) );
+        return file;
+    }
+}
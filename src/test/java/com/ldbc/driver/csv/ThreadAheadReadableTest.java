@@ -0,0 +1,126 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.csv.charseeker.CharReadable;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ThreadAheadReadableTest {
+    private static final String DATA = "1|2|3\nmulti|bÿte|ünïcødé|日本語\n" + repeat("0123456789|", 100) + "\n";
+
+    @Test
+    public void shouldReadAllDataForAnyBufferSizeAndCount() throws IOException {
+        for (int bufferSize : new int[]{1, 3, 7, 64, 4096}) {
+            for (int bufferCount : new int[]{1, 2, 5}) {
+                String message = bufferSize + " x " + bufferCount;
+                CharReadable readable = ThreadAheadReadable.threadAhead(
+                        Readables.wrap(new StringReader(DATA)), bufferSize, bufferCount);
+                assertThat(message, readAll(readable, 5), equalTo(DATA));
+
+                readable = ThreadAheadReadable.threadAhead(
+                        Channels.newChannel(new ByteArrayInputStream(DATA.getBytes(Charsets.UTF_8))),
+                        Charsets.UTF_8, bufferSize, bufferCount);
+                assertThat(message, readAll(readable, 5), equalTo(DATA));
+            }
+        }
+    }
+
+    @Test
+    public void shouldFillRequestedLengthFromManyBuffersUntilEnd() throws IOException {
+        CharReadable readable = ThreadAheadReadable.threadAhead(
+                Channels.newChannel(new ByteArrayInputStream(DATA.getBytes(Charsets.UTF_8))),
+                Charsets.UTF_8, 7, 2);
+        char[] buffer = new char[100];
+        int expectedRead = DATA.length();
+        while (expectedRead > 0) {
+            assertThat(readable.read(buffer, 0, buffer.length), is(Math.min(expectedRead, buffer.length)));
+            expectedRead -= buffer.length;
+        }
+        assertThat(readable.read(buffer, 0, buffer.length), is(-1));
+        readable.close();
+    }
+
+    @Test
+    public void shouldFailReadWhenReadAheadFails() throws IOException {
+        CharReadable failing = new CharReadable() {
+            private boolean read = false;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                if (read) {
+                    throw new IOException("disk on fire");
+                }
+                read = true;
+                buffer[offset] = 'a';
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        CharReadable readable = ThreadAheadReadable.threadAhead(failing, 16, 2);
+        try {
+            // data read before the error must not be returned as a short read, which would look like the end
+            readable.read(new char[16], 0, 16);
+            fail("Error of read-ahead thread should be thrown by read");
+        } catch (IOException e) {
+            assertThat(e.getCause().getMessage(), equalTo("disk on fire"));
+        } finally {
+            readable.close();
+        }
+    }
+
+    @Test
+    public void shouldCloseWhileReadAheadWaitsForFreeBuffer() throws Exception {
+        final CountDownLatch closed = new CountDownLatch(1);
+        CharReadable endless = new CharReadable() {
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                buffer[offset] = 'a';
+                return 1;
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+        CharReadable readable = ThreadAheadReadable.threadAhead(endless, 16, 2);
+        assertThat(readable.read(new char[16], 0, 16), is(16));
+        readable.close();
+        assertThat(closed.getCount(), is(0L));
+    }
+
+    private static String readAll(CharReadable readable, int length) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[length];
+        int read;
+        while ((read = readable.read(buffer, 0, length)) != -1) {
+            builder.append(buffer, 0, read);
+        }
+        assertThat(readable.read(buffer, 0, length), is(-1));
+        readable.close();
+        return builder.toString();
+    }
+
+    private static String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
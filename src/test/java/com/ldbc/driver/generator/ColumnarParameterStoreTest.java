@@ -0,0 +1,126 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ColumnarParameterStoreTest {
+    @Test
+    public void shouldStoreColumnsByValueType() {
+        // Given
+        List<String> tags = Lists.newArrayList("a", "b");
+        List<Object[]> rows = Lists.newArrayList(
+                new Object[]{1L, new Date(10), 100, "Egypt", tags},
+                new Object[]{2L, new Date(20), 200, "Sri_Lanka", tags},
+                new Object[]{3L, new Date(30), 300, "Egypt", Lists.newArrayList("a", "b")}
+        );
+
+        // When
+        ColumnarParameterStore store = ColumnarParameterStore.fromRows(rows.iterator());
+
+        // Then
+        assertThat(store.rowCount(), is(3));
+        assertThat(store.columnCount(), is(5));
+        assertThat(store.columnType(0), is(ColumnarParameterStore.ColumnType.LONG));
+        assertThat(store.columnType(1), is(ColumnarParameterStore.ColumnType.DATE));
+        assertThat(store.columnType(2), is(ColumnarParameterStore.ColumnType.INT));
+        assertThat(store.columnType(3), is(ColumnarParameterStore.ColumnType.DICTIONARY));
+        assertThat(store.columnType(4), is(ColumnarParameterStore.ColumnType.DICTIONARY));
+        assertThat(store.dictionarySize(0), is(-1));
+        assertThat(store.dictionarySize(3), is(2));
+        assertThat(store.dictionarySize(4), is(1));
+
+        Iterator<ColumnarParameterStore.Row> storedRows = store.rows();
+        for (Object[] row : rows) {
+            ColumnarParameterStore.Row storedRow = storedRows.next();
+            assertThat(storedRow.longValue(0), equalTo(row[0]));
+            assertThat(storedRow.dateValue(1), equalTo(row[1]));
+            assertThat(storedRow.intValue(2), equalTo(row[2]));
+            assertThat(storedRow.stringValue(3), equalTo(row[3]));
+            assertThat(storedRow.value(4), equalTo(row[4]));
+            assertThat(storedRow.values(), equalTo(row));
+        }
+        assertThat(storedRows.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldReturnNewDateInstancePerAccess() {
+        // Given
+        ColumnarParameterStore store = ColumnarParameterStore.fromRows(
+                Lists.<Object[]>newArrayList(new Object[]{new Date(10)}).iterator());
+
+        // When
+        ColumnarParameterStore.Row row = store.rows().next();
+
+        // Then
+        assertThat(row.dateValue(0), not(sameInstance(row.dateValue(0))));
+    }
+
+    @Test
+    public void shouldLoopIndefinitely() {
+        // Given
+        ColumnarParameterStore store = ColumnarParameterStore.fromRows(
+                Lists.<Object[]>newArrayList(new Object[]{1L}, new Object[]{2L}, new Object[]{3L}).iterator());
+
+        // When
+        Iterator<ColumnarParameterStore.Row> repeatingRows = store.repeatingRows();
+
+        // Then
+        for (int i = 0; i < 10; i++) {
+            assertThat(repeatingRows.next().longValue(0), is((long) (i % 3) + 1));
+        }
+    }
+
+    @Test
+    public void shouldExhaustImmediatelyIfSourceIsEmpty() {
+        // Given
+        ColumnarParameterStore store = ColumnarParameterStore.fromRows(Lists.<Object[]>newArrayList().iterator());
+
+        // When
+        Iterator<ColumnarParameterStore.Row> repeatingRows = store.repeatingRows();
+
+        // Then
+        assertThat(store.rowCount(), is(0));
+        assertThat(repeatingRows.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldGrowColumnsBeyondInitialCapacity() {
+        // Given
+        List<Object[]> rows = Lists.newArrayList();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(new Object[]{(long) i, Integer.toString(i % 10)});
+        }
+
+        // When
+        ColumnarParameterStore store = ColumnarParameterStore.fromRows(rows.iterator());
+
+        // Then
+        assertThat(store.rowCount(), is(5000));
+        assertThat(store.dictionarySize(1), is(10));
+        int i = 0;
+        Iterator<ColumnarParameterStore.Row> storedRows = store.rows();
+        while (storedRows.hasNext()) {
+            ColumnarParameterStore.Row row = storedRows.next();
+            assertThat(row.longValue(0), is((long) i));
+            assertThat(row.stringValue(1), equalTo(Integer.toString(i % 10)));
+            i++;
+        }
+        assertThat(i, is(5000));
+    }
+
+    @Test(expected = GeneratorException.class)
+    public void shouldFailIfColumnValueTypeChanges() {
+        ColumnarParameterStore.fromRows(
+                Lists.<Object[]>newArrayList(new Object[]{1L}, new Object[]{2}).iterator());
+    }
+}
@@ -0,0 +1,109 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+import static java.lang.String.format;
+
+@Ignore
+public class LongGeneratorsPerformanceTest {
+    private static final long ELEMENT_COUNT = 50000000;
+    private static final int EXPERIMENT_REPETITIONS = 5;
+
+    @Test
+    public void startTimeGenerationPerformanceTest() {
+        for (int i = 0; i < 2; i++) {
+            long bestBoxedDurationAsNano = Long.MAX_VALUE;
+            long bestPrimitiveDurationAsNano = Long.MAX_VALUE;
+            for (int j = 0; j < EXPERIMENT_REPETITIONS; j++) {
+                GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+                bestBoxedDurationAsNano = Math.min(bestBoxedDurationAsNano,
+                        consumeTimes(gf.limit(gf.incrementing(1000L, 10L), ELEMENT_COUNT)));
+                bestPrimitiveDurationAsNano = Math.min(bestPrimitiveDurationAsNano,
+                        consumeTimes(gf.limit(gf.incrementingLongs(1000L, 10L), ELEMENT_COUNT)));
+            }
+            print("incrementing + limit (boxed)", bestBoxedDurationAsNano);
+            print("incrementing + limit (primitive)", bestPrimitiveDurationAsNano);
+        }
+    }
+
+    @Test
+    public void startTimeAssigningPerformanceTest() {
+        for (int i = 0; i < 2; i++) {
+            long bestBoxedDurationAsNano = Long.MAX_VALUE;
+            long bestPrimitiveDurationAsNano = Long.MAX_VALUE;
+            for (int j = 0; j < EXPERIMENT_REPETITIONS; j++) {
+                GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+                Iterator<Long> boxedStartTimes = gf.incrementing(1000L, 10L);
+                bestBoxedDurationAsNano = Math.min(bestBoxedDurationAsNano,
+                        consumeOperations(gf.timeOffsetAndCompress(
+                                gf.assignStartTimes(boxedStartTimes, gf.limit(operations(gf), ELEMENT_COUNT)),
+                                0, 0.5)));
+                PrimitiveIterator.OfLong primitiveStartTimes = gf.incrementingLongs(1000L, 10L);
+                bestPrimitiveDurationAsNano = Math.min(bestPrimitiveDurationAsNano,
+                        consumeOperations(gf.timeOffsetAndCompress(
+                                gf.assignStartTimes(primitiveStartTimes, gf.limit(operations(gf), ELEMENT_COUNT)),
+                                0, 0.5)));
+            }
+            print("assignStartTimes + timeOffsetAndCompress (boxed start times)", bestBoxedDurationAsNano);
+            print("assignStartTimes + timeOffsetAndCompress (primitive start times)", bestPrimitiveDurationAsNano);
+        }
+    }
+
+    // operations are reused, so only the cost of the time pipeline is measured
+    private static Iterator<Operation> operations(GeneratorFactory gf) {
+        Operation[] operations = new Operation[1000];
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = new NothingOperation();
+        }
+        return gf.repeating(gf.identity(operations));
+    }
+
+    private static long consumeTimes(Iterator<Long> times) {
+        long startTimeAsNano = System.nanoTime();
+        long sum = 0;
+        if (times instanceof PrimitiveIterator.OfLong) {
+            PrimitiveIterator.OfLong primitiveTimes = (PrimitiveIterator.OfLong) times;
+            while (primitiveTimes.hasNext()) {
+                sum += primitiveTimes.nextLong();
+            }
+        } else {
+            while (times.hasNext()) {
+                sum += times.next();
+            }
+        }
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+        if (0 == sum) {
+            throw new GeneratorException("Unexpected sum");
+        }
+        return durationAsNano;
+    }
+
+    private static long consumeOperations(Iterator<Operation> operations) {
+        long startTimeAsNano = System.nanoTime();
+        long sum = 0;
+        while (operations.hasNext()) {
+            sum += operations.next().scheduledStartTimeAsMilli();
+        }
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+        if (0 == sum) {
+            throw new GeneratorException("Unexpected sum");
+        }
+        return durationAsNano;
+    }
+
+    private static void print(String name, long durationAsNano) {
+        DecimalFormat numberFormat = new DecimalFormat("###,###,###,###");
+        System.out.println(format("%s: %s elements in %s ms (%s elements/sec)",
+                name,
+                numberFormat.format(ELEMENT_COUNT),
+                numberFormat.format(durationAsNano / 1000000),
+                numberFormat.format(ELEMENT_COUNT * 1000000000L / durationAsNano)));
+    }
+}
@@ -0,0 +1,165 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.NothingOperationFactory;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1Factory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LongGeneratorsTest {
+    private GeneratorFactory gf = null;
+
+    @Before
+    public void initGeneratorFactory() {
+        gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+    }
+
+    @Test
+    public void incrementingShouldMatchBoxedIncrementing() {
+        // Given
+        Iterator<Long> boxed = gf.limit(gf.incrementing(-5L, 3L), 100);
+
+        // When
+        PrimitiveIterator.OfLong primitive = gf.limit(gf.incrementingLongs(-5L, 3L), 100);
+
+        // Then
+        assertThat(toList(primitive), equalTo(Lists.newArrayList(boxed)));
+    }
+
+    @Test
+    public void boundedIncrementingShouldStopAfterMax() {
+        assertThat(toList(gf.boundedIncrementingLongs(0, 10, 30)), equalTo(list(0, 10, 20, 30)));
+        assertThat(toList(gf.boundedIncrementingLongs(0, 10, 29)), equalTo(list(0, 10, 20)));
+        assertThat(toList(gf.boundedIncrementingLongs(0, 10, -1)), equalTo(list()));
+    }
+
+    @Test
+    public void limitShouldStopAtLimitOrWhenGeneratorIsExhausted() {
+        assertThat(toList(gf.limit(gf.incrementingLongs(1, 1), 3)), equalTo(list(1, 2, 3)));
+        assertThat(toList(gf.limit(gf.boundedIncrementingLongs(1, 1, 2), 3)), equalTo(list(1, 2)));
+        assertThat(toList(gf.limit(gf.incrementingLongs(1, 1), 0)), equalTo(list()));
+    }
+
+    @Test
+    public void mergeSortShouldMergeSortedGenerators() {
+        // Given
+        PrimitiveIterator.OfLong merged = gf.mergeSort(
+                gf.boundedIncrementingLongs(0, 3, 30),
+                gf.boundedIncrementingLongs(1, 3, 30),
+                gf.boundedIncrementingLongs(30, 1, 29),
+                gf.boundedIncrementingLongs(2, 3, 30),
+                gf.boundedIncrementingLongs(0, 10, 30)
+        );
+
+        // When
+        List<Long> mergedList = toList(merged);
+
+        // Then
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i <= 30; i++) {
+            expected.add(i);
+            if (i % 10 == 0) {
+                expected.add(i);
+            }
+        }
+        assertThat(mergedList, equalTo(expected));
+    }
+
+    @Test
+    public void mergeSortShouldBeEmptyWhenAllGeneratorsAreEmpty() {
+        assertThat(gf.mergeSort().hasNext(), is(false));
+        assertThat(gf.mergeSort(gf.boundedIncrementingLongs(1, 1, 0)).hasNext(), is(false));
+    }
+
+    @Test
+    public void timeOffsetAndCompressShouldMatchOperationTimeMapping() {
+        for (Double compressionRatio : new Double[]{null, 0.5, 1.0, 2.0, 0.33}) {
+            for (long newStartTime : new long[]{0, 1000, 1234567}) {
+                // Given
+                Iterator<Operation> operations = gf.timeOffsetAndCompress(
+                        gf.limit(
+                                new TimedNamedOperation1Factory(
+                                        gf.incrementing(500L, 7L),
+                                        gf.constant(0L),
+                                        gf.constant("name")
+                                ),
+                                50
+                        ),
+                        newStartTime,
+                        compressionRatio
+                );
+
+                // When
+                PrimitiveIterator.OfLong times = gf.timeOffsetAndCompress(
+                        gf.limit(gf.incrementingLongs(500L, 7L), 50),
+                        newStartTime,
+                        compressionRatio
+                );
+
+                // Then
+                List<Long> expected = new ArrayList<>();
+                while (operations.hasNext()) {
+                    expected.add(operations.next().scheduledStartTimeAsMilli());
+                }
+                assertThat(toList(times), equalTo(expected));
+            }
+        }
+        assertThat(toList(gf.timeOffset(gf.limit(gf.incrementingLongs(500L, 7L), 3), 0)), equalTo(list(0, 7, 14)));
+    }
+
+    @Test
+    public void shouldAssignStartAndDependencyTimesToOperations() {
+        // Given
+        Iterator<Operation> operations = gf.assignDependencyTimes(
+                gf.incrementingLongs(5, 10),
+                gf.assignStartTimes(
+                        gf.incrementingLongs(1000, 100),
+                        gf.limit(new NothingOperationFactory(), 10)
+                )
+        );
+
+        // When
+        List<Operation> operationsList = Lists.newArrayList(operations);
+
+        // Then
+        assertThat(operationsList.size(), is(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(operationsList.get(i).scheduledStartTimeAsMilli(), is(1000L + i * 100));
+            assertThat(operationsList.get(i).timeStamp(), is(1000L + i * 100));
+            assertThat(operationsList.get(i).dependencyTimeStamp(), is(5L + i * 10));
+        }
+    }
+
+    @Test
+    public void assignStartTimesShouldStopWhenStartTimesAreExhausted() {
+        Iterator<Operation> operations =
+                gf.assignStartTimes(gf.boundedIncrementingLongs(0, 1, 4), new NothingOperationFactory());
+        assertThat(Lists.newArrayList(operations).size(), is(5));
+    }
+
+    private static List<Long> toList(PrimitiveIterator.OfLong generator) {
+        List<Long> list = new ArrayList<>();
+        while (generator.hasNext()) {
+            list.add(generator.nextLong());
+        }
+        return list;
+    }
+
+    private static List<Long> list(long... values) {
+        List<Long> list = new ArrayList<>();
+        for (long value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
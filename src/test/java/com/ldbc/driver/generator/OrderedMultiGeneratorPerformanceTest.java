@@ -0,0 +1,91 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@Ignore
+public class OrderedMultiGeneratorPerformanceTest {
+    private static final Comparator<Long> LONG_COMPARATOR = new Comparator<Long>() {
+        @Override
+        public int compare(Long l1, Long l2) {
+            return Long.compare(l1, l2);
+        }
+    };
+
+    @Test
+    public void mergePerformanceTest() {
+        int experimentRepetitions = 5;
+        long elementCount = 10000000;
+        for (int generatorCount : new int[]{16, 64, 256}) {
+            mergePerformanceTest(generatorCount, 1, elementCount, experimentRepetitions);
+            mergePerformanceTest(generatorCount, 10, elementCount, experimentRepetitions);
+            guavaMergePerformanceTest(generatorCount, elementCount, experimentRepetitions);
+        }
+    }
+
+    private void mergePerformanceTest(int generatorCount, int lookAheadDistance, long elementCount, int experimentRepetitions) {
+        long bestDurationAsNano = Long.MAX_VALUE;
+        for (int i = 0; i < experimentRepetitions; i++) {
+            GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+            Iterator<Long> merged = gf.mergeSort(LONG_COMPARATOR, lookAheadDistance, generators(gf, generatorCount, elementCount));
+            bestDurationAsNano = Math.min(bestDurationAsNano, consume(merged, elementCount));
+        }
+        print(format("OrderedMultiGenerator (look ahead %s)", lookAheadDistance), generatorCount, elementCount, bestDurationAsNano);
+    }
+
+    private void guavaMergePerformanceTest(int generatorCount, long elementCount, int experimentRepetitions) {
+        long bestDurationAsNano = Long.MAX_VALUE;
+        for (int i = 0; i < experimentRepetitions; i++) {
+            GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+            Iterator<Long> merged = Iterators.mergeSorted(Lists.newArrayList(generators(gf, generatorCount, elementCount)), LONG_COMPARATOR);
+            bestDurationAsNano = Math.min(bestDurationAsNano, consume(merged, elementCount));
+        }
+        print("Iterators.mergeSorted (reference)", generatorCount, elementCount, bestDurationAsNano);
+    }
+
+    // each generator is strictly increasing, with a different step, so heads interleave
+    private static Iterator<Long>[] generators(GeneratorFactory gf, int generatorCount, long elementCount) {
+        Iterator<Long>[] generators = new Iterator[generatorCount];
+        for (int i = 0; i < generatorCount; i++) {
+            generators[i] = gf.limit(gf.incrementing((long) i, (long) (generatorCount + i % 7)), elementCount / generatorCount);
+        }
+        return generators;
+    }
+
+    private static long consume(Iterator<Long> merged, long elementCount) {
+        long startTimeAsNano = System.nanoTime();
+        long count = 0;
+        long previous = Long.MIN_VALUE;
+        while (merged.hasNext()) {
+            long next = merged.next();
+            if (next < previous) {
+                throw new GeneratorException(format("Out of order: %s after %s", next, previous));
+            }
+            previous = next;
+            count++;
+        }
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+        assertThat(count >= elementCount - elementCount % 256, is(true));
+        return durationAsNano;
+    }
+
+    private static void print(String name, int generatorCount, long elementCount, long durationAsNano) {
+        DecimalFormat numberFormat = new DecimalFormat("###,###,###,###");
+        System.out.println(format("%s, k = %s: %s elements in %s ms (%s elements/sec)",
+                name,
+                generatorCount,
+                numberFormat.format(elementCount),
+                numberFormat.format(durationAsNano / 1000000),
+                numberFormat.format(elementCount * 1000000000L / durationAsNano)));
+    }
+}
@@ -2,8 +2,12 @@ package com.ldbc.driver.generator;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -175,6 +179,47 @@ public class OrderedMultiGeneratorTest {
         }
     }
 
+    @Test
+    public void shouldBreakTiesByGeneratorPositionAndMatchStableSort() {
+        // Given
+        int lookaheadDistance = 1;
+        int generatorCount = 64;
+        Random random = new Random(42);
+        Iterator<long[]>[] allGenerators = new Iterator[generatorCount];
+        List<long[]> expected = new ArrayList<>();
+        for (int i = 0; i < generatorCount; i++) {
+            List<long[]> generatorElements = new ArrayList<>();
+            long timeStamp = 0;
+            int length = random.nextInt(100);
+            for (int j = 0; j < length; j++) {
+                // few distinct values, so there are many ties across generators
+                timeStamp += random.nextInt(3);
+                generatorElements.add(new long[]{timeStamp, i});
+            }
+            expected.addAll(generatorElements);
+            allGenerators[i] = generatorElements.iterator();
+        }
+        Comparator<long[]> timeStampComparator = new Comparator<long[]>() {
+            @Override
+            public int compare(long[] element1, long[] element2) {
+                return Long.compare(element1[0], element2[0]);
+            }
+        };
+        // stable sort, elements with equal time stamps remain in generator order
+        Collections.sort(expected, timeStampComparator);
+
+        // When
+        Iterator<long[]> orderedGenerator = generators.mergeSort(timeStampComparator, lookaheadDistance, allGenerators);
+
+        // Then
+        for (long[] expectedElement : expected) {
+            long[] element = orderedGenerator.next();
+            assertThat(element[0], is(expectedElement[0]));
+            assertThat(element[1], is(expectedElement[1]));
+        }
+        assertThat(orderedGenerator.hasNext(), is(false));
+    }
+
     private static class IntegerComparator implements Comparator<Integer> {
         @Override
         public int compare(Integer i1, Integer i2) {
@@ -0,0 +1,237 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.util.Tuple3;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SkippableGeneratorsTest {
+    private GeneratorFactory gf = null;
+
+    @Before
+    public void initGeneratorFactory() {
+        gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+    }
+
+    @Test
+    public void incrementingLongsShouldSkipAndCountArithmetically() {
+        LongIncrementingGenerator times = (LongIncrementingGenerator) gf.boundedIncrementingLongs(0, 10, 100);
+        assertThat(times.remaining(), is(11L));
+        assertThat(times.countBefore(0), is(0L));
+        assertThat(times.countBefore(1), is(1L));
+        assertThat(times.countBefore(50), is(5L));
+        assertThat(times.countBefore(51), is(6L));
+        assertThat(times.countBefore(Long.MAX_VALUE), is(11L));
+        assertThat(times.skip(3), is(3L));
+        assertThat(times.nextLong(), is(30L));
+        assertThat(times.skip(100), is(7L));
+        assertThat(times.hasNext(), is(false));
+
+        LongIncrementingGenerator unbounded = (LongIncrementingGenerator) gf.incrementingLongs(Long.MIN_VALUE, 1);
+        assertThat(unbounded.remaining(), is(Long.MAX_VALUE));
+        assertThat(unbounded.countBefore(Long.MAX_VALUE), is(Long.MAX_VALUE));
+        assertThat(unbounded.skip(1000000000000L), is(1000000000000L));
+        assertThat(unbounded.nextLong(), is(Long.MIN_VALUE + 1000000000000L));
+        assertThat(((LongIncrementingGenerator) gf.incrementingLongs(0, 0)).countBefore(1), is(-1L));
+    }
+
+    @Test
+    public void repeatingRowsShouldSkipWithModularArithmetic() {
+        ColumnarParameterStore store = ColumnarParameterStore.fromRows(
+                Lists.<Object[]>newArrayList(new Object[]{0L}, new Object[]{1L}, new Object[]{2L}).iterator());
+        for (long skipCount : new long[]{0, 1, 2, 3, 4, 7, 3000000000L, Long.MAX_VALUE}) {
+            SkippableIterator<ColumnarParameterStore.Row> rows = store.repeatingRows();
+            rows.next();
+            assertThat(rows.skip(skipCount), is(skipCount));
+            assertThat(rows.next().longValue(0), is((1 + skipCount % 3) % 3));
+            assertThat(rows.remaining(), is(Long.MAX_VALUE));
+        }
+
+        SkippableIterator<ColumnarParameterStore.Row> rows = store.rows();
+        assertThat(rows.skip(2), is(2L));
+        assertThat(rows.remaining(), is(1L));
+        assertThat(rows.skip(5), is(1L));
+        assertThat(rows.hasNext(), is(false));
+    }
+
+    @Test
+    public void startTimeAssigningShouldSkipTimesAndOperationsTogether() {
+        // Given
+        Iterator<Operation> operations = gf.assignStartTimes(
+                gf.incrementingLongs(1000, 10),
+                new OperationsFromRows("s", ColumnarParameterStore.fromRows(rowsOfLongs(5)).repeatingRows())
+        );
+
+        // When
+        long skipped = SkippableIterators.skip(operations, 12);
+
+        // Then
+        assertThat(skipped, is(12L));
+        Operation operation = operations.next();
+        assertThat(operation.timeStamp(), is(1120L));
+        assertThat(((TimedNamedOperation1) operation).name(), equalTo("s-2-12"));
+    }
+
+    @Test
+    public void mergedStreamsShouldSkipToSameOperationsAsIteration() {
+        for (long skipCount : new long[]{0, 1, 2, 3, 10, 57, 100, 399, 400, 1000, 5000}) {
+            // Given
+            List<String> expected = names(mergedStreams(false));
+            Iterator<Operation> merged = mergedStreams(true);
+            long remaining = Math.max(0, expected.size() - skipCount);
+
+            // When
+            long skipped = SkippableIterators.skip(merged, skipCount);
+
+            // Then
+            assertThat(skipped, is(Math.min(skipCount, expected.size())));
+            assertThat(names(merged), equalTo(expected.subList(expected.size() - (int) remaining, expected.size())));
+        }
+    }
+
+    @Test
+    public void mergedStreamsShouldSkipAfterIteratingAndFallBackToIterating() {
+        // Given
+        List<String> expected = names(mergedStreams(false));
+        Iterator<Operation> merged = mergedStreams(true);
+        Iterator<Operation> mergedNonSkippable = gf.mergeSortOperationsByTimeStamp(
+                mergedStreams(true),
+                gf.limit(new OperationsFromRows("s", ColumnarParameterStore.fromRows(rowsOfLongs(0)).rows()), 0)
+        );
+
+        // When
+        merged.next();
+        merged.next();
+        merged.next();
+        long skipped = SkippableIterators.skip(merged, 50);
+        long skippedNonSkippable = SkippableIterators.skip(mergedNonSkippable, 53);
+
+        // Then
+        assertThat(skipped, is(50L));
+        assertThat(skippedNonSkippable, is(53L));
+        assertThat(names(merged), equalTo(expected.subList(53, expected.size())));
+        assertThat(names(mergedNonSkippable), equalTo(expected.subList(53, expected.size())));
+    }
+
+    @Test
+    public void offsetScanShouldSkipCountableStreamsToSameStartsAsIteration() throws WorkloadException {
+        for (long offset : new long[]{0, 1, 2, 3, 10, 57, 100, 399, 400, 1000, 5000}) {
+            // Given
+            Tuple3<long[], long[], Long> expected = offsetAndLimit(offsetScanStreams(false), offset);
+
+            // When
+            Tuple3<long[], long[], Long> actual = offsetAndLimit(offsetScanStreams(true), offset);
+
+            // Then
+            assertThat(actual._1(), equalTo(expected._1()));
+            assertThat(actual._2(), equalTo(expected._2()));
+            assertThat(actual._3(), equalTo(expected._3()));
+        }
+    }
+
+    private static Tuple3<long[], long[], Long> offsetAndLimit(List<Iterator<Operation>> streams, long offset)
+            throws WorkloadException {
+        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+        for (int i = 0; i < streams.size(); i++) {
+            childOperationGenerators.add(null);
+        }
+        return WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                streams, offset, 50, childOperationGenerators, new Log4jLoggingServiceFactory(false));
+    }
+
+    // countable streams, a merge of countable streams, and streams that must be iterated, sharing time stamps
+    private List<Iterator<Operation>> offsetScanStreams(boolean skippable) {
+        List<Iterator<Operation>> streams = timedStreams(skippable, new long[][]{{0, 3, 200}, {1, 1, 0}, {7, 2, 50}});
+        streams.addAll(timedStreams(false, new long[][]{{0, 5, 100}}));
+        streams.add(mergedStreams(skippable));
+        streams.addAll(timedStreams(false, new long[][]{{3, 7, 30}}));
+        return streams;
+    }
+
+    // equal time stamps across streams, streams of different lengths, and one empty stream
+    private Iterator<Operation> mergedStreams(boolean skippable) {
+        List<Iterator<Operation>> streams = timedStreams(skippable,
+                new long[][]{{0, 3, 200}, {0, 5, 100}, {7, 2, 50}, {1, 1, 0}, {0, 3, 120}});
+        return gf.mergeSortOperationsByTimeStamp(streams.toArray(new Iterator[streams.size()]));
+    }
+
+    private List<Iterator<Operation>> timedStreams(boolean skippable, long[][] startIntervalAndCount) {
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        for (int i = 0; i < startIntervalAndCount.length; i++) {
+            ColumnarParameterStore store = ColumnarParameterStore.fromRows(rowsOfLongs(7));
+            Iterator<Operation> operations = new OperationsFromRows(Integer.toString(i), store.repeatingRows());
+            long[] stream = startIntervalAndCount[i];
+            long max = stream[0] + stream[1] * (stream[2] - 1);
+            Iterator<Operation> timedOperations = gf.assignStartTimes(
+                    gf.boundedIncrementingLongs(stream[0], stream[1], max), operations);
+            streams.add(skippable ? timedOperations : Lists.newArrayList(timedOperations).iterator());
+        }
+        return streams;
+    }
+
+    private static List<String> names(Iterator<Operation> operations) {
+        List<String> names = new ArrayList<>();
+        while (operations.hasNext()) {
+            Operation operation = operations.next();
+            names.add(operation.timeStamp() + ":" + ((TimedNamedOperation1) operation).name());
+        }
+        return names;
+    }
+
+    private static Iterator<Object[]> rowsOfLongs(int count) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            rows.add(new Object[]{i});
+        }
+        return rows.iterator();
+    }
+
+    private static class OperationsFromRows extends NoRemoveIterator<Operation>
+            implements SkippableIterator<Operation> {
+        private final String stream;
+        private final SkippableIterator<ColumnarParameterStore.Row> rows;
+        private long created = 0;
+
+        private OperationsFromRows(String stream, SkippableIterator<ColumnarParameterStore.Row> rows) {
+            this.stream = stream;
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public Operation next() {
+            // stream and position are part of the name, so skipped streams can be told apart from iterated ones
+            return new TimedNamedOperation1(0, 0, 0, stream + "-" + rows.next().longValue(0) + "-" + created++);
+        }
+
+        @Override
+        public long skip(long count) {
+            long skipped = rows.skip(count);
+            created += skipped;
+            return skipped;
+        }
+
+        @Override
+        public long remaining() {
+            return rows.remaining();
+        }
+    }
+}
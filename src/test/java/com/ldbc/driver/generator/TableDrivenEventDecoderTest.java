@@ -0,0 +1,109 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.generator.CsvEventStreamReaderTimedTypedCharSeeker.EventDecoder;
+import com.ldbc.driver.generator.TableDrivenEventDecoder.EventFactory;
+import com.ldbc.driver.generator.TableDrivenEventDecoder.FieldType;
+import com.ldbc.driver.generator.TableDrivenEventDecoder.Fields;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class TableDrivenEventDecoderTest {
+    // every field of the event, as a list of strings
+    private static final EventFactory<List<Object>> AS_LIST = new EventFactory<List<Object>>() {
+        @Override
+        public List<Object> createEvent(long scheduledStartTime, long dependencyTime, Fields fields) {
+            List<Object> event = new ArrayList<>();
+            event.add(scheduledStartTime);
+            event.add(dependencyTime);
+            event.add(fields.longValue(0));
+            event.add(fields.intValue(1));
+            event.add(fields.stringValue(2));
+            event.add(fields.dateValue(3).getTime());
+            event.add(fields.longList(4));
+            event.add(fields.stringList(5));
+            List<String> pairs = new ArrayList<>();
+            for (int i = 0; i < fields.intPairCount(6); i++) {
+                pairs.add(fields.intPairValue(6, i, 0) + "," + fields.intPairValue(6, i, 1));
+            }
+            event.add(pairs);
+            return event;
+        }
+    };
+
+    @Test
+    public void shouldDecodeEveryFieldTypeAndDispatchByEventType() {
+        // Given
+        String data = "" +
+                "1|2|3|4|5|a|6|7;8|b;c|9,10;11,12\n" +
+                "13|14|1|15\n" +
+                "16|17|3|18|19||1970-01-01T00:00:00.020+0000|||\n";
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+
+        // When
+        Iterator<List<Object>> events = new CsvEventStreamReaderTimedTypedCharSeeker<>(
+                charSeeker, new Extractors(';', ','), decoders(), '|');
+
+        // Then
+        assertThat(events.next(), equalTo((List<Object>) Lists.<Object>newArrayList(
+                1L, 2L, 4L, 5, "a", 6L,
+                Lists.newArrayList(7L, 8L), Lists.newArrayList("b", "c"), Lists.newArrayList("9,10", "11,12"))));
+        assertThat(events.next(), equalTo((List<Object>) Lists.<Object>newArrayList(13L, 14L, 15L)));
+        assertThat(events.next(), equalTo((List<Object>) Lists.<Object>newArrayList(
+                16L, 17L, 18L, 19, "", 20L,
+                Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList())));
+        assertThat(events.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldNameMissingField() {
+        // Given
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader("1|2|3|4|5\n")));
+        Iterator<List<Object>> events = new CsvEventStreamReaderTimedTypedCharSeeker<>(
+                charSeeker, new Extractors(';', ','), decoders(), '|');
+
+        // When/Then
+        try {
+            events.next();
+            fail("Event with missing fields should not be decoded");
+        } catch (GeneratorException e) {
+            assertThat(e.getMessage(), equalTo("Error retrieving string of every type event"));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventDecoder<List<Object>>[] decoders() {
+        EventDecoder<List<Object>>[] decoders = new EventDecoder[4];
+        decoders[1] = TableDrivenEventDecoder.<List<Object>>forEvent("one long")
+                .field("long", FieldType.LONG)
+                .build(new EventFactory<List<Object>>() {
+                    @Override
+                    public List<Object> createEvent(long scheduledStartTime, long dependencyTime, Fields fields) {
+                        return Lists.<Object>newArrayList(scheduledStartTime, dependencyTime, fields.longValue(0));
+                    }
+                });
+        decoders[3] = TableDrivenEventDecoder.<List<Object>>forEvent("every type")
+                .field("long", FieldType.LONG)
+                .field("int", FieldType.INT)
+                .field("string", FieldType.STRING)
+                .field("date", FieldType.DATE)
+                .field("longs", FieldType.LONG_LIST)
+                .field("strings", FieldType.STRING_LIST)
+                .field("pairs", FieldType.INT_PAIR_LIST)
+                .build(AS_LIST);
+        return decoders;
+    }
+}
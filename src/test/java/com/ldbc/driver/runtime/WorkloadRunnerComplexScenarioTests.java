@@ -17,6 +17,7 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.NullCompletionTimeLogWriter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
@@ -1766,6 +1767,7 @@ public class WorkloadRunnerComplexScenarioTests
                 metricsService,
                 errorReporter,
                 completionTimeService,
+                new NullCompletionTimeLogWriter(),
                 loggingServiceFactory,
                 threadCount,
                 statusDisplayIntervalAsMilli,
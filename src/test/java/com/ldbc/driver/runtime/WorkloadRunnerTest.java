@@ -22,6 +22,7 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.NullCompletionTimeLogWriter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
@@ -201,6 +202,7 @@ public class WorkloadRunnerTest
                     metricsService,
                     errorReporter,
                     completionTimeService,
+                    new NullCompletionTimeLogWriter(),
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
@@ -400,6 +402,7 @@ public class WorkloadRunnerTest
                     metricsService,
                     errorReporter,
                     completionTimeService,
+                    new NullCompletionTimeLogWriter(),
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
@@ -495,13 +498,31 @@ public class WorkloadRunnerTest
         {
             doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
                     threadCount,
-                    operationCount
+                    operationCount,
+                    0
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithNothingDbAndPrefetchedOperationStreamsAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    64
             );
         }
     }
 
     public void doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
-            int threadCount, long operationCount )
+            int threadCount, long operationCount, int operationPrefetchBufferSize )
             throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
             CompletionTimeException, DriverConfigurationException, ExecutionException
     {
@@ -619,12 +640,14 @@ public class WorkloadRunnerTest
                     metricsService,
                     errorReporter,
                     completionTimeService,
+                    new NullCompletionTimeLogWriter(),
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    operationPrefetchBufferSize );
 
             runner.getFuture().get();
 
@@ -878,6 +901,7 @@ public class WorkloadRunnerTest
                     metricsService,
                     errorReporter,
                     completionTimeService,
+                    new NullCompletionTimeLogWriter(),
                     controlService.loggingServiceFactory(),
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
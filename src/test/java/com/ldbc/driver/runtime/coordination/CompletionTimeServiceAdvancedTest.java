@@ -87,6 +87,52 @@ public class CompletionTimeServiceAdvancedTest
         }
     }
 
+    @Ignore
+    @Test
+    public void stressTestDisruptorCompletionTimeService()
+            throws InterruptedException, ExecutionException, WorkloadException, CompletionTimeException,
+            DriverConfigurationException, IOException
+    {
+        ThreadPoolLoadGenerator threadPoolLoadGenerator = TestUtils.newThreadPoolLoadGenerator( 128, 0 );
+        threadPoolLoadGenerator.start();
+        try
+        {
+            int testRepetitions = 10;
+
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            long totalTestDurationAsMilli;
+
+            for ( int workerThreads = 1; workerThreads < 33; workerThreads = workerThreads * 2 )
+            {
+                totalTestDurationAsMilli = 0;
+                for ( int i = 0; i < testRepetitions; i++ )
+                {
+                    CompletionTimeService cts = completionTimeServiceAssistant.newDisruptorCompletionTimeService(
+                            timeSource,
+                            errorReporter );
+                    try
+                    {
+                        totalTestDurationAsMilli += parallelCompletionTimeServiceTest(
+                                cts,
+                                errorReporter,
+                                workerThreads );
+                    }
+                    finally
+                    {
+                        cts.shutdown();
+                    }
+                }
+                System.out.printf( "\t%s=%s\n",
+                        DisruptorCompletionTimeService.class.getSimpleName(),
+                        TEMPORAL_UTIL.milliDurationToString( totalTestDurationAsMilli / testRepetitions ) );
+            }
+        }
+        finally
+        {
+            threadPoolLoadGenerator.shutdown( TimeUnit.SECONDS.toMillis( 10 ) );
+        }
+    }
+
     @Test
     public void completionTimeServicesShouldBehaveDeterministically()
             throws InterruptedException, ExecutionException, WorkloadException, CompletionTimeException,
@@ -96,6 +142,7 @@ public class CompletionTimeServiceAdvancedTest
         int testRepetitions = 5;
         long totalTestDurationForSynchronousCts;
         long totalTestDurationForThreadedCts;
+        long totalTestDurationForDisruptorCts;
 
         for ( int workerThreads = 1; workerThreads < 33; workerThreads = workerThreads * 2 )
         {
@@ -127,9 +174,25 @@ public class CompletionTimeServiceAdvancedTest
                         workerThreads );
                 cts.shutdown();
             }
-            System.out.printf( "\t%s=%s\n",
+            System.out.printf( "\t%s=%s",
                     ThreadedQueuedCompletionTimeService.class.getSimpleName(),
                     TEMPORAL_UTIL.milliDurationToString( totalTestDurationForThreadedCts / testRepetitions ) );
+
+            totalTestDurationForDisruptorCts = 0;
+            for ( int i = 0; i < testRepetitions; i++ )
+            {
+                CompletionTimeService cts = completionTimeServiceAssistant.newDisruptorCompletionTimeService(
+                        timeSource,
+                        errorReporter );
+                totalTestDurationForDisruptorCts += parallelCompletionTimeServiceTest(
+                        cts,
+                        errorReporter,
+                        workerThreads );
+                cts.shutdown();
+            }
+            System.out.printf( "\t%s=%s\n",
+                    DisruptorCompletionTimeService.class.getSimpleName(),
+                    TEMPORAL_UTIL.milliDurationToString( totalTestDurationForDisruptorCts / testRepetitions ) );
         }
     }
 
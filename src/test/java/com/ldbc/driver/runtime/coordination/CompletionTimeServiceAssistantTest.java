@@ -5,6 +5,10 @@ import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -78,4 +82,48 @@ public class CompletionTimeServiceAssistantTest
             completionTimeService.shutdown();
         }
     }
+
+    @Test
+    public void shouldCreateCompletionTimeServiceSelectedByParams() throws CompletionTimeException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Map<String,String> paramsMap = new HashMap<>();
+
+        // When
+        CompletionTimeService defaultService =
+                assistant.newCompletionTimeServiceFromParamsMap( timeSource, errorReporter, paramsMap );
+        paramsMap.put( CompletionTimeServiceAssistant.COMPLETION_TIME_SERVICE_ARG, "disruptor" );
+        paramsMap.put( CompletionTimeServiceAssistant.COMPLETION_TIME_WAIT_STRATEGY_ARG, "yielding" );
+        CompletionTimeService disruptorService =
+                assistant.newCompletionTimeServiceFromParamsMap( timeSource, errorReporter, paramsMap );
+
+        // Then
+        try
+        {
+            assertThat( defaultService, instanceOf( ThreadedQueuedCompletionTimeService.class ) );
+            assertThat( disruptorService, instanceOf( DisruptorCompletionTimeService.class ) );
+            assertThat( errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            defaultService.shutdown();
+            disruptorService.shutdown();
+        }
+    }
+
+    @Test( expected = CompletionTimeException.class )
+    public void shouldRejectUnknownWaitStrategy() throws CompletionTimeException
+    {
+        // Given
+        Map<String,String> paramsMap = new HashMap<>();
+        paramsMap.put( CompletionTimeServiceAssistant.COMPLETION_TIME_SERVICE_ARG, "disruptor" );
+        paramsMap.put( CompletionTimeServiceAssistant.COMPLETION_TIME_WAIT_STRATEGY_ARG, "unknown" );
+
+        // When
+        new CompletionTimeServiceAssistant().newCompletionTimeServiceFromParamsMap(
+                new SystemTimeSource(), new ConcurrentErrorReporter(), paramsMap );
+    }
 }
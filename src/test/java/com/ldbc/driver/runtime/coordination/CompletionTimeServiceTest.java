@@ -5,6 +5,7 @@ import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -54,6 +55,27 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldBehavePredictablyAfterInstantiationWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldBehavePredictablyAfterInstantiation( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldBehavePredictablyAfterInstantiation( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -108,6 +130,27 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimesWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes(
             CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -168,6 +211,26 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnAllWritersWithDisruptorImplementation() throws CompletionTimeException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldReturnAllWriters( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldReturnAllWriters( CompletionTimeService cts ) throws CompletionTimeException
     {
         // Given
@@ -190,6 +253,129 @@ public class CompletionTimeServiceTest
         assertThat( cts.getAllWriters().contains( writer3 ), is( true ) );
     }
 
+    @Test
+    public void shouldReportWriterStatusesWithSynchronizedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldReportWriterStatuses( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReportWriterStatusesWithThreadedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldReportWriterStatuses( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReportWriterStatusesWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldReportWriterStatuses( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    private void shouldReportWriterStatuses( CompletionTimeService cts )
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeWriter writer1 = cts.newCompletionTimeWriter();
+        CompletionTimeWriter writer2 = cts.newCompletionTimeWriter();
+
+        // When
+        writer1.submitInitiatedTime( 1000L );
+        writer1.submitInitiatedTime( 2000L );
+        writer1.submitInitiatedTime( 3000L );
+        writer1.submitCompletedTime( 2000L );
+        writer2.submitInitiatedTime( 500L );
+        writer2.submitCompletedTime( 500L );
+        writer2.submitInitiatedTime( 4000L );
+
+        // Then
+        // wait for all submitted times to be applied
+        assertThat( cts.completionTimeAsMilliFuture().get( 1, TimeUnit.SECONDS ), is( 500L ) );
+        List<CompletionTimeWriterStatus> writerStatuses = cts.writerStatuses();
+        assertThat( writerStatuses.size(), is( 2 ) );
+
+        CompletionTimeWriterStatus writer1Status = writerStatuses.get( 0 );
+        assertThat( writer1Status.writerId(), is( 0 ) );
+        assertThat( writer1Status.lowestInitiatedTimeAsMilli(), is( 1000L ) );
+        assertThat( writer1Status.highestInitiatedTimeAsMilli(), is( 3000L ) );
+        assertThat( writer1Status.uncompletedInitiatedTimes(), is( 2 ) );
+        assertThat( writer1Status.completionTimeAsMilli(), is( -1L ) );
+
+        CompletionTimeWriterStatus writer2Status = writerStatuses.get( 1 );
+        assertThat( writer2Status.writerId(), is( 1 ) );
+        assertThat( writer2Status.lowestInitiatedTimeAsMilli(), is( 4000L ) );
+        assertThat( writer2Status.highestInitiatedTimeAsMilli(), is( 4000L ) );
+        assertThat( writer2Status.uncompletedInitiatedTimes(), is( 1 ) );
+        assertThat( writer2Status.completionTimeAsMilli(), is( 500L ) );
+
+        CompletionTimeStatusSnapshot snapshot = CompletionTimeStatusSnapshot.create(
+                1500L,
+                cts.completionTimeAsMilli(),
+                writerStatuses,
+                null
+        );
+        assertThat( snapshot.slowestWriter().writerId(), is( 0 ) );
+        assertThat( snapshot.uncompletedInitiatedTimes(), is( 3L ) );
+        assertThat( snapshot.completionTimeLagAsMilli(), is( 1000L ) );
+        assertThat( snapshot.completionTimeAdvanceRate(), is( -1d ) );
+
+        writer1.submitCompletedTime( 1000L );
+        assertThat( cts.completionTimeAsMilliFuture().get( 1, TimeUnit.SECONDS ), is( 2000L ) );
+        CompletionTimeStatusSnapshot nextSnapshot = CompletionTimeStatusSnapshot.create(
+                3500L,
+                cts.completionTimeAsMilli(),
+                cts.writerStatuses(),
+                snapshot
+        );
+        // CT advanced 1500 ms in 2000 ms
+        assertThat( nextSnapshot.completionTimeAdvanceRate(), is( 750d ) );
+        assertThat( nextSnapshot.completionTimeLagAsMilli(), is( 1500L ) );
+        assertThat( nextSnapshot.slowestWriter().writerId(), is( 0 ) );
+        assertThat( nextSnapshot.slowestWriter().lowestInitiatedTimeAsMilli(), is( 3000L ) );
+    }
+
     @Test
     public void shouldReturnNullWhenNoITNoCTWithSynchronizedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -230,6 +416,27 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenNoITNoCTWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenNoITNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = none, CT = none --> null
     private void doShouldReturnNullWhenNoITNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -283,6 +490,27 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndNoCTWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = some, CT = none --> null
     private void doShouldReturnNullWhenSomeITAndNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -337,6 +565,27 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndSomeCTWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndSomeCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     //  IT = some, CT = some --> null
     private void doShouldReturnNullWhenSomeITAndSomeCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -392,6 +641,27 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -551,6 +821,34 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newDisruptorCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( cts );
+        }
+        finally
+        {
+            try
+            {
+                cts.shutdown();
+            }
+            catch ( Throwable e )
+            {
+                // do nothing, exception is expected because test was trying to force an error
+            }
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -0,0 +1,160 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PrefetchingOperationIteratorTest
+{
+    @Test
+    public void shouldReturnAllOperationsInOrder()
+    {
+        // Given
+        List<Operation> operations = operations( 10000 );
+
+        // When
+        PrefetchingOperationIterator prefetchingIterator =
+                new PrefetchingOperationIterator( operations.iterator(), 16, "test" );
+        List<Operation> prefetchedOperations = Lists.newArrayList( prefetchingIterator );
+
+        // Then
+        assertThat( prefetchedOperations, equalTo( operations ) );
+        assertThat( prefetchingIterator.prefetchedCount(), is( 10000l ) );
+        assertThat( prefetchingIterator.prefetchFinished(), is( true ) );
+        assertThat( prefetchingIterator.hasNext(), is( false ) );
+    }
+
+    @Test
+    public void shouldReturnNothingForEmptyIterator()
+    {
+        PrefetchingOperationIterator prefetchingIterator =
+                new PrefetchingOperationIterator( Collections.<Operation>emptyIterator(), 16, "test" );
+        assertThat( prefetchingIterator.hasNext(), is( false ) );
+        assertThat( prefetchingIterator.prefetchFinished(), is( true ) );
+    }
+
+    @Test
+    public void shouldNotPrefetchMoreThanBufferDepth() throws InterruptedException
+    {
+        // Given
+        int bufferDepth = 8;
+        PrefetchingOperationIterator prefetchingIterator =
+                new PrefetchingOperationIterator( operations( 100 ).iterator(), bufferDepth, "test" );
+
+        // When
+        waitForBufferFill( prefetchingIterator, bufferDepth );
+        Thread.sleep( 200 );
+
+        // Then
+        assertThat( prefetchingIterator.bufferDepth(), is( bufferDepth ) );
+        assertThat( prefetchingIterator.bufferFill(), is( bufferDepth ) );
+        assertThat( prefetchingIterator.prefetchFinished(), is( false ) );
+        prefetchingIterator.next();
+        waitForBufferFill( prefetchingIterator, bufferDepth );
+        assertThat( prefetchingIterator.bufferFill(), is( bufferDepth ) );
+        prefetchingIterator.close();
+    }
+
+    @Test
+    public void shouldRethrowErrorAfterOperationsRetrievedBeforeIt()
+    {
+        // Given
+        final Iterator<Operation> operations = operations( 5 ).iterator();
+        Iterator<Operation> failingOperations = new Iterator<Operation>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return true;
+            }
+
+            @Override
+            public Operation next()
+            {
+                if ( operations.hasNext() )
+                {
+                    return operations.next();
+                }
+                throw new IllegalStateException( "broken stream" );
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        // When
+        PrefetchingOperationIterator prefetchingIterator =
+                new PrefetchingOperationIterator( failingOperations, 2, "test" );
+        int count = 0;
+        try
+        {
+            while ( prefetchingIterator.hasNext() )
+            {
+                prefetchingIterator.next();
+                count++;
+            }
+            fail( "expected error to be rethrown" );
+        }
+        catch ( RuntimeException e )
+        {
+            // Then
+            assertThat( count, is( 5 ) );
+            assertThat( e.getCause() instanceof IllegalStateException, is( true ) );
+        }
+    }
+
+    @Test
+    public void shouldStopPrefetchingWhenClosed() throws InterruptedException
+    {
+        // Given
+        PrefetchingOperationIterator prefetchingIterator =
+                new PrefetchingOperationIterator( operations( 100 ).iterator(), 4, "test" );
+        waitForBufferFill( prefetchingIterator, 4 );
+
+        // When
+        prefetchingIterator.close();
+
+        // Then
+        assertThat( prefetchingIterator.hasNext(), is( false ) );
+        Thread.sleep( 300 );
+        assertThat( prefetchingIterator.prefetchedCount() <= 5, is( true ) );
+    }
+
+    private static void waitForBufferFill( PrefetchingOperationIterator prefetchingIterator, int bufferFill )
+            throws InterruptedException
+    {
+        long timeoutAsMilli = System.currentTimeMillis() + 5000;
+        while ( prefetchingIterator.bufferFill() < bufferFill )
+        {
+            if ( System.currentTimeMillis() > timeoutAsMilli )
+            {
+                fail( "timed out waiting for buffer to fill" );
+            }
+            Thread.sleep( 10 );
+        }
+    }
+
+    private static List<Operation> operations( int count )
+    {
+        List<Operation> operations = new ArrayList<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            operations.add( new TimedNamedOperation1( i, i, 0, Integer.toString( i ) ) );
+        }
+        return operations;
+    }
+}
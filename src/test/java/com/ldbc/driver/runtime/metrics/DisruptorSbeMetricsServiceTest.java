@@ -5,6 +5,7 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.ManualTimeSource;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
@@ -18,6 +19,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.closeTo;
 import static org.junit.Assert.assertThat;
 
 public class DisruptorSbeMetricsServiceTest
@@ -39,6 +41,8 @@ public class DisruptorSbeMetricsServiceTest
                 TimeUnit.MILLISECONDS,
                 DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
                 resultsLogWriter,
+                new NullIntervalHistogramLogWriter(),
+                0,
                 operationTypeToClassMapping,
                 loggingServiceFactory
         );
@@ -69,6 +73,8 @@ public class DisruptorSbeMetricsServiceTest
                 TimeUnit.MILLISECONDS,
                 DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
                 resultsLogWriter,
+                new NullIntervalHistogramLogWriter(),
+                0,
                 operationTypeToClassMapping,
                 loggingServiceFactory
         );
@@ -83,6 +89,64 @@ public class DisruptorSbeMetricsServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnCorrectStatus() throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        ManualTimeSource manualTimeSource = new ManualTimeSource( 0 );
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                manualTimeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                new NullIntervalHistogramLogWriter(),
+                0,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter1 = metricsService.getWriter();
+            MetricsService.MetricsServiceWriter metricsServiceWriter2 = metricsService.getWriter();
+
+            WorkloadStatusSnapshot status = metricsServiceWriter1.status();
+            assertThat( status.operationCount(), equalTo( 0l ) );
+            assertThat( status.runDurationAsMilli(), equalTo( 0l ) );
+
+            // actual: 2, duration: 1
+            metricsServiceWriter1.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ),
+                    0, 1 );
+            // actual: 8, duration: 3
+            metricsServiceWriter2.submitOperationResult( LdbcQuery1.TYPE, 1, 8, TimeUnit.MILLISECONDS.toNanos( 3 ),
+                    0, 1 );
+            // actual: 11, duration: 5
+            metricsServiceWriter1.submitOperationResult( LdbcQuery2.TYPE, 1, 11, TimeUnit.MILLISECONDS.toNanos( 5 ),
+                    0, 1 );
+
+            manualTimeSource.setNowFromMilli( 20 );
+
+            // status is aggregated over all writers, and read by any of them
+            for ( MetricsService.MetricsServiceWriter metricsServiceWriter : new MetricsService.MetricsServiceWriter[]{
+                    metricsServiceWriter1, metricsServiceWriter2} )
+            {
+                status = metricsServiceWriter.status();
+                assertThat( status.operationCount(), equalTo( 3l ) );
+                assertThat( status.runDurationAsMilli(), equalTo( 18l ) );
+                assertThat( status.durationSinceLastMeasurementAsMilli(), equalTo( 4l ) );
+                assertThat( status.throughput(), closeTo( 3 / 18d * 1000, 0.000001 ) );
+            }
+        }
+        finally
+        {
+            System.out.println( errorReporter.toString() );
+            metricsService.shutdown();
+        }
+    }
+
     public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
             throws WorkloadException, MetricsCollectionException
     {
@@ -0,0 +1,158 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.google.common.collect.Sets;
+import com.ldbc.driver.validation.ResultsLogValidationSummary;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class FilteringResultsLogWriterTest
+{
+    @Test
+    public void shouldNotWrapWriterWhenNoFilteringIsConfigured()
+    {
+        ResultsLogWriter writer = new NullResultsLogWriter();
+        Map<String,String> paramsMap = new HashMap<>();
+        assertThat( FilteringResultsLogWriter.fromParamsMap( writer, paramsMap ), sameInstance( writer ) );
+
+        // thresholds make no difference while every operation is sampled
+        paramsMap.put( FilteringResultsLogWriter.RUNTIME_THRESHOLD_ARG, "10" );
+        assertThat( FilteringResultsLogWriter.fromParamsMap( writer, paramsMap ), sameInstance( writer ) );
+
+        paramsMap.put( FilteringResultsLogWriter.SAMPLE_EVERY_ARG, "0" );
+        assertThat( FilteringResultsLogWriter.fromParamsMap( writer, paramsMap ),
+                instanceOf( FilteringResultsLogWriter.class ) );
+    }
+
+    @Test
+    public void shouldWriteOneInEveryNOperations() throws Exception
+    {
+        CapturingResultsLogWriter capturingWriter = new CapturingResultsLogWriter();
+        try ( ResultsLogWriter writer = new FilteringResultsLogWriter( capturingWriter, 3, -1, -1, null ) )
+        {
+            for ( int i = 0; i < 9; i++ )
+            {
+                writer.write( "a", i, i, 0, 0, i );
+            }
+        }
+        assertThat( capturingWriter.actualStartTimes, equalTo( list( 0, 3, 6 ) ) );
+    }
+
+    @Test
+    public void shouldWriteOperationsThatExceedThresholds() throws Exception
+    {
+        CapturingResultsLogWriter capturingWriter = new CapturingResultsLogWriter();
+        try ( ResultsLogWriter writer = new FilteringResultsLogWriter( capturingWriter, 0, 10, 100, null ) )
+        {
+            // neither
+            writer.write( "a", 0, 1, TimeUnit.MILLISECONDS.toNanos( 10 ), 0, 0 );
+            // runtime
+            writer.write( "a", 0, 2, TimeUnit.MILLISECONDS.toNanos( 11 ), 0, 0 );
+            // start delay
+            writer.write( "a", 0, 101, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 0 );
+            // neither
+            writer.write( "a", 0, 100, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 0 );
+        }
+        assertThat( capturingWriter.actualStartTimes, equalTo( list( 2, 101 ) ) );
+    }
+
+    @Test
+    public void shouldOnlyWriteSelectedOperationTypes() throws Exception
+    {
+        CapturingResultsLogWriter capturingWriter = new CapturingResultsLogWriter();
+        Map<String,String> paramsMap = new HashMap<>();
+        paramsMap.put( FilteringResultsLogWriter.OPERATION_TYPES_ARG, "a, c" );
+        try ( ResultsLogWriter writer = FilteringResultsLogWriter.fromParamsMap( capturingWriter, paramsMap ) )
+        {
+            writer.write( "a", 0, 1, 0, 0, 0 );
+            writer.write( "b", 0, 2, 0, 0, 0 );
+            writer.write( "c", 0, 3, 0, 0, 0 );
+        }
+        assertThat( capturingWriter.actualStartTimes, equalTo( list( 1, 3 ) ) );
+
+        // selected operation types are sampled and thresholded as usual
+        capturingWriter = new CapturingResultsLogWriter();
+        try ( ResultsLogWriter writer =
+                      new FilteringResultsLogWriter( capturingWriter, 0, 10, -1, Sets.newHashSet( "a" ) ) )
+        {
+            writer.write( "a", 0, 1, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 0 );
+            writer.write( "a", 0, 2, TimeUnit.MILLISECONDS.toNanos( 11 ), 0, 0 );
+            writer.write( "b", 0, 3, TimeUnit.MILLISECONDS.toNanos( 11 ), 0, 0 );
+        }
+        assertThat( capturingWriter.actualStartTimes, equalTo( list( 2 ) ) );
+    }
+
+    @Test
+    public void shouldSummarizeDelaysOfAllOperationsIncludingThoseNotWritten() throws Exception
+    {
+        // Given
+        CapturingResultsLogWriter capturingWriter = new CapturingResultsLogWriter();
+        Map<String,String> paramsMap = new HashMap<>();
+        paramsMap.put( FilteringResultsLogWriter.SAMPLE_EVERY_ARG, "2" );
+        paramsMap.put( FilteringResultsLogWriter.OPERATION_TYPES_ARG, "a" );
+        FilteringResultsLogWriter writer =
+                (FilteringResultsLogWriter) FilteringResultsLogWriter.fromParamsMap( capturingWriter, paramsMap, 10 );
+
+        // When
+        writer.write( "a", 0, 5, 0, 0, 0 );
+        writer.write( "a", 0, 11, 0, 0, 0 );
+        writer.write( "a", 0, 20, 0, 0, 0 );
+        writer.write( "b", 0, 30, 0, 0, 0 );
+        writer.close();
+
+        // Then
+        assertThat( capturingWriter.actualStartTimes, equalTo( list( 5, 20 ) ) );
+        ResultsLogValidationSummary summary = writer.validationSummary();
+        assertThat( summary.excessiveDelayCount(), equalTo( 3l ) );
+        assertThat( summary.excessiveDelayCountPerType().get( "a" ), equalTo( 2l ) );
+        assertThat( summary.excessiveDelayCountPerType().get( "b" ), equalTo( 1l ) );
+        assertThat( summary.maxDelayAsMilli(), equalTo( 30l ) );
+
+        assertThat( new FilteringResultsLogWriter( capturingWriter, 3, -1, -1, null ).validationSummary(),
+                nullValue() );
+    }
+
+    private static List<Long> list( long... values )
+    {
+        List<Long> list = new ArrayList<>();
+        for ( long value : values )
+        {
+            list.add( value );
+        }
+        return list;
+    }
+
+    private static class CapturingResultsLogWriter implements ResultsLogWriter
+    {
+        private final List<Long> actualStartTimes = new ArrayList<>();
+
+        @Override
+        public void write(
+                String operationName,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws IOException
+        {
+            actualStartTimes.add( actualStartTimeAsMilli );
+        }
+
+        @Override
+        public void close() throws Exception
+        {
+            // do nothing
+        }
+    }
+}
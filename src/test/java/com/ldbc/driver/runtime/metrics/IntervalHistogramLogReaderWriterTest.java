@@ -0,0 +1,82 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class IntervalHistogramLogReaderWriterTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReAggregateIntervalHistogramsOverTimeRanges() throws Exception
+    {
+        File histogramLogDirectory = temporaryFolder.newFolder();
+        TimeUnit unit = TimeUnit.MILLISECONDS;
+        long histogramLogIntervalAsMilli = 1000;
+
+        try ( IntervalHistogramLogWriter writer = new SimpleIntervalHistogramLogWriter( histogramLogDirectory, unit ) )
+        {
+            MetricsManager metricsManager = new MetricsManager(
+                    new SystemTimeSource(),
+                    unit,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                    new Log4jLoggingServiceFactory( false ),
+                    writer,
+                    histogramLogIntervalAsMilli
+            );
+
+            // interval [1000,2000)
+            metricsManager.measure( 1000, TimeUnit.MILLISECONDS.toNanos( 10 ), LdbcQuery1.TYPE );
+            metricsManager.measure( 1500, TimeUnit.MILLISECONDS.toNanos( 20 ), LdbcQuery1.TYPE );
+            // interval [2000,3000)
+            metricsManager.measure( 1900, TimeUnit.MILLISECONDS.toNanos( 300 ), LdbcQuery2.TYPE );
+            // interval [3000,4000) is empty, interval [4000,4141) is flushed
+            metricsManager.measure( 4100, TimeUnit.MILLISECONDS.toNanos( 40 ), LdbcQuery1.TYPE );
+            metricsManager.flushIntervalHistograms();
+
+            // summary is still computed from all measurements
+            WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
+            assertThat( snapshot.totalOperationCount(), equalTo( 4l ) );
+        }
+
+        IntervalHistogramLogReader reader = new IntervalHistogramLogReader( histogramLogDirectory, unit );
+
+        List<OperationMetricsSnapshot> all = reader.readAll();
+        assertThat( all.size(), equalTo( 2 ) );
+        assertThat( all.get( 0 ).name(), equalTo( LdbcQuery1.class.getSimpleName() ) );
+        assertThat( all.get( 0 ).count(), equalTo( 3l ) );
+        assertThat( all.get( 0 ).runTimeMetric().min(), equalTo( 10l ) );
+        assertThat( all.get( 0 ).runTimeMetric().max(), equalTo( 40l ) );
+        assertThat( all.get( 1 ).name(), equalTo( LdbcQuery2.class.getSimpleName() ) );
+        assertThat( all.get( 1 ).count(), equalTo( 1l ) );
+        assertThat( all.get( 1 ).runTimeMetric().max(), equalTo( 300l ) );
+
+        // time ranges are in seconds since start of first interval
+        List<OperationMetricsSnapshot> first = reader.read( 0.0, 2.5 );
+        assertThat( first.size(), equalTo( 2 ) );
+        assertThat( first.get( 0 ).count(), equalTo( 2l ) );
+        assertThat( first.get( 0 ).runTimeMetric().max(), equalTo( 20l ) );
+        assertThat( first.get( 1 ).count(), equalTo( 1l ) );
+
+        List<OperationMetricsSnapshot> last = reader.read( 2.5, 10.0 );
+        assertThat( last.size(), equalTo( 1 ) );
+        assertThat( last.get( 0 ).name(), equalTo( LdbcQuery1.class.getSimpleName() ) );
+        assertThat( last.get( 0 ).count(), equalTo( 1l ) );
+        assertThat( last.get( 0 ).runTimeMetric().max(), equalTo( 40l ) );
+    }
+}
@@ -0,0 +1,100 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResultsLogAnalyzerTest
+{
+    private static final String[] OPERATION_TYPES = new String[]{"LdbcQuery1", "LdbcQuery2", "LdbcShortQuery1"};
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldComputeSameSummaryWhateverTheChunksAndThreads() throws Exception
+    {
+        // Given
+        File resultsLog = temporaryFolder.newFile();
+        int rowCount = 10000;
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, TimeUnit.MILLISECONDS ) )
+        {
+            for ( int i = 0; i < rowCount; i++ )
+            {
+                long delayAsMilli = (i % 3) * (i % 101);
+                writer.write( OPERATION_TYPES[i % 3], 1000 + i, 1000 + i + delayAsMilli,
+                        TimeUnit.MILLISECONDS.toNanos( i % 1000 ), 0, 1000 + i );
+            }
+        }
+        long excessiveDelayThresholdAsMilli = 100;
+        ResultsLogValidationSummary expectedSummary = new ResultsLogAnalyzer( 1, Integer.MAX_VALUE )
+                .analyze( resultsLog, excessiveDelayThresholdAsMilli, false ).summary();
+
+        for ( int threadCount : new int[]{1, 4} )
+        {
+            for ( int chunkSize : new int[]{1, 64, 4096} )
+            {
+                // When
+                ResultsLogAnalysis analysis = new ResultsLogAnalyzer( threadCount, chunkSize )
+                        .analyze( resultsLog, excessiveDelayThresholdAsMilli, true );
+
+                // Then
+                ResultsLogValidationSummary summary = analysis.summary();
+                assertThat( summary, equalTo( expectedSummary ) );
+                assertThat( summary.minDelayAsMilli(), equalTo( 0l ) );
+                assertThat( summary.maxDelayAsMilli(), equalTo( 200l ) );
+                assertThat( summary.maxDelayAsMilliPerType().get( "LdbcQuery1" ), equalTo( 0l ) );
+                assertThat( summary.maxDelayAsMilliPerType().get( "LdbcQuery2" ), equalTo( 100l ) );
+                assertThat( summary.excessiveDelayCountPerType().get( "LdbcQuery2" ), equalTo( 0l ) );
+                assertThat( summary.excessiveDelayCount(),
+                        equalTo( summary.excessiveDelayCountPerType().get( "LdbcShortQuery1" ) ) );
+                long count = 0;
+                for ( String operationType : OPERATION_TYPES )
+                {
+                    ContinuousMetricSnapshot delays = analysis.delaysPerType().get( operationType );
+                    ContinuousMetricSnapshot runtimes = analysis.runtimesPerType().get( operationType );
+                    assertThat( runtimes.unit(), equalTo( TimeUnit.MILLISECONDS ) );
+                    assertThat( runtimes.count(), equalTo( delays.count() ) );
+                    assertThat( delays.max(), equalTo( summary.maxDelayAsMilliPerType().get( operationType ) ) );
+                    count += delays.count();
+                }
+                assertThat( count, is( (long) rowCount ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldFailOnNegativeDelay() throws Exception
+    {
+        // Given
+        File resultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, TimeUnit.MILLISECONDS ) )
+        {
+            writer.write( "LdbcQuery1", 1, 2, 0, 0, 1 );
+            writer.write( "LdbcQuery1", 3, 2, 0, 0, 3 );
+        }
+
+        // When/Then
+        try
+        {
+            new ResultsLogAnalyzer( 2, 16 ).analyze( resultsLog, 100, false );
+            fail( "Negative delay should fail analysis" );
+        }
+        catch ( ValidationException e )
+        {
+            assertThat( e.getMessage(), startsWith( "Delay can not be negative" ) );
+        }
+    }
+}
@@ -190,10 +190,8 @@ public class ResultsLogValidationTest
     {
         // Given
         long excessiveDelayThreshold = 5;
-        ResultsLogValidationSummaryCalculator calculator = new ResultsLogValidationSummaryCalculator(
-                10000,
-                excessiveDelayThreshold
-        );
+        ResultsLogValidationSummaryCalculator calculator =
+                new ResultsLogValidationSummaryCalculator( excessiveDelayThreshold );
 
         // When
         for ( Tuple2<String,Long> delay : DELAYS )
@@ -4,12 +4,16 @@ import com.google.common.base.CaseFormat;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.ClassPath;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationParameterVisitor;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +32,7 @@ public class OperationTest
     public static <O extends Operation<?>> void assertCorrectParameterMap( O operation )
     {
         Map<String,Object> params = operation.parameterMap();
+        assertParameterVisitMatchesParameterMap( operation );
 
         Set<Field> commonFields = Sets.newHashSet( Operation.class.getDeclaredFields() );
         Set<Field> parameters = Stream.of( operation.getClass().getDeclaredFields() )
@@ -59,6 +64,52 @@ public class OperationTest
         } );
     }
 
+    /**
+     * Make sure that operation visits the same parameters, in the same order, as its parameter map
+     */
+    public static <O extends Operation<?>> void assertParameterVisitMatchesParameterMap( O operation )
+    {
+        final Map<String,Object> visited = new LinkedHashMap<>();
+        operation.visitParameters( new OperationParameterVisitor()
+        {
+            @Override
+            public void visitLong( String name, long value )
+            {
+                visited.put( name, value );
+            }
+
+            @Override
+            public void visitInt( String name, int value )
+            {
+                visited.put( name, value );
+            }
+
+            @Override
+            public void visitString( String name, String value )
+            {
+                visited.put( name, value );
+            }
+
+            @Override
+            public void visitDate( String name, long epochMilli )
+            {
+                visited.put( name, new Date( epochMilli ) );
+            }
+
+            @Override
+            public void visitObject( String name, Object value )
+            {
+                visited.put( name, value );
+            }
+        } );
+
+        Map<String,Object> params = operation.parameterMap();
+        assertThat( operation.getClass().getName() + " visited parameters in wrong order",
+                new ArrayList<>( visited.keySet() ), equalTo( new ArrayList<>( params.keySet() ) ) );
+        assertThat( operation.getClass().getName() + " visited wrong parameter values",
+                visited, equalTo( params ) );
+    }
+
     /**
      * Make sure that all operations implement static fields for parameter names
      */
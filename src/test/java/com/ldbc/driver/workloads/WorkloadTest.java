@@ -5,6 +5,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Client;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
@@ -223,6 +225,69 @@ public abstract class WorkloadTest
         }
     }
 
+    @Test
+    public void shouldVisitSameParametersAsParameterMapForAllOperations() throws Exception
+    {
+        for ( Tuple2<Operation,Object> operationAndResult : operationsAndResults() )
+        {
+            OperationTest.assertParameterVisitMatchesParameterMap( operationAndResult._1() );
+        }
+    }
+
+    @Test
+    public void shouldBeAbleToEncodeAndDecodeAllOperationsLikeTheirSerializedForm() throws Exception
+    {
+        // Given
+        try ( Workload workload = workload() )
+        {
+            List<Tuple2<Operation,Object>> operationsAndResults = operationsAndResults();
+            BinaryWriter writer = new BinaryWriter( 16 );
+
+            // When
+            for ( int i = 0; i < operationsAndResults.size(); i++ )
+            {
+                workload.encodeOperation( operationsAndResults.get( i )._1(), writer );
+            }
+
+            // Then
+            BinaryReader reader = new BinaryReader( writer.toByteArray() );
+            for ( int i = 0; i < operationsAndResults.size(); i++ )
+            {
+                Operation operation = operationsAndResults.get( i )._1();
+                Operation decoded = workload.decodeOperation( reader );
+                assertThat( format( "Original: %s\nDecoded: %s", operation, decoded ), decoded, equalTo( operation ) );
+                assertThat( decoded, equalTo( workload.marshalOperation( workload.serializeOperation( operation ) ) ) );
+            }
+            assertThat( reader.position(), equalTo( writer.size() ) );
+        }
+    }
+
+    @Test
+    public void shouldBeAbleToEncodeAndDecodeAllOperationResultsLikeTheirSerializedForm() throws Exception
+    {
+        // Given
+        List<Tuple2<Operation,Object>> operationsAndResults = operationsAndResults();
+        BinaryWriter writer = new BinaryWriter( 16 );
+
+        // When
+        for ( int i = 0; i < operationsAndResults.size(); i++ )
+        {
+            operationsAndResults.get( i )._1().encodeResult( operationsAndResults.get( i )._2(), writer );
+        }
+
+        // Then
+        BinaryReader reader = new BinaryReader( writer.toByteArray() );
+        for ( int i = 0; i < operationsAndResults.size(); i++ )
+        {
+            Operation operation = operationsAndResults.get( i )._1();
+            Object result = operationsAndResults.get( i )._2();
+            Object decoded = operation.decodeResult( reader );
+            assertThat( format( "Original: %s\nDecoded: %s", result, decoded ), decoded, equalTo( result ) );
+            assertThat( decoded, equalTo( operation.marshalResult( operation.serializeResult( result ) ) ) );
+        }
+        assertThat( reader.position(), equalTo( writer.size() ) );
+    }
+
     @Test
     public void shouldGenerateManyOperationsInReasonableTimeForLongReadOnly() throws Exception
     {
@@ -1,16 +1,16 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
-import com.google.common.base.Charsets;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.workloads.OperationTest;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringReader;
 import java.text.ParseException;
 import java.util.List;
 
@@ -29,7 +29,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_1_CSV_ROWS();
         System.out.println( data + "\n" );
         Query1EventStreamReader reader = new Query1EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -61,7 +61,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_2_CSV_ROWS();
         System.out.println( data + "\n" );
         Query2EventStreamReader reader = new Query2EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -108,7 +108,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_3_CSV_ROWS();
         System.out.println( data + "\n" );
         Query3EventStreamReader reader = new Query3EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -143,7 +143,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_4_CSV_ROWS();
         System.out.println( data + "\n" );
         Query4EventStreamReader reader = new Query4EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -186,7 +186,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_5_CSV_ROWS();
         System.out.println( data + "\n" );
         Query5EventStreamReader reader = new Query5EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -224,7 +224,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_6_CSV_ROWS();
         System.out.println( data + "\n" );
         Query6EventStreamReader reader = new Query6EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -262,7 +262,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_7_CSV_ROWS();
         System.out.println( data + "\n" );
         Query7EventStreamReader reader = new Query7EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -300,7 +300,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_8_CSV_ROWS();
         System.out.println( data + "\n" );
         Query8EventStreamReader reader = new Query8EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -338,7 +338,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_9_CSV_ROWS();
         System.out.println( data + "\n" );
         Query9EventStreamReader reader = new Query9EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -386,7 +386,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_10_CSV_ROWS();
         System.out.println( data + "\n" );
         Query10EventStreamReader reader = new Query10EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -424,7 +424,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_11_CSV_ROWS();
         System.out.println( data + "\n" );
         Query11EventStreamReader reader = new Query11EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -467,7 +467,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_12_CSV_ROWS();
         System.out.println( data + "\n" );
         Query12EventStreamReader reader = new Query12EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -499,7 +499,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_13_CSV_ROWS();
         System.out.println( data + "\n" );
         Query13EventStreamReader reader = new Query13EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -537,7 +537,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_14_CSV_ROWS();
         System.out.println( data + "\n" );
         Query14EventStreamReader reader = new Query14EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -572,7 +572,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_15_CSV_ROWS();
         System.out.println( data + "\n" );
         Query15EventStreamReader reader = new Query15EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -610,7 +610,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_16_CSV_ROWS();
         System.out.println( data + "\n" );
         Query16EventStreamReader reader = new Query16EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -658,7 +658,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_17_CSV_ROWS();
         System.out.println( data + "\n" );
         Query17EventStreamReader reader = new Query17EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -696,7 +696,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_18_CSV_ROWS();
         System.out.println( data + "\n" );
         Query18EventStreamReader reader = new Query18EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -728,7 +728,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_19_CSV_ROWS();
         System.out.println( data + "\n" );
         Query19EventStreamReader reader = new Query19EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -776,7 +776,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_20_CSV_ROWS();
         System.out.println( data + "\n" );
         Query20EventStreamReader reader = new Query20EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -812,7 +812,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_21_CSV_ROWS();
         System.out.println( data + "\n" );
         Query21EventStreamReader reader = new Query21EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -855,7 +855,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_22_CSV_ROWS();
         System.out.println( data + "\n" );
         Query22EventStreamReader reader = new Query22EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -898,7 +898,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_23_CSV_ROWS();
         System.out.println( data + "\n" );
         Query23EventStreamReader reader = new Query23EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -936,7 +936,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_24_CSV_ROWS();
         System.out.println( data + "\n" );
         Query24EventStreamReader reader = new Query24EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
@@ -974,7 +974,7 @@ public class BiReadEventStreamReadersTest
         String data = BiReadEventStreamReadersTestData.QUERY_25_CSV_ROWS();
         System.out.println( data + "\n" );
         Query25EventStreamReader reader = new Query25EventStreamReader(
-                new ByteArrayInputStream( data.getBytes( Charsets.UTF_8 ) ),
+                Readables.wrap( new StringReader( data ) ),
                 LdbcSnbBiWorkload.CHAR_SEEKER_PARAMS,
                 GENERATOR_FACTORY
         );
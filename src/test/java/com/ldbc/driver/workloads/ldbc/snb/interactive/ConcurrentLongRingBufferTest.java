@@ -0,0 +1,138 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.collect.EvictingQueue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbShortReadGenerator.IdBuffer.NO_ID;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ConcurrentLongRingBufferTest
+{
+    @Test
+    public void shouldAddAndPollLikeEvictingQueue()
+    {
+        for ( int capacity : new int[]{1, 3, 4, 100} )
+        {
+            // Given
+            ConcurrentLongRingBuffer buffer = new ConcurrentLongRingBuffer( capacity );
+            EvictingQueue<Long> queue = EvictingQueue.create( capacity );
+
+            for ( int i = 0; i < 1000; i++ )
+            {
+                // When
+                if ( i % 3 == 2 )
+                {
+                    Long expected = queue.poll();
+                    // Then
+                    assertThat( buffer.poll(), equalTo( (null == expected) ? NO_ID : expected ) );
+                }
+                else
+                {
+                    buffer.add( i );
+                    queue.add( (long) i );
+                }
+                assertThat( buffer.size(), equalTo( queue.size() ) );
+            }
+            while ( false == queue.isEmpty() )
+            {
+                assertThat( buffer.poll(), equalTo( queue.poll() ) );
+            }
+            assertThat( buffer.poll(), equalTo( NO_ID ) );
+        }
+    }
+
+    @Test
+    public void shouldKeepNewerValueWhenStalledAdderStoresIntoItsSlot()
+    {
+        for ( int capacity : new int[]{1, 3, 4} )
+        {
+            // Given
+            ConcurrentLongRingBuffer buffer = new ConcurrentLongRingBuffer( capacity );
+            long stalledNumber = buffer.claim();
+
+            // When
+            // newer adders wrap around, into the slot of the stalled adder, before it stores
+            for ( long value = 1; value <= 4; value++ )
+            {
+                buffer.add( value );
+            }
+            buffer.store( stalledNumber, -1 );
+
+            // Then
+            for ( long value = 5 - capacity; value <= 4; value++ )
+            {
+                assertThat( buffer.poll(), equalTo( value ) );
+            }
+            assertThat( buffer.poll(), equalTo( NO_ID ) );
+        }
+    }
+
+    @Test
+    public void shouldPollEveryValueAtMostOnceWhenAccessedConcurrently() throws Exception
+    {
+        // Given
+        final int threadCount = 8;
+        final int valuesPerThread = 100000;
+        final ConcurrentLongRingBuffer buffer = new ConcurrentLongRingBuffer( 1024 );
+        final CountDownLatch start = new CountDownLatch( 1 );
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+        List<Future<long[]>> polledPerThread = new ArrayList<>();
+
+        // When
+        for ( int t = 0; t < threadCount; t++ )
+        {
+            final int thread = t;
+            polledPerThread.add( executor.submit( new Callable<long[]>()
+            {
+                @Override
+                public long[] call() throws Exception
+                {
+                    long[] polled = new long[valuesPerThread];
+                    start.await();
+                    for ( int i = 0; i < valuesPerThread; i++ )
+                    {
+                        buffer.add( (long) thread * valuesPerThread + i );
+                        polled[i] = buffer.poll();
+                    }
+                    return polled;
+                }
+            } ) );
+        }
+        start.countDown();
+
+        // Then
+        boolean[] seen = new boolean[threadCount * valuesPerThread];
+        long polledCount = 0;
+        for ( Future<long[]> polled : polledPerThread )
+        {
+            for ( long value : polled.get() )
+            {
+                if ( NO_ID != value )
+                {
+                    assertThat( "Polled more than once: " + value, seen[(int) value], is( false ) );
+                    seen[(int) value] = true;
+                    polledCount++;
+                }
+            }
+        }
+        long value;
+        while ( NO_ID != (value = buffer.poll()) )
+        {
+            assertThat( "Polled more than once: " + value, seen[(int) value], is( false ) );
+            seen[(int) value] = true;
+            polledCount++;
+        }
+        executor.shutdown();
+        assertThat( polledCount <= threadCount * valuesPerThread, is( true ) );
+    }
+}
@@ -749,4 +749,47 @@ public class InteractiveOperationEqualityTest
         assertThat(ldbcUpdate1a, not(equalTo(ldbcUpdate3a)));
         assertThat(ldbcUpdate2a, not(equalTo(ldbcUpdate3a)));
     }
-}
\ No newline at end of file
+
+    @Test(expected = NullPointerException.class)
+    public void ldbcUpdate1ShouldNotAcceptNullBirthday() {
+        new LdbcUpdate1AddPerson(1, "a", "b", "c", null, new Date(1), "d", "e", 2, Lists.<String>newArrayList(),
+                Lists.<String>newArrayList(), Lists.<Long>newArrayList(),
+                Lists.<LdbcUpdate1AddPerson.Organization>newArrayList(),
+                Lists.<LdbcUpdate1AddPerson.Organization>newArrayList());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void ldbcUpdate2ShouldNotAcceptNullCreationDate() {
+        new LdbcUpdate2AddPostLike(1, 2, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void ldbcUpdate3ShouldNotAcceptNullCreationDate() {
+        new LdbcUpdate3AddCommentLike(1, 2, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void ldbcUpdate4ShouldNotAcceptNullCreationDate() {
+        new LdbcUpdate4AddForum(1, "a", null, 2, Lists.<Long>newArrayList());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void ldbcUpdate5ShouldNotAcceptNullJoinDate() {
+        new LdbcUpdate5AddForumMembership(1, 2, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void ldbcUpdate6ShouldNotAcceptNullCreationDate() {
+        new LdbcUpdate6AddPost(1, "a", null, "b", "c", "d", "e", 3, 4, 5, 6, Lists.<Long>newArrayList());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void ldbcUpdate7ShouldNotAcceptNullCreationDate() {
+        new LdbcUpdate7AddComment(1, null, "a", "b", "c", 2, 3, 4, 5, -1, Lists.<Long>newArrayList());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void ldbcUpdate8ShouldNotAcceptNullCreationDate() {
+        new LdbcUpdate8AddFriendship(1, 2, null);
+    }
+}
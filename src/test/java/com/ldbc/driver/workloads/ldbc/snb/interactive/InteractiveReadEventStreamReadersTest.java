@@ -2,6 +2,7 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.csv.charseeker.*;
+import com.ldbc.driver.generator.ColumnarParameterStore;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.workloads.OperationTest;
 import org.junit.Test;
@@ -28,13 +29,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query1EventStreamReader.Query1Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query1EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -74,13 +77,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query2EventStreamReader.Query2Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query2EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -129,13 +134,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query3EventStreamReader.Query3Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query3EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -195,13 +202,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query4EventStreamReader.Query4Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query4EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -253,13 +262,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query5EventStreamReader.Query5Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query5EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -308,13 +319,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query6EventStreamReader.Query6Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query6EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -353,13 +366,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query7EventStreamReader.Query7Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query7EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -394,13 +409,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query8EventStreamReader.Query8Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query8EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -435,13 +452,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query9EventStreamReader.Query9Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query9EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -490,13 +509,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query10EventStreamReader.Query10Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query10EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -536,13 +557,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query11EventStreamReader.Query11Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query11EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -585,13 +608,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query12EventStreamReader.Query12Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query12EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -630,13 +655,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query13EventStreamReader.Query13Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query13EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
@@ -675,13 +702,15 @@ public class InteractiveReadEventStreamReadersTest
         CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query14EventStreamReader.Query14Decoder();
         Mark mark = new Mark();
         Iterator<Operation> reader = new Query14EventStreamReader(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        extractors,
-                        mark,
-                        decoder,
-                        columnDelimiter
-                )
+                ColumnarParameterStore.fromRows(
+                        new CsvEventStreamReaderBasicCharSeeker<>(
+                                charSeeker,
+                                extractors,
+                                mark,
+                                decoder,
+                                columnDelimiter
+                        )
+                ).rows()
         );
 
         // When
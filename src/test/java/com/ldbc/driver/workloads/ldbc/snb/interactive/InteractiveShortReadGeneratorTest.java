@@ -1,8 +1,8 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.google.common.collect.EvictingQueue;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.ldbc.driver.CountOnlyResult;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
@@ -12,6 +12,7 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractive
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -55,10 +56,12 @@ public class InteractiveShortReadGeneratorTest
         double initialProbability = Double.MAX_VALUE;
         double probabilityDegradationFactor = 0.1;
         double compressionRatio = 1.0;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -286,10 +289,12 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 0.9;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -434,10 +439,12 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 2.5;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -566,10 +573,12 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 0.2;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -701,10 +710,12 @@ public class InteractiveShortReadGeneratorTest
 //                LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 1.0;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -739,4 +750,162 @@ public class InteractiveShortReadGeneratorTest
         assertThat(operation, is(nullValue()));
         assertThat(state, is(initialProbability));
     }
+
+    @Test
+    public void shouldReplenishBuffersFromCountOnlyResultsLikeFromFullResults() {
+        // Given
+        List<LdbcQuery2Result> fullResult = Lists.newArrayList(
+                DummyLdbcSnbInteractiveOperationResultInstances.read2Result(),
+                DummyLdbcSnbInteractiveOperationResultInstances.read2Result()
+        );
+        CountOnlyResult countOnlyResult = new CountOnlyResult();
+        for (LdbcQuery2Result row : fullResult) {
+            countOnlyResult.addPersonId(row.personId());
+            countOnlyResult.addMessageId(row.postOrCommentId());
+        }
+        LdbcSnbShortReadGenerator.IdBuffer fullPersonIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(10);
+        LdbcSnbShortReadGenerator.IdBuffer fullMessageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(10);
+        LdbcSnbShortReadGenerator.IdBuffer countPersonIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(10);
+        LdbcSnbShortReadGenerator.IdBuffer countMessageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(10);
+
+        // When
+        new LdbcSnbShortReadGenerator.ResultBufferReplenishFun(fullPersonIdBuffer, fullMessageIdBuffer)
+                .replenish(DummyLdbcSnbInteractiveOperationInstances.read2(), fullResult);
+        new LdbcSnbShortReadGenerator.ResultBufferReplenishFun(countPersonIdBuffer, countMessageIdBuffer)
+                .replenish(DummyLdbcSnbInteractiveOperationInstances.read2(), countOnlyResult);
+
+        // Then
+        for (int i = 0; i < fullResult.size(); i++) {
+            assertThat(countPersonIdBuffer.poll(), equalTo(fullPersonIdBuffer.poll()));
+            assertThat(countMessageIdBuffer.poll(), equalTo(fullMessageIdBuffer.poll()));
+        }
+        assertThat(countPersonIdBuffer.poll(), equalTo(LdbcSnbShortReadGenerator.IdBuffer.NO_ID));
+        assertThat(countMessageIdBuffer.poll(), equalTo(LdbcSnbShortReadGenerator.IdBuffer.NO_ID));
+    }
+
+    @Test
+    public void countOnlyResultHelpersShouldAddSameIdsAsFullResultsProvide() {
+        // Given
+        LdbcQuery1Result read1 = DummyLdbcSnbInteractiveOperationResultInstances.read1Result();
+        LdbcQuery2Result read2 = DummyLdbcSnbInteractiveOperationResultInstances.read2Result();
+        LdbcQuery3Result read3 = DummyLdbcSnbInteractiveOperationResultInstances.read3Result();
+        LdbcQuery7Result read7 = DummyLdbcSnbInteractiveOperationResultInstances.read7Result();
+        LdbcQuery8Result read8 = DummyLdbcSnbInteractiveOperationResultInstances.read8Result();
+        LdbcQuery9Result read9 = DummyLdbcSnbInteractiveOperationResultInstances.read9Result();
+        LdbcQuery10Result read10 = DummyLdbcSnbInteractiveOperationResultInstances.read10Result();
+        LdbcQuery11Result read11 = DummyLdbcSnbInteractiveOperationResultInstances.read11Result();
+        LdbcQuery12Result read12 = DummyLdbcSnbInteractiveOperationResultInstances.read12Result();
+        LdbcQuery14Result read14 = DummyLdbcSnbInteractiveOperationResultInstances.read14Result();
+        LdbcShortQuery2PersonPostsResult short2 = DummyLdbcSnbInteractiveOperationResultInstances.short2Result();
+        LdbcShortQuery3PersonFriendsResult short3 = DummyLdbcSnbInteractiveOperationResultInstances.short3Result();
+        LdbcShortQuery5MessageCreatorResult short5 = DummyLdbcSnbInteractiveOperationResultInstances.short5Result();
+        LdbcShortQuery6MessageForumResult short6 = DummyLdbcSnbInteractiveOperationResultInstances.short6Result();
+        LdbcShortQuery7MessageRepliesResult short7 = DummyLdbcSnbInteractiveOperationResultInstances.short7Result();
+
+        // When/Then
+        CountOnlyResult countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery1Row(countOnlyResult, read1.friendId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read1(), Lists.newArrayList(read1),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery2Row(countOnlyResult, read2.personId(), read2.postOrCommentId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read2(), Lists.newArrayList(read2),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery3Row(countOnlyResult, read3.personId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read3(), Lists.newArrayList(read3),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery7Row(countOnlyResult, read7.personId(), read7.commentOrPostId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read7(), Lists.newArrayList(read7),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery8Row(countOnlyResult, read8.personId(), read8.commentId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read8(), Lists.newArrayList(read8),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery9Row(countOnlyResult, read9.personId(), read9.commentOrPostId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read9(), Lists.newArrayList(read9),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery10Row(countOnlyResult, read10.personId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read10(), Lists.newArrayList(read10),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery11Row(countOnlyResult, read11.personId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read11(), Lists.newArrayList(read11),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addQuery12Row(countOnlyResult, read12.personId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read12(), Lists.newArrayList(read12),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        List<Long> personIdsInPath = Lists.newArrayList();
+        for (Number personId : read14.personsIdsInPath()) {
+            personIdsInPath.add(personId.longValue());
+        }
+        long[] personIdsInPathArray = new long[personIdsInPath.size()];
+        for (int i = 0; i < personIdsInPathArray.length; i++) {
+            personIdsInPathArray[i] = personIdsInPath.get(i);
+        }
+        LdbcSnbCountOnlyResults.addQuery14Row(countOnlyResult, personIdsInPathArray);
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.read14(), Lists.newArrayList(read14),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addShortQuery2Row(countOnlyResult, short2.messageId(), short2.originalPostId(),
+                short2.originalPostAuthorId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.short2(), Lists.newArrayList(short2),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addShortQuery3Row(countOnlyResult, short3.personId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.short3(), Lists.newArrayList(short3),
+                countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addShortQuery5Row(countOnlyResult, short5.personId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.short5(), short5, countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addShortQuery6Row(countOnlyResult, short6.moderatorId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.short6(), short6, countOnlyResult);
+
+        countOnlyResult = new CountOnlyResult();
+        LdbcSnbCountOnlyResults.addShortQuery7Row(countOnlyResult, short7.commentId(), short7.replyAuthorId());
+        assertReplenishesSameIds(DummyLdbcSnbInteractiveOperationInstances.short7(), Lists.newArrayList(short7),
+                countOnlyResult);
+    }
+
+    private static void assertReplenishesSameIds(Operation operation, Object fullResult,
+                                                 CountOnlyResult countOnlyResult) {
+        LdbcSnbShortReadGenerator.IdBuffer fullPersonIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(10);
+        LdbcSnbShortReadGenerator.IdBuffer fullMessageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(10);
+        LdbcSnbShortReadGenerator.IdBuffer countPersonIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(10);
+        LdbcSnbShortReadGenerator.IdBuffer countMessageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(10);
+        new LdbcSnbShortReadGenerator.ResultBufferReplenishFun(fullPersonIdBuffer, fullMessageIdBuffer)
+                .replenish(operation, fullResult);
+        new LdbcSnbShortReadGenerator.ResultBufferReplenishFun(countPersonIdBuffer, countMessageIdBuffer)
+                .replenish(operation, countOnlyResult);
+        assertThat(operation.toString(), pollAll(countPersonIdBuffer), equalTo(pollAll(fullPersonIdBuffer)));
+        assertThat(operation.toString(), pollAll(countMessageIdBuffer), equalTo(pollAll(fullMessageIdBuffer)));
+    }
+
+    private static List<Long> pollAll(LdbcSnbShortReadGenerator.IdBuffer idBuffer) {
+        List<Long> ids = Lists.newArrayList();
+        long id;
+        while (LdbcSnbShortReadGenerator.IdBuffer.NO_ID != (id = idBuffer.poll())) {
+            ids.add(id);
+        }
+        return ids;
+    }
 }
@@ -1,6 +1,8 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.Lists;
+import com.ldbc.driver.BinaryReader;
+import com.ldbc.driver.BinaryWriter;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
@@ -25,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -412,6 +415,29 @@ public class InteractiveWorkloadTest extends WorkloadTest
         );
     }
 
+    @Test
+    public void shouldEncodeAndDecodeNullListsOfAddPerson() throws Exception
+    {
+        // Given
+        LdbcUpdate1AddPerson operation =
+                new LdbcUpdate1AddPerson( 1, "2", "3", "4", 5, 6, "7", "8", 9, null, null, null, null, null );
+        BinaryWriter writer = new BinaryWriter( 16 );
+
+        // When
+        try ( Workload workload = workload() )
+        {
+            workload.encodeOperation( operation, writer );
+            BinaryReader reader = new BinaryReader( writer.toByteArray() );
+            Operation decoded = workload.decodeOperation( reader );
+
+            // Then
+            assertThat( decoded, equalTo( (Operation) operation ) );
+            assertThat( ((LdbcUpdate1AddPerson) decoded).studyAt(), nullValue() );
+            assertThat( ((LdbcUpdate1AddPerson) decoded).workAt(), nullValue() );
+            assertThat( reader.position(), equalTo( writer.size() ) );
+        }
+    }
+
     @Test
     public void shouldConvertFrequenciesToInterleavesWhenAllFrequenciesProvidedAndAllUpdatesEnabled() throws Exception
     {
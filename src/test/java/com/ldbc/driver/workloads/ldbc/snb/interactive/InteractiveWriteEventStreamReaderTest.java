@@ -1012,6 +1012,27 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate8AddFriendshipWithIsoDateWithWriteEventStreamReaderRegex() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_8_ADD_FRIENDSHIP_ISO_DATE;
+        BufferedReader bufferedReader = new BufferedReader(new StringReader(data));
+        SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(bufferedReader, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING);
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderRegex.create(csvFileReader);
+        doShouldParseUpdate8AddFriendship(writeEventStreamReader);
+        csvFileReader.close();
+    }
+
+    @Test
+    public void shouldParseUpdate8AddFriendshipWithIsoDateWithWriteEventStreamReaderCharSeeker() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_8_ADD_FRIENDSHIP_ISO_DATE;
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate8AddFriendship(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate8AddFriendship(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate8AddFriendship addFriendship = (LdbcUpdate8AddFriendship) writeEventStreamReader.next();
 
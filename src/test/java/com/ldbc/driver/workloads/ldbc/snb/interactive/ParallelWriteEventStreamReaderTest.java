@@ -0,0 +1,175 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.testutils.TestUtils;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ParallelWriteEventStreamReaderTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReturnOperationsInFileOrderForAnyChunkSize() throws IOException
+    {
+        for ( String updateStream : new String[]{"updateStream_0_0_forum.csv", "updateStream_0_0_person.csv"} )
+        {
+            // Given
+            File updateStreamFile = TestUtils.getResource( "/snb/interactive/" + updateStream );
+            WriteEventStreamFileReader sequentialReader =
+                    new WriteEventStreamFileReader( updateStreamFile, UpdateStreamParser.CHAR_SEEKER, 1024 * 1024,
+                            null );
+            List<Operation> expected = Lists.newArrayList( sequentialReader );
+            sequentialReader.close();
+
+            int[] chunkSizes = {1, 100, 4096, 64 * 1024, ParallelWriteEventStreamReader.DEFAULT_CHUNK_SIZE};
+            for ( int chunkSize : chunkSizes )
+            {
+                for ( int threadCount : new int[]{1, 3} )
+                {
+                    // When
+                    ChunkDecoderPool decoderPool = new ChunkDecoderPool( threadCount );
+                    ParallelWriteEventStreamReader reader =
+                            new ParallelWriteEventStreamReader( updateStreamFile, 0, decoderPool, chunkSize );
+
+                    // Then
+                    assertThat( Lists.newArrayList( reader ), equalTo( expected ) );
+                    reader.close();
+                    decoderPool.close();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldSplitOnAnyNewLineAndSkipEmptyLines() throws IOException
+    {
+        // Given
+        File updateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_person.csv" );
+        List<String> lines = Files.readAllLines( updateStreamFile.toPath(), Charsets.UTF_8 );
+        StringBuilder builder = new StringBuilder();
+        for ( int i = 0; i < lines.size(); i++ )
+        {
+            builder.append( lines.get( i ) ).append( (0 == i % 2) ? "\r\n\n" : "\n" );
+        }
+        File file = temporaryFolder.newFile();
+        Files.write( file.toPath(), builder.toString().getBytes( Charsets.UTF_8 ) );
+        WriteEventStreamFileReader sequentialReader =
+                new WriteEventStreamFileReader( updateStreamFile, UpdateStreamParser.CHAR_SEEKER, 1024 * 1024, null );
+        List<Operation> expected = Lists.newArrayList( sequentialReader );
+        sequentialReader.close();
+
+        ChunkDecoderPool decoderPool = new ChunkDecoderPool( 2 );
+        for ( int chunkSize = 1; chunkSize < 300; chunkSize += 7 )
+        {
+            // When
+            ParallelWriteEventStreamReader reader =
+                    new ParallelWriteEventStreamReader( file, 0, decoderPool, chunkSize );
+
+            // Then
+            assertThat( Lists.newArrayList( reader ), equalTo( expected ) );
+            reader.close();
+        }
+        decoderPool.close();
+    }
+
+    @Test
+    public void shouldShareBoundedDecoderPoolAndStartDecodingOnFirstRead() throws IOException
+    {
+        // Given
+        File forumUpdateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_forum.csv" );
+        File personUpdateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_person.csv" );
+        List<Operation> expectedForum = readAll( forumUpdateStreamFile );
+        List<Operation> expectedPerson = readAll( personUpdateStreamFile );
+        ChunkDecoderPool decoderPool = new ChunkDecoderPool( 1 );
+        ParallelWriteEventStreamReader forumReader =
+                new ParallelWriteEventStreamReader( forumUpdateStreamFile, 0, decoderPool, 4096 );
+        ParallelWriteEventStreamReader personReader =
+                new ParallelWriteEventStreamReader( personUpdateStreamFile, 0, decoderPool, 4096 );
+        assertThat( decoderPool.chunksInFlight(), is( 0 ) );
+
+        // When
+        List<Operation> forum = new ArrayList<>();
+        List<Operation> person = new ArrayList<>();
+        while ( forumReader.hasNext() || personReader.hasNext() )
+        {
+            if ( forumReader.hasNext() )
+            {
+                forum.add( forumReader.next() );
+            }
+            if ( personReader.hasNext() )
+            {
+                person.add( personReader.next() );
+            }
+            assertThat( decoderPool.chunksInFlight() <= 2, is( true ) );
+        }
+
+        // Then
+        assertThat( forum, equalTo( expectedForum ) );
+        assertThat( person, equalTo( expectedPerson ) );
+        forumReader.close();
+        personReader.close();
+        assertThat( decoderPool.chunksInFlight(), is( 0 ) );
+        decoderPool.close();
+    }
+
+    @Test
+    public void shouldReportDecodingErrorsInFileOrder() throws IOException
+    {
+        // Given
+        File updateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_person.csv" );
+        List<String> lines = Files.readAllLines( updateStreamFile.toPath(), Charsets.UTF_8 );
+        lines.set( 5, "not|an|operation" );
+        File file = temporaryFolder.newFile();
+        Files.write( file.toPath(), lines, Charsets.UTF_8 );
+        ChunkDecoderPool decoderPool = new ChunkDecoderPool( 2 );
+        ParallelWriteEventStreamReader reader = new ParallelWriteEventStreamReader( file, 0, decoderPool, 1 );
+
+        // When
+        int read = 0;
+        try
+        {
+            while ( reader.hasNext() )
+            {
+                reader.next();
+                read++;
+            }
+            fail( "Invalid line should not be decoded" );
+        }
+        catch ( GeneratorException e )
+        {
+            // expected
+        }
+
+        // Then
+        assertThat( read, is( 5 ) );
+        reader.close();
+        decoderPool.close();
+    }
+
+    private static List<Operation> readAll( File updateStreamFile ) throws IOException
+    {
+        WriteEventStreamFileReader reader =
+                new WriteEventStreamFileReader( updateStreamFile, UpdateStreamParser.CHAR_SEEKER, 1024 * 1024, null );
+        List<Operation> operations = Lists.newArrayList( reader );
+        reader.close();
+        return operations;
+    }
+}
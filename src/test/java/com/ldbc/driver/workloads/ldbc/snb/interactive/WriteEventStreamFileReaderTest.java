@@ -0,0 +1,169 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.testutils.TestUtils;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class WriteEventStreamFileReaderTest
+{
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    // smaller than file, so reading crosses windows and chunks
+    private static final int WINDOW_SIZE = 64 * 1024;
+    private static final UpdateStreamParser[] PARSERS = {
+            UpdateStreamParser.CHAR_SEEKER,
+            UpdateStreamParser.CHAR_SEEKER_THREAD,
+            UpdateStreamParser.CHAR_SEEKER_MAPPED,
+            UpdateStreamParser.CHAR_SEEKER_PARALLEL
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldSkipToSameOperationsAsIteration() throws IOException
+    {
+        File updateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_forum.csv" );
+        List<Operation> allOperations = readAll( updateStreamFile );
+        assertThat( allOperations.size() > 10000, is( true ) );
+
+        for ( long skipCount : new long[]{0, 1, 100, 4095, 4096, 4097, 8193, 10000, allOperations.size() - 1} )
+        {
+            for ( UpdateStreamParser parser : PARSERS )
+            {
+                // Given
+                WriteEventStreamFileReader reader =
+                        new WriteEventStreamFileReader( updateStreamFile, parser, bufferSizeFor( parser ), null );
+
+                // When
+                long skipped = reader.skip( skipCount );
+
+                // Then
+                assertThat( skipped, is( skipCount ) );
+                assertThat( reader.remaining(), is( (skipCount < 4096) ? -1 : allOperations.size() - skipCount ) );
+                assertThat( Lists.newArrayList( reader ),
+                        equalTo( allOperations.subList( (int) skipCount, allOperations.size() ) ) );
+                reader.close();
+            }
+        }
+    }
+
+    @Test
+    public void shouldSkipPeekedOperationAndStopAtEndOfFile() throws IOException
+    {
+        // Given
+        File updateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_forum.csv" );
+        List<Operation> allOperations = readAll( updateStreamFile );
+        WriteEventStreamFileReader reader =
+                new WriteEventStreamFileReader( updateStreamFile, UpdateStreamParser.CHAR_SEEKER, BUFFER_SIZE, null );
+
+        // When
+        assertThat( reader.peek(), equalTo( allOperations.get( 0 ) ) );
+        assertThat( reader.skip( 5000 ), is( 5000L ) );
+        assertThat( reader.next(), equalTo( allOperations.get( 5000 ) ) );
+        assertThat( reader.peek(), equalTo( allOperations.get( 5001 ) ) );
+        long skipped = reader.skip( Long.MAX_VALUE );
+
+        // Then
+        assertThat( skipped, is( allOperations.size() - 5001L ) );
+        assertThat( reader.hasNext(), is( false ) );
+        assertThat( reader.remaining(), is( 0L ) );
+        reader.close();
+    }
+
+    @Test
+    public void shouldCountOperationsBeforeTimeStampAsIterationDoes() throws IOException
+    {
+        // Given
+        File updateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_forum.csv" );
+        List<Operation> allOperations = readAll( updateStreamFile );
+        WriteEventStreamFileReader reader =
+                new WriteEventStreamFileReader( updateStreamFile, UpdateStreamParser.CHAR_SEEKER, BUFFER_SIZE, null );
+
+        int skipped = 0;
+        for ( int read : new int[]{0, 1, 4096, 5000} )
+        {
+            // When
+            reader.skip( read - skipped );
+            skipped = read;
+            reader.peek();
+
+            // Then
+            assertThat( reader.countBefore( Long.MIN_VALUE ), is( 0L ) );
+            assertThat( reader.countBefore( Long.MAX_VALUE ), is( (long) allOperations.size() - read ) );
+            for ( int i : new int[]{0, 1, 4095, 4096, 4097, 6000, 8192, allOperations.size() - 1} )
+            {
+                long timeStamp = allOperations.get( i ).timeStamp();
+                assertThat( reader.countBefore( timeStamp ), is( countBefore( allOperations, read, timeStamp ) ) );
+                assertThat( reader.countBefore( timeStamp + 1 ),
+                        is( countBefore( allOperations, read, timeStamp + 1 ) ) );
+            }
+        }
+        reader.close();
+    }
+
+    @Test
+    public void shouldPersistLineOffsetIndexInIndexDirectory() throws IOException
+    {
+        // Given
+        File updateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_forum.csv" );
+        List<Operation> allOperations = readAll( updateStreamFile );
+        File indexDir = new File( temporaryFolder.getRoot(), "index" );
+
+        for ( int run = 0; run < 2; run++ )
+        {
+            // When
+            WriteEventStreamFileReader reader =
+                    new WriteEventStreamFileReader( updateStreamFile, UpdateStreamParser.CHAR_SEEKER, BUFFER_SIZE,
+                            indexDir );
+            reader.skip( 9000 );
+
+            // Then
+            assertThat( indexDir.listFiles().length, is( 1 ) );
+            assertThat( reader.next(), equalTo( allOperations.get( 9000 ) ) );
+            reader.close();
+        }
+    }
+
+    private static int bufferSizeFor( UpdateStreamParser parser )
+    {
+        switch ( parser )
+        {
+        case CHAR_SEEKER_MAPPED:
+        case CHAR_SEEKER_PARALLEL:
+            return WINDOW_SIZE;
+        default:
+            return BUFFER_SIZE;
+        }
+    }
+
+    private static long countBefore( List<Operation> operations, int from, long timeStamp )
+    {
+        long count = 0;
+        for ( Operation operation : operations.subList( from, operations.size() ) )
+        {
+            count += (operation.timeStamp() < timeStamp) ? 1 : 0;
+        }
+        return count;
+    }
+
+    private static List<Operation> readAll( File updateStreamFile ) throws IOException
+    {
+        WriteEventStreamFileReader reader =
+                new WriteEventStreamFileReader( updateStreamFile, UpdateStreamParser.CHAR_SEEKER, BUFFER_SIZE, null );
+        List<Operation> operations = Lists.newArrayList( reader );
+        reader.close();
+        return operations;
+    }
+}
@@ -4,12 +4,15 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.ByteBufferCharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeekers;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.generator.ColumnarParameterStore;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker.EventDecoder;
 import com.ldbc.driver.generator.GeneratorFactory;
@@ -46,6 +49,8 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -294,8 +299,8 @@ public class InteractiveEventStreamReaderPerformanceTest
                 charSeeker.seek( mark, new int[]{columnDelimiter} );
                 charSeeker.seek( mark, new int[]{columnDelimiter} );
 
-                Iterator<Object[]> query1Parameters = gf.limit(
-                        gf.repeating(
+                Iterator<ColumnarParameterStore.Row> query1Parameters = gf.limit(
+                        gf.repeatingColumnar(
                                 new CsvEventStreamReaderBasicCharSeeker<>(
                                         charSeeker,
                                         extractors,
@@ -340,8 +345,8 @@ public class InteractiveEventStreamReaderPerformanceTest
                 charSeeker.seek( mark, new int[]{columnDelimiter} );
                 charSeeker.seek( mark, new int[]{columnDelimiter} );
 
-                Iterator<Object[]> query1Parameters = gf.limit(
-                        gf.repeating(
+                Iterator<ColumnarParameterStore.Row> query1Parameters = gf.limit(
+                        gf.repeatingColumnar(
                                 new CsvEventStreamReaderBasicCharSeeker<>(
                                         charSeeker,
                                         extractors,
@@ -406,7 +411,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query1OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query1EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker1,
                                                 extractors,
@@ -429,7 +434,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query2OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query2EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker2,
                                                 extractors,
@@ -455,7 +460,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query3OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query3EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker3,
                                                 extractors,
@@ -479,7 +484,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query4OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query4EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker4,
                                                 extractors,
@@ -502,7 +507,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query5OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query5EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker5,
                                                 extractors,
@@ -525,7 +530,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query6OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query6EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker6,
                                                 extractors,
@@ -547,7 +552,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query7OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query7EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker7,
                                                 extractors,
@@ -569,7 +574,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query8OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query8EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker8,
                                                 extractors,
@@ -592,7 +597,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query9OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query9EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker9,
                                                 extractors,
@@ -615,7 +620,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query10OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query10EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker10,
                                                 extractors,
@@ -639,7 +644,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query11OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query11EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker11,
                                                 extractors,
@@ -662,7 +667,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query12OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query12EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker12,
                                                 extractors,
@@ -685,7 +690,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query13OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query13EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker13,
                                                 extractors,
@@ -708,7 +713,7 @@ public class InteractiveEventStreamReaderPerformanceTest
                 Iterator<Operation> query14OperationsWithTimes = gf.assignStartTimes(
                         gf.incrementing( 0l, 1l ),
                         new Query14EventStreamReader(
-                                gf.repeating(
+                                gf.repeatingColumnar(
                                         new CsvEventStreamReaderBasicCharSeeker<>(
                                                 charSeeker14,
                                                 extractors,
@@ -835,6 +840,125 @@ public class InteractiveEventStreamReaderPerformanceTest
         );
     }
 
+    @Ignore
+    @Test
+    public void forumCsvUpdateStreamReadingMappedCharSeekerParserPerformanceTest() throws IOException
+    {
+        File parentStreamsDir = new File( "/Users/alexaverbuch/IdeaProjects/scale_factor_streams/current/" );
+        File forumUpdateStream = new File( parentStreamsDir, "sf10_partitions_01/updateStream_0_0_forum.csv" );
+
+        int MB = 1024 * 1024;
+        int repetitions = 3;
+        for ( boolean mapped : new boolean[]{false, true, false, true} )
+        {
+            int bufferSize = (mapped) ? ByteBufferCharSeeker.DEFAULT_WINDOW_SIZE : 2 * MB;
+            long lines = 0;
+            long startTimeAsMilli = timeSource.nowAsMilli();
+            for ( int i = 0; i < repetitions; i++ )
+            {
+                CharSeeker charSeeker = (mapped)
+                                        ? CharSeekers.mappedCharSeeker( forumUpdateStream, 0, bufferSize, '"' )
+                                        : new BufferedCharSeeker( Readables.wrap( new InputStreamReader(
+                                                new FileInputStream( forumUpdateStream ), Charsets.UTF_8 ) ),
+                                                bufferSize );
+                int columnDelimiter = '|';
+                Extractors extractors = new Extractors( ';', ',' );
+                Iterator<Operation> writeEventStreamReader =
+                        WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, columnDelimiter );
+                lines += readingStreamPerformanceTest( writeEventStreamReader );
+                charSeeker.close();
+            }
+            long endTimeAsMilli = timeSource.nowAsMilli();
+            long durationAsMilli = (endTimeAsMilli - startTimeAsMilli) / repetitions;
+            lines = lines / repetitions;
+
+            System.out.println(
+                    format( "%s took %s to read %s line: %s lines/s",
+                            ((mapped) ? ByteBufferCharSeeker.class : BufferedCharSeeker.class).getSimpleName() +
+                            "-" + bufferSize,
+                            TEMPORAL_UTIL.milliDurationToString( durationAsMilli ),
+                            numberFormatter.format( lines ),
+                            numberFormatter
+                                    .format( (double) lines / TimeUnit.MILLISECONDS.toSeconds( durationAsMilli ) )
+                    )
+            );
+        }
+    }
+
+    @Ignore
+    @Test
+    public void forumCsvUpdateStreamReadingThreadAheadBufferCountPerformanceTest() throws IOException
+    {
+        File parentStreamsDir = new File( "/Users/alexaverbuch/IdeaProjects/scale_factor_streams/current/" );
+        File forumUpdateStream = new File( parentStreamsDir, "sf10_partitions_01/updateStream_0_0_forum.csv" );
+
+        int bufferSize = 1024 * 1024;
+        int repetitions = 3;
+        for ( int bufferCount : new int[]{1, 2, 4, 8} )
+        {
+            long lines = 0;
+            long startTimeAsMilli = timeSource.nowAsMilli();
+            for ( int i = 0; i < repetitions; i++ )
+            {
+                CharSeeker charSeeker = new BufferedCharSeeker( ThreadAheadReadable.threadAhead(
+                        new FileInputStream( forumUpdateStream ).getChannel(), Charsets.UTF_8, bufferSize,
+                        bufferCount ), bufferSize );
+                lines += readingStreamPerformanceTest(
+                        WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' ) );
+                charSeeker.close();
+            }
+            long durationAsMilli = (timeSource.nowAsMilli() - startTimeAsMilli) / repetitions;
+            lines = lines / repetitions;
+
+            System.out.println(
+                    format( "%s took %s to read %s line: %s lines/s",
+                            ThreadAheadReadable.class.getSimpleName() + "-" + bufferSize + "x" + bufferCount,
+                            TEMPORAL_UTIL.milliDurationToString( durationAsMilli ),
+                            numberFormatter.format( lines ),
+                            numberFormatter.format( 1000 * (double) lines / durationAsMilli )
+                    )
+            );
+        }
+    }
+
+    // decodes update streams held in memory, so only seeking and decoding is measured, not reading the file
+    @Ignore
+    @Test
+    public void csvUpdateStreamDecodingPerformanceTest() throws IOException
+    {
+        File parentStreamsDir = new File( "/Users/alexaverbuch/IdeaProjects/scale_factor_streams/current/" );
+        List<File> updateStreams = Lists.newArrayList(
+                new File( parentStreamsDir, "sf10_partitions_01/updateStream_0_0_forum.csv" ),
+                new File( parentStreamsDir, "sf10_partitions_01/updateStream_0_0_person.csv" )
+        );
+
+        int repetitions = 5;
+        for ( File updateStream : updateStreams )
+        {
+            ByteBuffer data = ByteBuffer.wrap( Files.readAllBytes( updateStream.toPath() ) );
+            long operations = 0;
+            long startTimeAsMilli = timeSource.nowAsMilli();
+            for ( int i = 0; i < repetitions; i++ )
+            {
+                CharSeeker charSeeker = new ByteBufferCharSeeker( data );
+                operations += readingStreamPerformanceTest(
+                        WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' ) );
+                charSeeker.close();
+            }
+            long durationAsMilli = (timeSource.nowAsMilli() - startTimeAsMilli) / repetitions;
+            operations = operations / repetitions;
+
+            System.out.println(
+                    format( "%s took %s to decode %s operations: %s operations/s",
+                            updateStream.getName(),
+                            TEMPORAL_UTIL.milliDurationToString( durationAsMilli ),
+                            numberFormatter.format( operations ),
+                            numberFormatter.format( 1000 * (double) operations / durationAsMilli )
+                    )
+            );
+        }
+    }
+
     @Ignore
     @Test
     public void personCsvUpdateStreamReadingRegexParserProfileTest() throws IOException, InterruptedException